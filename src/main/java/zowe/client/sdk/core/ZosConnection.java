@@ -58,6 +58,10 @@ public final class ZosConnection {
      * Base path for z/OSMF REST endpoints
      */
     private final String basePath;
+    /**
+     * z/OSMF base url computed once from host, port and base path
+     */
+    private final String zosmfUrl;
 
     /**
      * ZosConnection constructor
@@ -80,6 +84,7 @@ public final class ZosConnection {
         this.zosmfPort = zosmfPort;
         this.basePath = basePath == null ? null : getNormalizedPath(basePath);
         this.authType = authType;
+        this.zosmfUrl = "https://" + host + ":" + zosmfPort + (this.basePath != null ? this.basePath : "") + "/zosmf";
     }
 
     private String getNormalizedPath(String basePath) {
@@ -232,7 +237,7 @@ public final class ZosConnection {
      * @author Shabaz Kowthalam
      */
     public String getZosmfUrl() {
-        return "https://" + host + ":" + zosmfPort + (basePath != null ? basePath : "") + "/zosmf";
+        return zosmfUrl;
     }
 
     /**
@@ -0,0 +1,63 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event emitted for each JobMonitor poll attempt.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@Name("zowe.sdk.JobMonitorPoll")
+@Label("Job Monitor Poll")
+@Category({"Zowe SDK", "z/OSMF"})
+@Description("Single poll attempt performed by JobMonitor")
+@StackTrace(false)
+public class JobMonitorPollEvent extends Event {
+
+    /**
+     * Job name
+     */
+    @Label("Job Name")
+    public String jobName;
+
+    /**
+     * Job id
+     */
+    @Label("Job Id")
+    public String jobId;
+
+    /**
+     * Poll type, either "status" or "message"
+     */
+    @Label("Poll Type")
+    public String pollType;
+
+    /**
+     * Status or message waited for
+     */
+    @Label("Target")
+    public String target;
+
+    /**
+     * Attempt number starting at 1
+     */
+    @Label("Attempt")
+    public int attempt;
+
+    /**
+     * Whether the status or message was found on this attempt
+     */
+    @Label("Found")
+    public boolean found;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event emitted for TSO address space session lifecycle operations (start and stop).
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@Name("zowe.sdk.TsoSession")
+@Label("TSO Session")
+@Category({"Zowe SDK", "z/OSMF"})
+@Description("TSO address space session start or stop")
+@StackTrace(false)
+public class TsoSessionEvent extends Event {
+
+    /**
+     * Start action value
+     */
+    public static final String START = "start";
+
+    /**
+     * Stop action value
+     */
+    public static final String STOP = "stop";
+
+    /**
+     * Lifecycle action, either "start" or "stop"
+     */
+    @Label("Action")
+    public String action;
+
+    /**
+     * TSO servlet key (session id)
+     */
+    @Label("Session Id")
+    public String sessionId;
+
+    /**
+     * Whether the operation succeeded
+     */
+    @Label("Success")
+    public boolean success;
+
+}
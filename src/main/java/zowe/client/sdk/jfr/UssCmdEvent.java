@@ -0,0 +1,64 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event emitted for each USS command executed over an SSH exec channel.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@Name("zowe.sdk.UssCmd")
+@Label("USS Command")
+@Category({"Zowe SDK", "SSH"})
+@Description("USS command executed over an SSH exec channel")
+@StackTrace(false)
+public class UssCmdEvent extends Event {
+
+    /**
+     * Target host name
+     */
+    @Label("Host")
+    public String host;
+
+    /**
+     * Target port number
+     */
+    @Label("Port")
+    public int port;
+
+    /**
+     * Command string executed
+     */
+    @Label("Command")
+    public String command;
+
+    /**
+     * Remote exit status, -1 when not available
+     */
+    @Label("Exit Status")
+    public int exitStatus;
+
+    /**
+     * Command output size in bytes
+     */
+    @Label("Output Bytes")
+    @DataAmount
+    public long bytes;
+
+    /**
+     * Whether the command completed without an SDK error
+     */
+    @Label("Success")
+    public boolean success;
+
+}
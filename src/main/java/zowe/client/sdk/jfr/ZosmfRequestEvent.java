@@ -0,0 +1,70 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event emitted for each z/OSMF REST request.
+ * <p>
+ * The event is committed only when a recording has enabled "zowe.sdk.ZosmfRequest" and the request
+ * duration passes the configured threshold; otherwise, begin/end/commit are no-ops.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@Name("zowe.sdk.ZosmfRequest")
+@Label("z/OSMF Request")
+@Category({"Zowe SDK", "z/OSMF"})
+@Description("HTTP request sent to a z/OSMF REST endpoint")
+@StackTrace(false)
+public class ZosmfRequestEvent extends Event {
+
+    /**
+     * HTTP method
+     */
+    @Label("Method")
+    public String method;
+
+    /**
+     * Endpoint url without query string
+     */
+    @Label("Endpoint")
+    public String endpoint;
+
+    /**
+     * HTTP status code, 0 when no response was received
+     */
+    @Label("Status Code")
+    public int statusCode;
+
+    /**
+     * Response body size in bytes, -1 when unknown
+     */
+    @Label("Response Bytes")
+    @DataAmount
+    public long bytes;
+
+    /**
+     * Strip any query string from the given url so that the endpoint value stays low cardinality.
+     *
+     * @param url request url
+     * @return url without query string
+     * @author Frank Giordano
+     */
+    public static String toEndpoint(final String url) {
+        if (url == null) {
+            return null;
+        }
+        final int index = url.indexOf('?');
+        return index == -1 ? url : url.substring(0, index);
+    }
+
+}
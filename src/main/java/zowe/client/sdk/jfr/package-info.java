@@ -0,0 +1,4 @@
+/**
+ * Java Flight Recorder event types package
+ */
+package zowe.client.sdk.jfr;
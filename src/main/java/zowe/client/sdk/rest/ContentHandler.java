@@ -0,0 +1,36 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the body of a successful response while it is received, see
+ * {@link GetStreamZosmfRequest#executeRequest(ContentHandler)}
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@FunctionalInterface
+public interface ContentHandler {
+
+    /**
+     * Read the response body. The stream is closed once the method returns.
+     *
+     * @param content response body stream
+     * @throws ZosmfRequestException request error state of a request sent by the handler
+     * @throws IOException           error reading the body
+     */
+    void handle(InputStream content) throws ZosmfRequestException, IOException;
+
+}
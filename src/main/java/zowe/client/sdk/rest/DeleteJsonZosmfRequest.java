@@ -11,7 +11,6 @@ package zowe.client.sdk.rest;
 
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.UnirestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
@@ -53,17 +52,15 @@ public class DeleteJsonZosmfRequest extends ZosmfRequest {
     @Override
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
-        HttpResponse<JsonNode> reply;
-        try {
-            if (body == null) {
-                reply = token != null ? unirest.delete(url).cookie(token).headers(headers).asJson() :
-                        unirest.delete(url).headers(headers).asJson();
-            } else {
-                reply = token != null ? unirest.delete(url).cookie(token).headers(headers).body(body).asJson() :
-                        unirest.delete(url).headers(headers).body(body).asJson();
-            }
-        } catch (UnirestException e) {
-            throw new ZosmfRequestException(e.getMessage(), e);
+        final HttpResponse<JsonNode> reply;
+        if (body == null) {
+            reply = send("DELETE", () -> token != null ?
+                    unirest.delete(url).cookie(token).headers(headers).asJson() :
+                    unirest.delete(url).headers(headers).asJson());
+        } else {
+            reply = send("DELETE", () -> token != null ?
+                    unirest.delete(url).cookie(token).headers(headers).body(body).asJson() :
+                    unirest.delete(url).headers(headers).body(body).asJson());
         }
         return buildResponse(reply);
     }
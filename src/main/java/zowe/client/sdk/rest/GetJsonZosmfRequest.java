@@ -11,7 +11,6 @@ package zowe.client.sdk.rest;
 
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
@@ -44,14 +43,12 @@ public class GetJsonZosmfRequest extends ZosmfRequest {
     @Override
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
-        HttpResponse<JsonNode> reply;
-        try {
-            reply = token != null ? unirest.get(url).cookie(token).headers(headers).asJson() :
-                    unirest.get(url).headers(headers).asJson();
-        } catch (UnirestException e) {
-            throw new ZosmfRequestException(e.getMessage(), e);
-        }
-        return buildResponse(reply);
+        return executeSingleFlight(() -> {
+            final HttpResponse<JsonNode> reply = send("GET", () -> token != null ?
+                    unirest.get(url).cookie(token).headers(headers).asJson() :
+                    unirest.get(url).headers(headers).asJson());
+            return buildResponse(reply);
+        });
     }
 
     /**
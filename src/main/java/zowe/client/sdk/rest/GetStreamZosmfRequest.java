@@ -9,12 +9,16 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.GetRequest;
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Http get stream operation with JSON content type
  *
@@ -43,11 +47,53 @@ public class GetStreamZosmfRequest extends ZosmfRequest {
     @Override
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
-        HttpResponse<byte[]> reply;
-        try {
-            reply = token != null ? unirest.get(url).cookie(token).headers(headers).asBytes() :
-                    unirest.get(url).headers(headers).asBytes();
-        } catch (UnirestException e) {
+        return executeSingleFlight(() -> {
+            final HttpResponse<byte[]> reply = send("GET", () -> token != null ?
+                    unirest.get(url).cookie(token).headers(headers).asBytes() :
+                    unirest.get(url).headers(headers).asBytes());
+            return buildResponse(reply);
+        });
+    }
+
+    /**
+     * Perform the http rest request, handing the body of a successful response to the handler while it is
+     * received rather than holding it in memory. The response phrase of the returned Response is empty.
+     * <p>
+     * The request is not shared with identical concurrent requests, since each handler reads its own body.
+     *
+     * @param handler reads the response body
+     * @return Response object
+     * @throws ZosmfRequestException request error state, or the handler failed
+     * @author Frank Giordano
+     */
+    public Response executeRequest(final ContentHandler handler) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(url, "url");
+        ValidateUtils.checkNullParameter(handler, "handler");
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final HttpResponse<byte[]> reply = send("GET", () -> {
+            final GetRequest get = token != null ?
+                    unirest.get(url).cookie(token).headers(headers) : unirest.get(url).headers(headers);
+            return get.asObject(raw -> {
+                if (raw.getStatus() < 200 || raw.getStatus() > 299) {
+                    // kept for the error message
+                    return raw.getContentAsBytes();
+                }
+                try (final InputStream content = raw.getContent()) {
+                    handler.handle(content);
+                } catch (ZosmfRequestException | IOException | RuntimeException e) {
+                    failure.set(e);
+                }
+                return new byte[0];
+            });
+        });
+        final Exception e = failure.get();
+        if (e instanceof ZosmfRequestException) {
+            throw (ZosmfRequestException) e;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e != null) {
             throw new ZosmfRequestException(e.getMessage(), e);
         }
         return buildResponse(reply);
@@ -10,7 +10,6 @@
 package zowe.client.sdk.rest;
 
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.UnirestException;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
@@ -43,14 +42,12 @@ public class GetTextZosmfRequest extends ZosmfRequest {
     @Override
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
-        HttpResponse<String> reply;
-        try {
-            reply = token != null ? unirest.get(url).cookie(token).headers(headers).asString() :
-                    unirest.get(url).headers(headers).asString();
-        } catch (UnirestException e) {
-            throw new ZosmfRequestException(e.getMessage(), e);
-        }
-        return buildResponse(reply);
+        return executeSingleFlight(() -> {
+            final HttpResponse<String> reply = send("GET", () -> token != null ?
+                    unirest.get(url).cookie(token).headers(headers).asString() :
+                    unirest.get(url).headers(headers).asString());
+            return buildResponse(reply);
+        });
     }
 
     /**
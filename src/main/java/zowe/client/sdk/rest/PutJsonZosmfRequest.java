@@ -11,7 +11,6 @@ package zowe.client.sdk.rest;
 
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
-import kong.unirest.core.UnirestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
@@ -56,13 +55,9 @@ public class PutJsonZosmfRequest extends ZosmfRequest {
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
         ValidateUtils.checkNullParameter(body, "body");
-        HttpResponse<JsonNode> reply;
-        try {
-            reply = token != null ? unirest.put(url).cookie(token).headers(headers).body(body).asJson() :
-                    unirest.put(url).headers(headers).body(body).asJson();
-        } catch (UnirestException e) {
-            throw new ZosmfRequestException(e.getMessage(), e);
-        }
+        final HttpResponse<JsonNode> reply = send("PUT", () -> token != null ?
+                unirest.put(url).cookie(token).headers(headers).body(body).asJson() :
+                unirest.put(url).headers(headers).body(body).asJson());
         return buildResponse(reply);
     }
 
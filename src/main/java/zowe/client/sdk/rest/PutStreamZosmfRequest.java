@@ -9,6 +9,7 @@
  */
 package zowe.client.sdk.rest;
 
+import kong.unirest.core.HttpRequestWithBody;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.JsonNode;
 import kong.unirest.core.UnirestException;
@@ -16,6 +17,12 @@ import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Http put stream operation with a binary content type
  *
@@ -25,9 +32,10 @@ import zowe.client.sdk.utility.ValidateUtils;
 public class PutStreamZosmfRequest extends ZosmfRequest {
 
     /**
-     * Binary data representation
+     * Binary data representation, a byte array, a Path of a file or an InputStream streamed while the request
+     * is sent
      */
-    private byte[] body;
+    private Object body;
 
     /**
      * PutStreamZosmfRequest constructor
@@ -51,25 +59,40 @@ public class PutStreamZosmfRequest extends ZosmfRequest {
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
         ValidateUtils.checkNullParameter(body, "body");
-        HttpResponse<JsonNode> reply;
-        try {
-            reply = token != null ? unirest.put(url).cookie(token).headers(headers).body(body).asJson() :
-                    unirest.put(url).headers(headers).body(body).asJson();
-        } catch (UnirestException e) {
-            throw new ZosmfRequestException(e.getMessage(), e);
-        }
+        final AtomicBoolean sent = new AtomicBoolean();
+        final HttpResponse<JsonNode> reply = send("PUT", () -> {
+            final HttpRequestWithBody put = token != null ?
+                    unirest.put(url).cookie(token).headers(headers) : unirest.put(url).headers(headers);
+            if (body instanceof Path) {
+                // opened on each call, so a request sent again after re-authentication has the whole file
+                try {
+                    return put.body(Files.newInputStream((Path) body)).asJson();
+                } catch (IOException e) {
+                    throw new UnirestException(e);
+                }
+            }
+            if (body instanceof InputStream) {
+                // a stream is read once, so it cannot be sent again after re-authentication
+                if (sent.getAndSet(true)) {
+                    throw new UnirestException("stream body cannot be sent again");
+                }
+                return put.body((InputStream) body).asJson();
+            }
+            return put.body((byte[]) body).asJson();
+        });
         return buildResponse(reply);
     }
 
     /**
-     * Set the body byte array value for request
+     * Set the body byte array value for request, or the Path of a file or an InputStream streamed as the body.
+     * An InputStream is read once and is not closed by the request.
      *
-     * @param body byte array value
+     * @param body byte array, Path or InputStream value
      * @author Frank Giordano
      */
     @Override
     public void setBody(final Object body) {
-        this.body = (byte[]) body;
+        this.body = body instanceof Path || body instanceof InputStream ? body : (byte[]) body;
     }
 
     /**
@@ -10,7 +10,6 @@
 package zowe.client.sdk.rest;
 
 import kong.unirest.core.HttpResponse;
-import kong.unirest.core.UnirestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
@@ -53,13 +52,9 @@ public class PutTextZosmfRequest extends ZosmfRequest {
     public Response executeRequest() throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(url, "url");
         ValidateUtils.checkNullParameter(body, "body");
-        HttpResponse<String> reply;
-        try {
-            reply = token != null ? unirest.put(url).cookie(token).headers(headers).body(body).asString() :
-                    unirest.put(url).headers(headers).body(body).asString();
-        } catch (UnirestException e) {
-            throw new ZosmfRequestException(e.getMessage(), e);
-        }
+        final HttpResponse<String> reply = send("PUT", () -> token != null ?
+                unirest.put(url).cookie(token).headers(headers).body(body).asString() :
+                unirest.put(url).headers(headers).body(body).asString());
         return buildResponse(reply);
     }
 
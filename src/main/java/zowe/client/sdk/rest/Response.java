@@ -11,8 +11,11 @@ package zowe.client.sdk.rest;
 
 import kong.unirest.core.Cookies;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.TreeMap;
 
 /**
  * Holds http response information
@@ -42,6 +45,11 @@ public class Response {
      */
     private final Cookies tokens;
 
+    /**
+     * Holds http response headers, first value per header name with case-insensitive names
+     */
+    private final Map<String, String> headers;
+
     /**
      * Response constructor
      *
@@ -57,6 +65,7 @@ public class Response {
         this.statusCode = statusCode;
         this.statusText = statusText;
         this.tokens = null;
+        this.headers = Collections.emptyMap();
     }
 
     /**
@@ -76,6 +85,35 @@ public class Response {
         this.statusCode = statusCode;
         this.statusText = statusText;
         this.tokens = tokens;
+        this.headers = Collections.emptyMap();
+    }
+
+    /**
+     * Response constructor
+     *
+     * @param responsePhrase http response information
+     * @param statusCode     http response status code
+     * @param statusText     http response status text
+     * @param tokens         http response Cookies object representing TOKENS
+     * @param headers        http response headers
+     * @author Frank Giordano
+     */
+    public Response(final Object responsePhrase,
+                    final Integer statusCode,
+                    final String statusText,
+                    final Cookies tokens,
+                    final Map<String, String> headers) {
+        this.responsePhrase = responsePhrase;
+        this.statusCode = statusCode;
+        this.statusText = statusText;
+        this.tokens = tokens;
+        if (headers == null || headers.isEmpty()) {
+            this.headers = Collections.emptyMap();
+        } else {
+            final Map<String, String> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            map.putAll(headers);
+            this.headers = Collections.unmodifiableMap(map);
+        }
     }
 
     /**
@@ -106,6 +144,34 @@ public class Response {
         return Optional.ofNullable(statusText);
     }
 
+    /**
+     * Retrieve http response headers, header names are case-insensitive
+     *
+     * @return unmodifiable map of header name to first header value
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Retrieve a http response header value by case-insensitive name
+     *
+     * @param name header name
+     * @return header Optional String value
+     */
+    public Optional<String> getHeader(final String name) {
+        return Optional.ofNullable(headers.get(name));
+    }
+
+    /**
+     * Retrieve the ETag http response header value
+     *
+     * @return ETag Optional String value
+     */
+    public Optional<String> getEtag() {
+        return getHeader("ETag");
+    }
+
     /**
      * Retrieve tokens value
      *
@@ -137,4 +137,11 @@ public final class RestConstant {
      */
     public static final String TRUSTSTORE_PASSWORD_PROPERTY_NAME = "zowe.sdk.truststore.password";
 
+    /**
+     * The system property name ("zowe.sdk.single.flight") for enabling single-flight processing of
+     * idempotent GET requests. When set to "true", concurrent identical GET requests (same connection,
+     * url, and headers) share one in-flight http round trip and its Response.
+     */
+    public static final String SINGLE_FLIGHT_PROPERTY_NAME = "zowe.sdk.single.flight";
+
 }
@@ -0,0 +1,46 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.Cookie;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+/**
+ * Supplies authentication token cookies used in place of the {@code Authorization: Basic} header for
+ * requests made with an {@link zowe.client.sdk.core.AuthType#BASIC} connection.
+ * <p>
+ * Providers are registered per connection with {@link SessionTokenRegistry}.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public interface SessionTokenProvider {
+
+    /**
+     * Retrieve a valid token for the given connection, authenticating or renewing it as needed
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @return token cookie, or null to fall back to basic authentication
+     * @throws ZosmfRequestException request error state
+     */
+    Cookie getToken(final ZosConnection connection) throws ZosmfRequestException;
+
+    /**
+     * Re-authenticate after z/OSMF rejected the given token with HTTP 401
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param rejected   token rejected by z/OSMF
+     * @return new token cookie, or null to fall back to basic authentication
+     * @throws ZosmfRequestException request error state
+     */
+    Cookie renewToken(final ZosConnection connection, final Cookie rejected) throws ZosmfRequestException;
+
+}
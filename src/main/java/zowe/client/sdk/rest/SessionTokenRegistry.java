@@ -0,0 +1,110 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import zowe.client.sdk.core.AuthType;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link SessionTokenProvider} objects keyed by {@link ZosConnection}.
+ * <p>
+ * When a provider is registered for a {@link AuthType#BASIC} connection, every request made with that
+ * connection sends the provider's token cookie instead of the {@code Authorization: Basic} header, and
+ * retries once with a renewed token when z/OSMF replies with HTTP 401.
+ * <p>
+ * Requests performed while {@link #enterBypass()} is active on the current thread (e.g. the login and
+ * logout requests issued by the provider itself) use the connection's basic credentials unchanged.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class SessionTokenRegistry {
+
+    private static final Map<ZosConnection, SessionTokenProvider> PROVIDERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Integer> BYPASS = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Private constructor defined to avoid instantiation of class
+     */
+    private SessionTokenRegistry() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Register a token provider for the given basic authentication connection
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param provider   SessionTokenProvider object
+     * @throws IllegalArgumentException connection is not of basic authentication type
+     * @author Frank Giordano
+     */
+    public static void register(final ZosConnection connection, final SessionTokenProvider provider) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(provider, "provider");
+        ValidateUtils.checkIllegalParameter(connection.getAuthType() != AuthType.BASIC,
+                "session tokens require a basic authentication connection");
+        PROVIDERS.put(connection, provider);
+    }
+
+    /**
+     * Remove the token provider registered for the given connection if it is the given provider
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param provider   SessionTokenProvider object
+     * @author Frank Giordano
+     */
+    public static void unregister(final ZosConnection connection, final SessionTokenProvider provider) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        PROVIDERS.remove(connection, provider);
+    }
+
+    /**
+     * Retrieve the token provider for the given connection, honoring the current thread's bypass state
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @return SessionTokenProvider object or null if none applies
+     */
+    static SessionTokenProvider get(final ZosConnection connection) {
+        if (connection == null || PROVIDERS.isEmpty() || BYPASS.get() > 0) {
+            return null;
+        }
+        return PROVIDERS.get(connection);
+    }
+
+    /**
+     * Perform requests on the current thread with basic credentials until {@link #exitBypass()} is called.
+     * Calls may be nested.
+     *
+     * @author Frank Giordano
+     */
+    public static void enterBypass() {
+        BYPASS.set(BYPASS.get() + 1);
+    }
+
+    /**
+     * End a bypass started by {@link #enterBypass()}
+     *
+     * @author Frank Giordano
+     */
+    public static void exitBypass() {
+        final int depth = BYPASS.get() - 1;
+        if (depth <= 0) {
+            BYPASS.remove();
+        } else {
+            BYPASS.set(depth);
+        }
+    }
+
+}
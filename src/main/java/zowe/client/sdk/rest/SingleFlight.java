@@ -0,0 +1,188 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight coalescing of identical concurrent idempotent GET requests.
+ * <p>
+ * The first caller for a given key (connection, request type, url, and headers) performs the http round trip;
+ * any caller arriving with the same key while that request is in flight waits for and shares its Response or
+ * error. Once the request completes, the key is released so later callers trigger a fresh request. Nothing is
+ * cached beyond the lifetime of the in-flight request.
+ * <p>
+ * Enabled by setting the system property {@value RestConstant#SINGLE_FLIGHT_PROPERTY_NAME} to {@code true}.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+final class SingleFlight {
+
+    /**
+     * In-flight requests keyed by request identity
+     */
+    private static final Map<Key, CompletableFuture<Response>> IN_FLIGHT = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor defined to avoid instantiation of class
+     */
+    private SingleFlight() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Determine whether single-flight processing is enabled via system property
+     * {@value RestConstant#SINGLE_FLIGHT_PROPERTY_NAME}.
+     *
+     * @return true if enabled
+     * @author Frank Giordano
+     */
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(RestConstant.SINGLE_FLIGHT_PROPERTY_NAME, "false"));
+    }
+
+    /**
+     * Perform the given call, or join an identical call already in flight.
+     *
+     * @param key  request identity
+     * @param call http call performing the request
+     * @return Response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    static Response execute(final Key key, final Call call) throws ZosmfRequestException {
+        final CompletableFuture<Response> future = new CompletableFuture<>();
+        final CompletableFuture<Response> inFlight = IN_FLIGHT.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        try {
+            final Response response = call.execute();
+            future.complete(response);
+            return response;
+        } catch (ZosmfRequestException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            IN_FLIGHT.remove(key, future);
+        }
+    }
+
+    /**
+     * Wait for an in-flight request and share its result.
+     *
+     * @param inFlight in-flight request future
+     * @return Response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private static Response join(final CompletableFuture<Response> inFlight) throws ZosmfRequestException {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ZosmfRequestException) {
+                final ZosmfRequestException err = (ZosmfRequestException) cause;
+                throw new ZosmfRequestException(err.getMessage(), err.getResponse(), err);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ZosmfRequestException(String.valueOf(cause), cause);
+        }
+    }
+
+    /**
+     * Number of requests currently in flight, used for diagnostics
+     *
+     * @return in-flight request count
+     */
+    static int inFlightCount() {
+        return IN_FLIGHT.size();
+    }
+
+    /**
+     * Http call performing the actual request
+     */
+    @FunctionalInterface
+    interface Call {
+
+        /**
+         * Perform the http request
+         *
+         * @return Response object
+         * @throws ZosmfRequestException request error state
+         */
+        Response execute() throws ZosmfRequestException;
+
+    }
+
+    /**
+     * Request identity used to coalesce identical requests
+     */
+    static final class Key {
+
+        private final ZosConnection connection;
+        private final Class<?> requestType;
+        private final String url;
+        private final Map<String, String> headers;
+        private final int hash;
+
+        /**
+         * Key constructor
+         *
+         * @param connection  for connection information, see ZosConnection object
+         * @param requestType request class performing the call
+         * @param url         request url
+         * @param headers     request headers, copied
+         */
+        Key(final ZosConnection connection, final Class<?> requestType, final String url,
+            final Map<String, String> headers) {
+            this.connection = connection;
+            this.requestType = requestType;
+            this.url = url;
+            this.headers = new HashMap<>(headers);
+            this.hash = Objects.hash(connection, requestType, url, this.headers);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hash == other.hash &&
+                    Objects.equals(connection, other.connection) &&
+                    requestType == other.requestType &&
+                    Objects.equals(url, other.url) &&
+                    Objects.equals(headers, other.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
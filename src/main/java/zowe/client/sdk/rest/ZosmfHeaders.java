@@ -12,6 +12,10 @@ package zowe.client.sdk.rest;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * z/OSMF Headers info
  *
@@ -77,6 +81,11 @@ public final class ZosmfHeaders {
      */
     public final static String X_IBM_ATTRIBUTES_BASE = "X_IBM_ATTRIBUTES_BASE";
 
+    /**
+     * Volume attributes header
+     */
+    public final static String X_IBM_ATTRIBUTES_VOL = "X_IBM_ATTRIBUTES_VOL";
+
     /**
      * If you use this header, delete job API will be asynchronous.
      * This is the default setting, so using this header is not really necessary unless you want to be explicit.
@@ -214,4 +223,49 @@ public final class ZosmfHeaders {
                     .putAll("ACCEPT_ENCODING", "Accept-Encoding", "gzip")
                     .build();
 
+    /**
+     * Prebuilt immutable name/value pairs for every header in HEADERS that defines a value
+     */
+    private static final Map<String, Map.Entry<String, String>> ENTRIES = buildEntries();
+
+    private static Map<String, Map.Entry<String, String>> buildEntries() {
+        final Map<String, Map.Entry<String, String>> entries = new HashMap<>();
+        for (final String key : HEADERS.keySet()) {
+            final List<String> values = HEADERS.get(key);
+            if (values.size() > 1) {
+                entries.put(key, Map.entry(values.get(0), values.get(1)));
+            }
+        }
+        return Map.copyOf(entries);
+    }
+
+    /**
+     * Retrieve the prebuilt header name/value pair for a header key, e.g. {@link #ACCEPT_ENCODING}
+     *
+     * @param key header key constant
+     * @return immutable header name/value pair
+     * @throws IllegalArgumentException key does not name a header with a value
+     * @author Frank Giordano
+     */
+    public static Map.Entry<String, String> entry(final String key) {
+        final Map.Entry<String, String> entry = ENTRIES.get(key);
+        if (entry == null) {
+            throw new IllegalArgumentException("no header value defined for " + key);
+        }
+        return entry;
+    }
+
+    /**
+     * Add the prebuilt header name/value pair for a header key to the given headers map
+     *
+     * @param headers map of headers
+     * @param key     header key constant, e.g. {@link #ACCEPT_ENCODING}
+     * @throws IllegalArgumentException key does not name a header with a value
+     * @author Frank Giordano
+     */
+    public static void put(final Map<String, String> headers, final String key) {
+        final Map.Entry<String, String> entry = entry(key);
+        headers.put(entry.getKey(), entry.getValue());
+    }
+
 }
@@ -14,6 +14,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.AuthType;
 import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.jfr.ZosmfRequestEvent;
+import zowe.client.sdk.rest.exception.ZosmfConflictException;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
@@ -32,6 +34,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Base abstract class that conforms to HTTP CRUD operations against z/OSMF endpoints.
@@ -144,14 +147,16 @@ import java.util.concurrent.atomic.AtomicReference;
 public abstract class ZosmfRequest {
 
     private static final Logger LOG = LoggerFactory.getLogger(ZosmfRequest.class);
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String ILLEGAL_URI_CHARS = "\"<>\\[]^`{|}";
     /**
      * X_CSRF_ZOSMF_HEADER_KEY header info
      */
-    public static final String X_CSRF_ZOSMF_HEADER_KEY = ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_CSRF_ZOSMF_HEADER).get(0);
+    public static final String X_CSRF_ZOSMF_HEADER_KEY = ZosmfHeaders.entry(ZosmfHeaders.X_CSRF_ZOSMF_HEADER).getKey();
     /**
      * X_CSRF_ZOSMF_HEADER_VALUE header info
      */
-    public static final String X_CSRF_ZOSMF_HEADER_VALUE = ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_CSRF_ZOSMF_HEADER).get(1);
+    public static final String X_CSRF_ZOSMF_HEADER_VALUE = ZosmfHeaders.entry(ZosmfHeaders.X_CSRF_ZOSMF_HEADER).getValue();
     /**
      * Per-connection Unirest client instances, keyed by ZosConnection (host/port/authType/credentials).
      * <p>
@@ -179,6 +184,10 @@ public abstract class ZosmfRequest {
      * Cookie object representing a TOKEN
      */
     protected Cookie token;
+    /**
+     * Connection base url found to be well-formed by a full parse, null until then
+     */
+    private String validBaseUrl;
 
     /**
      * ZosmfRequest constructor
@@ -238,7 +247,7 @@ public abstract class ZosmfRequest {
         this.token = null;
         switch (connection.getAuthType()) {
             case BASIC:
-                headers.put("Authorization", "Basic " + EncodeUtils.encodeBasicAuthCredentials(connection));
+                headers.put(AUTHORIZATION_HEADER, "Basic " + EncodeUtils.encodeBasicAuthCredentials(connection));
                 break;
             case TOKEN:
                 this.token = connection.getToken();
@@ -379,13 +388,157 @@ public abstract class ZosmfRequest {
         }
     }
 
+    /**
+     * Perform the given idempotent GET call, sharing the Response of an identical request already in flight
+     * when single-flight processing is enabled via system property
+     * {@value RestConstant#SINGLE_FLIGHT_PROPERTY_NAME}.
+     * <p>
+     * Requests are identical when connection, request type, url, and headers match. Shared Response objects
+     * must be treated as read-only by callers.
+     *
+     * @param call http call performing the request
+     * @return Response object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    Response executeSingleFlight(final SingleFlight.Call call) throws ZosmfRequestException {
+        if (!SingleFlight.isEnabled()) {
+            return call.execute();
+        }
+        return SingleFlight.execute(new SingleFlight.Key(connection, getClass(), url, headers), call);
+    }
+
+    /**
+     * Send the http request performed by the given call and record it as a {@link ZosmfRequestEvent}.
+     * <p>
+     * The event costs nothing beyond its begin/end timestamps when no Java Flight Recorder recording
+     * has it enabled; event fields are only computed when the event will be committed.
+     * <p>
+     * When a {@link SessionTokenProvider} is registered for this request's connection in
+     * {@link SessionTokenRegistry}, the provider's token cookie is sent instead of the basic
+     * Authorization header, and the call is retried once with a renewed token on HTTP 401.
+     *
+     * @param method http method name used for the event
+     * @param call   unirest call performing the request
+     * @param <T>    either JsonNode, String, or byte[] type
+     * @return HttpResponse object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    protected <T> HttpResponse<T> send(final String method, final Supplier<HttpResponse<T>> call)
+            throws ZosmfRequestException {
+        final SessionTokenProvider provider = SessionTokenRegistry.get(connection);
+        if (provider == null) {
+            return sendCall(method, call);
+        }
+
+        // a session token registered for a basic connection replaces the Authorization header for this call
+        final Cookie originalToken = token;
+        final String authorization = headers.remove(AUTHORIZATION_HEADER);
+        try {
+            Cookie sessionToken = provider.getToken(connection);
+            if (sessionToken == null) {
+                restoreAuthorization(authorization);
+                return sendCall(method, call);
+            }
+            token = sessionToken;
+            final HttpResponse<T> reply = sendCall(method, call);
+            if (reply.getStatus() != 401) {
+                return reply;
+            }
+
+            LOG.debug("session token rejected, re-authenticating");
+            sessionToken = provider.renewToken(connection, sessionToken);
+            if (sessionToken == null) {
+                token = originalToken;
+                restoreAuthorization(authorization);
+            } else {
+                token = sessionToken;
+            }
+            return sendCall(method, call);
+        } finally {
+            token = originalToken;
+            restoreAuthorization(authorization);
+        }
+    }
+
+    /**
+     * Restore the Authorization header removed for session token processing
+     *
+     * @param authorization header value or null
+     */
+    private void restoreAuthorization(final String authorization) {
+        if (authorization != null) {
+            headers.put(AUTHORIZATION_HEADER, authorization);
+        }
+    }
+
+    /**
+     * Perform the given call and record it as a {@link ZosmfRequestEvent}.
+     *
+     * @param method http method name used for the event
+     * @param call   unirest call performing the request
+     * @param <T>    either JsonNode, String, or byte[] type
+     * @return HttpResponse object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private <T> HttpResponse<T> sendCall(final String method, final Supplier<HttpResponse<T>> call)
+            throws ZosmfRequestException {
+        final ZosmfRequestEvent event = new ZosmfRequestEvent();
+        event.begin();
+        HttpResponse<T> reply = null;
+        try {
+            reply = call.get();
+            return reply;
+        } catch (UnirestException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.endpoint = ZosmfRequestEvent.toEndpoint(url);
+                event.statusCode = reply != null ? reply.getStatus() : 0;
+                event.bytes = reply != null ? replySize(reply) : -1;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Determine the body size of the given reply, preferring the Content-Length header when present.
+     *
+     * @param reply HttpResponse object
+     * @return size in bytes or -1 when unknown
+     * @author Frank Giordano
+     */
+    private static long replySize(final HttpResponse<?> reply) {
+        final String contentLength = reply.getHeaders() != null ? reply.getHeaders().getFirst("Content-Length") : null;
+        if (contentLength != null && !contentLength.isBlank()) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException ignore) {
+                // fall through to the body size
+            }
+        }
+        final Object body = reply.getBody();
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).length();
+        }
+        return -1;
+    }
+
     /**
      * Build a Response object from a given HttpResponse reply
      *
      * @param reply HttpResponse object
      * @param <T>   either JsonNode, String, or byte[] type
      * @return Response object
-     * @throws ZosmfRequestException request error state
+     * @throws ZosmfConflictException http status 412, a conditional request whose ETag no longer matches
+     * @throws ZosmfRequestException  request error state
      * @author Frank Giordano
      */
     @SuppressWarnings("unchecked")
@@ -405,47 +558,32 @@ public abstract class ZosmfRequest {
             statusText = "n\\a";
         }
 
-        Response response;
+        final Object responsePhrase;
         if (statusText.toLowerCase().contains("no content")) {
-            response = reply.getCookies() != null ?
-                    new Response(statusText, statusCode, statusText, reply.getCookies()) :
-                    new Response(statusText, statusCode, statusText);
+            responsePhrase = statusText;
         } else if (reply.getBody() instanceof JsonNode) {
             final HttpResponse<JsonNode> jsonReply = (HttpResponse<JsonNode>) reply;
-            if (reply.getCookies() != null) {
-                response = jsonReply.getBody().isArray() ?
-                        new Response(jsonReply.getBody().getArray(), statusCode, statusText, reply.getCookies()) :
-                        new Response(jsonReply.getBody().getObject(), statusCode, statusText, reply.getCookies());
-            } else {
-                response = jsonReply.getBody().isArray() ?
-                        new Response(jsonReply.getBody().getArray(), statusCode, statusText) :
-                        new Response(jsonReply.getBody().getObject(), statusCode, statusText);
-            }
-        } else if (reply.getBody() instanceof String) {
-            final HttpResponse<String> stringReply = (HttpResponse<String>) reply;
-            response = reply.getCookies() != null ?
-                    new Response(stringReply.getBody(), statusCode, statusText, reply.getCookies()) :
-                    new Response(stringReply.getBody(), statusCode, statusText);
-        } else if (reply.getBody() instanceof byte[]) {
-            final HttpResponse<byte[]> byteReply = (HttpResponse<byte[]>) reply;
-            response = reply.getCookies() != null ?
-                    new Response(byteReply.getBody(), statusCode, statusText, reply.getCookies()) :
-                    new Response(byteReply.getBody(), statusCode, statusText);
+            responsePhrase = jsonReply.getBody().isArray() ?
+                    jsonReply.getBody().getArray() : jsonReply.getBody().getObject();
+        } else if (reply.getBody() instanceof String || reply.getBody() instanceof byte[]) {
+            responsePhrase = reply.getBody();
         } else if (reply.getParsingError().isPresent()) {
             final HttpResponse<JsonNode> jsonReply = (HttpResponse<JsonNode>) reply;
             final String errMsg = jsonReply.getParsingError().get().getMessage();
             final String originalBody = jsonReply.getParsingError().get().getOriginalBody();
             LOG.debug("Unirest parsing error: {} {}", errMsg, originalBody);
-            response = reply.getCookies() != null ?
-                    new Response(originalBody, statusCode, statusText, reply.getCookies()) :
-                    new Response(originalBody, statusCode, statusText);
+            responsePhrase = originalBody;
         } else {
             LOG.debug("no reply instanceof found");
-            response = reply.getCookies() != null ?
-                    new Response(null, statusCode, statusText, reply.getCookies()) :
-                    new Response(null, statusCode, statusText);
+            responsePhrase = null;
         }
 
+        final Response response = new Response(responsePhrase, statusCode, statusText,
+                reply.getCookies(), replyHeaders(reply));
+
+        if (statusCode == 412) {
+            throw new ZosmfConflictException(httpErrorMsg(response, statusCode), response);
+        }
         if (!(statusCode >= 100 && statusCode <= 299)) {
             throw new ZosmfRequestException(httpErrorMsg(response, statusCode), response);
         }
@@ -453,6 +591,21 @@ public abstract class ZosmfRequest {
         return response;
     }
 
+    /**
+     * Retrieve the headers of the given reply keeping the first value per header name
+     *
+     * @param reply HttpResponse object
+     * @return map of header name to value
+     * @author Frank Giordano
+     */
+    private static Map<String, String> replyHeaders(final HttpResponse<?> reply) {
+        final Map<String, String> replyHeaders = new HashMap<>();
+        if (reply.getHeaders() != null) {
+            reply.getHeaders().all().forEach(h -> replyHeaders.putIfAbsent(h.getName(), h.getValue()));
+        }
+        return replyHeaders;
+    }
+
     /**
      * Return custom http error message
      *
@@ -517,6 +670,19 @@ public abstract class ZosmfRequest {
         this.headers.putAll(headers);
     }
 
+    /**
+     * Send the given token cookie with the http request instead of the credentials of the connection, until
+     * the headers are set again
+     *
+     * @param token token cookie
+     * @author Frank Giordano
+     */
+    public void setToken(final Cookie token) {
+        ValidateUtils.checkNullParameter(token, "token");
+        headers.remove(AUTHORIZATION_HEADER);
+        this.token = token;
+    }
+
     /**
      * Set the standard headers for the http request
      *
@@ -535,16 +701,59 @@ public abstract class ZosmfRequest {
     public void setUrl(final String url) {
         ValidateUtils.checkIllegalParameter(url, "url");
 
-        try {
-            new URI(url).toURL();
-        } catch (MalformedURLException | URISyntaxException e) {
-            throw new IllegalArgumentException("invalid url: " + url, e);
+        // urls built on the connection's base url only need their remaining characters checked
+        if (!isConnectionUrl(url)) {
+            try {
+                new URI(url).toURL();
+            } catch (MalformedURLException | URISyntaxException e) {
+                throw new IllegalArgumentException("invalid url: " + url, e);
+            }
         }
 
         this.url = url;
         LOG.debug("url set to {}", this.url);
     }
 
+    /**
+     * Determine whether the url starts with the connection's well-formed z/OSMF base url and the remainder
+     * consists of legal URI characters with well-formed percent escapes
+     *
+     * @param url url value
+     * @return true if the url is known to be well-formed
+     */
+    private boolean isConnectionUrl(final String url) {
+        if (connection == null) {
+            return false;
+        }
+        final String base = connection.getZosmfUrl();
+        if (!url.startsWith(base)) {
+            return false;
+        }
+        // the host and base path come from the caller, the base url is parsed in full once per request object
+        if (!base.equals(validBaseUrl)) {
+            try {
+                new URI(base).toURL();
+            } catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+                return false;
+            }
+            validBaseUrl = base;
+        }
+        final int length = url.length();
+        for (int i = base.length(); i < length; i++) {
+            final char c = url.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= length || Character.digit(url.charAt(i + 1), 16) < 0
+                        || Character.digit(url.charAt(i + 2), 16) < 0) {
+                    return false;
+                }
+                i += 2;
+            } else if (c <= ' ' || c >= 0x7f || ILLEGAL_URI_CHARS.indexOf(c) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Retrieve the url string value
      *
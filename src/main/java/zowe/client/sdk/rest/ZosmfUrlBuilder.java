@@ -0,0 +1,155 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.EncodeUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+
+/**
+ * Builds a z/OSMF REST url from the connection's precomputed base url in a single buffer.
+ * <p>
+ * Path constants are appended verbatim, while path segments and query values supplied by the caller are
+ * URI-component encoded as they are appended. The resulting url is therefore well-formed by construction,
+ * which lets {@link ZosmfRequest#setUrl(String)} validate it with a character scan instead of a full parse.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class ZosmfUrlBuilder {
+
+    private static final int INITIAL_CAPACITY = 128;
+
+    private final StringBuilder url;
+    private boolean hasQuery;
+
+    /**
+     * ZosmfUrlBuilder constructor
+     *
+     * @param base base url value
+     */
+    private ZosmfUrlBuilder(final String base) {
+        this.url = new StringBuilder(Math.max(INITIAL_CAPACITY, base.length() + 64)).append(base);
+        this.hasQuery = base.indexOf('?') >= 0;
+    }
+
+    /**
+     * Start a url at the z/OSMF base url of the given connection
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @return ZosmfUrlBuilder object
+     * @author Frank Giordano
+     */
+    public static ZosmfUrlBuilder of(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        return new ZosmfUrlBuilder(connection.getZosmfUrl());
+    }
+
+    /**
+     * Append a literal path such as a resource constant, e.g. JobsConstants.RESOURCE
+     *
+     * @param path path value appended without encoding
+     * @return ZosmfUrlBuilder this object
+     * @author Frank Giordano
+     */
+    public ZosmfUrlBuilder path(final String path) {
+        ValidateUtils.checkNullParameter(path, "path");
+        checkNoQuery();
+        url.append(path);
+        return this;
+    }
+
+    /**
+     * Append a path delimiter followed by the encoded segment value, e.g. a job name or dataset name
+     *
+     * @param segment path segment value
+     * @return ZosmfUrlBuilder this object
+     * @author Frank Giordano
+     */
+    public ZosmfUrlBuilder segment(final String segment) {
+        checkNoQuery();
+        url.append(UrlConstants.URL_PATH_DELIM).append(EncodeUtils.encodeURIComponent(segment));
+        return this;
+    }
+
+    /**
+     * Append a query parameter with an encoded value
+     *
+     * @param name  query parameter name including the equal sign, e.g. JobsConstants.QUERY_OWNER
+     * @param value query parameter value
+     * @return ZosmfUrlBuilder this object
+     * @author Frank Giordano
+     */
+    public ZosmfUrlBuilder query(final String name, final String value) {
+        ValidateUtils.checkIllegalParameter(name, "name");
+        appendQueryDelimiter().append(name).append(EncodeUtils.encodeURIComponent(value));
+        return this;
+    }
+
+    /**
+     * Append a query parameter with a numeric value
+     *
+     * @param name  query parameter name including the equal sign, e.g. ZosFilesConstants.QUERY_START
+     * @param value query parameter value
+     * @return ZosmfUrlBuilder this object
+     * @author Frank Giordano
+     */
+    public ZosmfUrlBuilder query(final String name, final long value) {
+        ValidateUtils.checkIllegalParameter(name, "name");
+        appendQueryDelimiter().append(name).append(value);
+        return this;
+    }
+
+    /**
+     * Append a literal query parameter such as a constant flag, e.g. JobsConstants.STEP_DATA
+     *
+     * @param parameter query parameter appended without encoding
+     * @return ZosmfUrlBuilder this object
+     * @author Frank Giordano
+     */
+    public ZosmfUrlBuilder query(final String parameter) {
+        ValidateUtils.checkIllegalParameter(parameter, "parameter");
+        appendQueryDelimiter().append(parameter);
+        return this;
+    }
+
+    /**
+     * Return the url string
+     *
+     * @return url value
+     * @author Frank Giordano
+     */
+    public String build() {
+        return url.toString();
+    }
+
+    /**
+     * Return the url string
+     *
+     * @return url value
+     */
+    @Override
+    public String toString() {
+        return build();
+    }
+
+    private StringBuilder appendQueryDelimiter() {
+        url.append(hasQuery ? UrlConstants.COMBO_ID : UrlConstants.QUERY_ID);
+        hasQuery = true;
+        return url;
+    }
+
+    private void checkNoQuery() {
+        if (hasQuery) {
+            throw new IllegalStateException("path cannot be appended after query parameters");
+        }
+    }
+
+}
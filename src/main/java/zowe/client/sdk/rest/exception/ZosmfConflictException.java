@@ -0,0 +1,45 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest.exception;
+
+import zowe.client.sdk.rest.Response;
+
+import java.util.Optional;
+
+/**
+ * Custom exception to represent a z/OSMF conditional request rejected with http status 412 (Precondition Failed):
+ * the target was changed by someone else since the ETag sent in If-Match was read
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ZosmfConflictException extends ZosmfRequestException {
+
+    /**
+     * ZosmfConflictException constructor for message and response values
+     *
+     * @param message  error message
+     * @param response Response object
+     * @author Frank Giordano
+     */
+    public ZosmfConflictException(final String message, final Response response) {
+        super(message, response);
+    }
+
+    /**
+     * Retrieve the current ETag of the target when z/OSMF returned it with the rejection
+     *
+     * @return current ETag value
+     */
+    public Optional<String> getCurrentEtag() {
+        return getResponse() != null ? getResponse().getEtag() : Optional.empty();
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Utility class for dataset related static helper methods.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class DsnUtils {
+
+    /**
+     * Private constructor defined to avoid instantiation of class
+     */
+    private DsnUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Build the dataset level patterns listing the given datasets, one pattern per parent qualifier, e.g.
+     * HLQ.APP.* for HLQ.APP.LOAD and HLQ.APP.JCL
+     *
+     * @param datasetNames dataset names
+     * @return sorted list of distinct dataset level patterns
+     * @author Frank Giordano
+     */
+    public static List<String> levelPatterns(final Collection<String> datasetNames) {
+        ValidateUtils.checkNullParameter(datasetNames, "datasetNames");
+        final Set<String> patterns = new TreeSet<>();
+        for (final String name : datasetNames) {
+            final int index = name.lastIndexOf('.');
+            patterns.add(index < 0 ? name : name.substring(0, index) + ".*");
+        }
+        return new ArrayList<>(patterns);
+    }
+
+}
@@ -12,8 +12,16 @@ package zowe.client.sdk.utility;
 import zowe.client.sdk.core.ZosConnection;
 
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class contains helper methods for encoding processing.
@@ -23,6 +31,16 @@ import java.util.Base64;
  */
 public final class EncodeUtils {
 
+    /**
+     * Non-alphanumeric characters that encodeURIComponent leaves as-is
+     */
+    private static final String URI_COMPONENT_SAFE = "-_.*!~'()";
+
+    /**
+     * Decode table of each single byte code page, built on first use
+     */
+    private static final Map<String, char[]> DECODE_TABLES = new ConcurrentHashMap<>();
+
     /**
      * Private constructor defined to avoid instantiation of class
      */
@@ -44,6 +62,10 @@ public final class EncodeUtils {
     public static String encodeURIComponent(final String value) {
         ValidateUtils.checkIllegalParameter(value, "value");
 
+        // names such as data sets, members and job ids rarely need encoding; return them without copying
+        if (isUriComponentSafe(value)) {
+            return value;
+        }
         return URLEncoder.encode(value, StandardCharsets.UTF_8)
                 .replace("+", "%20")
                 .replace("%21", "!")
@@ -53,6 +75,23 @@ public final class EncodeUtils {
                 .replace("%7E", "~");
     }
 
+    /**
+     * Determine whether every character of the value is left unchanged by {@link #encodeURIComponent(String)}
+     *
+     * @param value the string to check
+     * @return true if the value needs no encoding
+     */
+    private static boolean isUriComponentSafe(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || URI_COMPONENT_SAFE.indexOf(c) >= 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Encodes the passed connection String as UTF-8 for usage of the AUTHORIZATION http header.
      *
@@ -66,4 +105,75 @@ public final class EncodeUtils {
         return Base64.getEncoder().encodeToString((user + ":" + pwd).getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Retrieve the table mapping every byte value of a single byte code page, such as EBCDIC IBM-1047 or IBM-037,
+     * to its character. The table is computed once per code page, so decoding is one array lookup per byte.
+     *
+     * @param encoding code page name, for example "IBM-1047", "IBM-037" or "1047"
+     * @return table of 256 characters indexed by unsigned byte value
+     * @throws IllegalArgumentException if the code page is unknown or not single byte
+     * @author Frank Giordano
+     */
+    public static char[] decodeTable(final String encoding) {
+        ValidateUtils.checkIllegalParameter(encoding, "encoding");
+        final char[] table = DECODE_TABLES.computeIfAbsent(encoding.toUpperCase(Locale.ROOT), EncodeUtils::buildDecodeTable);
+        return table.clone();
+    }
+
+    /**
+     * Decode bytes with a table from {@link #decodeTable(String)}
+     *
+     * @param buffer buffer holding the bytes, its position and limit are not changed
+     * @param offset absolute index of the first byte
+     * @param length number of bytes
+     * @param table  decode table
+     * @return decoded string
+     * @author Frank Giordano
+     */
+    public static String decode(final ByteBuffer buffer, final int offset, final int length, final char[] table) {
+        final char[] chars = new char[length];
+        if (buffer.hasArray()) {
+            final byte[] array = buffer.array();
+            final int base = buffer.arrayOffset() + offset;
+            for (int i = 0; i < length; i++) {
+                chars[i] = table[array[base + i] & 0xFF];
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                chars[i] = table[buffer.get(offset + i) & 0xFF];
+            }
+        }
+        return new String(chars);
+    }
+
+    private static char[] buildDecodeTable(final String encoding) {
+        final Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown encoding: " + encoding, e);
+        }
+        if (charset.newEncoder().maxBytesPerChar() != 1.0f) {
+            throw new IllegalArgumentException("not a single byte encoding: " + encoding);
+        }
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        try {
+            final CharBuffer chars = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(ByteBuffer.wrap(bytes));
+            if (chars.remaining() != bytes.length) {
+                throw new IllegalArgumentException("not a single byte encoding: " + encoding);
+            }
+            final char[] table = new char[bytes.length];
+            chars.get(table);
+            return table;
+        } catch (CharacterCodingException e) {
+            throw new IllegalArgumentException("cannot decode " + encoding, e);
+        }
+    }
+
 }
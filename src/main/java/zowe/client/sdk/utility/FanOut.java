@@ -0,0 +1,185 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs tasks on a fixed number of worker threads and hands the items they find to a consumer, stopping once a
+ * maximum number of items is reached or at the first error
+ * <p>
+ * The producer submits tasks, which may submit further tasks, and then calls {@link #await()}. A task hands each
+ * item to {@link #emit(Object)} and returns once it answers false, checks {@link #isOver()} between requests, and
+ * reports an error that ends the run to {@link #fail(Exception)}. Tasks submitted once the run is over do not run.
+ * Unlike {@link ParallelUtils#runAll}, the items are not known up front and the results are streamed.
+ *
+ * @param <T> item type
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class FanOut<T> {
+
+    private final String operation;
+    private final long maxItems;
+    private final Consumer<T> consumer;
+    private final ExecutorService executor;
+    // held by the producer until await, so the run cannot end before all tasks are submitted
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private final CountDownLatch done = new CountDownLatch(1);
+    private long count;
+    private volatile boolean stopped;
+    private volatile Exception failure;
+
+    /**
+     * FanOut constructor
+     *
+     * @param concurrency maximum number of tasks running at once
+     * @param operation   operation name used for the thread names and error messages
+     * @param maxItems    number of items after which the run stops
+     * @param consumer    receives the items, one call at a time
+     * @author Frank Giordano
+     */
+    public FanOut(final int concurrency, final String operation, final long maxItems, final Consumer<T> consumer) {
+        ValidateUtils.checkIllegalParameter(operation, "operation");
+        ValidateUtils.checkNullParameter(consumer, "consumer");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be greater than zero");
+        }
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("maxItems must be greater than zero");
+        }
+        this.operation = operation;
+        this.maxItems = maxItems;
+        this.consumer = consumer;
+        this.executor = Executors.newFixedThreadPool(concurrency, ParallelUtils.threadFactory(operation));
+    }
+
+    /**
+     * Run the task on a worker thread, a runtime exception of the task fails the run
+     *
+     * @param task task to run
+     * @author Frank Giordano
+     */
+    public void submit(final Runnable task) {
+        pending.incrementAndGet();
+        try {
+            // the FIFO work queue starts the tasks in submission order
+            executor.execute(() -> {
+                try {
+                    if (!isOver()) {
+                        task.run();
+                    }
+                } catch (RuntimeException e) {
+                    fail(e);
+                } finally {
+                    finish();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // only after the run has ended
+            finish();
+        }
+    }
+
+    /**
+     * Check whether the run has stopped or failed, tasks should then return without further requests
+     *
+     * @return true once the run is over
+     * @author Frank Giordano
+     */
+    public boolean isOver() {
+        return stopped || failure != null;
+    }
+
+    /**
+     * Hand an item to the consumer
+     *
+     * @param item item found by a task
+     * @return false once the run is over, the item is then dropped when the run was already over
+     * @author Frank Giordano
+     */
+    public boolean emit(final T item) {
+        synchronized (consumer) {
+            if (isOver()) {
+                return false;
+            }
+            consumer.accept(item);
+            if (++count >= maxItems) {
+                stopped = true;
+                done.countDown();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * End the run with an error, the first error is the one thrown by {@link #await()}
+     *
+     * @param e error
+     * @author Frank Giordano
+     */
+    public void fail(final Exception e) {
+        if (failure == null) {
+            failure = e;
+        }
+        done.countDown();
+    }
+
+    /**
+     * Wait for the submitted tasks to finish, for the maximum number of items, or for the first error
+     * <p>
+     * Called once by the producer after its last submit. The consumer is not called again once this returns.
+     *
+     * @return number of items handed to the consumer
+     * @throws ZosmfRequestException first request error, or the wait was interrupted
+     * @author Frank Giordano
+     */
+    public long await() throws ZosmfRequestException {
+        finish();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopped = true;
+            throw new ZosmfRequestException("Interrupted during " + operation, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        if (failure instanceof ZosmfRequestException) {
+            throw (ZosmfRequestException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw new ZosmfRequestException(operation + " failed: " + failure.getMessage(), failure);
+        }
+        synchronized (consumer) {
+            // no further items once the caller has the count
+            stopped = true;
+            return count;
+        }
+    }
+
+    private void finish() {
+        if (pending.decrementAndGet() == 0) {
+            done.countDown();
+        }
+    }
+
+}
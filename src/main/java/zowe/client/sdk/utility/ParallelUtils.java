@@ -0,0 +1,125 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utility Class to run a task for every item of a list on a fixed number of worker threads, stopping at the
+ * first error
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class ParallelUtils {
+
+    /**
+     * Private constructor defined to avoid instantiation of class
+     */
+    private ParallelUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Run the task for every item on a fixed number of worker threads
+     *
+     * @param items       items to process
+     * @param concurrency maximum number of tasks running at once
+     * @param operation   operation name used for the thread names and error messages
+     * @param task        task to run
+     * @param <T>         item type
+     * @param <R>         result type
+     * @return task results in item order
+     * @throws ZosmfRequestException first request error of a task
+     * @throws IOException           first local file error of a task
+     */
+    public static <T, R> List<R> runAll(final List<T> items, final int concurrency, final String operation,
+                                 final Task<T, R> task) throws ZosmfRequestException, IOException {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, items.size()),
+                threadFactory(operation));
+        try {
+            final List<Future<R>> futures = new ArrayList<>(items.size());
+            for (final T item : items) {
+                futures.add(executor.submit(() -> task.run(item)));
+            }
+            final List<R> results = new ArrayList<>(items.size());
+            for (final Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ZosmfRequestException("Interrupted during " + operation, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ZosmfRequestException) {
+                throw (ZosmfRequestException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Thread factory of daemon worker threads, so a pool left running never keeps the JVM alive
+     *
+     * @param operation operation name, the threads are named zowe-operation
+     * @return ThreadFactory object
+     */
+    public static ThreadFactory threadFactory(final String operation) {
+        final String name = "zowe-" + operation;
+        return runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Work done for one item
+     *
+     * @param <T> item type
+     * @param <R> result type
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+
+        /**
+         * Run the task for one item
+         *
+         * @param item item to process
+         * @return task result
+         * @throws ZosmfRequestException request error
+         * @throws IOException           local file error
+         */
+        R run(T item) throws ZosmfRequestException, IOException;
+
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.cache;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.Objects;
+
+/**
+ * Identifies cached content of a dataset, dataset member, or USS file for a given connection.
+ * <p>
+ * The key is made of a scope (connection identity and target type), the target name, and a variant
+ * describing how the content was retrieved (e.g. binary vs. text with a given encoding) since each
+ * retrieval mode produces different bytes for the same target.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class CacheKey {
+
+    /**
+     * Dataset target type
+     */
+    static final String DATASET_TYPE = "dsn";
+
+    /**
+     * USS file target type
+     */
+    static final String USS_TYPE = "uss";
+
+    private final String scope;
+    private final String type;
+    private final String target;
+    private final String variant;
+
+    /**
+     * CacheKey constructor
+     *
+     * @param scope   connection identity
+     * @param type    target type
+     * @param target  normalized target name
+     * @param variant retrieval variant
+     */
+    CacheKey(final String scope, final String type, final String target, final String variant) {
+        this.scope = scope;
+        this.type = type;
+        this.target = target;
+        this.variant = variant;
+    }
+
+    /**
+     * Create a key for a sequential dataset or dataset member, e.g. DATASET.LIB(MEMBER)
+     *
+     * @param connection  for connection information, see ZosConnection object
+     * @param datasetName sequential dataset or dataset member name
+     * @param variant     retrieval variant, e.g. "binary" or "text"
+     * @return CacheKey object
+     * @author Frank Giordano
+     */
+    public static CacheKey dataset(final ZosConnection connection, final String datasetName, final String variant) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+        ValidateUtils.checkNullParameter(variant, "variant");
+        return new CacheKey(scopeOf(connection), DATASET_TYPE, normalizeDataset(datasetName), variant);
+    }
+
+    /**
+     * Create a key for a USS file path
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param path       USS file path
+     * @param variant    retrieval variant, e.g. "binary" or "text"
+     * @return CacheKey object
+     * @author Frank Giordano
+     */
+    public static CacheKey ussFile(final ZosConnection connection, final String path, final String variant) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkIllegalParameter(path, "path");
+        ValidateUtils.checkNullParameter(variant, "variant");
+        return new CacheKey(scopeOf(connection), USS_TYPE, normalizePath(path), variant);
+    }
+
+    /**
+     * Connection identity used as key scope; the password is intentionally excluded.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @return scope string value
+     */
+    static String scopeOf(final ZosConnection connection) {
+        return connection.getHost() + ":" + connection.getZosmfPort() +
+                connection.getBasePath().orElse("") + "@" + Objects.toString(connection.getUser(), "");
+    }
+
+    /**
+     * Normalize a dataset name, dataset names are case-insensitive
+     *
+     * @param datasetName dataset name
+     * @return normalized dataset name
+     */
+    static String normalizeDataset(final String datasetName) {
+        return datasetName.trim().toUpperCase();
+    }
+
+    /**
+     * Normalize a USS path by removing any trailing path delimiter
+     *
+     * @param path USS path
+     * @return normalized path
+     */
+    static String normalizePath(final String path) {
+        String value = path.trim();
+        while (value.length() > 1 && value.endsWith("/")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Determine if this key is for the given target or is contained by it: a member of the given dataset,
+     * or a file under the given USS directory.
+     *
+     * @param scope  connection identity
+     * @param type   target type
+     * @param target normalized target name
+     * @return true if matched
+     */
+    boolean matches(final String scope, final String type, final String target) {
+        if (!this.scope.equals(scope) || !this.type.equals(type)) {
+            return false;
+        }
+        if (this.target.equals(target)) {
+            return true;
+        }
+        if (DATASET_TYPE.equals(type)) {
+            return this.target.startsWith(target + "(");
+        }
+        return this.target.startsWith("/".equals(target) ? target : target + "/");
+    }
+
+    /**
+     * Retrieve scope value
+     *
+     * @return scope value
+     */
+    String getScope() {
+        return scope;
+    }
+
+    /**
+     * Retrieve type value
+     *
+     * @return type value
+     */
+    String getType() {
+        return type;
+    }
+
+    /**
+     * Retrieve target value
+     *
+     * @return target value
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Retrieve variant value
+     *
+     * @return variant value
+     */
+    public String getVariant() {
+        return variant;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CacheKey)) {
+            return false;
+        }
+        final CacheKey other = (CacheKey) obj;
+        return scope.equals(other.scope) && type.equals(other.type) &&
+                target.equals(other.target) && variant.equals(other.variant);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scope, type, target, variant);
+    }
+
+    /**
+     * Return string value representing CacheKey object
+     *
+     * @return string representation of CacheKey
+     */
+    @Override
+    public String toString() {
+        return scope + "|" + type + "|" + target + "|" + variant;
+    }
+
+}
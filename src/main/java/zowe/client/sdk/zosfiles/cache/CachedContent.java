@@ -0,0 +1,73 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.cache;
+
+/**
+ * Content retrieved from the local content cache along with the ETag it was stored with
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class CachedContent {
+
+    /**
+     * ETag value returned by z/OSMF when the content was downloaded
+     */
+    private final String etag;
+
+    /**
+     * Content bytes
+     */
+    private final byte[] content;
+
+    /**
+     * CachedContent constructor
+     *
+     * @param etag    ETag value
+     * @param content content bytes
+     * @author Frank Giordano
+     */
+    public CachedContent(final String etag, final byte[] content) {
+        this.etag = etag;
+        this.content = content;
+    }
+
+    /**
+     * Retrieve etag value
+     *
+     * @return etag value
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Retrieve content bytes
+     *
+     * @return content bytes
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * Return string value representing CachedContent object
+     *
+     * @return string representation of CachedContent
+     */
+    @Override
+    public String toString() {
+        return "CachedContent{" +
+                "etag='" + etag + '\'' +
+                ", size=" + content.length +
+                '}';
+    }
+
+}
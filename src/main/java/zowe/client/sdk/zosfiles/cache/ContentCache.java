@@ -0,0 +1,468 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * ETag-aware on-disk content cache for dataset, dataset member, and USS file downloads.
+ * <p>
+ * Each entry stores the downloaded bytes together with the ETag z/OSMF returned for them. Cache-enabled
+ * retrievals (see DsnGet and UssGet constructors accepting a ContentCache) send an {@code If-None-Match}
+ * header with the stored ETag; a HTTP 304 reply means the content is unchanged and is served from disk
+ * without any body transfer.
+ * <p>
+ * The cache is bounded by total content size and evicts least recently used entries first. Entries are
+ * persisted as a content file and a metadata file named by the SHA-256 of the key, so a cache directory
+ * can be reused across JVM runs.
+ * <p>
+ * Entries are invalidated automatically when the SDK itself writes, deletes, renames, moves, or copies over
+ * a target on the same connection (see {@link #invalidateDataset(ZosConnection, String)} and
+ * {@link #invalidateUssPath(ZosConnection, String)}). Changes made outside the SDK are detected by ETag
+ * revalidation.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ContentCache implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentCache.class);
+
+    /**
+     * Live caches notified of SDK mutations, weakly referenced so unclosed caches can still be collected
+     */
+    private static final Set<ContentCache> CACHES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private static final String DATA_SUFFIX = ".data";
+    private static final String META_SUFFIX = ".meta";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final String ETAG_PROPERTY = "etag";
+    private static final String SCOPE_PROPERTY = "scope";
+    private static final String TYPE_PROPERTY = "type";
+    private static final String TARGET_PROPERTY = "target";
+    private static final String VARIANT_PROPERTY = "variant";
+
+    private final Path directory;
+    private final long maxBytes;
+    /**
+     * Index of entries in least recently used order
+     */
+    private final LinkedHashMap<CacheKey, Entry> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes;
+
+    /**
+     * ContentCache constructor
+     *
+     * @param directory directory holding the cache files, created if it does not exist
+     * @param maxBytes  maximum total size in bytes of cached content
+     * @throws IllegalArgumentException invalid directory or size
+     * @author Frank Giordano
+     */
+    public ContentCache(final Path directory, final long maxBytes) {
+        ValidateUtils.checkNullParameter(directory, "directory");
+        ValidateUtils.checkIllegalParameter(maxBytes <= 0, "maxBytes must be greater than zero");
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("unable to create cache directory: " + directory, e);
+        }
+        load();
+        CACHES.add(this);
+    }
+
+    /**
+     * Invalidate cached content of the given dataset, or dataset member, in every live cache. Invalidating a
+     * dataset name also invalidates all of its members.
+     *
+     * @param connection  for connection information, see ZosConnection object
+     * @param datasetName dataset or dataset member name
+     * @author Frank Giordano
+     */
+    public static void invalidateDataset(final ZosConnection connection, final String datasetName) {
+        if (CACHES.isEmpty() || connection == null || datasetName == null || datasetName.isBlank()) {
+            return;
+        }
+        invalidateAll(CacheKey.scopeOf(connection), CacheKey.DATASET_TYPE, CacheKey.normalizeDataset(datasetName));
+    }
+
+    /**
+     * Invalidate cached content of the given USS path in every live cache. Invalidating a directory path also
+     * invalidates all files under it.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param path       USS file or directory path
+     * @author Frank Giordano
+     */
+    public static void invalidateUssPath(final ZosConnection connection, final String path) {
+        if (CACHES.isEmpty() || connection == null || path == null || path.isBlank()) {
+            return;
+        }
+        invalidateAll(CacheKey.scopeOf(connection), CacheKey.USS_TYPE, CacheKey.normalizePath(path));
+    }
+
+    /**
+     * Determine if the given request error is a HTTP 304 (not modified) reply to a conditional GET
+     *
+     * @param e ZosmfRequestException object
+     * @return true if the request failed with a HTTP 304 status code
+     * @author Frank Giordano
+     */
+    public static boolean isNotModified(final ZosmfRequestException e) {
+        return e.getResponse() != null && e.getResponse().getStatusCode().orElse(0) == 304;
+    }
+
+    /**
+     * Invalidate matching entries in every live cache
+     *
+     * @param scope  connection identity
+     * @param type   target type
+     * @param target normalized target name
+     */
+    private static void invalidateAll(final String scope, final String type, final String target) {
+        final List<ContentCache> caches;
+        synchronized (CACHES) {
+            if (CACHES.isEmpty()) {
+                return;
+            }
+            caches = new ArrayList<>(CACHES);
+        }
+        caches.forEach(cache -> cache.invalidate(scope, type, target));
+    }
+
+    /**
+     * Retrieve cached content for the given key, marking it as most recently used
+     *
+     * @param key cache key
+     * @return CachedContent Optional value, empty when not cached or unreadable
+     * @author Frank Giordano
+     */
+    public Optional<CachedContent> get(final CacheKey key) {
+        ValidateUtils.checkNullParameter(key, "key");
+        final Entry entry;
+        synchronized (this) {
+            entry = index.get(key);
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new CachedContent(entry.etag, Files.readAllBytes(dataFile(entry.fileName))));
+        } catch (IOException e) {
+            LOG.debug("cache entry {} unreadable, removing: {}", key, e.getMessage());
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store content with its ETag for the given key, evicting least recently used entries when the
+     * size bound is exceeded. Content larger than the whole cache is not stored.
+     *
+     * @param key     cache key
+     * @param etag    ETag value returned with the content
+     * @param content content bytes
+     * @author Frank Giordano
+     */
+    public void put(final CacheKey key, final String etag, final byte[] content) {
+        ValidateUtils.checkNullParameter(key, "key");
+        ValidateUtils.checkIllegalParameter(etag, "etag");
+        ValidateUtils.checkNullParameter(content, "content");
+        if (content.length > maxBytes) {
+            remove(key);
+            return;
+        }
+
+        final String fileName = fileNameOf(key);
+        final Path tmp;
+        try {
+            tmp = Files.createTempFile(directory, fileName, TMP_SUFFIX);
+            Files.write(tmp, content);
+        } catch (IOException e) {
+            LOG.debug("unable to write cache entry {}: {}", key, e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            try {
+                Files.move(tmp, dataFile(fileName), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                writeMeta(fileName, key, etag);
+            } catch (IOException e) {
+                LOG.debug("unable to store cache entry {}: {}", key, e.getMessage());
+                deleteQuietly(tmp);
+                removeEntry(key);
+                return;
+            }
+            final Entry previous = index.put(key, new Entry(fileName, etag, content.length));
+            if (previous != null) {
+                sizeBytes -= previous.size;
+            }
+            sizeBytes += content.length;
+            evict();
+        }
+    }
+
+    /**
+     * Remove the entry for the given key
+     *
+     * @param key cache key
+     * @author Frank Giordano
+     */
+    public synchronized void remove(final CacheKey key) {
+        ValidateUtils.checkNullParameter(key, "key");
+        removeEntry(key);
+    }
+
+    /**
+     * Remove all entries
+     *
+     * @author Frank Giordano
+     */
+    public synchronized void clear() {
+        new ArrayList<>(index.keySet()).forEach(this::removeEntry);
+    }
+
+    /**
+     * Retrieve total size in bytes of cached content
+     *
+     * @return size in bytes
+     */
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * Retrieve maximum total size in bytes of cached content
+     *
+     * @return maximum size in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Retrieve number of cached entries
+     *
+     * @return entry count
+     */
+    public synchronized int getEntryCount() {
+        return index.size();
+    }
+
+    /**
+     * Retrieve cache directory
+     *
+     * @return directory path
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Stop receiving SDK mutation invalidations; cached files are kept on disk for later reuse.
+     *
+     * @author Frank Giordano
+     */
+    @Override
+    public void close() {
+        CACHES.remove(this);
+    }
+
+    /**
+     * Remove entries matching the given target
+     *
+     * @param scope  connection identity
+     * @param type   target type
+     * @param target normalized target name
+     */
+    synchronized void invalidate(final String scope, final String type, final String target) {
+        final List<CacheKey> keys = new ArrayList<>();
+        index.keySet().stream().filter(k -> k.matches(scope, type, target)).forEach(keys::add);
+        keys.forEach(key -> {
+            LOG.debug("cache entry {} invalidated", key);
+            removeEntry(key);
+        });
+    }
+
+    /**
+     * Evict least recently used entries until the size bound is satisfied. Caller must hold the lock.
+     */
+    private void evict() {
+        final Iterator<Map.Entry<CacheKey, Entry>> iterator = index.entrySet().iterator();
+        while (sizeBytes > maxBytes && iterator.hasNext()) {
+            final Map.Entry<CacheKey, Entry> eldest = iterator.next();
+            iterator.remove();
+            sizeBytes -= eldest.getValue().size;
+            deleteFiles(eldest.getValue().fileName);
+            LOG.debug("cache entry {} evicted", eldest.getKey());
+        }
+    }
+
+    /**
+     * Remove an entry and its files. Caller must hold the lock.
+     *
+     * @param key cache key
+     */
+    private void removeEntry(final CacheKey key) {
+        final Entry entry = index.remove(key);
+        if (entry != null) {
+            sizeBytes -= entry.size;
+        }
+        deleteFiles(fileNameOf(key));
+    }
+
+    /**
+     * Load entries persisted by a previous run, oldest first, then enforce the size bound
+     */
+    private synchronized void load() {
+        final List<Path> metaFiles = new ArrayList<>();
+        final List<Path> tmpFiles = new ArrayList<>();
+        try (final Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(p -> {
+                final String name = p.getFileName().toString();
+                if (name.endsWith(META_SUFFIX)) {
+                    metaFiles.add(p);
+                } else if (name.endsWith(TMP_SUFFIX)) {
+                    tmpFiles.add(p);
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalArgumentException("unable to read cache directory: " + directory, e);
+        }
+        tmpFiles.forEach(ContentCache::deleteQuietly);
+        metaFiles.sort(Comparator.comparingLong(ContentCache::lastModified));
+
+        for (final Path metaFile : metaFiles) {
+            final String name = metaFile.getFileName().toString();
+            final String fileName = name.substring(0, name.length() - META_SUFFIX.length());
+            try (final InputStream in = Files.newInputStream(metaFile)) {
+                final Properties properties = new Properties();
+                properties.load(in);
+                final CacheKey key = new CacheKey(properties.getProperty(SCOPE_PROPERTY),
+                        properties.getProperty(TYPE_PROPERTY), properties.getProperty(TARGET_PROPERTY),
+                        properties.getProperty(VARIANT_PROPERTY));
+                final String etag = properties.getProperty(ETAG_PROPERTY);
+                final Path dataFile = dataFile(fileName);
+                if (key.getScope() == null || key.getType() == null || key.getTarget() == null ||
+                        key.getVariant() == null || etag == null || !Files.exists(dataFile)) {
+                    deleteFiles(fileName);
+                    continue;
+                }
+                final long size = Files.size(dataFile);
+                index.put(key, new Entry(fileName, etag, size));
+                sizeBytes += size;
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.debug("ignoring unreadable cache entry {}: {}", fileName, e.getMessage());
+                deleteFiles(fileName);
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Write the metadata file of an entry
+     *
+     * @param fileName entry file name
+     * @param key      cache key
+     * @param etag     ETag value
+     * @throws IOException error writing file
+     */
+    private void writeMeta(final String fileName, final CacheKey key, final String etag) throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(SCOPE_PROPERTY, key.getScope());
+        properties.setProperty(TYPE_PROPERTY, key.getType());
+        properties.setProperty(TARGET_PROPERTY, key.getTarget());
+        properties.setProperty(VARIANT_PROPERTY, key.getVariant());
+        properties.setProperty(ETAG_PROPERTY, etag);
+        try (final OutputStream out = Files.newOutputStream(directory.resolve(fileName + META_SUFFIX))) {
+            properties.store(out, null);
+        }
+    }
+
+    private Path dataFile(final String fileName) {
+        return directory.resolve(fileName + DATA_SUFFIX);
+    }
+
+    private void deleteFiles(final String fileName) {
+        deleteQuietly(dataFile(fileName));
+        deleteQuietly(directory.resolve(fileName + META_SUFFIX));
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.debug("unable to delete cache file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static long lastModified(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * File name of an entry, the hex SHA-256 digest of the key
+     *
+     * @param key cache key
+     * @return file name without suffix
+     */
+    private static String fileNameOf(final CacheKey key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder str = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                str.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return str.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Index entry
+     */
+    private static final class Entry {
+
+        private final String fileName;
+        private final String etag;
+        private final long size;
+
+        private Entry(final String fileName, final String etag, final long size) {
+            this.fileName = fileName;
+            this.etag = etag;
+            this.size = size;
+        }
+
+    }
+
+}
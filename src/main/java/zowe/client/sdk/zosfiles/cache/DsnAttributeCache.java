@@ -0,0 +1,201 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.cache;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory cache of dataset attributes returned by DsnGet.getDsnInfo, with a time to live
+ * <p>
+ * Entries are kept per connection and dataset name. An entry expires once the time to live has passed since it
+ * was stored, and is invalidated earlier when the SDK itself creates, writes, deletes, renames, or copies over the
+ * dataset or one of its members on the same connection (see {@link #invalidateDataset(ZosConnection, String)}).
+ * Changes made outside the SDK are seen once the entry expires.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnAttributeCache {
+
+    /**
+     * Live caches notified of SDK mutations, weakly referenced so unused caches can still be collected
+     */
+    private static final Set<DsnAttributeCache> CACHES =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * DsnAttributeCache constructor
+     *
+     * @param ttl time to live of an entry
+     * @throws IllegalArgumentException zero or negative time to live
+     * @author Frank Giordano
+     */
+    public DsnAttributeCache(final Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    /**
+     * Alternative DsnAttributeCache constructor with a clock. This is mainly used for internal code unit
+     * testing, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param ttl   time to live of an entry
+     * @param clock time source in nanoseconds
+     * @author Frank Giordano
+     */
+    DsnAttributeCache(final Duration ttl, final LongSupplier clock) {
+        ValidateUtils.checkNullParameter(ttl, "ttl");
+        ValidateUtils.checkNullParameter(clock, "clock");
+        ValidateUtils.checkIllegalParameter(ttl.isNegative() || ttl.isZero(), "ttl must be greater than zero");
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        CACHES.add(this);
+    }
+
+    /**
+     * Invalidate the attributes of the dataset in every live cache. A member name invalidates its dataset.
+     *
+     * @param connection  for connection information, see ZosConnection object
+     * @param datasetName dataset or dataset member name
+     * @author Frank Giordano
+     */
+    public static void invalidateDataset(final ZosConnection connection, final String datasetName) {
+        if (connection == null || datasetName == null || datasetName.isBlank()) {
+            return;
+        }
+        final List<DsnAttributeCache> caches;
+        synchronized (CACHES) {
+            if (CACHES.isEmpty()) {
+                return;
+            }
+            caches = new ArrayList<>(CACHES);
+        }
+        final String key = keyOf(connection, datasetName);
+        caches.forEach(cache -> cache.entries.remove(key));
+    }
+
+    /**
+     * Retrieve the cached attributes of a dataset
+     *
+     * @param connection  for connection information, see ZosConnection object
+     * @param datasetName dataset name
+     * @return Dataset Optional value, empty when not cached or expired
+     * @author Frank Giordano
+     */
+    public Optional<Dataset> get(final ZosConnection connection, final String datasetName) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+        final String key = keyOf(connection, datasetName);
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (clock.getAsLong() - entry.storedAt >= ttlNanos) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.dataset);
+    }
+
+    /**
+     * Store the attributes of a dataset
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param dataset    Dataset object
+     * @author Frank Giordano
+     */
+    public void put(final ZosConnection connection, final Dataset dataset) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(dataset, "dataset");
+        ValidateUtils.checkIllegalParameter(dataset.getDsname(), "dsname");
+        entries.put(keyOf(connection, dataset.getDsname()), new Entry(dataset, clock.getAsLong()));
+    }
+
+    /**
+     * Remove the attributes of a dataset
+     *
+     * @param connection  for connection information, see ZosConnection object
+     * @param datasetName dataset name
+     * @author Frank Giordano
+     */
+    public void remove(final ZosConnection connection, final String datasetName) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+        entries.remove(keyOf(connection, datasetName));
+    }
+
+    /**
+     * Remove all entries
+     *
+     * @author Frank Giordano
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Retrieve the number of entries, expired entries not yet looked up included
+     *
+     * @return number of entries
+     * @author Frank Giordano
+     */
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Build the entry key of a dataset, a member name maps to its dataset
+     *
+     * @param connection  for connection information, see ZosConnection object
+     * @param datasetName dataset or dataset member name
+     * @return key value
+     */
+    private static String keyOf(final ZosConnection connection, final String datasetName) {
+        String name = CacheKey.normalizeDataset(datasetName);
+        final int member = name.indexOf('(');
+        if (member > 0) {
+            name = name.substring(0, member);
+        }
+        return CacheKey.scopeOf(connection) + "|" + name;
+    }
+
+    /**
+     * Cached attributes and the time they were stored
+     */
+    private static final class Entry {
+
+        private final Dataset dataset;
+        private final long storedAt;
+
+        private Entry(final Dataset dataset, final long storedAt) {
+            this.dataset = dataset;
+            this.storedAt = storedAt;
+        }
+    }
+
+}
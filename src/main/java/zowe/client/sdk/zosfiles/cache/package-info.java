@@ -0,0 +1,4 @@
+/**
+ * z/OS files local cache package
+ */
+package zowe.client.sdk.zosfiles.cache;
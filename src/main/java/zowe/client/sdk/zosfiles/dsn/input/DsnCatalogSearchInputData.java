@@ -0,0 +1,224 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.model.DatasetPattern;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parameter container class for a dataset search over several dataset level patterns
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnCatalogSearchInputData {
+
+    /**
+     * Patterns searched
+     */
+    private final List<DatasetPattern> patterns;
+
+    /**
+     * Attributes returned for each dataset
+     */
+    private final AttributeType attribute;
+
+    /**
+     * Number of datasets requested per list request
+     */
+    private final int pageSize;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * DsnCatalogSearchInputData constructor
+     *
+     * @param builder DsnCatalogSearchInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnCatalogSearchInputData(final DsnCatalogSearchInputData.Builder builder) {
+        this.patterns = List.copyOf(builder.patterns);
+        this.attribute = builder.attribute;
+        this.pageSize = builder.pageSize;
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Retrieve patterns value
+     *
+     * @return patterns searched
+     */
+    public List<DatasetPattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * Retrieve attribute value
+     *
+     * @return attributes returned for each dataset
+     */
+    public AttributeType getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Retrieve pageSize value
+     *
+     * @return number of datasets requested per list request
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Return string value representing DsnCatalogSearchInputData object
+     *
+     * @return string representation of DsnCatalogSearchInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnCatalogSearchInputData{" +
+                "patterns=" + patterns +
+                ", attribute=" + attribute +
+                ", pageSize=" + pageSize +
+                ", maxConcurrency=" + maxConcurrency +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnCatalogSearchInputData
+     */
+    public static class Builder {
+
+        /**
+         * Patterns searched
+         */
+        private final List<DatasetPattern> patterns = new ArrayList<>();
+
+        /**
+         * Attributes returned for each dataset
+         */
+        private AttributeType attribute = AttributeType.BASE;
+
+        /**
+         * Number of datasets requested per list request
+         */
+        private int pageSize = 1000;
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Add a dataset level pattern searched in the catalog
+         *
+         * @param pattern dataset level pattern (e.g. 'HLQ.**')
+         * @return Builder this object
+         */
+        public Builder pattern(final String pattern) {
+            ValidateUtils.checkIllegalParameter(pattern, "pattern");
+            patterns.add(new DatasetPattern(pattern, null));
+            return this;
+        }
+
+        /**
+         * Add a dataset level pattern searched on one volume
+         *
+         * @param pattern dataset level pattern (e.g. 'HLQ.**')
+         * @param volume  volume serial
+         * @return Builder this object
+         */
+        public Builder pattern(final String pattern, final String volume) {
+            ValidateUtils.checkIllegalParameter(pattern, "pattern");
+            ValidateUtils.checkIllegalParameter(volume, "volume");
+            patterns.add(new DatasetPattern(pattern, volume));
+            return this;
+        }
+
+        /**
+         * Set the attributes returned for each dataset, BASE by default. VOL returns only the name and volume,
+         * which is cheaper for z/OS to produce.
+         *
+         * @param attribute AttributeType value
+         * @return Builder this object
+         */
+        public Builder attribute(final AttributeType attribute) {
+            ValidateUtils.checkNullParameter(attribute, "attribute");
+            this.attribute = attribute;
+            return this;
+        }
+
+        /**
+         * Set the number of datasets requested per list request, 1000 by default. At most two pages of each
+         * pattern are held in memory at once.
+         *
+         * @param pageSize value greater than one
+         * @return Builder this object
+         */
+        public Builder pageSize(final int pageSize) {
+            if (pageSize <= 1) {
+                throw new IllegalArgumentException("pageSize must be greater than one");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Return DsnCatalogSearchInputData object based on Builder this object
+         *
+         * @return DsnCatalogSearchInputData object
+         */
+        public DsnCatalogSearchInputData build() {
+            if (patterns.isEmpty()) {
+                throw new IllegalStateException("at least one pattern required");
+            }
+            return new DsnCatalogSearchInputData(this);
+        }
+
+    }
+
+}
@@ -88,6 +88,11 @@ public class DsnDownloadInputData {
      */
     private final boolean binary;
 
+    /**
+     * The indicator to retrieve the data set in record mode, each record preceded by its length
+     */
+    private final boolean record;
+
     /**
      * Code page encoding
      */
@@ -125,6 +130,7 @@ public class DsnDownloadInputData {
         this.preserveOriginalLetterCase = builder.preserveOriginalLetterCase;
         this.failFast = builder.failFast;
         this.binary = builder.binary;
+        this.record = builder.record;
         this.encoding = builder.encoding;
         this.volume = builder.volume;
         this.task = builder.task;
@@ -140,6 +146,15 @@ public class DsnDownloadInputData {
         return binary;
     }
 
+    /**
+     * Retrieve is record specified
+     *
+     * @return boolean true for record mode
+     */
+    public boolean isRecord() {
+        return record;
+    }
+
     /**
      * Retrieve directory value
      *
@@ -275,6 +290,7 @@ public class DsnDownloadInputData {
                 ", preserveOriginalLetterCase=" + preserveOriginalLetterCase +
                 ", failFast=" + failFast +
                 ", binary=" + binary +
+                ", record=" + record +
                 ", encoding=" + encoding +
                 ", volume=" + volume +
                 ", task=" + task +
@@ -351,6 +367,11 @@ public class DsnDownloadInputData {
          */
         private boolean binary;
 
+        /**
+         * The indicator to retrieve the data set in record mode, each record preceded by its length
+         */
+        private boolean record;
+
         /**
          * Code page encoding
          */
@@ -388,6 +409,18 @@ public class DsnDownloadInputData {
             return this;
         }
 
+        /**
+         * Set record boolean value. In record mode each record is returned in binary preceded by its length
+         * in a 4-byte big-endian field, see DsnRecordReader.
+         *
+         * @param record boolean true or false value
+         * @return Builder this object
+         */
+        public Builder record(final boolean record) {
+            this.record = record;
+            return this;
+        }
+
         /**
          * Set directory string value
          *
@@ -0,0 +1,271 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.types.HsmAction;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parameter container class for an HSM action requested on many datasets at once
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnHsmInputData {
+
+    /**
+     * Volume serial HSM reports for a migrated dataset
+     */
+    public static final String MIGRATED_VOLUME = "MIGRAT";
+
+    /**
+     * HSM action requested
+     */
+    private final HsmAction action;
+
+    /**
+     * Names of the datasets the action is requested on
+     */
+    private final List<String> datasetNames;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Time between the listings confirming completion
+     */
+    private final Duration pollInterval;
+
+    /**
+     * Time after which a dataset not confirmed complete is reported as timed out
+     */
+    private final Duration timeout;
+
+    /**
+     * DsnHsmInputData constructor
+     *
+     * @param builder DsnHsmInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnHsmInputData(final DsnHsmInputData.Builder builder) {
+        this.action = builder.action;
+        this.datasetNames = List.copyOf(builder.datasetNames);
+        this.maxConcurrency = builder.maxConcurrency;
+        this.pollInterval = builder.pollInterval;
+        this.timeout = builder.timeout;
+    }
+
+    /**
+     * Retrieve action value
+     *
+     * @return HSM action requested
+     */
+    public HsmAction getAction() {
+        return action;
+    }
+
+    /**
+     * Retrieve datasetNames value
+     *
+     * @return names of the datasets the action is requested on
+     */
+    public List<String> getDatasetNames() {
+        return datasetNames;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve pollInterval value
+     *
+     * @return time between the listings confirming completion
+     */
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * Retrieve timeout value
+     *
+     * @return time after which a dataset not confirmed complete is reported as timed out
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Return true when the volume shows the action on a dataset is complete
+     *
+     * @param volume volume serial of the dataset
+     * @return true when the action is complete
+     */
+    public boolean isComplete(final String volume) {
+        final boolean migrated = MIGRATED_VOLUME.equalsIgnoreCase(volume);
+        return action == HsmAction.MIGRATE ? migrated : !migrated;
+    }
+
+    /**
+     * Return string value representing DsnHsmInputData object
+     *
+     * @return string representation of DsnHsmInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnHsmInputData{" +
+                "action=" + action +
+                ", datasetNames=" + datasetNames.size() +
+                ", maxConcurrency=" + maxConcurrency +
+                ", pollInterval=" + pollInterval +
+                ", timeout=" + timeout +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnHsmInputData
+     */
+    public static class Builder {
+
+        /**
+         * HSM action requested
+         */
+        private final HsmAction action;
+
+        /**
+         * Names of the datasets the action is requested on
+         */
+        private final Set<String> datasetNames = new LinkedHashSet<>();
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Time between the listings confirming completion
+         */
+        private Duration pollInterval = Duration.ofSeconds(5);
+
+        /**
+         * Time after which a dataset not confirmed complete is reported as timed out
+         */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /**
+         * Builder constructor
+         *
+         * @param action HSM action requested
+         */
+        public Builder(final HsmAction action) {
+            ValidateUtils.checkNullParameter(action, "action");
+            this.action = action;
+        }
+
+        /**
+         * Add a dataset the action is requested on
+         *
+         * @param datasetName dataset name
+         * @return Builder this object
+         */
+        public Builder dataset(final String datasetName) {
+            ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+            datasetNames.add(datasetName.toUpperCase());
+            return this;
+        }
+
+        /**
+         * Add the datasets of a DsnList result that need the action: for RECALL the datasets on volume MIGRAT,
+         * for MIGRATE the others. The list must be retrieved with the BASE or VOL attribute.
+         *
+         * @param datasets Dataset objects
+         * @return Builder this object
+         */
+        public Builder datasets(final Collection<Dataset> datasets) {
+            ValidateUtils.checkNullParameter(datasets, "datasets");
+            for (final Dataset dataset : datasets) {
+                final boolean migrated = MIGRATED_VOLUME.equalsIgnoreCase(dataset.getVol());
+                if (migrated == (action == HsmAction.RECALL)) {
+                    dataset(dataset.getDsname());
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the time between the listings confirming completion, 5 seconds by default
+         *
+         * @param pollInterval positive duration
+         * @return Builder this object
+         */
+        public Builder pollInterval(final Duration pollInterval) {
+            ValidateUtils.checkNullParameter(pollInterval, "pollInterval");
+            if (pollInterval.isZero() || pollInterval.isNegative()) {
+                throw new IllegalArgumentException("pollInterval must be positive");
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Set the time after which a dataset not confirmed complete is reported as timed out, 30 minutes by default
+         *
+         * @param timeout positive duration
+         * @return Builder this object
+         */
+        public Builder timeout(final Duration timeout) {
+            ValidateUtils.checkNullParameter(timeout, "timeout");
+            if (timeout.isZero() || timeout.isNegative()) {
+                throw new IllegalArgumentException("timeout must be positive");
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Return DsnHsmInputData object based on Builder this object
+         *
+         * @return DsnHsmInputData object
+         */
+        public DsnHsmInputData build() {
+            return new DsnHsmInputData(this);
+        }
+
+    }
+
+}
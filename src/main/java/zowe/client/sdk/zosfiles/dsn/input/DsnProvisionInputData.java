@@ -0,0 +1,266 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionState;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Parameter container class for bringing many datasets to a requested state at once
+ * <p>
+ * Allocation parameters are defined once as named templates, and each dataset that must exist refers to one of
+ * them by name.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnProvisionInputData {
+
+    /**
+     * Allocation parameters by template name
+     */
+    private final Map<String, DsnCreateInputData> templates;
+
+    /**
+     * Template name of each dataset that must exist, or null for a dataset that must not exist, in input order
+     */
+    private final Map<String, String> datasets;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * DsnProvisionInputData constructor
+     *
+     * @param builder DsnProvisionInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnProvisionInputData(final DsnProvisionInputData.Builder builder) {
+        this.templates = Map.copyOf(builder.templates);
+        this.datasets = new LinkedHashMap<>(builder.datasets);
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Retrieve the names of the datasets
+     *
+     * @return dataset names in input order
+     */
+    public List<String> getDatasetNames() {
+        return List.copyOf(datasets.keySet());
+    }
+
+    /**
+     * Retrieve the state requested for a dataset
+     *
+     * @param datasetName dataset name
+     * @return requested state
+     * @throws IllegalArgumentException the dataset is not part of the input
+     */
+    public ProvisionState getState(final String datasetName) {
+        if (!datasets.containsKey(datasetName)) {
+            throw new IllegalArgumentException("dataset not provisioned: " + datasetName);
+        }
+        return datasets.get(datasetName) != null ? ProvisionState.EXISTS : ProvisionState.ABSENT;
+    }
+
+    /**
+     * Retrieve the allocation parameters of a dataset that must exist
+     *
+     * @param datasetName dataset name
+     * @return allocation parameters of its template, empty for a dataset that must not exist
+     */
+    public Optional<DsnCreateInputData> getCreateInputData(final String datasetName) {
+        final String template = datasets.get(datasetName);
+        return template != null ? Optional.of(templates.get(template)) : Optional.empty();
+    }
+
+    /**
+     * Retrieve templates value
+     *
+     * @return allocation parameters by template name
+     */
+    public Map<String, DsnCreateInputData> getTemplates() {
+        return templates;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Return string value representing DsnProvisionInputData object
+     *
+     * @return string representation of DsnProvisionInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnProvisionInputData{" +
+                "templates=" + templates.keySet() +
+                ", datasets=" + datasets.size() +
+                ", maxConcurrency=" + maxConcurrency +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnProvisionInputData
+     */
+    public static class Builder {
+
+        /**
+         * Allocation parameters by template name
+         */
+        private final Map<String, DsnCreateInputData> templates = new HashMap<>();
+
+        /**
+         * Template name of each dataset that must exist, or null for a dataset that must not exist
+         */
+        private final Map<String, String> datasets = new LinkedHashMap<>();
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Define a named allocation template, replacing a template of the same name
+         *
+         * @param name            template name
+         * @param createInputData allocation parameters, see DsnCreateInputData object
+         * @return Builder this object
+         */
+        public Builder template(final String name, final DsnCreateInputData createInputData) {
+            ValidateUtils.checkIllegalParameter(name, "name");
+            ValidateUtils.checkNullParameter(createInputData, "createInputData");
+            templates.put(name, createInputData);
+            return this;
+        }
+
+        /**
+         * Require a dataset to exist, allocated from a template defined before when it is not cataloged
+         *
+         * @param datasetName  dataset name
+         * @param templateName name of the template
+         * @return Builder this object
+         * @throws IllegalArgumentException the template is not defined, or the dataset is already required in
+         *                                  another state or with another template
+         */
+        public Builder ensureExists(final String datasetName, final String templateName) {
+            ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+            ValidateUtils.checkIllegalParameter(templateName, "templateName");
+            if (!templates.containsKey(templateName)) {
+                throw new IllegalArgumentException("unknown template: " + templateName);
+            }
+            return add(datasetName, templateName);
+        }
+
+        /**
+         * Require datasets to exist, allocated from a template defined before when they are not cataloged
+         *
+         * @param datasetNames dataset names
+         * @param templateName name of the template
+         * @return Builder this object
+         * @throws IllegalArgumentException the template is not defined, or a dataset is already required in
+         *                                  another state or with another template
+         */
+        public Builder ensureExists(final Collection<String> datasetNames, final String templateName) {
+            ValidateUtils.checkNullParameter(datasetNames, "datasetNames");
+            datasetNames.forEach(datasetName -> ensureExists(datasetName, templateName));
+            return this;
+        }
+
+        /**
+         * Require a dataset not to exist, deleted when it is cataloged
+         *
+         * @param datasetName dataset name
+         * @return Builder this object
+         * @throws IllegalArgumentException the dataset is already required to exist
+         */
+        public Builder ensureAbsent(final String datasetName) {
+            ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+            return add(datasetName, null);
+        }
+
+        /**
+         * Require datasets not to exist, deleted when they are cataloged
+         *
+         * @param datasetNames dataset names
+         * @return Builder this object
+         * @throws IllegalArgumentException a dataset is already required to exist
+         */
+        public Builder ensureAbsent(final Collection<String> datasetNames) {
+            ValidateUtils.checkNullParameter(datasetNames, "datasetNames");
+            datasetNames.forEach(this::ensureAbsent);
+            return this;
+        }
+
+        /**
+         * Record the state of a dataset, named in upper case
+         *
+         * @param datasetName  dataset name
+         * @param templateName name of the template, null when the dataset must not exist
+         * @return Builder this object
+         */
+        private Builder add(final String datasetName, final String templateName) {
+            final String name = datasetName.toUpperCase();
+            if (datasets.containsKey(name) && !Objects.equals(datasets.get(name), templateName)) {
+                throw new IllegalArgumentException("conflicting states requested for dataset " + name);
+            }
+            datasets.put(name, templateName);
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero, 4 by default
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Return DsnProvisionInputData object based on Builder this object
+         *
+         * @return DsnProvisionInputData object
+         */
+        public DsnProvisionInputData build() {
+            return new DsnProvisionInputData(this);
+        }
+
+    }
+
+}
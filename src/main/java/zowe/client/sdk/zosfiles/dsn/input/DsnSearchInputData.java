@@ -0,0 +1,403 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Parameter container class for a content search across the members of a partitioned dataset
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSearchInputData {
+
+    /**
+     * Partitioned dataset searched
+     */
+    private final String datasetName;
+
+    /**
+     * Member name pattern selecting the members searched, all members when not set
+     */
+    private final String memberPattern;
+
+    /**
+     * Strings searched for, a line matches when it holds any of them
+     */
+    private final List<String> searches;
+
+    /**
+     * Regular expressions searched for, a line matches when any of them is found in it
+     */
+    private final List<String> researches;
+
+    /**
+     * The default is 'true'. When 'true', searches (search and research) are case-insensitive.
+     */
+    private final boolean insensitive;
+
+    /**
+     * Code page of the members
+     */
+    private final String encoding;
+
+    /**
+     * Maximum number of member searches running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Number of matches after which the search stops
+     */
+    private final long maxMatches;
+
+    /**
+     * Number of matches after which the search of a member stops
+     */
+    private final long maxMatchesPerMember;
+
+    /**
+     * Log and skip members that cannot be read instead of failing the search
+     */
+    private final boolean skipErrors;
+
+    /**
+     * DsnSearchInputData constructor
+     *
+     * @param builder DsnSearchInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnSearchInputData(final DsnSearchInputData.Builder builder) {
+        this.datasetName = builder.datasetName;
+        this.memberPattern = builder.memberPattern;
+        this.searches = List.copyOf(builder.searches);
+        this.researches = List.copyOf(builder.researches);
+        this.insensitive = builder.insensitive;
+        this.encoding = builder.encoding;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxMatches = builder.maxMatches;
+        this.maxMatchesPerMember = builder.maxMatchesPerMember;
+        this.skipErrors = builder.skipErrors;
+    }
+
+    /**
+     * Retrieve datasetName value
+     *
+     * @return partitioned dataset searched
+     */
+    public String getDatasetName() {
+        return datasetName;
+    }
+
+    /**
+     * Retrieve memberPattern value
+     *
+     * @return member name pattern, empty when all members are searched
+     */
+    public Optional<String> getMemberPattern() {
+        return Optional.ofNullable(memberPattern);
+    }
+
+    /**
+     * Retrieve searches value
+     *
+     * @return strings searched for
+     */
+    public List<String> getSearches() {
+        return searches;
+    }
+
+    /**
+     * Retrieve researches value
+     *
+     * @return regular expressions searched for
+     */
+    public List<String> getResearches() {
+        return researches;
+    }
+
+    /**
+     * Retrieve insensitive value
+     *
+     * @return true when the search is case-insensitive
+     */
+    public boolean isInsensitive() {
+        return insensitive;
+    }
+
+    /**
+     * Retrieve encoding value
+     *
+     * @return code page of the members
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve maxMatches value
+     *
+     * @return number of matches after which the search stops
+     */
+    public long getMaxMatches() {
+        return maxMatches;
+    }
+
+    /**
+     * Retrieve maxMatchesPerMember value
+     *
+     * @return number of matches after which the search of a member stops
+     */
+    public long getMaxMatchesPerMember() {
+        return maxMatchesPerMember;
+    }
+
+    /**
+     * Retrieve skipErrors value
+     *
+     * @return true when members that cannot be read are skipped
+     */
+    public boolean isSkipErrors() {
+        return skipErrors;
+    }
+
+    /**
+     * Return string value representing DsnSearchInputData object
+     *
+     * @return string representation of DsnSearchInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnSearchInputData{" +
+                "datasetName=" + datasetName +
+                ", memberPattern=" + memberPattern +
+                ", searches=" + searches +
+                ", researches=" + researches +
+                ", insensitive=" + insensitive +
+                ", encoding=" + encoding +
+                ", maxConcurrency=" + maxConcurrency +
+                ", maxMatches=" + maxMatches +
+                ", maxMatchesPerMember=" + maxMatchesPerMember +
+                ", skipErrors=" + skipErrors +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnSearchInputData
+     */
+    public static class Builder {
+
+        /**
+         * Partitioned dataset searched
+         */
+        private final String datasetName;
+
+        /**
+         * Member name pattern selecting the members searched, all members when not set
+         */
+        private String memberPattern;
+
+        /**
+         * Strings searched for, a line matches when it holds any of them
+         */
+        private final List<String> searches = new ArrayList<>();
+
+        /**
+         * Regular expressions searched for, a line matches when any of them is found in it
+         */
+        private final List<String> researches = new ArrayList<>();
+
+        /**
+         * The default is 'true'. When 'true', searches (search and research) are case-insensitive.
+         */
+        private boolean insensitive = true;
+
+        /**
+         * Code page of the members
+         */
+        private String encoding = "IBM-1047";
+
+        /**
+         * Maximum number of member searches running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Number of matches after which the search stops
+         */
+        private long maxMatches = Long.MAX_VALUE;
+
+        /**
+         * Number of matches after which the search of a member stops
+         */
+        private long maxMatchesPerMember = Long.MAX_VALUE;
+
+        /**
+         * Log and skip members that cannot be read instead of failing the search
+         */
+        private boolean skipErrors;
+
+        /**
+         * Builder constructor
+         *
+         * @param datasetName name of the partitioned dataset searched
+         */
+        public Builder(final String datasetName) {
+            ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+            this.datasetName = datasetName;
+        }
+
+        /**
+         * Set a member name pattern selecting the members searched, for example 'PAY*'
+         *
+         * @param memberPattern member name pattern
+         * @return Builder this object
+         */
+        public Builder memberPattern(final String memberPattern) {
+            ValidateUtils.checkIllegalParameter(memberPattern, "memberPattern");
+            this.memberPattern = memberPattern;
+            return this;
+        }
+
+        /**
+         * Add a string searched for. All strings and regular expressions are matched in one pass over each line.
+         *
+         * @param search string value
+         * @return Builder this object
+         */
+        public Builder search(final String search) {
+            ValidateUtils.checkIllegalParameter(search, "search");
+            searches.add(search);
+            return this;
+        }
+
+        /**
+         * Add a regular expression searched for, in {@link java.util.regex.Pattern} syntax
+         *
+         * @param research string value
+         * @return Builder this object
+         * @throws java.util.regex.PatternSyntaxException the expression is invalid
+         */
+        public Builder research(final String research) {
+            ValidateUtils.checkIllegalParameter(research, "research");
+            Pattern.compile(research);
+            researches.add(research);
+            return this;
+        }
+
+        /**
+         * Set insensitive boolean value
+         *
+         * @param insensitive boolean true or false value
+         * @return Builder this object
+         */
+        public Builder insensitive(final boolean insensitive) {
+            this.insensitive = insensitive;
+            return this;
+        }
+
+        /**
+         * Set the code page of the members, IBM-1047 by default. Members are read in record mode and decoded on
+         * the client, see DsnRecordReader.
+         *
+         * @param encoding code page, for example "IBM-037"
+         * @return Builder this object
+         */
+        public Builder encoding(final String encoding) {
+            ValidateUtils.checkIllegalParameter(encoding, "encoding");
+            this.encoding = encoding;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of member searches running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the number of matches after which the search stops
+         *
+         * @param maxMatches value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxMatches(final long maxMatches) {
+            if (maxMatches <= 0) {
+                throw new IllegalArgumentException("maxMatches must be greater than zero");
+            }
+            this.maxMatches = maxMatches;
+            return this;
+        }
+
+        /**
+         * Set the number of matches after which the search of a member stops, 1 to list the members holding a
+         * match
+         *
+         * @param maxMatchesPerMember value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxMatchesPerMember(final long maxMatchesPerMember) {
+            if (maxMatchesPerMember <= 0) {
+                throw new IllegalArgumentException("maxMatchesPerMember must be greater than zero");
+            }
+            this.maxMatchesPerMember = maxMatchesPerMember;
+            return this;
+        }
+
+        /**
+         * Set whether members that cannot be read are logged and skipped instead of failing the search
+         *
+         * @param skipErrors true to skip
+         * @return Builder this object
+         */
+        public Builder skipErrors(final boolean skipErrors) {
+            this.skipErrors = skipErrors;
+            return this;
+        }
+
+        /**
+         * Return DsnSearchInputData object based on Builder this object
+         *
+         * @return DsnSearchInputData object
+         * @throws IllegalStateException when neither search nor research is set
+         */
+        public DsnSearchInputData build() {
+            if (searches.isEmpty() && researches.isEmpty()) {
+                throw new IllegalStateException("search or research parameter must be specified");
+            }
+            return new DsnSearchInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.Optional;
+
+/**
+ * Parameter container class for a streaming copy of a dataset between two z/OSMF connections
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnStreamCopyInputData {
+
+    /**
+     * Source dataset, sequential or partitioned, or a member e.g. DATASET.LIB(MEMBER)
+     */
+    private final String fromDataSetName;
+
+    /**
+     * Target dataset, or a member when the source is a member
+     */
+    private final String toDataSetName;
+
+    /**
+     * Member name pattern selecting the members copied from a partitioned dataset, all members when not set
+     */
+    private final String memberPattern;
+
+    /**
+     * Whether the target dataset is allocated before the copy
+     */
+    private final boolean create;
+
+    /**
+     * Allocation parameters of the target, derived from the source attributes when not set
+     */
+    private final DsnCreateInputData createInputData;
+
+    /**
+     * Maximum number of members copied at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * DsnStreamCopyInputData constructor
+     *
+     * @param builder DsnStreamCopyInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnStreamCopyInputData(final DsnStreamCopyInputData.Builder builder) {
+        this.fromDataSetName = builder.fromDataSetName;
+        this.toDataSetName = builder.toDataSetName;
+        this.memberPattern = builder.memberPattern;
+        this.create = builder.create;
+        this.createInputData = builder.createInputData;
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Retrieve fromDataSetName value
+     *
+     * @return source dataset or member
+     */
+    public String getFromDataSetName() {
+        return fromDataSetName;
+    }
+
+    /**
+     * Retrieve toDataSetName value
+     *
+     * @return target dataset or member
+     */
+    public String getToDataSetName() {
+        return toDataSetName;
+    }
+
+    /**
+     * Retrieve memberPattern value
+     *
+     * @return member name pattern, empty when all members are copied
+     */
+    public Optional<String> getMemberPattern() {
+        return Optional.ofNullable(memberPattern);
+    }
+
+    /**
+     * Retrieve create value
+     *
+     * @return true if the target dataset is allocated before the copy
+     */
+    public boolean isCreate() {
+        return create;
+    }
+
+    /**
+     * Retrieve createInputData value
+     *
+     * @return allocation parameters of the target, empty when derived from the source attributes
+     */
+    public Optional<DsnCreateInputData> getCreateInputData() {
+        return Optional.ofNullable(createInputData);
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Return string value representing DsnStreamCopyInputData object
+     *
+     * @return string representation of DsnStreamCopyInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnStreamCopyInputData{" +
+                "fromDataSetName='" + fromDataSetName + '\'' +
+                ", toDataSetName='" + toDataSetName + '\'' +
+                ", memberPattern='" + memberPattern + '\'' +
+                ", create=" + create +
+                ", createInputData=" + createInputData +
+                ", maxConcurrency=" + maxConcurrency +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnStreamCopyInputData
+     */
+    public static class Builder {
+
+        /**
+         * Source dataset, sequential or partitioned, or a member e.g. DATASET.LIB(MEMBER)
+         */
+        private final String fromDataSetName;
+
+        /**
+         * Target dataset, or a member when the source is a member
+         */
+        private final String toDataSetName;
+
+        /**
+         * Member name pattern selecting the members copied from a partitioned dataset, all members when not set
+         */
+        private String memberPattern;
+
+        /**
+         * Whether the target dataset is allocated before the copy
+         */
+        private boolean create;
+
+        /**
+         * Allocation parameters of the target, derived from the source attributes when not set
+         */
+        private DsnCreateInputData createInputData;
+
+        /**
+         * Maximum number of members copied at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Builder constructor
+         *
+         * @param fromDataSetName source dataset, sequential or partitioned, or a member e.g. DATASET.LIB(MEMBER)
+         * @param toDataSetName   target dataset, or a member when the source is a member
+         */
+        public Builder(final String fromDataSetName, final String toDataSetName) {
+            ValidateUtils.checkIllegalParameter(fromDataSetName, "fromDataSetName");
+            ValidateUtils.checkIllegalParameter(toDataSetName, "toDataSetName");
+            this.fromDataSetName = fromDataSetName;
+            this.toDataSetName = toDataSetName;
+        }
+
+        /**
+         * Set a member name pattern selecting the members copied from a partitioned dataset, for example 'PAY*'
+         *
+         * @param memberPattern member name pattern
+         * @return Builder this object
+         */
+        public Builder memberPattern(final String memberPattern) {
+            ValidateUtils.checkIllegalParameter(memberPattern, "memberPattern");
+            this.memberPattern = memberPattern;
+            return this;
+        }
+
+        /**
+         * Allocate the target dataset before the copy, like the source: same organization, record format,
+         * record length, block size and space
+         *
+         * @return Builder this object
+         */
+        public Builder create() {
+            this.create = true;
+            this.createInputData = null;
+            return this;
+        }
+
+        /**
+         * Allocate the target dataset before the copy with the given parameters
+         *
+         * @param createInputData DsnCreateInputData object
+         * @return Builder this object
+         */
+        public Builder create(final DsnCreateInputData createInputData) {
+            ValidateUtils.checkNullParameter(createInputData, "createInputData");
+            this.create = true;
+            this.createInputData = createInputData;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of members copied at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Return DsnStreamCopyInputData object based on Builder this object
+         *
+         * @return DsnStreamCopyInputData object
+         */
+        public DsnStreamCopyInputData build() {
+            return new DsnStreamCopyInputData(this);
+        }
+
+    }
+
+}
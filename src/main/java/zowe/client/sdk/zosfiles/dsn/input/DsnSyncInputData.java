@@ -0,0 +1,374 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.types.SyncDirection;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Parameter container class for a member sync between a local directory and a partitioned dataset
+ * <p>
+ * Each member is kept in the local file named after the member, followed by the extension when one is set,
+ * so that member PAYROLL is kept in "PAYROLL.cbl". File names are matched to members without regard to case.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSyncInputData {
+
+    /**
+     * Local directory, subdirectories are not read
+     */
+    private final Path localDir;
+
+    /**
+     * Partitioned dataset
+     */
+    private final String datasetName;
+
+    /**
+     * Direction of the sync
+     */
+    private final SyncDirection direction;
+
+    /**
+     * Extension of the local files, lower case and without the dot, null for files without extension
+     */
+    private final String extension;
+
+    /**
+     * Character set of the local files read for upload
+     */
+    private final Charset charset;
+
+    /**
+     * Delete target members or files that are not in the source
+     */
+    private final boolean delete;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * File recording the state of the last sync
+     */
+    private final Path stateFile;
+
+    /**
+     * Time zone of the z/OS system
+     */
+    private final ZoneId remoteZone;
+
+    /**
+     * DsnSyncInputData constructor
+     *
+     * @param builder DsnSyncInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnSyncInputData(final DsnSyncInputData.Builder builder) {
+        this.localDir = builder.localDir;
+        this.datasetName = builder.datasetName;
+        this.direction = builder.direction;
+        this.extension = builder.extension;
+        this.charset = builder.charset;
+        this.delete = builder.delete;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.stateFile = builder.stateFile;
+        this.remoteZone = builder.remoteZone;
+    }
+
+    /**
+     * Retrieve localDir value
+     *
+     * @return localDir value
+     */
+    public Path getLocalDir() {
+        return localDir;
+    }
+
+    /**
+     * Retrieve datasetName value
+     *
+     * @return datasetName value
+     */
+    public String getDatasetName() {
+        return datasetName;
+    }
+
+    /**
+     * Retrieve direction value
+     *
+     * @return direction value
+     */
+    public SyncDirection getDirection() {
+        return direction;
+    }
+
+    /**
+     * Retrieve the member a local file holds
+     *
+     * @param fileName local file name
+     * @return member name in upper case, empty when the file does not have the extension
+     */
+    public Optional<String> getMemberName(final String fileName) {
+        final int dot = fileName.lastIndexOf('.');
+        final String fileExtension = dot <= 0 ? null : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (extension == null ? fileExtension != null : !extension.equals(fileExtension)) {
+            return Optional.empty();
+        }
+        return Optional.of((dot <= 0 ? fileName : fileName.substring(0, dot)).toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieve the name of the local file a member is downloaded to when there is no local file for it yet
+     *
+     * @param member member name
+     * @return local file name
+     */
+    public String getFileName(final String member) {
+        return extension == null ? member : member + "." + extension;
+    }
+
+    /**
+     * Retrieve charset value
+     *
+     * @return charset value
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Retrieve delete value
+     *
+     * @return delete value
+     */
+    public boolean isDelete() {
+        return delete;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve stateFile value
+     *
+     * @return stateFile value
+     */
+    public Optional<Path> getStateFile() {
+        return Optional.ofNullable(stateFile);
+    }
+
+    /**
+     * Retrieve remoteZone value
+     *
+     * @return remoteZone value
+     */
+    public ZoneId getRemoteZone() {
+        return remoteZone;
+    }
+
+    /**
+     * Return string value representing DsnSyncInputData object
+     *
+     * @return string representation of DsnSyncInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnSyncInputData{" +
+                "localDir=" + localDir +
+                ", datasetName='" + datasetName + '\'' +
+                ", direction=" + direction +
+                ", extension='" + extension + '\'' +
+                ", charset=" + charset +
+                ", delete=" + delete +
+                ", maxConcurrency=" + maxConcurrency +
+                ", stateFile=" + stateFile +
+                ", remoteZone=" + remoteZone +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnSyncInputData
+     */
+    public static class Builder {
+
+        /**
+         * Local directory, subdirectories are not read
+         */
+        private final Path localDir;
+
+        /**
+         * Partitioned dataset
+         */
+        private final String datasetName;
+
+        /**
+         * Direction of the sync
+         */
+        private SyncDirection direction = SyncDirection.PUSH;
+
+        /**
+         * Extension of the local files, lower case and without the dot, null for files without extension
+         */
+        private String extension;
+
+        /**
+         * Character set of the local files read for upload
+         */
+        private Charset charset = StandardCharsets.UTF_8;
+
+        /**
+         * Delete target members or files that are not in the source
+         */
+        private boolean delete;
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * File recording the state of the last sync
+         */
+        private Path stateFile;
+
+        /**
+         * Time zone of the z/OS system
+         */
+        private ZoneId remoteZone = ZoneId.systemDefault();
+
+        /**
+         * Builder constructor
+         *
+         * @param localDir    local directory, subdirectories are not read
+         * @param datasetName partitioned dataset (e.g. 'HLQ.APP.COBOL')
+         */
+        public Builder(final Path localDir, final String datasetName) {
+            ValidateUtils.checkNullParameter(localDir, "localDir");
+            ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+            this.localDir = localDir;
+            this.datasetName = datasetName;
+        }
+
+        /**
+         * Set the direction of the sync, PUSH by default
+         *
+         * @param direction SyncDirection value
+         * @return Builder this object
+         */
+        public Builder direction(final SyncDirection direction) {
+            ValidateUtils.checkNullParameter(direction, "direction");
+            this.direction = direction;
+            return this;
+        }
+
+        /**
+         * Set the extension of the local files, none by default
+         *
+         * @param extension file extension without the dot (e.g. "cbl")
+         * @return Builder this object
+         */
+        public Builder extension(final String extension) {
+            ValidateUtils.checkIllegalParameter(extension, "extension");
+            this.extension = extension.toLowerCase(Locale.ROOT);
+            return this;
+        }
+
+        /**
+         * Set the character set of the local files read for upload, UTF-8 by default
+         *
+         * @param charset Charset object
+         * @return Builder this object
+         */
+        public Builder charset(final Charset charset) {
+            ValidateUtils.checkNullParameter(charset, "charset");
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * Set whether target members or files that are not in the source are deleted
+         *
+         * @param delete true to delete
+         * @return Builder this object
+         */
+        public Builder delete(final boolean delete) {
+            this.delete = delete;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the file recording the local size and time and the ISPF statistics of every member after each
+         * sync. With it, a member is transferred only when either side changed since the last sync, without
+         * comparing clocks.
+         *
+         * @param stateFile state file path
+         * @return Builder this object
+         */
+        public Builder stateFile(final Path stateFile) {
+            ValidateUtils.checkNullParameter(stateFile, "stateFile");
+            this.stateFile = stateFile;
+            return this;
+        }
+
+        /**
+         * Set the time zone of the z/OS system, the system default by default
+         *
+         * @param remoteZone ZoneId value
+         * @return Builder this object
+         */
+        public Builder remoteZone(final ZoneId remoteZone) {
+            ValidateUtils.checkNullParameter(remoteZone, "remoteZone");
+            this.remoteZone = remoteZone;
+            return this;
+        }
+
+        /**
+         * Return DsnSyncInputData object based on Builder this object
+         *
+         * @return DsnSyncInputData object
+         */
+        public DsnSyncInputData build() {
+            return new DsnSyncInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,350 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Parameter container class for bulk upload of a local directory into the members of a partitioned dataset
+ * <p>
+ * Each selected file becomes the member named after the file name without its extension, in upper case,
+ * so that "payroll.cbl" is uploaded to member PAYROLL.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnUploadInputData {
+
+    /**
+     * Local directory uploaded, subdirectories are not read
+     */
+    private final Path localDir;
+
+    /**
+     * Partitioned dataset receiving the members
+     */
+    private final String datasetName;
+
+    /**
+     * File extensions uploaded, lower case and without the dot, all files when empty
+     */
+    private final Set<String> extensions;
+
+    /**
+     * Character set of the local files
+     */
+    private final Charset charset;
+
+    /**
+     * Record length of the target dataset, used for the local line length check
+     */
+    private final int recordLength;
+
+    /**
+     * Allocate the target dataset before the upload
+     */
+    private final boolean create;
+
+    /**
+     * Allocation parameters of the target dataset, null for the computed allocation
+     */
+    private final DsnCreateInputData createInputData;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * DsnUploadInputData constructor
+     *
+     * @param builder DsnUploadInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private DsnUploadInputData(final DsnUploadInputData.Builder builder) {
+        this.localDir = builder.localDir;
+        this.datasetName = builder.datasetName;
+        this.extensions = Set.copyOf(builder.extensions);
+        this.charset = builder.charset;
+        this.recordLength = builder.recordLength;
+        this.create = builder.create;
+        this.createInputData = builder.createInputData;
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Retrieve localDir value
+     *
+     * @return localDir value
+     */
+    public Path getLocalDir() {
+        return localDir;
+    }
+
+    /**
+     * Retrieve datasetName value
+     *
+     * @return datasetName value
+     */
+    public String getDatasetName() {
+        return datasetName;
+    }
+
+    /**
+     * Retrieve the member name a file is uploaded to
+     *
+     * @param fileName file name
+     * @return member name, empty when the file is not selected for upload
+     */
+    public Optional<String> getMemberName(final String fileName) {
+        final int dot = fileName.lastIndexOf('.');
+        final String extension = dot <= 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!extensions.isEmpty() && !extensions.contains(extension)) {
+            return Optional.empty();
+        }
+        return Optional.of((dot <= 0 ? fileName : fileName.substring(0, dot)).toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieve charset value
+     *
+     * @return charset value
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Retrieve the longest line a member can hold, the record length less the record descriptor word of
+     * a variable record format given by the allocation parameters
+     *
+     * @return maximum line length in characters
+     */
+    public int getMaxLineLength() {
+        if (createInputData == null) {
+            return recordLength;
+        }
+        final int lrecl = createInputData.getLrecl().orElse(recordLength);
+        final boolean variable = createInputData.getRecfm()
+                .map(recfm -> recfm.toUpperCase(Locale.ROOT).startsWith("V")).orElse(false);
+        return variable ? lrecl - 4 : lrecl;
+    }
+
+    /**
+     * Retrieve recordLength value
+     *
+     * @return recordLength value
+     */
+    public int getRecordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Retrieve create value
+     *
+     * @return true if the target dataset is allocated before the upload
+     */
+    public boolean isCreate() {
+        return create;
+    }
+
+    /**
+     * Retrieve createInputData value
+     *
+     * @return allocation parameters of the target dataset, empty for the computed allocation
+     */
+    public Optional<DsnCreateInputData> getCreateInputData() {
+        return Optional.ofNullable(createInputData);
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Return string value representing DsnUploadInputData object
+     *
+     * @return string representation of DsnUploadInputData
+     */
+    @Override
+    public String toString() {
+        return "DsnUploadInputData{" +
+                "localDir=" + localDir +
+                ", datasetName='" + datasetName + '\'' +
+                ", extensions=" + extensions +
+                ", charset=" + charset +
+                ", recordLength=" + recordLength +
+                ", create=" + create +
+                ", createInputData=" + createInputData +
+                ", maxConcurrency=" + maxConcurrency +
+                '}';
+    }
+
+    /**
+     * Builder class for DsnUploadInputData
+     */
+    public static class Builder {
+
+        /**
+         * Local directory uploaded, subdirectories are not read
+         */
+        private final Path localDir;
+
+        /**
+         * Partitioned dataset receiving the members
+         */
+        private final String datasetName;
+
+        /**
+         * File extensions uploaded, lower case and without the dot, all files when empty
+         */
+        private final Set<String> extensions = new HashSet<>();
+
+        /**
+         * Character set of the local files
+         */
+        private Charset charset = StandardCharsets.UTF_8;
+
+        /**
+         * Record length of the target dataset, used for the local line length check
+         */
+        private int recordLength = 80;
+
+        /**
+         * Allocate the target dataset before the upload
+         */
+        private boolean create;
+
+        /**
+         * Allocation parameters of the target dataset, null for the computed allocation
+         */
+        private DsnCreateInputData createInputData;
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Builder constructor
+         *
+         * @param localDir    local directory uploaded, subdirectories are not read
+         * @param datasetName partitioned dataset receiving the members (e.g. 'HLQ.APP.COBOL')
+         */
+        public Builder(final Path localDir, final String datasetName) {
+            ValidateUtils.checkNullParameter(localDir, "localDir");
+            ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+            this.localDir = localDir;
+            this.datasetName = datasetName;
+        }
+
+        /**
+         * Upload the files with the given extension, may be called for several extensions
+         *
+         * @param extension file extension without the dot (e.g. "cbl")
+         * @return Builder this object
+         */
+        public Builder extension(final String extension) {
+            ValidateUtils.checkIllegalParameter(extension, "extension");
+            this.extensions.add(extension.toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Set the character set of the local files, UTF-8 by default
+         *
+         * @param charset Charset object
+         * @return Builder this object
+         */
+        public Builder charset(final Charset charset) {
+            ValidateUtils.checkNullParameter(charset, "charset");
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * Set the record length of the target dataset, 80 by default. A file with a longer line is rejected
+         * before any request is sent.
+         *
+         * @param recordLength record length
+         * @return Builder this object
+         */
+        public Builder recordLength(final int recordLength) {
+            if (recordLength <= 0) {
+                throw new IllegalArgumentException("recordLength must be greater than zero");
+            }
+            this.recordLength = recordLength;
+            return this;
+        }
+
+        /**
+         * Allocate the target dataset before the upload as a PDSE of fixed blocked records of the record
+         * length, sized from the content uploaded
+         *
+         * @return Builder this object
+         */
+        public Builder create() {
+            this.create = true;
+            this.createInputData = null;
+            return this;
+        }
+
+        /**
+         * Allocate the target dataset before the upload with the given parameters
+         *
+         * @param createInputData DsnCreateInputData object
+         * @return Builder this object
+         */
+        public Builder create(final DsnCreateInputData createInputData) {
+            ValidateUtils.checkNullParameter(createInputData, "createInputData");
+            this.create = true;
+            this.createInputData = createInputData;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once, 4 by default
+         *
+         * @param maxConcurrency maximum number of requests
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Return DsnUploadInputData object based on Builder this object
+         *
+         * @return DsnUploadInputData this object
+         */
+        public DsnUploadInputData build() {
+            return new DsnUploadInputData(this);
+        }
+
+    }
+
+}
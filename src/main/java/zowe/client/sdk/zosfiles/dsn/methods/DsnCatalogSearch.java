@@ -0,0 +1,279 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.DatasetPattern;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Provides a dataset search over several dataset level patterns, merged into one sequence in catalog order
+ * <p>
+ * Each pattern is listed one page at a time, and the next page of a pattern is requested as soon as the previous
+ * one arrives, with the requests of all patterns sharing a fixed number of worker threads. The pages are merged in
+ * the caller thread, so at most two pages of each pattern are held in memory. A dataset name matched by several
+ * patterns is returned once.
+ * <p>
+ * Catalog order is the EBCDIC collating sequence, in which letters sort before digits, as z/OSMF returns the
+ * datasets of each pattern.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnCatalogSearch {
+
+    /**
+     * Dataset names in EBCDIC collating sequence, the order z/OSMF lists them in
+     */
+    static final Comparator<String> CATALOG_ORDER = DsnCatalogSearch::compareEbcdic;
+
+    private static final int[] EBCDIC_RANK = ebcdicRank();
+
+    private final Supplier<DsnList> listSupplier;
+
+    /**
+     * DsnCatalogSearch Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnCatalogSearch(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.listSupplier = () -> new DsnList(connection);
+    }
+
+    /**
+     * Alternative DsnCatalogSearch constructor with a DsnList supplier. This is mainly used for internal code
+     * unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param listSupplier supplier of the DsnList object used by each worker thread
+     * @author Frank Giordano
+     */
+    DsnCatalogSearch(final Supplier<DsnList> listSupplier) {
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        this.listSupplier = listSupplier;
+    }
+
+    /**
+     * Search the patterns and hand each dataset to the consumer, in catalog order and without duplicates
+     * <p>
+     * The consumer is called from the caller thread. An exception thrown by the consumer stops the search.
+     *
+     * @param searchInputData DsnCatalogSearchInputData object
+     * @param consumer        receives the datasets
+     * @return number of datasets handed to the consumer
+     * @throws ZosmfRequestException request error state, or the search was interrupted
+     * @author Frank Giordano
+     */
+    public long search(final DsnCatalogSearchInputData searchInputData, final Consumer<Dataset> consumer)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(searchInputData, "searchInputData");
+        ValidateUtils.checkNullParameter(consumer, "consumer");
+        final List<DatasetPattern> patterns = searchInputData.getPatterns();
+        // DsnList holds its request, so each worker thread lists with its own
+        final ThreadLocal<DsnList> lists = ThreadLocal.withInitial(listSupplier);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(searchInputData.getMaxConcurrency(), patterns.size()),
+                ParallelUtils.threadFactory("dsn-catalog-search"));
+        try {
+            final List<Source> sources = new ArrayList<>(patterns.size());
+            for (final DatasetPattern pattern : patterns) {
+                final Source source = new Source(pattern, searchInputData, executor, lists);
+                source.request(null);
+                sources.add(source);
+            }
+            final PriorityQueue<Source> heads = new PriorityQueue<>(patterns.size(),
+                    Comparator.comparing(Source::head, CATALOG_ORDER));
+            for (final Source source : sources) {
+                if (source.fill()) {
+                    heads.add(source);
+                }
+            }
+            long count = 0;
+            String last = null;
+            while (!heads.isEmpty()) {
+                final Source source = heads.poll();
+                final Dataset dataset = source.buffer.poll();
+                if (last == null || !last.equals(dataset.getDsname())) {
+                    consumer.accept(dataset);
+                    count++;
+                    last = dataset.getDsname();
+                }
+                if (source.fill()) {
+                    heads.add(source);
+                }
+            }
+            return count;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Search the patterns and collect the datasets
+     *
+     * @param searchInputData DsnCatalogSearchInputData object
+     * @return list of Dataset objects, in catalog order and without duplicates
+     * @throws ZosmfRequestException request error state, or the search was interrupted
+     * @author Frank Giordano
+     */
+    public List<Dataset> search(final DsnCatalogSearchInputData searchInputData) throws ZosmfRequestException {
+        final List<Dataset> datasets = new ArrayList<>();
+        search(searchInputData, datasets::add);
+        return datasets;
+    }
+
+    private static int compareEbcdic(final String first, final String second) {
+        final int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; i++) {
+            final int diff = rank(first.charAt(i)) - rank(second.charAt(i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return first.length() - second.length();
+    }
+
+    private static int rank(final char c) {
+        return c < EBCDIC_RANK.length ? EBCDIC_RANK[c] : 256 + c;
+    }
+
+    private static int[] ebcdicRank() {
+        final char[] ascii = new char[128];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (char) i;
+        }
+        final byte[] ebcdic = new String(ascii).getBytes(Charset.forName("IBM1047"));
+        final int[] rank = new int[ascii.length];
+        for (int i = 0; i < rank.length; i++) {
+            rank[i] = ebcdic[i] & 0xFF;
+        }
+        return rank;
+    }
+
+    /**
+     * List one page of the datasets matching a pattern
+     *
+     * @param list      DsnList object of the calling thread
+     * @param pattern   dataset pattern
+     * @param start     first dataset name of the page, null for the first page
+     * @param pageSize  maximum number of datasets
+     * @param attribute attributes returned
+     * @return datasets in catalog order
+     * @throws ZosmfRequestException request error state
+     */
+    private static List<Dataset> page(final DsnList list, final DatasetPattern pattern, final String start,
+                                      final int pageSize, final AttributeType attribute)
+            throws ZosmfRequestException {
+        final DsnListInputData.Builder listInputData = new DsnListInputData.Builder()
+                .attribute(attribute)
+                .maxLength(String.valueOf(pageSize));
+        pattern.getVolume().ifPresent(listInputData::volume);
+        if (start != null) {
+            listInputData.start(start);
+        }
+        return list.getDatasets(pattern.getPattern(), listInputData.build());
+    }
+
+    /**
+     * Pages of one pattern, the next page requested while the current one is merged
+     */
+    private static final class Source {
+
+        private final DatasetPattern pattern;
+        private final DsnCatalogSearchInputData searchInputData;
+        private final ExecutorService executor;
+        private final ThreadLocal<DsnList> lists;
+        private final Deque<Dataset> buffer = new ArrayDeque<>();
+        private Future<List<Dataset>> pending;
+        private String lastName;
+
+        private Source(final DatasetPattern pattern, final DsnCatalogSearchInputData searchInputData,
+                       final ExecutorService executor, final ThreadLocal<DsnList> lists) {
+            this.pattern = pattern;
+            this.searchInputData = searchInputData;
+            this.executor = executor;
+            this.lists = lists;
+        }
+
+        private void request(final String start) {
+            pending = executor.submit(() -> page(lists.get(), pattern, start, searchInputData.getPageSize(),
+                    searchInputData.getAttribute()));
+        }
+
+        private String head() {
+            return buffer.element().getDsname();
+        }
+
+        /**
+         * Make a dataset available at the head of the buffer, waiting for the pending page if needed
+         *
+         * @return false when the pattern has no dataset left
+         */
+        private boolean fill() throws ZosmfRequestException {
+            while (buffer.isEmpty() && pending != null) {
+                final List<Dataset> page = await(pending);
+                pending = null;
+                for (final Dataset dataset : page) {
+                    // a page starts at the last name of the previous page
+                    if (lastName == null || CATALOG_ORDER.compare(dataset.getDsname(), lastName) > 0) {
+                        buffer.add(dataset);
+                    }
+                }
+                if (page.size() >= searchInputData.getPageSize()) {
+                    lastName = page.get(page.size() - 1).getDsname();
+                    request(lastName);
+                }
+            }
+            return !buffer.isEmpty();
+        }
+
+        private List<Dataset> await(final Future<List<Dataset>> future) throws ZosmfRequestException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ZosmfRequestException("Interrupted during search", e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof ZosmfRequestException) {
+                    throw (ZosmfRequestException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+}
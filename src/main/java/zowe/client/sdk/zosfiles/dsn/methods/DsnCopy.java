@@ -17,6 +17,8 @@ import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnCopyInputData;
 
 import java.util.HashMap;
@@ -122,7 +124,12 @@ public class DsnCopy {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(copyMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        copyInputData.getToDataSet().ifPresent(toDataSet -> {
+            ContentCache.invalidateDataset(connection, toDataSet);
+            DsnAttributeCache.invalidateDataset(connection, toDataSet);
+        });
+        return response;
     }
 
     /**
@@ -17,6 +17,7 @@ import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
 
 import java.util.HashMap;
@@ -108,7 +109,9 @@ public class DsnCreate {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(createMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        DsnAttributeCache.invalidateDataset(connection, datasetName);
+        return response;
     }
 
 }
@@ -16,7 +16,10 @@ import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnDeleteInputData;
+import zowe.client.sdk.zosfiles.dsn.types.DeleteType;
 
 /**
  * Provides delete sequential and partitioned data set, member and uncataloged dataset functionality
@@ -98,7 +101,13 @@ public class DsnDelete {
         }
 
         request.setUrl(url.toString());
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        final String target = deleteInputData.getType() == DeleteType.MEMBER ?
+                deleteInputData.getDatasetName() + "(" + deleteInputData.getMemberName() + ")" :
+                deleteInputData.getDatasetName();
+        ContentCache.invalidateDataset(connection, target);
+        DsnAttributeCache.invalidateDataset(connection, target);
+        return response;
     }
 
 }
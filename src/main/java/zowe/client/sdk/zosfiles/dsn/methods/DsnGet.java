@@ -16,19 +16,25 @@ import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.CacheKey;
+import zowe.client.sdk.zosfiles.cache.CachedContent;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
 import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
 import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.DsnContent;
 import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
 
 /**
  * Provides retrieve dataset and member functionality
@@ -43,6 +49,8 @@ public class DsnGet {
 
     private final ZosConnection connection;
     private final ZosmfRequest request;
+    private final ContentCache cache;
+    private final DsnAttributeCache attributeCache;
 
     /**
      * DsnGet Constructor
@@ -54,6 +62,8 @@ public class DsnGet {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
         this.request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM);
+        this.cache = null;
+        this.attributeCache = null;
     }
 
     /**
@@ -67,6 +77,39 @@ public class DsnGet {
      * @author Frank Giordano
      */
     DsnGet(final ZosConnection connection, final ZosmfRequest request) {
+        this(connection, request, null);
+    }
+
+    /**
+     * Alternative DsnGet constructor with ZoweRequest and ContentCache objects. This is mainly used for internal
+     * code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param request    a {@link GetStreamZosmfRequest} implementation object
+     * @param cache      ContentCache object or null for no caching
+     * @author Frank Giordano
+     */
+    DsnGet(final ZosConnection connection, final ZosmfRequest request, final ContentCache cache) {
+        this(connection, request, cache, null);
+    }
+
+    /**
+     * Alternative DsnGet constructor with ZoweRequest, ContentCache and DsnAttributeCache objects. This is mainly
+     * used for internal code unit testing with Mockito, and it is not recommended to be used by the larger
+     * community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param connection     for connection information, see ZosConnection object
+     * @param request        a {@link GetStreamZosmfRequest} implementation object
+     * @param cache          ContentCache object or null for no content caching
+     * @param attributeCache DsnAttributeCache object or null for no attribute caching
+     * @author Frank Giordano
+     */
+    DsnGet(final ZosConnection connection, final ZosmfRequest request, final ContentCache cache,
+           final DsnAttributeCache attributeCache) {
         ValidateUtils.checkNullParameter(connection, "connection");
         ValidateUtils.checkNullParameter(request, "request");
         this.connection = connection;
@@ -74,10 +117,52 @@ public class DsnGet {
             throw new IllegalStateException("GET_STREAM request type required");
         }
         this.request = request;
+        this.cache = cache;
+        this.attributeCache = attributeCache;
+    }
+
+    /**
+     * Create a DsnGet with a local content cache
+     * <p>
+     * Content retrieved by {@link #get(String, DsnDownloadInputData)} is stored with its ETag and revalidated
+     * on later calls with a conditional request; an unchanged dataset or member is served from the cache
+     * without transferring its content.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param cache      ContentCache object
+     * @return DsnGet object
+     * @author Frank Giordano
+     */
+    public static DsnGet withCache(final ZosConnection connection, final ContentCache cache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(cache, "cache");
+        return new DsnGet(connection, ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM),
+                cache);
+    }
+
+    /**
+     * Create a DsnGet with a dataset attribute cache
+     * <p>
+     * Attributes returned by {@link #getDsnInfo(String)} are stored in the cache and returned from it without
+     * a request until the entry expires or the SDK changes the dataset.
+     *
+     * @param connection     for connection information, see ZosConnection object
+     * @param attributeCache DsnAttributeCache object
+     * @return DsnGet object
+     * @author Frank Giordano
+     */
+    public static DsnGet withAttributeCache(final ZosConnection connection, final DsnAttributeCache attributeCache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(attributeCache, "attributeCache");
+        return new DsnGet(connection, ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_STREAM),
+                null, attributeCache);
     }
 
     /**
      * Retrieve dataset information.
+     * <p>
+     * The full dataset name is used as the list pattern, so only the dataset and any datasets qualified under it
+     * are listed. With a DsnAttributeCache the attributes are served from the cache while the entry is valid.
      *
      * @param datasetName sequential or partition dataset (e.g. 'DATASET.LIB')
      * @return dataset object
@@ -88,24 +173,28 @@ public class DsnGet {
         ValidateUtils.checkNullParameter(datasetName, "datasetName");
         ValidateUtils.checkIllegalParameter(datasetName.isBlank(), "datasetName not specified");
 
-        final String[] tokens = datasetName.split("\\.");
-        final int length = tokens.length - 1;
-        if (1 >= length) {
+        if (datasetName.indexOf('.') < 0) {
             throw new IllegalArgumentException("invalid dataset name");
         }
 
-        final StringBuilder str = new StringBuilder();
-        IntStream.range(0, length).forEach(i -> str.append(tokens[i]).append("."));
+        if (attributeCache != null) {
+            final Optional<Dataset> cached = attributeCache.get(connection, datasetName);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
 
-        String dataSetSearchStr = str.toString();
-        dataSetSearchStr = dataSetSearchStr.substring(0, str.length() - 1);
         final DsnList dsnList = new DsnList(connection);
         final DsnListInputData listInputData = new DsnListInputData.Builder().attribute(AttributeType.BASE).build();
-        final List<Dataset> dsLst = dsnList.getDatasets(dataSetSearchStr, listInputData);
+        final List<Dataset> dsLst = dsnList.getDatasets(datasetName, listInputData);
 
-        Predicate<Dataset> isExactMatch = d -> datasetName.equals(d.getDsname());
-        final Optional<Dataset> dataSet = dsLst.stream().filter(isExactMatch).findFirst();
-        return dataSet.orElseThrow(() -> new ZosmfRequestException("dataset not found"));
+        final Predicate<Dataset> isExactMatch = d -> datasetName.trim().equalsIgnoreCase(d.getDsname());
+        final Dataset dataSet = dsLst.stream().filter(isExactMatch).findFirst()
+                .orElseThrow(() -> new ZosmfRequestException("dataset not found"));
+        if (attributeCache != null) {
+            attributeCache.put(connection, dataSet);
+        }
+        return dataSet;
     }
 
     /**
@@ -120,6 +209,81 @@ public class DsnGet {
      */
     public InputStream get(final String targetName, final DsnDownloadInputData downloadInputData)
             throws ZosmfRequestException {
+        return new ByteArrayInputStream(download(targetName, downloadInputData).getContent());
+    }
+
+    /**
+     * Retrieve the text content of a sequential dataset or dataset member along with its ETag, to be sent back
+     * with {@link DsnWrite#writeIfMatch(String, String, String)} so that a concurrent change is detected by
+     * z/OSMF instead of by reading the content again before writing it
+     *
+     * @param targetName name of a sequential dataset e.g., DATASET.SEQ.DATA
+     *                   or a dataset member e.g., DATASET.LIB(MEMBER)
+     * @return DsnContent object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public DsnContent getWithEtag(final String targetName) throws ZosmfRequestException {
+        final CachedContent content = download(targetName, new DsnDownloadInputData.Builder()
+                .returnEtag(true)
+                .build());
+        return new DsnContent(new String(content.getContent(), StandardCharsets.UTF_8), content.getEtag());
+    }
+
+    /**
+     * Common helper method to retrieve sequential dataset or dataset member content
+     *
+     * @param targetName        name of a sequential dataset or a dataset member
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return content bytes with the ETag returned by z/OSMF, null when none was returned
+     * @throws ZosmfRequestException request error state
+     * @author Nikunj Goyal
+     */
+    private CachedContent download(final String targetName, final DsnDownloadInputData downloadInputData)
+            throws ZosmfRequestException {
+        final Map<String, String> headers = prepare(targetName, downloadInputData);
+
+        final CacheKey cacheKey = cache != null ?
+                CacheKey.dataset(connection, targetName, cacheVariant(downloadInputData)) : null;
+        final Optional<CachedContent> cached = cacheKey != null ? cache.get(cacheKey) : Optional.empty();
+        if (cached.isPresent()) {
+            headers.put(ZosmfHeaders.HEADERS.get("IF_NONE_MATCH").get(0), cached.get().getEtag());
+        }
+
+        request.setHeaders(headers);
+
+        final Response response;
+        try {
+            response = request.executeRequest();
+        } catch (ZosmfRequestException e) {
+            if (cached.isPresent() && ContentCache.isNotModified(e)) {
+                return cached.get();
+            }
+            throw e;
+        }
+
+        final byte[] content = (byte[]) response.getResponsePhrase()
+                .orElseThrow(() -> new IllegalStateException("no dsn get response phrase"));
+        if (cacheKey != null) {
+            final Optional<String> etag = response.getEtag();
+            if (etag.isPresent()) {
+                cache.put(cacheKey, etag.get(), content);
+            } else {
+                cache.remove(cacheKey);
+            }
+        }
+        return new CachedContent(response.getEtag().orElse(null), content);
+    }
+
+    /**
+     * Set the url of the request and build the headers to retrieve sequential dataset or dataset member content
+     *
+     * @param targetName        name of a sequential dataset or a dataset member
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return headers of the request
+     * @author Nikunj Goyal
+     */
+    private Map<String, String> prepare(final String targetName, final DsnDownloadInputData downloadInputData) {
         ValidateUtils.checkIllegalParameter(targetName, "targetName");
         ValidateUtils.checkNullParameter(downloadInputData, "downloadInputData");
 
@@ -136,7 +300,11 @@ public class DsnGet {
         String key, value;
         final Map<String, String> headers = new HashMap<>();
 
-        if (downloadInputData.isBinary()) {
+        if (downloadInputData.isRecord()) {
+            key = ZosmfHeaders.HEADERS.get("X_IBM_BINARY_BY_RECORD").get(0);
+            value = ZosmfHeaders.HEADERS.get("X_IBM_BINARY_BY_RECORD").get(1);
+            headers.put(key, value);
+        } else if (downloadInputData.isBinary()) {
             key = ZosmfHeaders.HEADERS.get("X_IBM_BINARY").get(0);
             value = ZosmfHeaders.HEADERS.get("X_IBM_BINARY").get(1);
             headers.put(key, value);
@@ -150,7 +318,7 @@ public class DsnGet {
             headers.put(key, value);
         }
 
-        if (downloadInputData.isReturnEtag()) {
+        if (downloadInputData.isReturnEtag() || cache != null) {
             key = ZosmfHeaders.HEADERS.get("X_IBM_RETURN_ETAG").get(0);
             value = ZosmfHeaders.HEADERS.get("X_IBM_RETURN_ETAG").get(1);
             headers.put(key, value);
@@ -170,11 +338,66 @@ public class DsnGet {
         }
         headers.put(key, value);
 
-        request.setHeaders(headers);
         request.setUrl(url);
+        return headers;
+    }
+
+    /**
+     * Retrieve the records of a sequential dataset or dataset member in record mode, without code page
+     * conversion on z/OS. The records are decoded on the client, see DsnRecordReader.
+     * <p>
+     * The reader handed to the handler reads the response body as it is received, so the content is never held
+     * in memory as a whole. With a content cache the content is retrieved through the cache instead and read
+     * from memory.
+     *
+     * @param targetName name of a sequential dataset e.g., DATASET.SEQ.DATA
+     *                   or a dataset member e.g., DATASET.LIB(MEMBER)
+     * @param encoding   code page of the dataset, for example "IBM-1047" or "IBM-037"
+     * @param handler    reads the records, see DsnRecordHandler
+     * @throws ZosmfRequestException request error state, or the handler failed
+     * @author Frank Giordano
+     */
+    public void getRecords(final String targetName, final String encoding, final DsnRecordHandler handler)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(encoding, "encoding");
+        ValidateUtils.checkNullParameter(handler, "handler");
+        final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder().record(true).build();
 
-        return new ByteArrayInputStream((byte[]) request.executeRequest().getResponsePhrase()
-                .orElseThrow(() -> new IllegalStateException("no dsn get response phrase")));
+        if (cache != null) {
+            final byte[] content = download(targetName, downloadInputData).getContent();
+            try (final DsnRecordReader reader = new DsnRecordReader(new ByteArrayInputStream(content), encoding)) {
+                handler.handle(reader);
+            } catch (IOException e) {
+                throw new ZosmfRequestException(e.getMessage(), e);
+            }
+            return;
+        }
+
+        request.setHeaders(prepare(targetName, downloadInputData));
+        ((GetStreamZosmfRequest) request).executeRequest(content -> {
+            try (final DsnRecordReader reader = new DsnRecordReader(content, encoding)) {
+                handler.handle(reader);
+            }
+        });
+    }
+
+    /**
+     * Cache variant describing how content is retrieved, since each mode yields different bytes
+     *
+     * @param downloadInputData to download parameters, see DsnDownloadInputData object
+     * @return variant string value
+     * @author Frank Giordano
+     */
+    private static String cacheVariant(final DsnDownloadInputData downloadInputData) {
+        final String volume = downloadInputData.getVolume().map(v -> "vol=" + v.toUpperCase() + ";").orElse("");
+        if (downloadInputData.isRecord()) {
+            return volume + "record";
+        }
+        if (downloadInputData.isBinary()) {
+            return volume + "binary";
+        }
+        return volume + (downloadInputData.getEncoding().isPresent() ?
+                "text;encoding=" + downloadInputData.getEncoding().getAsLong() : "text");
     }
 
 }
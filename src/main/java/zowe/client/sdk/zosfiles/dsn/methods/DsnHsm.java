@@ -0,0 +1,223 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.DsnUtils;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnHsmInputData;
+import zowe.client.sdk.zosfiles.dsn.model.HsmResult;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+import zowe.client.sdk.zosfiles.dsn.types.HsmAction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Provides HSM recall and migrate of many datasets at once
+ * <p>
+ * The action is requested on each dataset without waiting for HSM to finish, with a bounded number of requests
+ * running at once. Completion is then confirmed by listing the pending datasets at a fixed interval, one listing
+ * covering every pending dataset that shares a parent qualifier, so the total time is close to that of the slowest
+ * dataset rather than the sum of all of them.
+ * <p>
+ * A request that fails, or a dataset not confirmed complete before the timeout, is reported in its own result
+ * without affecting the other datasets.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnHsm {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnHsm.class);
+
+    private final Supplier<DsnUpdate> updateSupplier;
+
+    private final DsnCatalogSearch search;
+
+    /**
+     * DsnHsm Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnHsm(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.updateSupplier = () -> new DsnUpdate(connection);
+        this.search = new DsnCatalogSearch(connection);
+    }
+
+    /**
+     * Alternative DsnHsm constructor with a DsnUpdate supplier and DsnCatalogSearch object. This is mainly used
+     * for internal code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param updateSupplier supplier of the DsnUpdate object used by each worker thread
+     * @param search         DsnCatalogSearch object used to poll the volume of the datasets
+     * @author Frank Giordano
+     */
+    DsnHsm(final Supplier<DsnUpdate> updateSupplier, final DsnCatalogSearch search) {
+        ValidateUtils.checkNullParameter(updateSupplier, "updateSupplier");
+        ValidateUtils.checkNullParameter(search, "search");
+        this.updateSupplier = updateSupplier;
+        this.search = search;
+    }
+
+    /**
+     * Start the action on every dataset of the input and return immediately
+     * <p>
+     * Each future completes once its dataset is confirmed complete, failed or timed out; it never completes
+     * exceptionally. Cancelling a future stops the tracking of its dataset, but not an HSM request already sent.
+     *
+     * @param hsmInputData DsnHsmInputData object
+     * @return future result of each dataset, keyed by dataset name in input order
+     * @author Frank Giordano
+     */
+    public Map<String, CompletableFuture<HsmResult>> submit(final DsnHsmInputData hsmInputData) {
+        ValidateUtils.checkNullParameter(hsmInputData, "hsmInputData");
+        if (hsmInputData.getDatasetNames().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return new Batch(hsmInputData).start();
+    }
+
+    /**
+     * Run the action on every dataset of the input and wait for all results
+     *
+     * @param hsmInputData DsnHsmInputData object
+     * @return result of each dataset, in input order
+     * @throws ZosmfRequestException the wait was interrupted, in which case the tracking is cancelled
+     * @author Frank Giordano
+     */
+    public List<HsmResult> process(final DsnHsmInputData hsmInputData) throws ZosmfRequestException {
+        final Map<String, CompletableFuture<HsmResult>> futures = submit(hsmInputData);
+        final List<HsmResult> results = new ArrayList<>(futures.size());
+        try {
+            for (final CompletableFuture<HsmResult> future : futures.values()) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new ZosmfRequestException("Interrupted during HSM request", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Tracking of one submitted input, until every dataset has a result
+     */
+    private final class Batch {
+
+        private final DsnHsmInputData hsmInputData;
+        private final Map<String, CompletableFuture<HsmResult>> futures = new LinkedHashMap<>();
+        private final Map<String, Long> pending = new ConcurrentHashMap<>();
+        // DsnUpdate holds its request, so each worker thread sends with its own
+        private final ThreadLocal<DsnUpdate> updates = ThreadLocal.withInitial(updateSupplier);
+        private final long timeoutNanos;
+        private final ExecutorService executor;
+        private final ScheduledExecutorService poller;
+
+        private Batch(final DsnHsmInputData hsmInputData) {
+            this.hsmInputData = hsmInputData;
+            this.timeoutNanos = hsmInputData.getTimeout().toNanos();
+            hsmInputData.getDatasetNames().forEach(name -> futures.put(name, new CompletableFuture<>()));
+            this.executor = Executors.newFixedThreadPool(
+                    Math.min(hsmInputData.getMaxConcurrency(), futures.size()), ParallelUtils.threadFactory("dsn-hsm"));
+            this.poller = Executors.newSingleThreadScheduledExecutor(ParallelUtils.threadFactory("dsn-hsm-poll"));
+        }
+
+        private Map<String, CompletableFuture<HsmResult>> start() {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((ignored, e) -> {
+                        executor.shutdownNow();
+                        poller.shutdownNow();
+                    });
+            for (final String name : futures.keySet()) {
+                executor.execute(() -> request(name));
+            }
+            final long interval = hsmInputData.getPollInterval().toNanos();
+            poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.NANOSECONDS);
+            return Collections.unmodifiableMap(futures);
+        }
+
+        private void request(final String name) {
+            if (futures.get(name).isDone()) {
+                return;
+            }
+            final long start = System.nanoTime();
+            try {
+                if (hsmInputData.getAction() == HsmAction.MIGRATE) {
+                    updates.get().migrate(name, false);
+                } else {
+                    updates.get().recallMigrated(name, false);
+                }
+                pending.put(name, start);
+            } catch (ZosmfRequestException | RuntimeException e) {
+                complete(name, start, e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+        }
+
+        private void poll() {
+            pending.keySet().removeIf(name -> futures.get(name).isDone());
+            if (pending.isEmpty()) {
+                return;
+            }
+            final List<String> names = new ArrayList<>(pending.keySet());
+            final Map<String, String> volumes = new HashMap<>();
+            final DsnCatalogSearchInputData.Builder searchInputData = new DsnCatalogSearchInputData.Builder()
+                    .attribute(AttributeType.VOL)
+                    .maxConcurrency(hsmInputData.getMaxConcurrency());
+            DsnUtils.levelPatterns(names).forEach(searchInputData::pattern);
+            try {
+                search.search(searchInputData.build(), dataset -> volumes.put(dataset.getDsname(), dataset.getVol()));
+            } catch (ZosmfRequestException | RuntimeException e) {
+                LOG.debug("unable to list pending datasets, retrying: {}", e.getMessage());
+            }
+            final long now = System.nanoTime();
+            for (final String name : names) {
+                final long start = pending.get(name);
+                if (volumes.containsKey(name) && hsmInputData.isComplete(volumes.get(name))) {
+                    complete(name, start, null);
+                } else if (now - start >= timeoutNanos) {
+                    complete(name, start, "timed out waiting for " +
+                            hsmInputData.getAction().name().toLowerCase() + " to complete");
+                }
+            }
+        }
+
+        private void complete(final String name, final long start, final String error) {
+            pending.remove(name);
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            futures.get(name).complete(new HsmResult(name, elapsedMillis, error));
+        }
+    }
+
+}
@@ -16,7 +16,6 @@ import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
-import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
@@ -90,19 +89,18 @@ public class DsnList {
 
         final Map<String, String> headers = new HashMap<>();
         final List<Dataset> datasets = new ArrayList<>();
-        String url = connection.getZosmfUrl() +
-                ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES + UrlConstants.QUERY_ID +
-                ZosFilesConstants.QUERY_DS_LEVEL + EncodeUtils.encodeURIComponent(datasetName);
+        final ZosmfUrlBuilder url = ZosmfUrlBuilder.of(connection)
+                .path(ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES)
+                .query(ZosFilesConstants.QUERY_DS_LEVEL, datasetName);
 
         if (listInputData.getVolume().isPresent()) {
-            url += UrlConstants.COMBO_ID + ZosFilesConstants.QUERY_VOLUME +
-                    EncodeUtils.encodeURIComponent(listInputData.getVolume().get());
+            url.query(ZosFilesConstants.QUERY_VOLUME, listInputData.getVolume().get());
         }
         if (listInputData.getStart().isPresent()) {
-            url += UrlConstants.COMBO_ID + ZosFilesConstants.QUERY_START + listInputData.getStart().get();
+            url.query(ZosFilesConstants.QUERY_START, listInputData.getStart().get());
         }
 
-        return getResult(getResponse(listInputData, headers, url), datasets, null);
+        return getResult(getResponse(listInputData, headers, url.build()), datasets, null);
     }
 
     /**
@@ -121,19 +119,16 @@ public class DsnList {
 
         final Map<String, String> headers = new HashMap<>();
         final List<Member> members = new ArrayList<>();
-        String url = connection.getZosmfUrl() +
-                ZosFilesConstants.RESOURCE +
-                ZosFilesConstants.RES_DS_FILES +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(datasetName) +
-                ZosFilesConstants.RES_DS_MEMBERS;
+        final ZosmfUrlBuilder url = ZosmfUrlBuilder.of(connection)
+                .path(ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES)
+                .segment(datasetName)
+                .path(ZosFilesConstants.RES_DS_MEMBERS);
 
         if (listInputData.getPattern().isPresent()) {
-            url += UrlConstants.QUERY_ID + ZosFilesConstants.QUERY_PATTERN +
-                    EncodeUtils.encodeURIComponent(listInputData.getPattern().get());
+            url.query(ZosFilesConstants.QUERY_PATTERN, listInputData.getPattern().get());
         }
 
-        return getResult(getResponse(listInputData, headers, url), null, members);
+        return getResult(getResponse(listInputData, headers, url.build()), null, members);
     }
 
     /**
@@ -240,50 +235,35 @@ public class DsnList {
      * @author Nikunj Goyal
      */
     private void setHeaders(final DsnListInputData listInputData, final Map<String, String> headers) {
-        String key = ZosmfHeaders.HEADERS.get("ACCEPT_ENCODING").get(0);
-        String value = ZosmfHeaders.HEADERS.get("ACCEPT_ENCODING").get(1);
-        headers.put(key, value);
+        ZosmfHeaders.put(headers, ZosmfHeaders.ACCEPT_ENCODING);
 
         if (listInputData.getAttribute().isPresent()) {
             AttributeType attribute = listInputData.getAttribute().get();
             if (attribute == AttributeType.BASE) {
-                key = ZosmfHeaders.HEADERS.get("X_IBM_ATTRIBUTES_BASE").get(0);
-                value = ZosmfHeaders.HEADERS.get("X_IBM_ATTRIBUTES_BASE").get(1);
+                ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_ATTRIBUTES_BASE);
             } else if (attribute == AttributeType.VOL) {
-                key = ZosmfHeaders.HEADERS.get("X_IBM_ATTRIBUTES_VOL").get(0);
-                value = ZosmfHeaders.HEADERS.get("X_IBM_ATTRIBUTES_VOL").get(1);
+                ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_ATTRIBUTES_VOL);
             }
-            headers.put(key, value);
         }
         if (listInputData.getMaxLength().isPresent()) {
-            key = "X-IBM-Max-Items";
-            value = listInputData.getMaxLength().get();
+            headers.put(ZosmfHeaders.entry(ZosmfHeaders.X_IBM_MAX_ITEMS).getKey(), listInputData.getMaxLength().get());
         } else {
-            key = ZosmfHeaders.HEADERS.get("X_IBM_MAX_ITEMS").get(0);
-            value = ZosmfHeaders.HEADERS.get("X_IBM_MAX_ITEMS").get(1);
+            ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_MAX_ITEMS);
         }
-        headers.put(key, value);
         if (listInputData.getResponseTimeout().isPresent()) {
-            key = ZosmfHeaders.HEADERS.get("X_IBM_RESPONSE_TIMEOUT").get(0);
-            value = listInputData.getResponseTimeout().get();
-            headers.put(key, value);
+            headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.X_IBM_RESPONSE_TIMEOUT).get(0),
+                    listInputData.getResponseTimeout().get());
         }
         if (listInputData.getRecall().isPresent()) {
             switch (listInputData.getRecall().get().toLowerCase(Locale.ROOT)) {
                 case "wait":
-                    key = ZosmfHeaders.HEADERS.get("X_IBM_MIGRATED_RECALL_WAIT").get(0);
-                    value = ZosmfHeaders.HEADERS.get("X_IBM_MIGRATED_RECALL_WAIT").get(1);
-                    headers.put(key, value);
+                    ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_MIGRATED_RECALL_WAIT);
                     break;
                 case "nowait":
-                    key = ZosmfHeaders.HEADERS.get("X_IBM_MIGRATED_RECALL_NO_WAIT").get(0);
-                    value = ZosmfHeaders.HEADERS.get("X_IBM_MIGRATED_RECALL_NO_WAIT").get(1);
-                    headers.put(key, value);
+                    ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_MIGRATED_RECALL_NO_WAIT);
                     break;
                 case "error":
-                    key = ZosmfHeaders.HEADERS.get("X_IBM_MIGRATED_RECALL_ERROR").get(0);
-                    value = ZosmfHeaders.HEADERS.get("X_IBM_MIGRATED_RECALL_ERROR").get(1);
-                    headers.put(key, value);
+                    ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_MIGRATED_RECALL_ERROR);
                     break;
             }
         }
@@ -0,0 +1,197 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.DsnUtils;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDeleteInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnProvisionInputData;
+import zowe.client.sdk.zosfiles.dsn.model.ProvisionResult;
+import zowe.client.sdk.zosfiles.dsn.response.DsnProvisionResponse;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionOutcome;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionState;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Provides allocation and deletion of many datasets at once, such as the setup and teardown of a test environment
+ * <p>
+ * The requested state is idempotent: the datasets already cataloged are found first, with one listing per parent
+ * qualifier, and only the missing datasets that must exist are allocated and the cataloged datasets that must not
+ * exist are deleted. These requests run with a bounded number at once, so the total time is a fraction of that of
+ * creating or deleting each dataset in turn.
+ * <p>
+ * A create or delete that fails is reported in its own result without affecting the other datasets.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnProvision {
+
+    private final DsnCatalogSearch search;
+
+    private final Supplier<DsnCreate> createSupplier;
+
+    private final Supplier<DsnDelete> deleteSupplier;
+
+    /**
+     * DsnProvision Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnProvision(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.search = new DsnCatalogSearch(connection);
+        this.createSupplier = () -> new DsnCreate(connection);
+        this.deleteSupplier = () -> new DsnDelete(connection);
+    }
+
+    /**
+     * Alternative DsnProvision constructor with a DsnCatalogSearch object and DsnCreate and DsnDelete suppliers.
+     * This is mainly used for internal code unit testing with Mockito, and it is not recommended to be used by
+     * the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param search         DsnCatalogSearch object used to find the cataloged datasets
+     * @param createSupplier supplier of the DsnCreate object used by each worker thread
+     * @param deleteSupplier supplier of the DsnDelete object used by each worker thread
+     * @author Frank Giordano
+     */
+    DsnProvision(final DsnCatalogSearch search, final Supplier<DsnCreate> createSupplier,
+                 final Supplier<DsnDelete> deleteSupplier) {
+        ValidateUtils.checkNullParameter(search, "search");
+        ValidateUtils.checkNullParameter(createSupplier, "createSupplier");
+        ValidateUtils.checkNullParameter(deleteSupplier, "deleteSupplier");
+        this.search = search;
+        this.createSupplier = createSupplier;
+        this.deleteSupplier = deleteSupplier;
+    }
+
+    /**
+     * Bring every dataset of the input to its requested state
+     *
+     * @param provisionInputData DsnProvisionInputData object
+     * @return DsnProvisionResponse object with the result of every dataset
+     * @throws ZosmfRequestException request error state of the listing of the cataloged datasets
+     * @author Frank Giordano
+     */
+    public DsnProvisionResponse provision(final DsnProvisionInputData provisionInputData)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(provisionInputData, "provisionInputData");
+        final long start = System.nanoTime();
+        final List<String> names = provisionInputData.getDatasetNames();
+        if (names.isEmpty()) {
+            return new DsnProvisionResponse(List.of(), 0);
+        }
+
+        final DsnCatalogSearchInputData.Builder searchInputData = new DsnCatalogSearchInputData.Builder()
+                .attribute(AttributeType.VOL)
+                .maxConcurrency(provisionInputData.getMaxConcurrency());
+        DsnUtils.levelPatterns(names).forEach(searchInputData::pattern);
+        final Set<String> cataloged = new HashSet<>();
+        search.search(searchInputData.build(), dataset -> cataloged.add(dataset.getDsname()));
+        final List<String> changes = new ArrayList<>();
+        for (final String name : names) {
+            final boolean exists = provisionInputData.getState(name) == ProvisionState.EXISTS;
+            if (exists != cataloged.contains(name)) {
+                changes.add(name);
+            }
+        }
+
+        // DsnCreate and DsnDelete hold their request, so each worker thread sends with its own
+        final ThreadLocal<DsnCreate> creates = ThreadLocal.withInitial(createSupplier);
+        final ThreadLocal<DsnDelete> deletes = ThreadLocal.withInitial(deleteSupplier);
+        final Map<String, ProvisionResult> changed;
+        try {
+            // a dataset that fails is recorded by provisionOne, so the other datasets are not cancelled
+            changed = ParallelUtils.runAll(changes, provisionInputData.getMaxConcurrency(), "provision",
+                            name -> provisionOne(name, provisionInputData, creates, deletes))
+                    .stream().collect(Collectors.toMap(ProvisionResult::getDatasetName, Function.identity()));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final List<ProvisionResult> results = new ArrayList<>(names.size());
+        for (final String name : names) {
+            results.add(changed.containsKey(name) ? changed.get(name) :
+                    new ProvisionResult(name, provisionInputData.getState(name), ProvisionOutcome.UNCHANGED, 0, null));
+        }
+        return new DsnProvisionResponse(results, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Create or delete one dataset
+     *
+     * @param name               dataset name
+     * @param provisionInputData DsnProvisionInputData object
+     * @param creates            DsnCreate object of each worker thread
+     * @param deletes            DsnDelete object of each worker thread
+     * @return ProvisionResult object, with the error message when the request failed
+     */
+    private static ProvisionResult provisionOne(final String name, final DsnProvisionInputData provisionInputData,
+                                                final ThreadLocal<DsnCreate> creates,
+                                                final ThreadLocal<DsnDelete> deletes) {
+        final ProvisionState state = provisionInputData.getState(name);
+        final long begin = System.nanoTime();
+        ProvisionOutcome outcome;
+        String error = null;
+        try {
+            if (state == ProvisionState.EXISTS) {
+                creates.get().create(name, provisionInputData.getCreateInputData(name).orElseThrow());
+                outcome = ProvisionOutcome.CREATED;
+            } else {
+                deletes.get().delete(DsnDeleteInputData.forDataset(name));
+                outcome = ProvisionOutcome.DELETED;
+            }
+        } catch (ZosmfRequestException e) {
+            if (state == ProvisionState.ABSENT ? isNotFound(e) : isDuplicate(e)) {
+                // deleted or allocated by someone else since the listing
+                outcome = ProvisionOutcome.UNCHANGED;
+            } else {
+                outcome = ProvisionOutcome.FAILED;
+                error = e.getMessage();
+            }
+        }
+        return new ProvisionResult(name, state, outcome,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), error);
+    }
+
+    private static boolean isNotFound(final ZosmfRequestException e) {
+        return e.getResponse() != null && e.getResponse().getStatusCode().orElse(0) == 404;
+    }
+
+    /**
+     * Determine whether an allocation failed because the dataset is already cataloged
+     *
+     * @param e ZosmfRequestException object
+     * @return true when z/OSMF reported IGD17101I duplicate name exists in catalog
+     */
+    static boolean isDuplicate(final ZosmfRequestException e) {
+        final String message = e.getMessage();
+        return message != null && (message.contains("IGD17101I") || message.contains("DUPLICATE NAME"));
+    }
+
+}
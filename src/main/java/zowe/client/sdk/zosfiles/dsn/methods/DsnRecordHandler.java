@@ -0,0 +1,36 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.io.IOException;
+
+/**
+ * Reads the records of a dataset while its content is received, see
+ * {@link DsnGet#getRecords(String, String, DsnRecordHandler)}
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@FunctionalInterface
+public interface DsnRecordHandler {
+
+    /**
+     * Read the records. The reader is closed once the method returns, returning early leaves the remaining
+     * records unread.
+     *
+     * @param reader DsnRecordReader object over the response body
+     * @throws ZosmfRequestException request error state of a request sent by the handler
+     * @throws IOException           error reading the records
+     */
+    void handle(DsnRecordReader reader) throws ZosmfRequestException, IOException;
+
+}
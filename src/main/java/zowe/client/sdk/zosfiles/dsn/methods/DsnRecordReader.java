@@ -0,0 +1,200 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.utility.EncodeUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.model.DsnRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the records of a dataset retrieved in record mode, see DsnDownloadInputData.Builder.record
+ * <p>
+ * In record mode z/OSMF sends every record unconverted, preceded by its length in a 4-byte big-endian field, so
+ * no code page conversion runs on z/OS. The records are read through one buffer that is reused, each record
+ * being a view over the buffer rather than a copy, and decoded on request with a translation table of the
+ * dataset code page.
+ * <p>
+ * A record is only valid until the next one is read. The reader is not thread safe.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnRecordReader implements Iterator<DsnRecord>, Closeable {
+
+    private static final int LENGTH_FIELD = 4;
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+
+    private final char[] table;
+
+    private ByteBuffer buffer;
+
+    private long number;
+
+    private DsnRecord next;
+
+    private boolean eof;
+
+    /**
+     * DsnRecordReader Constructor
+     *
+     * @param input    record mode content, for example from DsnGet.get with record mode set
+     * @param encoding code page of the dataset, for example "IBM-1047" or "IBM-037"
+     * @author Frank Giordano
+     */
+    public DsnRecordReader(final InputStream input, final String encoding) {
+        this(input, encoding, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * DsnRecordReader Constructor with the initial buffer size, the buffer grows to hold a longer record
+     *
+     * @param input      record mode content, for example from DsnGet.get with record mode set
+     * @param encoding   code page of the dataset, for example "IBM-1047" or "IBM-037"
+     * @param bufferSize initial buffer size in bytes
+     * @author Frank Giordano
+     */
+    public DsnRecordReader(final InputStream input, final String encoding, final int bufferSize) {
+        ValidateUtils.checkNullParameter(input, "input");
+        ValidateUtils.checkIllegalParameter(encoding, "encoding");
+        if (bufferSize < LENGTH_FIELD) {
+            throw new IllegalArgumentException("bufferSize must be at least " + LENGTH_FIELD);
+        }
+        this.input = input;
+        this.table = EncodeUtils.decodeTable(encoding);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    /**
+     * Determine whether another record follows. Invalidates the record returned last.
+     *
+     * @return true if another record follows
+     * @throws UncheckedIOException  error reading the input
+     * @throws IllegalStateException the input ends inside a record
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = read();
+        }
+        return next != null;
+    }
+
+    /**
+     * Retrieve the next record. Invalidates the record returned last.
+     *
+     * @return DsnRecord object
+     * @throws NoSuchElementException no record left
+     */
+    @Override
+    public DsnRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final DsnRecord record = next;
+        next = null;
+        return record;
+    }
+
+    /**
+     * Retrieve the remaining records as a sequential stream, closing the reader when the stream is closed
+     *
+     * @return stream of DsnRecord objects
+     */
+    public Stream<DsnRecord> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Close the input
+     *
+     * @throws IOException error closing the input
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private DsnRecord read() {
+        if (!fill(LENGTH_FIELD)) {
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("content ends inside the length of record " + (number + 1));
+            }
+            return null;
+        }
+        final long length = buffer.getInt() & 0xFFFFFFFFL;
+        if (length > Integer.MAX_VALUE - LENGTH_FIELD) {
+            throw new IllegalStateException("invalid length " + length + " of record " + (number + 1));
+        }
+        if (!fill((int) length)) {
+            throw new IllegalStateException("content ends inside record " + (number + 1));
+        }
+        final int offset = buffer.position();
+        buffer.position(offset + (int) length);
+        return new DsnRecord(++number, buffer, offset, (int) length, table);
+    }
+
+    /**
+     * Make at least the given number of bytes available from the buffer position, reading more input as needed
+     *
+     * @param needed number of bytes
+     * @return false when the input ends first
+     */
+    private boolean fill(final int needed) {
+        if (buffer.remaining() >= needed) {
+            return true;
+        }
+        if (buffer.capacity() < needed) {
+            final ByteBuffer larger = ByteBuffer.allocate(Math.max(needed, buffer.capacity() * 2));
+            larger.put(buffer);
+            buffer = larger;
+        } else {
+            buffer.compact();
+        }
+        try {
+            while (buffer.position() < needed && !eof) {
+                final int count = input.read(buffer.array(), buffer.position(), buffer.remaining());
+                if (count < 0) {
+                    eof = true;
+                } else {
+                    buffer.position(buffer.position() + count);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+        return buffer.remaining() >= needed;
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.FanOut;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.model.DsnRecord;
+import zowe.client.sdk.zosfiles.dsn.model.DsnSearchMatch;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Provides a content search across the members of a partitioned dataset
+ * <p>
+ * The members are listed once and then read concurrently, each with its own request, with a bounded number of
+ * requests running at once. Each member is read in record mode and its records are matched one at a time while
+ * the response is received, so no member is held in memory, and a member is no longer read once its search ends.
+ * All search strings and regular expressions are combined into one expression, matching every line in a single
+ * pass. Matches are handed to the consumer as they are found, and the search stops once the requested number of
+ * matches is reached.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSearch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DsnSearch.class);
+
+    private final Supplier<DsnGet> getSupplier;
+
+    private final Supplier<DsnList> listSupplier;
+
+    /**
+     * DsnSearch Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnSearch(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.getSupplier = () -> new DsnGet(connection);
+        this.listSupplier = () -> new DsnList(connection);
+    }
+
+    /**
+     * Alternative DsnSearch constructor with DsnGet and DsnList suppliers. This is mainly used for internal code
+     * unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param getSupplier  supplier of the DsnGet object used by each worker thread
+     * @param listSupplier supplier of the DsnList object used to list the members
+     * @author Frank Giordano
+     */
+    DsnSearch(final Supplier<DsnGet> getSupplier, final Supplier<DsnList> listSupplier) {
+        ValidateUtils.checkNullParameter(getSupplier, "getSupplier");
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        this.getSupplier = getSupplier;
+        this.listSupplier = listSupplier;
+    }
+
+    /**
+     * Search the members and hand each matched line to the consumer
+     * <p>
+     * The consumer is called from the worker threads, one call at a time, and is not called again once the
+     * search returns. Matches of one member arrive in line order, matches of different members in no particular
+     * order.
+     *
+     * @param searchInputData DsnSearchInputData object
+     * @param consumer        receives the matched lines
+     * @return number of matches handed to the consumer
+     * @throws ZosmfRequestException request error state, or the search was interrupted
+     * @author Frank Giordano
+     */
+    public long search(final DsnSearchInputData searchInputData, final Consumer<DsnSearchMatch> consumer)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(searchInputData, "searchInputData");
+        ValidateUtils.checkNullParameter(consumer, "consumer");
+        final DsnListInputData.Builder listInputData = new DsnListInputData.Builder()
+                .attribute(AttributeType.MEMBER);
+        searchInputData.getMemberPattern().ifPresent(listInputData::pattern);
+        final List<String> members = listSupplier.get()
+                .getMembers(searchInputData.getDatasetName(), listInputData.build()).stream()
+                .map(Member::getMember)
+                .collect(Collectors.toList());
+        if (members.isEmpty()) {
+            return 0;
+        }
+        return new Search(searchInputData, consumer, members.size()).run(members);
+    }
+
+    /**
+     * Search the members and collect the matched lines
+     *
+     * @param searchInputData DsnSearchInputData object
+     * @return list of DsnSearchMatch objects, in the order they were found
+     * @throws ZosmfRequestException request error state, or the search was interrupted
+     * @author Frank Giordano
+     */
+    public List<DsnSearchMatch> search(final DsnSearchInputData searchInputData) throws ZosmfRequestException {
+        final List<DsnSearchMatch> matches = new ArrayList<>();
+        search(searchInputData, matches::add);
+        return matches;
+    }
+
+    /**
+     * Combine the strings and regular expressions of the input into one expression
+     *
+     * @param inputData DsnSearchInputData object
+     * @return compiled expression
+     */
+    static Pattern pattern(final DsnSearchInputData inputData) {
+        final StringJoiner expression = new StringJoiner("|");
+        inputData.getSearches().forEach(search -> expression.add(Pattern.quote(search)));
+        inputData.getResearches().forEach(research -> expression.add("(?:" + research + ")"));
+        return Pattern.compile(expression.toString(),
+                inputData.isInsensitive() ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+    }
+
+    /**
+     * State of one search
+     */
+    private final class Search {
+
+        private final DsnSearchInputData inputData;
+        private final ThreadLocal<Matcher> matchers;
+        // DsnGet holds its request, so each worker thread reads with its own
+        private final ThreadLocal<DsnGet> gets = ThreadLocal.withInitial(getSupplier);
+        private final FanOut<DsnSearchMatch> fanOut;
+
+        private Search(final DsnSearchInputData inputData, final Consumer<DsnSearchMatch> consumer,
+                       final int members) {
+            this.inputData = inputData;
+            final Pattern pattern = pattern(inputData);
+            this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+            this.fanOut = new FanOut<>(Math.min(inputData.getMaxConcurrency(), members), "dsn-search",
+                    inputData.getMaxMatches(), consumer);
+        }
+
+        private long run(final List<String> members) throws ZosmfRequestException {
+            for (final String member : members) {
+                fanOut.submit(() -> search(member));
+            }
+            return fanOut.await();
+        }
+
+        private void search(final String member) {
+            try {
+                gets.get().getRecords(inputData.getDatasetName() + "(" + member + ")", inputData.getEncoding(),
+                        reader -> match(member, reader));
+            } catch (ZosmfRequestException | UncheckedIOException e) {
+                if (inputData.isSkipErrors()) {
+                    LOG.warn("skipping member {}: {}", member, e.getMessage());
+                } else {
+                    fanOut.fail(e instanceof ZosmfRequestException ? e :
+                            new ZosmfRequestException("unable to read member " + member + ": " + e.getMessage(), e));
+                }
+            }
+        }
+
+        /**
+         * Match the records of a member while they are received
+         *
+         * @param member member name
+         * @param reader DsnRecordReader object of the member
+         */
+        private void match(final String member, final DsnRecordReader reader) {
+            final Matcher matcher = matchers.get();
+            long matches = 0;
+            while (reader.hasNext() && !fanOut.isOver()) {
+                final DsnRecord record = reader.next();
+                final String line = record.getText();
+                if (!matcher.reset(line).find()) {
+                    continue;
+                }
+                if (!emit(member, record.getNumber(), line.stripTrailing()) ||
+                        ++matches >= inputData.getMaxMatchesPerMember()) {
+                    // the rest of the member is not read
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Hand a match to the consumer
+         *
+         * @param member     member name
+         * @param lineNumber line number of the match, 1-based
+         * @param line       matched line
+         * @return false once the search is over
+         */
+        private boolean emit(final String member, final long lineNumber, final String line) {
+            return fanOut.emit(new DsnSearchMatch(member, lineNumber, line));
+        }
+    }
+
+}
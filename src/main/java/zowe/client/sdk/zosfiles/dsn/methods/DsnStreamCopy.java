@@ -0,0 +1,330 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.GetStreamZosmfRequest;
+import zowe.client.sdk.rest.UrlConstants;
+import zowe.client.sdk.rest.ZosmfHeaders;
+import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.EncodeUtils;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnStreamCopyInputData;
+import zowe.client.sdk.zosfiles.dsn.model.CopiedDataset;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.response.DsnStreamCopyResponse;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Provides a streaming copy of a sequential dataset, a member, or the members of a partitioned dataset from one
+ * z/OSMF connection to another, for example between two systems or sysplexes
+ * <p>
+ * Each dataset or member is read from the source in record mode and its content is sent to the target while it
+ * is received, also in record mode, so records are copied unchanged with no code page conversion and no dataset
+ * or member is ever held in memory. The members of a partitioned dataset are copied in parallel, with a bounded
+ * number at once, and a member that fails is reported without stopping the others. The target can be allocated
+ * first with the attributes of the source.
+ * <p>
+ * Load modules cannot be copied record by record, so datasets of undefined record format are rejected.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnStreamCopy {
+
+    /**
+     * Number of tracks of a cylinder of a 3390 volume
+     */
+    private static final int TRACKS_PER_CYLINDER = 15;
+
+    private static final Map.Entry<String, String> RECORD = ZosmfHeaders.entry(ZosmfHeaders.X_IBM_BINARY_BY_RECORD);
+
+    private final ZosConnection source;
+
+    private final ZosConnection target;
+
+    private final Supplier<DsnGet> getSupplier;
+
+    private final Supplier<DsnList> listSupplier;
+
+    private final Supplier<DsnCreate> createSupplier;
+
+    private final Supplier<GetStreamZosmfRequest> readSupplier;
+
+    private final Supplier<ZosmfRequest> writeSupplier;
+
+    /**
+     * DsnStreamCopy Constructor
+     *
+     * @param source connection the datasets are read from, see ZosConnection object
+     * @param target connection the datasets are written to, may be the source connection
+     * @author Frank Giordano
+     */
+    public DsnStreamCopy(final ZosConnection source, final ZosConnection target) {
+        this(source, target, () -> new DsnGet(source), () -> new DsnList(source), () -> new DsnCreate(target),
+                () -> (GetStreamZosmfRequest) ZosmfRequestFactory.buildRequest(source, ZosmfRequestType.GET_STREAM),
+                () -> ZosmfRequestFactory.buildRequest(target, ZosmfRequestType.PUT_STREAM));
+    }
+
+    /**
+     * Alternative DsnStreamCopy constructor with suppliers of the method objects and requests used. This is
+     * mainly used for internal code unit testing with Mockito, and it is not recommended to be used by the larger
+     * community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param source         connection the datasets are read from, see ZosConnection object
+     * @param target         connection the datasets are written to, may be the source connection
+     * @param getSupplier    supplier of the DsnGet object retrieving the source attributes
+     * @param listSupplier   supplier of the DsnList object listing the source members
+     * @param createSupplier supplier of the DsnCreate object allocating the target
+     * @param readSupplier   supplier of the source GET_STREAM request used by each worker thread
+     * @param writeSupplier  supplier of the target PUT_STREAM request used by each worker thread
+     * @author Frank Giordano
+     */
+    DsnStreamCopy(final ZosConnection source, final ZosConnection target, final Supplier<DsnGet> getSupplier,
+                  final Supplier<DsnList> listSupplier, final Supplier<DsnCreate> createSupplier,
+                  final Supplier<GetStreamZosmfRequest> readSupplier, final Supplier<ZosmfRequest> writeSupplier) {
+        ValidateUtils.checkNullParameter(source, "source");
+        ValidateUtils.checkNullParameter(target, "target");
+        ValidateUtils.checkNullParameter(getSupplier, "getSupplier");
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        ValidateUtils.checkNullParameter(createSupplier, "createSupplier");
+        ValidateUtils.checkNullParameter(readSupplier, "readSupplier");
+        ValidateUtils.checkNullParameter(writeSupplier, "writeSupplier");
+        this.source = source;
+        this.target = target;
+        this.getSupplier = getSupplier;
+        this.listSupplier = listSupplier;
+        this.createSupplier = createSupplier;
+        this.readSupplier = readSupplier;
+        this.writeSupplier = writeSupplier;
+    }
+
+    /**
+     * Copy the source to the target
+     *
+     * @param copyInputData DsnStreamCopyInputData object
+     * @return DsnStreamCopyResponse object with the result of the dataset or of every member
+     * @throws ZosmfRequestException    request error state of the source attributes, the member list or the
+     *                                  allocation
+     * @throws IllegalArgumentException the source has an undefined record format, or a member is copied to a
+     *                                  dataset
+     * @author Frank Giordano
+     */
+    public DsnStreamCopyResponse copy(final DsnStreamCopyInputData copyInputData) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(copyInputData, "copyInputData");
+        final long start = System.nanoTime();
+        final String sourceName = copyInputData.getFromDataSetName();
+        final String targetName = copyInputData.getToDataSetName();
+        final boolean sourceMember = sourceName.indexOf('(') >= 0;
+        if (sourceMember != targetName.indexOf('(') >= 0) {
+            throw new IllegalArgumentException("source and target must both be members or both be datasets");
+        }
+
+        final Dataset info = getSupplier.get().getDsnInfo(datasetName(sourceName));
+        if (info.getRecfm() != null && info.getRecfm().startsWith("U")) {
+            throw new IllegalArgumentException("undefined record format of " + datasetName(sourceName) +
+                    " cannot be copied record by record");
+        }
+        final boolean partitioned = !sourceMember && info.getDsorg() != null && info.getDsorg().startsWith("PO");
+        final List<String> members = partitioned ?
+                members(sourceName, copyInputData.getMemberPattern().orElse(null)) : List.of();
+
+        if (copyInputData.isCreate()) {
+            createSupplier.get().create(datasetName(targetName), copyInputData.getCreateInputData().orElse(
+                    allocation(info, members.size())));
+        }
+
+        // a request is not shared safely, so each worker thread streams with its own
+        final ThreadLocal<GetStreamZosmfRequest> reads = ThreadLocal.withInitial(readSupplier);
+        final ThreadLocal<ZosmfRequest> writes = ThreadLocal.withInitial(writeSupplier);
+        final List<CopiedDataset> copies;
+        if (partitioned) {
+            try {
+                // a member that fails is recorded by copyOne, so the other members are not cancelled
+                copies = ParallelUtils.runAll(members, copyInputData.getMaxConcurrency(), "stream-copy",
+                        member -> copyOne(sourceName + "(" + member + ")", targetName + "(" + member + ")",
+                                reads, writes));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        } else {
+            copies = List.of(copyOne(sourceName, targetName, reads, writes));
+        }
+        return new DsnStreamCopyResponse(copies, copyInputData.isCreate(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * List the member names of a source partitioned dataset
+     *
+     * @param datasetName   partitioned dataset name
+     * @param memberPattern member name pattern, null for all members
+     * @return member names
+     * @throws ZosmfRequestException request error state
+     */
+    private List<String> members(final String datasetName, final String memberPattern)
+            throws ZosmfRequestException {
+        final DsnListInputData.Builder listInputData = new DsnListInputData.Builder()
+                .attribute(AttributeType.MEMBER);
+        if (memberPattern != null) {
+            listInputData.pattern(memberPattern);
+        }
+        return listSupplier.get().getMembers(datasetName, listInputData.build()).stream()
+                .map(Member::getMember)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Copy one sequential dataset or member
+     *
+     * @param sourceName source name
+     * @param targetName target name
+     * @param reads      source request of each worker thread
+     * @param writes     target request of each worker thread
+     * @return CopiedDataset object, with the error message when the copy failed
+     */
+    private CopiedDataset copyOne(final String sourceName, final String targetName,
+                                  final ThreadLocal<GetStreamZosmfRequest> reads,
+                                  final ThreadLocal<ZosmfRequest> writes) {
+        final long begin = System.nanoTime();
+        try {
+            final long bytes = transfer(sourceName, targetName, reads, writes);
+            return new CopiedDataset(sourceName, targetName, bytes,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), null);
+        } catch (ZosmfRequestException e) {
+            return new CopiedDataset(sourceName, targetName, 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), e.getMessage());
+        }
+    }
+
+    /**
+     * Stream one sequential dataset or member from the source to the target
+     *
+     * @param sourceName source name
+     * @param targetName target name
+     * @param reads      source request of each worker thread
+     * @param writes     target request of each worker thread
+     * @return number of bytes streamed
+     * @throws ZosmfRequestException request error state
+     */
+    private long transfer(final String sourceName, final String targetName,
+                          final ThreadLocal<GetStreamZosmfRequest> reads, final ThreadLocal<ZosmfRequest> writes)
+            throws ZosmfRequestException {
+        final GetStreamZosmfRequest read = reads.get();
+        read.setHeaders(Map.of(RECORD.getKey(), RECORD.getValue()));
+        read.setUrl(url(source, sourceName));
+        // counted on the thread sending the target request
+        final AtomicLong bytes = new AtomicLong();
+        read.executeRequest(content -> {
+            final ZosmfRequest write = writes.get();
+            write.setHeaders(Map.of(RECORD.getKey(), RECORD.getValue()));
+            write.setUrl(url(target, targetName));
+            write.setBody(new FilterInputStream(content) {
+                @Override
+                public int read() throws IOException {
+                    final int b = super.read();
+                    if (b >= 0) {
+                        bytes.incrementAndGet();
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+                    final int count = super.read(buffer, offset, length);
+                    if (count > 0) {
+                        bytes.addAndGet(count);
+                    }
+                    return count;
+                }
+            });
+            write.executeRequest();
+        });
+        return bytes.get();
+    }
+
+    private static String url(final ZosConnection connection, final String name) {
+        return connection.getZosmfUrl() + ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES +
+                UrlConstants.URL_PATH_DELIM + EncodeUtils.encodeURIComponent(name);
+    }
+
+    /**
+     * Dataset part of a name, without its member
+     *
+     * @param name dataset or member name
+     * @return dataset name
+     */
+    private static String datasetName(final String name) {
+        final int index = name.indexOf('(');
+        return index < 0 ? name : name.substring(0, index);
+    }
+
+    /**
+     * Compute the allocation of a target like the source dataset: same organization, type, record format, record
+     * length, block size and space
+     *
+     * @param source  source dataset attributes, retrieved with the BASE attribute
+     * @param members number of members copied
+     * @return DsnCreateInputData object
+     */
+    static DsnCreateInputData allocation(final Dataset source, final int members) {
+        final boolean partitioned = source.getDsorg() != null && source.getDsorg().startsWith("PO");
+        final boolean cylinders = source.getSpacu() != null && source.getSpacu().toUpperCase().startsWith("CYL");
+        // sizex is in tracks whatever the space unit, with 15 tracks per cylinder
+        final int tracks = Math.max(1, number(source.getSizex(), 1));
+        final int primary = cylinders ? (tracks + TRACKS_PER_CYLINDER - 1) / TRACKS_PER_CYLINDER : tracks;
+        final DsnCreateInputData.Builder allocation = new DsnCreateInputData.Builder()
+                .dsorg(partitioned ? "PO" : "PS")
+                .recfm(source.getRecfm() != null && !source.getRecfm().isBlank() ? source.getRecfm() : "FB")
+                .lrecl(number(source.getLrectl(), 80))
+                .alcunit(cylinders ? "CYL" : "TRK")
+                .primary(primary)
+                .secondary(Math.max(1, primary / 2));
+        final int blksize = number(source.getBlksz(), 0);
+        if (blksize > 0) {
+            allocation.blksize(blksize);
+        }
+        if (source.getDsntp() != null && !source.getDsntp().isBlank()) {
+            allocation.dsntype(source.getDsntp());
+        }
+        if (partitioned) {
+            allocation.dirblk(members / 5 + 1);
+        }
+        return allocation.build();
+    }
+
+    private static int number(final String value, final int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+}
@@ -0,0 +1,337 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDeleteInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnSyncInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.response.DsnSyncResponse;
+import zowe.client.sdk.zosfiles.dsn.types.AttributeType;
+import zowe.client.sdk.zosfiles.uss.types.SyncDirection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Provides an incremental member sync between a local directory and a partitioned dataset
+ * <p>
+ * The local files are compared with one member list request that returns the ISPF statistics of every member,
+ * and only members that changed are transferred, in parallel, one request per member. Target members or files
+ * that are not in the source are deleted when requested.
+ * <p>
+ * Without a state file, a member is transferred when the source is newer than the target, from the ISPF
+ * statistics modification time, or when the member has no statistics. With a state file, a member is transferred
+ * only when either side changed since the last sync, which does not depend on the local and z/OS clocks agreeing.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSync {
+
+    private static final DateTimeFormatter STATISTICS_TIME = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
+
+    private final Supplier<DsnList> listSupplier;
+
+    private final Supplier<DsnGet> getSupplier;
+
+    private final Supplier<DsnWrite> writeSupplier;
+
+    private final Supplier<DsnDelete> deleteSupplier;
+
+    /**
+     * DsnSync Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnSync(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.listSupplier = () -> new DsnList(connection);
+        this.getSupplier = () -> new DsnGet(connection);
+        this.writeSupplier = () -> new DsnWrite(connection);
+        this.deleteSupplier = () -> new DsnDelete(connection);
+    }
+
+    /**
+     * Alternative DsnSync constructor with suppliers of the dataset method objects. This is mainly used for
+     * internal code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param listSupplier   supplier of the DsnList object listing the members
+     * @param getSupplier    supplier of the DsnGet object used by each worker thread
+     * @param writeSupplier  supplier of the DsnWrite object used by each worker thread
+     * @param deleteSupplier supplier of the DsnDelete object used by each worker thread
+     * @author Frank Giordano
+     */
+    DsnSync(final Supplier<DsnList> listSupplier, final Supplier<DsnGet> getSupplier,
+            final Supplier<DsnWrite> writeSupplier, final Supplier<DsnDelete> deleteSupplier) {
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        ValidateUtils.checkNullParameter(getSupplier, "getSupplier");
+        ValidateUtils.checkNullParameter(writeSupplier, "writeSupplier");
+        ValidateUtils.checkNullParameter(deleteSupplier, "deleteSupplier");
+        this.listSupplier = listSupplier;
+        this.getSupplier = getSupplier;
+        this.writeSupplier = writeSupplier;
+        this.deleteSupplier = deleteSupplier;
+    }
+
+    /**
+     * Sync the local directory and the partitioned dataset in the direction given by the input data
+     *
+     * @param syncInputData DsnSyncInputData object
+     * @return DsnSyncResponse object
+     * @throws ZosmfRequestException request error state
+     * @throws IOException           error reading or writing a local file or the state file
+     * @author Frank Giordano
+     */
+    public DsnSyncResponse sync(final DsnSyncInputData syncInputData) throws ZosmfRequestException, IOException {
+        ValidateUtils.checkNullParameter(syncInputData, "syncInputData");
+        final boolean push = syncInputData.getDirection() == SyncDirection.PUSH;
+        final Path localDir = syncInputData.getLocalDir();
+        if (push && !Files.isDirectory(localDir)) {
+            throw new IllegalArgumentException("local directory not found: " + localDir);
+        }
+        final String datasetName = syncInputData.getDatasetName();
+        final MemberSyncState state = syncInputData.getStateFile().isPresent() ?
+                MemberSyncState.load(syncInputData.getStateFile().get()) : new MemberSyncState();
+
+        final Map<String, LocalFile> localFiles = listLocal(localDir, syncInputData);
+        final Map<String, Member> members = listRemote(datasetName);
+
+        final List<String> transfers = new ArrayList<>();
+        int unchanged = 0;
+        final Map<String, ?> source = push ? localFiles : members;
+        final Map<String, ?> target = push ? members : localFiles;
+        for (final String member : source.keySet()) {
+            if (inSync(localFiles.get(member), members.get(member), state.get(member), syncInputData, push)) {
+                unchanged++;
+            } else {
+                transfers.add(member);
+            }
+        }
+        final List<String> deletes = new ArrayList<>();
+        if (syncInputData.isDelete()) {
+            target.keySet().stream().filter(member -> !source.containsKey(member)).forEach(deletes::add);
+        }
+
+        if (!push) {
+            Files.createDirectories(localDir);
+        }
+        // the method objects hold their request, so each worker thread sends with its own
+        final ThreadLocal<DsnGet> gets = ThreadLocal.withInitial(getSupplier);
+        final ThreadLocal<DsnWrite> writes = ThreadLocal.withInitial(writeSupplier);
+        final ThreadLocal<DsnDelete> removes = ThreadLocal.withInitial(deleteSupplier);
+        final int concurrency = syncInputData.getMaxConcurrency();
+        final List<Long> bytes = ParallelUtils.runAll(transfers, concurrency, "sync",
+                member -> push ? upload(writes.get(), datasetName, member, localFiles.get(member).path,
+                        syncInputData) : download(gets.get(), datasetName, member, localFiles.get(member),
+                        members.get(member), syncInputData));
+        ParallelUtils.runAll(deletes, concurrency, "sync", member -> {
+            if (push) {
+                removes.get().delete(DsnDeleteInputData.forMember(datasetName, member));
+            } else {
+                Files.deleteIfExists(localFiles.get(member).path);
+            }
+            return null;
+        });
+
+        if (syncInputData.getStateFile().isPresent()) {
+            // uploads changed the statistics, list again to record them
+            final Map<String, Member> membersNow = push && !transfers.isEmpty() ? listRemote(datasetName) : members;
+            saveState(localDir, membersNow, syncInputData);
+        }
+
+        return new DsnSyncResponse(transfers, deletes, unchanged, bytes.stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Whether the target member or file already matches the source
+     *
+     * @param local         local file, or null
+     * @param member        member, or null
+     * @param recorded      state recorded by the last sync, or null
+     * @param syncInputData DsnSyncInputData object
+     * @param push          true when the local directory is the source
+     * @return true if the member need not be transferred
+     */
+    private static boolean inSync(final LocalFile local, final Member member, final MemberSyncState.Entry recorded,
+                                  final DsnSyncInputData syncInputData, final boolean push) {
+        if (local == null || member == null) {
+            return false;
+        }
+        final String statistics = statistics(member);
+        if (recorded != null) {
+            if (statistics.isEmpty()) {
+                // without statistics a change on z/OS cannot be seen, so a pull always transfers the member
+                if (!push) {
+                    return false;
+                }
+            } else if (!statistics.equals(recorded.statistics)) {
+                // changed on z/OS since the last sync
+                return false;
+            }
+            return recorded.localSize == local.size && recorded.localTime == local.time;
+        }
+        final long remoteTime = remoteTime(member, syncInputData);
+        if (remoteTime == Long.MIN_VALUE) {
+            return false;
+        }
+        // ISPF statistics hold whole seconds
+        final long localSeconds = TimeUnit.MILLISECONDS.toSeconds(local.time);
+        final long remoteSeconds = TimeUnit.MILLISECONDS.toSeconds(remoteTime);
+        return push ? localSeconds <= remoteSeconds : remoteSeconds <= localSeconds;
+    }
+
+    private static long upload(final DsnWrite dsnWrite, final String datasetName, final String member,
+                               final Path file, final DsnSyncInputData syncInputData)
+            throws ZosmfRequestException, IOException {
+        dsnWrite.write(datasetName, member, Files.readString(file, syncInputData.getCharset()));
+        return Files.size(file);
+    }
+
+    private static long download(final DsnGet dsnGet, final String datasetName, final String member,
+                                 final LocalFile local, final Member remoteMember,
+                                 final DsnSyncInputData syncInputData) throws ZosmfRequestException, IOException {
+        final byte[] content;
+        try (final InputStream stream = dsnGet.get(datasetName + "(" + member + ")",
+                new DsnDownloadInputData.Builder().build())) {
+            content = stream.readAllBytes();
+        }
+        final Path file = local != null ? local.path :
+                syncInputData.getLocalDir().resolve(syncInputData.getFileName(member));
+        Files.write(file, content);
+        final long remoteTime = remoteTime(remoteMember, syncInputData);
+        if (remoteTime != Long.MIN_VALUE) {
+            // keeps the next sync without a state file from transferring the member back
+            Files.setLastModifiedTime(file, FileTime.fromMillis(remoteTime));
+        }
+        return content.length;
+    }
+
+    private void saveState(final Path localDir, final Map<String, Member> members,
+                           final DsnSyncInputData syncInputData) throws IOException {
+        final Map<String, LocalFile> localFiles = listLocal(localDir, syncInputData);
+        final MemberSyncState next = new MemberSyncState();
+        for (final Map.Entry<String, Member> entry : members.entrySet()) {
+            final LocalFile local = localFiles.get(entry.getKey());
+            if (local != null) {
+                next.put(entry.getKey(), new MemberSyncState.Entry(local.size, local.time,
+                        statistics(entry.getValue())));
+            }
+        }
+        next.save(syncInputData.getStateFile().orElseThrow());
+    }
+
+    private static Map<String, LocalFile> listLocal(final Path localDir, final DsnSyncInputData syncInputData)
+            throws IOException {
+        final Map<String, LocalFile> files = new TreeMap<>();
+        if (!Files.isDirectory(localDir)) {
+            return files;
+        }
+        final Path stateFile = syncInputData.getStateFile().map(Path::toAbsolutePath).orElse(null);
+        try (final Stream<Path> stream = Files.list(localDir)) {
+            for (final Path file : (Iterable<Path>) stream::iterator) {
+                final BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                final Optional<String> member = syncInputData.getMemberName(file.getFileName().toString());
+                if (!attrs.isRegularFile() || member.isEmpty() || file.toAbsolutePath().equals(stateFile)) {
+                    continue;
+                }
+                final LocalFile other = files.put(member.get(),
+                        new LocalFile(file, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                if (other != null) {
+                    throw new IllegalArgumentException("files " + other.path.getFileName() + " and " +
+                            file.getFileName() + " both hold member " + member.get());
+                }
+            }
+        }
+        return files;
+    }
+
+    private Map<String, Member> listRemote(final String datasetName) throws ZosmfRequestException {
+        final Map<String, Member> members = new TreeMap<>();
+        for (final Member member : listSupplier.get().getMembers(datasetName,
+                new DsnListInputData.Builder().attribute(AttributeType.BASE).build())) {
+            members.put(member.getMember(), member);
+        }
+        return members;
+    }
+
+    /**
+     * ISPF statistics of a member as one value, empty when the member has none
+     *
+     * @param member Member object
+     * @return statistics value
+     */
+    private static String statistics(final Member member) {
+        if (member.getM4date().isEmpty()) {
+            return "";
+        }
+        return member.getVers() + "." + member.getMod() + " " + member.getM4date() + " " + member.getMtime() +
+                ":" + member.getMsec() + " " + member.getMnorc() + " " + member.getUser();
+    }
+
+    /**
+     * Modification time of a member from its ISPF statistics
+     *
+     * @param member        Member object
+     * @param syncInputData DsnSyncInputData object
+     * @return epoch milliseconds, Long.MIN_VALUE when the member has no statistics
+     */
+    private static long remoteTime(final Member member, final DsnSyncInputData syncInputData) {
+        if (member.getM4date().isEmpty() || member.getMtime().isEmpty()) {
+            return Long.MIN_VALUE;
+        }
+        final String seconds = member.getMsec().isEmpty() ? "00" : member.getMsec();
+        try {
+            return LocalDateTime.parse(member.getM4date() + " " + member.getMtime() + ":" + seconds, STATISTICS_TIME)
+                    .atZone(syncInputData.getRemoteZone()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Local file holding a member
+     */
+    private static final class LocalFile {
+        private final Path path;
+        private final long size;
+        private final long time;
+
+        private LocalFile(final Path path, final long size, final long time) {
+            this.path = path;
+            this.size = size;
+            this.time = time;
+        }
+    }
+
+}
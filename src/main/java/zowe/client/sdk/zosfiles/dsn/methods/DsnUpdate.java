@@ -18,6 +18,8 @@ import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnRenameInputData;
 import zowe.client.sdk.zosfiles.dsn.types.RenameType;
 
@@ -103,7 +105,20 @@ public class DsnUpdate {
         request.setUrl(url.toString());
         request.setBody(JsonUtils.asRequestBodyJson(renameMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        if (renameInputData.getType() == RenameType.MEMBER) {
+            final String source = renameInputData.getSourceDatasetName();
+            ContentCache.invalidateDataset(connection, source + "(" + renameInputData.getSourceMemberName() + ")");
+            ContentCache.invalidateDataset(connection,
+                    source + "(" + renameInputData.getDestinationMemberName() + ")");
+            DsnAttributeCache.invalidateDataset(connection, source);
+        } else {
+            ContentCache.invalidateDataset(connection, renameInputData.getSourceDatasetName());
+            ContentCache.invalidateDataset(connection, renameInputData.getDestinationDatasetName());
+            DsnAttributeCache.invalidateDataset(connection, renameInputData.getSourceDatasetName());
+            DsnAttributeCache.invalidateDataset(connection, renameInputData.getDestinationDatasetName());
+        }
+        return response;
     }
 
     /**
@@ -156,7 +171,10 @@ public class DsnUpdate {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(migrateMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        // the volume of the dataset changes
+        DsnAttributeCache.invalidateDataset(connection, datasetName);
+        return response;
     }
 
     /**
@@ -229,7 +247,10 @@ public class DsnUpdate {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(deleteMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        ContentCache.invalidateDataset(connection, datasetName);
+        DsnAttributeCache.invalidateDataset(connection, datasetName);
+        return response;
     }
 
     /**
@@ -282,7 +303,10 @@ public class DsnUpdate {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(recallMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        // the volume of the dataset changes
+        DsnAttributeCache.invalidateDataset(connection, datasetName);
+        return response;
     }
 
 }
@@ -0,0 +1,232 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnUploadInputData;
+import zowe.client.sdk.zosfiles.dsn.model.UploadedMember;
+import zowe.client.sdk.zosfiles.dsn.response.DsnUploadResponse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Provides bulk upload of the files of a local directory into the members of a partitioned dataset
+ * <p>
+ * The member names and the line lengths of every file are checked locally before any request is sent. The target
+ * dataset is then optionally allocated, and the members are written in parallel, one request per member. A member
+ * that fails is reported in the response without stopping the others.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnUpload {
+
+    private static final Pattern MEMBER_NAME = Pattern.compile("[A-Z#@$][A-Z0-9#@$]{0,7}");
+
+    // largest block size of fixed blocked records that still fits two blocks on a 3390 track
+    private static final int HALF_TRACK = 27998;
+
+    private static final int TRACKS_PER_CYLINDER = 15;
+
+    private final Supplier<DsnCreate> createSupplier;
+
+    private final Supplier<DsnWrite> writeSupplier;
+
+    /**
+     * DsnUpload Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public DsnUpload(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.createSupplier = () -> new DsnCreate(connection);
+        this.writeSupplier = () -> new DsnWrite(connection);
+    }
+
+    /**
+     * Alternative DsnUpload constructor with DsnCreate and DsnWrite suppliers. This is mainly used for internal
+     * code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param createSupplier supplier of the DsnCreate object allocating the dataset
+     * @param writeSupplier  supplier of the DsnWrite object used by each worker thread
+     * @author Frank Giordano
+     */
+    DsnUpload(final Supplier<DsnCreate> createSupplier, final Supplier<DsnWrite> writeSupplier) {
+        ValidateUtils.checkNullParameter(createSupplier, "createSupplier");
+        ValidateUtils.checkNullParameter(writeSupplier, "writeSupplier");
+        this.createSupplier = createSupplier;
+        this.writeSupplier = writeSupplier;
+    }
+
+    /**
+     * Upload the selected files of the local directory as members of the dataset, replacing members already there
+     *
+     * @param uploadInputData DsnUploadInputData object
+     * @return DsnUploadResponse object with the result, size and time of every member
+     * @throws ZosmfRequestException error allocating the dataset
+     * @throws IOException           error reading the local directory or a local file during the local check
+     * @throws IllegalArgumentException invalid member name, duplicate member name, or line longer than the record
+     * @author Frank Giordano
+     */
+    public DsnUploadResponse upload(final DsnUploadInputData uploadInputData)
+            throws ZosmfRequestException, IOException {
+        ValidateUtils.checkNullParameter(uploadInputData, "uploadInputData");
+        final Path localDir = uploadInputData.getLocalDir();
+        if (!Files.isDirectory(localDir)) {
+            throw new NotDirectoryException(localDir.toString());
+        }
+        final long start = System.nanoTime();
+
+        final List<Path> files;
+        try (Stream<Path> stream = Files.list(localDir)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        final Map<String, Path> members = new TreeMap<>();
+        final List<String> problems = new ArrayList<>();
+        long records = 0;
+        for (final Path file : files) {
+            final String fileName = file.getFileName().toString();
+            final Optional<String> member = uploadInputData.getMemberName(fileName);
+            if (member.isEmpty()) {
+                continue;
+            }
+            if (!MEMBER_NAME.matcher(member.get()).matches()) {
+                problems.add(fileName + ": invalid member name " + member.get());
+                continue;
+            }
+            final Path other = members.putIfAbsent(member.get(), file);
+            if (other != null) {
+                problems.add(fileName + ": member " + member.get() + " also uploaded from " + other.getFileName());
+                continue;
+            }
+            records += checkLines(file, uploadInputData, problems);
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("local check failed: " + String.join("; ", problems));
+        }
+
+        final String datasetName = uploadInputData.getDatasetName();
+        if (uploadInputData.isCreate()) {
+            createSupplier.get().create(datasetName, uploadInputData.getCreateInputData().orElse(
+                    allocation(uploadInputData.getRecordLength(), records, members.size())));
+        }
+
+        // DsnWrite holds its request, so each worker thread writes with its own
+        final ThreadLocal<DsnWrite> writes = ThreadLocal.withInitial(writeSupplier);
+        // a member that fails is recorded by uploadMember, so the other members are not cancelled
+        final List<UploadedMember> results = ParallelUtils.runAll(new ArrayList<>(members.keySet()),
+                uploadInputData.getMaxConcurrency(), "upload",
+                member -> uploadMember(writes.get(), datasetName, member, members.get(member), uploadInputData));
+        return new DsnUploadResponse(results, uploadInputData.isCreate(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Check the length of every line of a file against the record length
+     *
+     * @param file            local file
+     * @param uploadInputData DsnUploadInputData object
+     * @param problems        list receiving the lines too long
+     * @return number of lines of the file
+     * @throws IOException error reading the file
+     */
+    private static long checkLines(final Path file, final DsnUploadInputData uploadInputData,
+                                   final List<String> problems) throws IOException {
+        final int maxLineLength = uploadInputData.getMaxLineLength();
+        long lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, uploadInputData.getCharset())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                final int length = line.codePointCount(0, line.length());
+                if (length > maxLineLength) {
+                    problems.add(file.getFileName() + ": line " + lineNumber + " has " + length +
+                            " characters, more than " + maxLineLength);
+                }
+            }
+        }
+        return lineNumber;
+    }
+
+    /**
+     * Write one member
+     *
+     * @param dsnWrite        DsnWrite object of the worker thread
+     * @param datasetName     partitioned dataset
+     * @param member          member name
+     * @param file            local file
+     * @param uploadInputData DsnUploadInputData object
+     * @return UploadedMember object, with the error message when the upload failed
+     */
+    private static UploadedMember uploadMember(final DsnWrite dsnWrite, final String datasetName,
+                                               final String member, final Path file,
+                                               final DsnUploadInputData uploadInputData) {
+        final String fileName = file.getFileName().toString();
+        final long begin = System.nanoTime();
+        try {
+            final String content = Files.readString(file, uploadInputData.getCharset());
+            dsnWrite.write(datasetName, member, content);
+            return new UploadedMember(member, fileName, Files.size(file),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), null);
+        } catch (ZosmfRequestException | IOException e) {
+            return new UploadedMember(member, fileName, 0,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin), e.getMessage());
+        }
+    }
+
+    /**
+     * Compute the allocation of a PDSE of fixed blocked records holding the content uploaded, with a quarter
+     * of free space
+     *
+     * @param recordLength record length
+     * @param records      total number of records uploaded
+     * @param members      number of members uploaded
+     * @return DsnCreateInputData object
+     */
+    static DsnCreateInputData allocation(final int recordLength, final long records, final int members) {
+        final int blksize = recordLength > HALF_TRACK ? recordLength : HALF_TRACK / recordLength * recordLength;
+        final long bytesPerCylinder = (long) TRACKS_PER_CYLINDER * (recordLength > HALF_TRACK ? 1 : 2) * blksize;
+        final long bytes = records * recordLength * 5 / 4;
+        final int primary = (int) Math.max(1, (bytes + bytesPerCylinder - 1) / bytesPerCylinder);
+        return new DsnCreateInputData.Builder()
+                .dsorg("PO")
+                .dsntype("LIBRARY")
+                .recfm("FB")
+                .lrecl(recordLength)
+                .blksize(blksize)
+                .alcunit("CYL")
+                .primary(primary)
+                .secondary(Math.max(1, primary / 2))
+                .dirblk(members / 5 + 1)
+                .build();
+    }
+
+}
@@ -11,11 +11,17 @@ package zowe.client.sdk.zosfiles.dsn.methods;
 
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
+import zowe.client.sdk.rest.exception.ZosmfConflictException;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Provides write dataset and member functionality
@@ -92,6 +98,60 @@ public class DsnWrite {
      * @author Leonid Baranov
      */
     public Response write(final String datasetName, final String content) throws ZosmfRequestException {
+        return writeCommon(datasetName, content, null);
+    }
+
+    /**
+     * Replaces the content of a member of a partitioned data set (PDS or PDSE) only if the member still has the
+     * given ETag, as returned by {@link DsnGet#getWithEtag(String)}
+     *
+     * @param datasetName dataset name of where the member is located (e.g. 'DATASET.LIB')
+     * @param memberName  name of member to replace
+     * @param content     new content
+     * @param etag        ETag of the version the content is based on
+     * @return http response object, with the ETag of the new version when returned by z/OSMF
+     * @throws ZosmfConflictException the member was changed since the ETag was read
+     * @throws ZosmfRequestException  request error state
+     * @author Frank Giordano
+     */
+    public Response writeIfMatch(final String datasetName, final String memberName, final String content,
+                                 final String etag) throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
+        ValidateUtils.checkIllegalParameter(memberName, "memberName");
+
+        return writeIfMatch(String.format("%s(%s)", datasetName, memberName), content, etag);
+    }
+
+    /**
+     * Replaces the content of a sequential data set or member only if it still has the given ETag, as returned by
+     * {@link DsnGet#getWithEtag(String)}
+     *
+     * @param datasetName sequential dataset (e.g. 'DATASET.SEQ') or member (e.g. 'DATASET.LIB(MEMBER)')
+     * @param content     new content
+     * @param etag        ETag of the version the content is based on
+     * @return http response object, with the ETag of the new version when returned by z/OSMF
+     * @throws ZosmfConflictException the dataset was changed since the ETag was read
+     * @throws ZosmfRequestException  request error state
+     * @author Frank Giordano
+     */
+    public Response writeIfMatch(final String datasetName, final String content, final String etag)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(etag, "etag");
+        return writeCommon(datasetName, content, etag);
+    }
+
+    /**
+     * Common helper method to replace the content of a sequential data set or member
+     *
+     * @param datasetName sequential dataset or member
+     * @param content     new content
+     * @param etag        ETag sent in If-Match, null for an unconditional write
+     * @return http response object
+     * @throws ZosmfRequestException request error state
+     * @author Leonid Baranov
+     */
+    private Response writeCommon(final String datasetName, final String content, final String etag)
+            throws ZosmfRequestException {
         ValidateUtils.checkIllegalParameter(datasetName, "datasetName");
         ValidateUtils.checkNullParameter(content, "content");
 
@@ -101,10 +161,19 @@ public class DsnWrite {
                 UrlConstants.URL_PATH_DELIM +
                 EncodeUtils.encodeURIComponent(datasetName);
 
+        // set on every call so that an If-Match of a previous call is not sent again
+        final Map<String, String> headers = new HashMap<>();
+        if (etag != null) {
+            headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.IF_MATCH).get(0), etag);
+        }
+        request.setHeaders(headers);
         request.setUrl(url);
         request.setBody(content);
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        ContentCache.invalidateDataset(connection, datasetName);
+        DsnAttributeCache.invalidateDataset(connection, datasetName);
+        return response;
     }
 
 }
@@ -0,0 +1,113 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Local size and time and ISPF statistics of every member after the last sync, kept in a properties file keyed
+ * by member name
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+final class MemberSyncState {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Load the state file, an absent file gives an empty state
+     *
+     * @param file state file path
+     * @return MemberSyncState object
+     * @throws IOException error reading the file
+     */
+    static MemberSyncState load(final Path file) throws IOException {
+        final MemberSyncState state = new MemberSyncState();
+        if (!Files.exists(file)) {
+            return state;
+        }
+        final Properties properties = new Properties();
+        try (final InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        for (final String key : properties.stringPropertyNames()) {
+            // the statistics go last since they are free text
+            final String[] fields = properties.getProperty(key).split(",", 3);
+            if (fields.length != 3) {
+                // written by another version, the member is compared again
+                continue;
+            }
+            try {
+                state.entries.put(key, new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2]));
+            } catch (NumberFormatException e) {
+                // same as above
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Write the state file, replacing the previous one only once it is fully written
+     *
+     * @param file state file path
+     * @throws IOException error writing the file
+     */
+    void save(final Path file) throws IOException {
+        final Properties properties = new Properties();
+        entries.forEach((key, entry) -> properties.setProperty(key,
+                entry.localSize + "," + entry.localTime + "," + entry.statistics));
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (final OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "zowe member sync state");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    Entry get(final String member) {
+        return entries.get(member);
+    }
+
+    void put(final String member, final Entry entry) {
+        entries.put(member, entry);
+    }
+
+    /**
+     * Recorded state of one member
+     */
+    static final class Entry {
+        final long localSize;
+        final long localTime;
+        final String statistics;
+
+        Entry(final long localSize, final long localTime, final String statistics) {
+            this.localSize = localSize;
+            this.localTime = localTime;
+            this.statistics = statistics;
+        }
+    }
+
+}
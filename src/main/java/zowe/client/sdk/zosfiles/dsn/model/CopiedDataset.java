@@ -0,0 +1,136 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import java.util.Optional;
+
+/**
+ * Result of one sequential dataset or member of a streaming copy, with its size and transfer time
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class CopiedDataset {
+
+    /**
+     * Source name, a sequential dataset or a member e.g. DATASET.LIB(MEMBER)
+     */
+    private final String source;
+
+    /**
+     * Target name, a sequential dataset or a member e.g. DATASET.LIB(MEMBER)
+     */
+    private final String target;
+
+    /**
+     * Number of bytes streamed, record length fields included
+     */
+    private final long bytes;
+
+    /**
+     * Time taken by the copy in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * Error message of a failed copy, null when the target was written
+     */
+    private final String error;
+
+    /**
+     * CopiedDataset constructor
+     *
+     * @param source        source name
+     * @param target        target name
+     * @param bytes         number of bytes streamed, record length fields included
+     * @param elapsedMillis time taken by the copy in milliseconds
+     * @param error         error message of a failed copy, null when the target was written
+     * @author Frank Giordano
+     */
+    public CopiedDataset(final String source, final String target, final long bytes, final long elapsedMillis,
+                         final String error) {
+        this.source = source;
+        this.target = target;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    /**
+     * Retrieve source value
+     *
+     * @return source name
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Retrieve target value
+     *
+     * @return target name
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Retrieve bytes value
+     *
+     * @return number of bytes streamed, record length fields included
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the copy in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve error value
+     *
+     * @return error message of a failed copy
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Retrieve whether the target was written
+     *
+     * @return true when the copy succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Return string value representing CopiedDataset object
+     *
+     * @return string representation of CopiedDataset
+     */
+    @Override
+    public String toString() {
+        return "CopiedDataset{" +
+                "source='" + source + '\'' +
+                ", target='" + target + '\'' +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                ", error='" + error + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import java.util.Optional;
+
+/**
+ * Dataset name pattern of a multi-pattern dataset search, optionally restricted to one volume
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class DatasetPattern {
+
+    /**
+     * Dataset level pattern (e.g. 'HLQ.**')
+     */
+    private final String pattern;
+
+    /**
+     * Volume serial searched, null for the catalog
+     */
+    private final String volume;
+
+    /**
+     * DatasetPattern constructor
+     *
+     * @param pattern dataset level pattern (e.g. 'HLQ.**')
+     * @param volume  volume serial searched, null for the catalog
+     * @author Frank Giordano
+     */
+    public DatasetPattern(final String pattern, final String volume) {
+        this.pattern = pattern;
+        this.volume = volume;
+    }
+
+    /**
+     * Retrieve pattern value
+     *
+     * @return dataset level pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Retrieve volume value
+     *
+     * @return volume serial searched, empty for the catalog
+     */
+    public Optional<String> getVolume() {
+        return Optional.ofNullable(volume);
+    }
+
+    /**
+     * Return string value representing DatasetPattern object
+     *
+     * @return string representation of DatasetPattern
+     */
+    @Override
+    public String toString() {
+        return "DatasetPattern{" +
+                "pattern='" + pattern + '\'' +
+                ", volume='" + volume + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import java.util.Optional;
+
+/**
+ * Text content of a sequential dataset or dataset member along with the ETag identifying the version read
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class DsnContent {
+
+    /**
+     * Text content
+     */
+    private final String content;
+
+    /**
+     * ETag of the version read, null when z/OSMF returned none
+     */
+    private final String etag;
+
+    /**
+     * DsnContent constructor
+     *
+     * @param content text content
+     * @param etag    ETag of the version read, null when z/OSMF returned none
+     * @author Frank Giordano
+     */
+    public DsnContent(final String content, final String etag) {
+        this.content = content;
+        this.etag = etag;
+    }
+
+    /**
+     * Retrieve content value
+     *
+     * @return text content
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Retrieve etag value, to be sent back with DsnWrite.writeIfMatch
+     *
+     * @return ETag of the version read
+     */
+    public Optional<String> getEtag() {
+        return Optional.ofNullable(etag);
+    }
+
+    /**
+     * Return string value representing DsnContent object
+     *
+     * @return string representation of DsnContent
+     */
+    @Override
+    public String toString() {
+        return "DsnContent{" +
+                "etag='" + etag + '\'' +
+                ", length=" + content.length() +
+                '}';
+    }
+
+}
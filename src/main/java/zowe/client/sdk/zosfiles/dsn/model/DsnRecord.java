@@ -0,0 +1,135 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import zowe.client.sdk.utility.EncodeUtils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One record of a dataset retrieved in record mode
+ * <p>
+ * A record is a view over the reader buffer, not a copy. It is only valid until the reader moves to the next
+ * record, so use {@link #getBytes()} or {@link #getText()} to keep its content.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class DsnRecord {
+
+    /**
+     * Record number, starting at 1
+     */
+    private final long number;
+
+    /**
+     * Buffer holding the record
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Absolute index of the first byte of the record in the buffer
+     */
+    private final int offset;
+
+    /**
+     * Number of bytes of the record
+     */
+    private final int length;
+
+    /**
+     * Decode table of the dataset code page
+     */
+    private final char[] table;
+
+    /**
+     * DsnRecord constructor
+     *
+     * @param number record number, starting at 1
+     * @param buffer buffer holding the record
+     * @param offset absolute index of the first byte of the record in the buffer
+     * @param length number of bytes of the record
+     * @param table  decode table of the dataset code page, see EncodeUtils.decodeTable
+     * @author Frank Giordano
+     */
+    public DsnRecord(final long number, final ByteBuffer buffer, final int offset, final int length,
+                     final char[] table) {
+        this.number = number;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.table = table;
+    }
+
+    /**
+     * Retrieve number value
+     *
+     * @return record number, starting at 1
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * Retrieve length value
+     *
+     * @return number of bytes of the record
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Retrieve a read-only view of the record bytes, without copying them
+     *
+     * @return ByteBuffer positioned at the first byte of the record
+     */
+    public ByteBuffer asByteBuffer() {
+        final ByteBuffer view = buffer.asReadOnlyBuffer();
+        view.limit(offset + length).position(offset);
+        return view.slice();
+    }
+
+    /**
+     * Retrieve a copy of the record bytes
+     *
+     * @return record bytes
+     */
+    public byte[] getBytes() {
+        final byte[] bytes = new byte[length];
+        final ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Retrieve the record decoded from the dataset code page
+     *
+     * @return record text, trailing blanks included
+     */
+    public String getText() {
+        return EncodeUtils.decode(buffer, offset, length, table);
+    }
+
+    /**
+     * Return string value representing DsnRecord object
+     *
+     * @return string representation of DsnRecord
+     */
+    @Override
+    public String toString() {
+        return "DsnRecord{" +
+                "number=" + number +
+                ", length=" + length +
+                '}';
+    }
+
+}
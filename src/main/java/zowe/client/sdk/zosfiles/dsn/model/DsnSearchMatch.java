@@ -0,0 +1,90 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+/**
+ * Line of a partitioned dataset member matched by a content search
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class DsnSearchMatch {
+
+    /**
+     * Member name
+     */
+    private final String member;
+
+    /**
+     * Line number of the match, 1-based
+     */
+    private final long lineNumber;
+
+    /**
+     * Matched line, without trailing blanks
+     */
+    private final String line;
+
+    /**
+     * DsnSearchMatch constructor
+     *
+     * @param member     member name
+     * @param lineNumber line number of the match, 1-based
+     * @param line       matched line, without trailing blanks
+     * @author Frank Giordano
+     */
+    public DsnSearchMatch(final String member, final long lineNumber, final String line) {
+        this.member = member;
+        this.lineNumber = lineNumber;
+        this.line = line;
+    }
+
+    /**
+     * Retrieve member value
+     *
+     * @return member name
+     */
+    public String getMember() {
+        return member;
+    }
+
+    /**
+     * Retrieve lineNumber value
+     *
+     * @return line number of the match, 1-based
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Retrieve line value
+     *
+     * @return matched line, without trailing blanks
+     */
+    public String getLine() {
+        return line;
+    }
+
+    /**
+     * Return string value representing DsnSearchMatch object
+     *
+     * @return string representation of DsnSearchMatch
+     */
+    @Override
+    public String toString() {
+        return "DsnSearchMatch{" +
+                "member=" + member +
+                ", lineNumber=" + lineNumber +
+                ", line=" + line +
+                '}';
+    }
+
+}
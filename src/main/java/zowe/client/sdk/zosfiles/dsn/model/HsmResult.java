@@ -0,0 +1,101 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import java.util.Optional;
+
+/**
+ * Result of one dataset of a bulk HSM request
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class HsmResult {
+
+    /**
+     * Dataset name
+     */
+    private final String datasetName;
+
+    /**
+     * Time from the request until completion was confirmed or the request failed, in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * Error message when the request failed or timed out, null when completed
+     */
+    private final String error;
+
+    /**
+     * HsmResult constructor
+     *
+     * @param datasetName   dataset name
+     * @param elapsedMillis time until completion was confirmed or the request failed, in milliseconds
+     * @param error         error message when the request failed or timed out, null when completed
+     * @author Frank Giordano
+     */
+    public HsmResult(final String datasetName, final long elapsedMillis, final String error) {
+        this.datasetName = datasetName;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    /**
+     * Retrieve datasetName value
+     *
+     * @return dataset name
+     */
+    public String getDatasetName() {
+        return datasetName;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time until completion was confirmed or the request failed, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve error value
+     *
+     * @return error message when the request failed or timed out
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Return true when the action was confirmed complete
+     *
+     * @return true when completed
+     */
+    public boolean isCompleted() {
+        return error == null;
+    }
+
+    /**
+     * Return string value representing HsmResult object
+     *
+     * @return string representation of HsmResult
+     */
+    @Override
+    public String toString() {
+        return "HsmResult{" +
+                "datasetName='" + datasetName + '\'' +
+                ", elapsedMillis=" + elapsedMillis +
+                ", error='" + error + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionOutcome;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionState;
+
+import java.util.Optional;
+
+/**
+ * Result of one dataset of a bulk provisioning request
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class ProvisionResult {
+
+    /**
+     * Dataset name
+     */
+    private final String datasetName;
+
+    /**
+     * State requested for the dataset
+     */
+    private final ProvisionState state;
+
+    /**
+     * What was done to bring the dataset to the requested state
+     */
+    private final ProvisionOutcome outcome;
+
+    /**
+     * Time taken by the create or delete request in milliseconds, zero when unchanged
+     */
+    private final long elapsedMillis;
+
+    /**
+     * Error message when the request failed, null otherwise
+     */
+    private final String error;
+
+    /**
+     * ProvisionResult constructor
+     *
+     * @param datasetName   dataset name
+     * @param state         state requested for the dataset
+     * @param outcome       what was done to bring the dataset to the requested state
+     * @param elapsedMillis time taken by the create or delete request in milliseconds
+     * @param error         error message when the request failed, null otherwise
+     * @author Frank Giordano
+     */
+    public ProvisionResult(final String datasetName, final ProvisionState state, final ProvisionOutcome outcome,
+                           final long elapsedMillis, final String error) {
+        this.datasetName = datasetName;
+        this.state = state;
+        this.outcome = outcome;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    /**
+     * Retrieve datasetName value
+     *
+     * @return dataset name
+     */
+    public String getDatasetName() {
+        return datasetName;
+    }
+
+    /**
+     * Retrieve state value
+     *
+     * @return state requested for the dataset
+     */
+    public ProvisionState getState() {
+        return state;
+    }
+
+    /**
+     * Retrieve outcome value
+     *
+     * @return what was done to bring the dataset to the requested state
+     */
+    public ProvisionOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the create or delete request in milliseconds, zero when unchanged
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve error value
+     *
+     * @return error message when the request failed
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Return true when the dataset is in the requested state
+     *
+     * @return true when not failed
+     */
+    public boolean isSuccess() {
+        return outcome != ProvisionOutcome.FAILED;
+    }
+
+    /**
+     * Return string value representing ProvisionResult object
+     *
+     * @return string representation of ProvisionResult
+     */
+    @Override
+    public String toString() {
+        return "ProvisionResult{" +
+                "datasetName='" + datasetName + '\'' +
+                ", state=" + state +
+                ", outcome=" + outcome +
+                ", elapsedMillis=" + elapsedMillis +
+                ", error='" + error + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.model;
+
+import java.util.Optional;
+
+/**
+ * Result of one member of a bulk upload into a partitioned dataset, with its size and transfer time
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class UploadedMember {
+
+    /**
+     * Member name
+     */
+    private final String member;
+
+    /**
+     * Name of the local file uploaded
+     */
+    private final String fileName;
+
+    /**
+     * Number of bytes read from the local file
+     */
+    private final long bytes;
+
+    /**
+     * Time taken by the upload in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * Error message of a failed upload, null when the member was written
+     */
+    private final String error;
+
+    /**
+     * UploadedMember constructor
+     *
+     * @param member        member name
+     * @param fileName      name of the local file uploaded
+     * @param bytes         number of bytes read from the local file
+     * @param elapsedMillis time taken by the upload in milliseconds
+     * @param error         error message of a failed upload, null when the member was written
+     * @author Frank Giordano
+     */
+    public UploadedMember(final String member, final String fileName, final long bytes, final long elapsedMillis,
+                          final String error) {
+        this.member = member;
+        this.fileName = fileName;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.error = error;
+    }
+
+    /**
+     * Retrieve member value
+     *
+     * @return member name
+     */
+    public String getMember() {
+        return member;
+    }
+
+    /**
+     * Retrieve fileName value
+     *
+     * @return name of the local file uploaded
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Retrieve bytes value
+     *
+     * @return number of bytes read from the local file
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the upload in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve error value
+     *
+     * @return error message of a failed upload, empty when the member was written
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Retrieve whether the member was written
+     *
+     * @return true when the upload succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Return string value representing UploadedMember object
+     *
+     * @return string representation of UploadedMember
+     */
+    @Override
+    public String toString() {
+        return "UploadedMember{" +
+                "member='" + member + '\'' +
+                ", fileName='" + fileName + '\'' +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                ", error='" + error + '\'' +
+                '}';
+    }
+
+}
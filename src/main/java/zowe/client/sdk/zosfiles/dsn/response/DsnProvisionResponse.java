@@ -0,0 +1,111 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import zowe.client.sdk.zosfiles.dsn.model.ProvisionResult;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionOutcome;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the result of bringing many datasets to a requested state, with a summary of what was done
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnProvisionResponse {
+
+    /**
+     * Result of every dataset, in input order
+     */
+    private final List<ProvisionResult> results;
+
+    /**
+     * Time taken by the whole request in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * DsnProvisionResponse constructor
+     *
+     * @param results       result of every dataset
+     * @param elapsedMillis time taken by the whole request in milliseconds
+     * @author Frank Giordano
+     */
+    public DsnProvisionResponse(final List<ProvisionResult> results, final long elapsedMillis) {
+        this.results = List.copyOf(results);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve results value
+     *
+     * @return result of every dataset, in input order
+     */
+    public List<ProvisionResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Retrieve the results that failed
+     *
+     * @return failed results
+     */
+    public List<ProvisionResult> getFailures() {
+        return results.stream().filter(result -> !result.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve whether every dataset is in its requested state
+     *
+     * @return true when no request failed
+     */
+    public boolean isSuccess() {
+        return results.stream().allMatch(ProvisionResult::isSuccess);
+    }
+
+    /**
+     * Retrieve the number of datasets with the given outcome
+     *
+     * @param outcome ProvisionOutcome value
+     * @return number of datasets
+     */
+    public long count(final ProvisionOutcome outcome) {
+        return results.stream().filter(result -> result.getOutcome() == outcome).count();
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the whole request in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Return string value representing DsnProvisionResponse object
+     *
+     * @return string representation of DsnProvisionResponse
+     */
+    @Override
+    public String toString() {
+        return "DsnProvisionResponse{" +
+                "datasets=" + results.size() +
+                ", created=" + count(ProvisionOutcome.CREATED) +
+                ", deleted=" + count(ProvisionOutcome.DELETED) +
+                ", unchanged=" + count(ProvisionOutcome.UNCHANGED) +
+                ", failed=" + count(ProvisionOutcome.FAILED) +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
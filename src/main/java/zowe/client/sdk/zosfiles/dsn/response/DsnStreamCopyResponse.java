@@ -0,0 +1,133 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import zowe.client.sdk.zosfiles.dsn.model.CopiedDataset;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the result of a streaming copy of a sequential dataset or the members of a partitioned dataset
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnStreamCopyResponse {
+
+    /**
+     * Result of the dataset, or of every member in member name order
+     */
+    private final List<CopiedDataset> copies;
+
+    /**
+     * Whether the target dataset was allocated by the copy
+     */
+    private final boolean created;
+
+    /**
+     * Time taken by the whole copy in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * DsnStreamCopyResponse constructor
+     *
+     * @param copies        result of the dataset, or of every member
+     * @param created       whether the target dataset was allocated by the copy
+     * @param elapsedMillis time taken by the whole copy in milliseconds
+     * @author Frank Giordano
+     */
+    public DsnStreamCopyResponse(final List<CopiedDataset> copies, final boolean created, final long elapsedMillis) {
+        this.copies = List.copyOf(copies);
+        this.created = created;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve copies value
+     *
+     * @return result of the dataset, or of every member in member name order
+     */
+    public List<CopiedDataset> getCopies() {
+        return copies;
+    }
+
+    /**
+     * Retrieve the copies that failed
+     *
+     * @return failed copies
+     */
+    public List<CopiedDataset> getFailures() {
+        return copies.stream().filter(copy -> !copy.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve whether every copy succeeded
+     *
+     * @return true when no copy failed
+     */
+    public boolean isSuccess() {
+        return copies.stream().allMatch(CopiedDataset::isSuccess);
+    }
+
+    /**
+     * Retrieve created value
+     *
+     * @return true if the target dataset was allocated by the copy
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the whole copy in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve the total number of bytes streamed by the successful copies
+     *
+     * @return number of bytes
+     */
+    public long getBytes() {
+        return copies.stream().filter(CopiedDataset::isSuccess).mapToLong(CopiedDataset::getBytes).sum();
+    }
+
+    /**
+     * Retrieve the overall throughput of the copy, over the whole elapsed time
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return getBytes() * 1000.0 / Math.max(1, elapsedMillis);
+    }
+
+    /**
+     * Return string value representing DsnStreamCopyResponse object
+     *
+     * @return string representation of DsnStreamCopyResponse
+     */
+    @Override
+    public String toString() {
+        return "DsnStreamCopyResponse{" +
+                "copies=" + copies.size() +
+                ", failures=" + getFailures().size() +
+                ", bytes=" + getBytes() +
+                ", created=" + created +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
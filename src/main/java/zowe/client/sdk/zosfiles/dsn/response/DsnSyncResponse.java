@@ -0,0 +1,110 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import java.util.List;
+
+/**
+ * Holds the result of a member sync between a local directory and a partitioned dataset
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSyncResponse {
+
+    /**
+     * Names of the members transferred
+     */
+    private final List<String> transferred;
+
+    /**
+     * Names of the members deleted from the target
+     */
+    private final List<String> deleted;
+
+    /**
+     * Number of members found unchanged
+     */
+    private final int unchanged;
+
+    /**
+     * Number of bytes transferred
+     */
+    private final long bytesTransferred;
+
+    /**
+     * DsnSyncResponse constructor
+     *
+     * @param transferred      names of the members transferred
+     * @param deleted          names of the members deleted
+     * @param unchanged        number of members found unchanged
+     * @param bytesTransferred number of bytes transferred
+     * @author Frank Giordano
+     */
+    public DsnSyncResponse(final List<String> transferred, final List<String> deleted, final int unchanged,
+                           final long bytesTransferred) {
+        this.transferred = List.copyOf(transferred);
+        this.deleted = List.copyOf(deleted);
+        this.unchanged = unchanged;
+        this.bytesTransferred = bytesTransferred;
+    }
+
+    /**
+     * Retrieve transferred value
+     *
+     * @return names of the members transferred
+     */
+    public List<String> getTransferred() {
+        return transferred;
+    }
+
+    /**
+     * Retrieve deleted value
+     *
+     * @return names of the members deleted
+     */
+    public List<String> getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Retrieve unchanged value
+     *
+     * @return number of members found unchanged
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Retrieve bytesTransferred value
+     *
+     * @return number of bytes transferred
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Return string value representing DsnSyncResponse object
+     *
+     * @return string representation of DsnSyncResponse
+     */
+    @Override
+    public String toString() {
+        return "DsnSyncResponse{" +
+                "transferred=" + transferred.size() +
+                ", deleted=" + deleted.size() +
+                ", unchanged=" + unchanged +
+                ", bytesTransferred=" + bytesTransferred +
+                '}';
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
+
+import zowe.client.sdk.zosfiles.dsn.model.UploadedMember;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the result of a bulk upload into the members of a partitioned dataset
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnUploadResponse {
+
+    /**
+     * Result of every member, in member name order
+     */
+    private final List<UploadedMember> members;
+
+    /**
+     * Whether the target dataset was allocated by the upload
+     */
+    private final boolean created;
+
+    /**
+     * Time taken by the whole upload in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * DsnUploadResponse constructor
+     *
+     * @param members       result of every member
+     * @param created       whether the target dataset was allocated by the upload
+     * @param elapsedMillis time taken by the whole upload in milliseconds
+     * @author Frank Giordano
+     */
+    public DsnUploadResponse(final List<UploadedMember> members, final boolean created, final long elapsedMillis) {
+        this.members = List.copyOf(members);
+        this.created = created;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve members value
+     *
+     * @return result of every member, in member name order
+     */
+    public List<UploadedMember> getMembers() {
+        return members;
+    }
+
+    /**
+     * Retrieve the members that failed to upload
+     *
+     * @return failed members
+     */
+    public List<UploadedMember> getFailures() {
+        return members.stream().filter(member -> !member.isSuccess()).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve whether every member was written
+     *
+     * @return true when no member failed
+     */
+    public boolean isSuccess() {
+        return members.stream().allMatch(UploadedMember::isSuccess);
+    }
+
+    /**
+     * Retrieve created value
+     *
+     * @return true if the target dataset was allocated by the upload
+     */
+    public boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the whole upload in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve the total number of bytes of the members written
+     *
+     * @return number of bytes
+     */
+    public long getBytes() {
+        return members.stream().filter(UploadedMember::isSuccess).mapToLong(UploadedMember::getBytes).sum();
+    }
+
+    /**
+     * Retrieve the overall throughput of the upload, over the whole elapsed time
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return getBytes() * 1000.0 / Math.max(1, elapsedMillis);
+    }
+
+    /**
+     * Return string value representing DsnUploadResponse object
+     *
+     * @return string representation of DsnUploadResponse
+     */
+    @Override
+    public String toString() {
+        return "DsnUploadResponse{" +
+                "members=" + members.size() +
+                ", failures=" + getFailures().size() +
+                ", bytes=" + getBytes() +
+                ", created=" + created +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Response objects for z/OS dataset and member files processing
+ */
+package zowe.client.sdk.zosfiles.dsn.response;
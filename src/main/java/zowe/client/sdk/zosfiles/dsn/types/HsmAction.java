@@ -0,0 +1,30 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.types;
+
+/**
+ * HSM actions supported by a bulk HSM request.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public enum HsmAction {
+
+    /**
+     * Recall a migrated dataset, completed when the dataset is no longer on volume MIGRAT.
+     */
+    RECALL,
+
+    /**
+     * Migrate a dataset, completed when the dataset is on volume MIGRAT.
+     */
+    MIGRATE
+
+}
@@ -0,0 +1,40 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.types;
+
+/**
+ * Outcome of one dataset of a bulk provisioning request.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public enum ProvisionOutcome {
+
+    /**
+     * The dataset was allocated.
+     */
+    CREATED,
+
+    /**
+     * The dataset was deleted.
+     */
+    DELETED,
+
+    /**
+     * The dataset was already in the requested state, no request was sent.
+     */
+    UNCHANGED,
+
+    /**
+     * The create or delete request failed.
+     */
+    FAILED
+
+}
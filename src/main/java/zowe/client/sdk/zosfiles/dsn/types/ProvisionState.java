@@ -0,0 +1,30 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.types;
+
+/**
+ * State a dataset is brought to by a bulk provisioning request.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public enum ProvisionState {
+
+    /**
+     * The dataset exists, allocated from its template when it is not cataloged yet.
+     */
+    EXISTS,
+
+    /**
+     * The dataset does not exist, deleted when it is cataloged.
+     */
+    ABSENT
+
+}
@@ -0,0 +1,408 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.factory.UssSetAclInputData;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parameter container class for Unix System Services (USS) bulk attribute change operation
+ * <p>
+ * The changes set are applied to every path in the order mode, owner, tag, ACL.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssBulkAttrInputData {
+
+    /**
+     * Walk selecting the paths changed
+     */
+    private final UssWalkInputData walk;
+
+    /**
+     * Paths changed, when no walk is given
+     */
+    private final List<String> paths;
+
+    /**
+     * Mode change applied to each path
+     */
+    private final UssChangeModeInputData mode;
+
+    /**
+     * Owner change applied to each path
+     */
+    private final UssChangeOwnerInputData owner;
+
+    /**
+     * Tag change applied to each path
+     */
+    private final UssChangeTagInputData tag;
+
+    /**
+     * ACL change applied to each path
+     */
+    private final UssSetAclInputData acl;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Maximum number of requests started per second, 0 for no limit
+     */
+    private final double maxRequestsPerSecond;
+
+    /**
+     * Number of times a request failing with a transient error is retried
+     */
+    private final int maxRetries;
+
+    /**
+     * Delay in milliseconds before the first retry, doubled for each further retry
+     */
+    private final int retryDelay;
+
+    /**
+     * UssBulkAttrInputData constructor
+     *
+     * @param builder UssBulkAttrInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private UssBulkAttrInputData(final UssBulkAttrInputData.Builder builder) {
+        this.walk = builder.walk;
+        this.paths = builder.paths;
+        this.mode = builder.mode;
+        this.owner = builder.owner;
+        this.tag = builder.tag;
+        this.acl = builder.acl;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxRequestsPerSecond = builder.maxRequestsPerSecond;
+        this.maxRetries = builder.maxRetries;
+        this.retryDelay = builder.retryDelay;
+    }
+
+    /**
+     * Retrieve walk value
+     *
+     * @return UssWalkInputData object, empty when a list of paths is changed
+     */
+    public Optional<UssWalkInputData> getWalk() {
+        return Optional.ofNullable(walk);
+    }
+
+    /**
+     * Retrieve paths value
+     *
+     * @return list of paths, empty when a walk selects the paths
+     */
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * Retrieve mode value
+     *
+     * @return UssChangeModeInputData object
+     */
+    public Optional<UssChangeModeInputData> getMode() {
+        return Optional.ofNullable(mode);
+    }
+
+    /**
+     * Retrieve owner value
+     *
+     * @return UssChangeOwnerInputData object
+     */
+    public Optional<UssChangeOwnerInputData> getOwner() {
+        return Optional.ofNullable(owner);
+    }
+
+    /**
+     * Retrieve tag value
+     *
+     * @return UssChangeTagInputData object
+     */
+    public Optional<UssChangeTagInputData> getTag() {
+        return Optional.ofNullable(tag);
+    }
+
+    /**
+     * Retrieve acl value
+     *
+     * @return UssSetAclInputData object
+     */
+    public Optional<UssSetAclInputData> getAcl() {
+        return Optional.ofNullable(acl);
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve maxRequestsPerSecond value
+     *
+     * @return maxRequestsPerSecond value, 0 for no limit
+     */
+    public double getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
+    /**
+     * Retrieve maxRetries value
+     *
+     * @return maxRetries value
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Retrieve retryDelay value
+     *
+     * @return retryDelay value in milliseconds
+     */
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Return string value representing UssBulkAttrInputData object
+     *
+     * @return string representation of UssBulkAttrInputData
+     */
+    @Override
+    public String toString() {
+        return "UssBulkAttrInputData{" +
+                "walk=" + walk +
+                ", paths=" + paths.size() +
+                ", mode=" + mode +
+                ", owner=" + owner +
+                ", tag=" + tag +
+                ", acl=" + acl +
+                ", maxConcurrency=" + maxConcurrency +
+                ", maxRequestsPerSecond=" + maxRequestsPerSecond +
+                ", maxRetries=" + maxRetries +
+                ", retryDelay=" + retryDelay +
+                '}';
+    }
+
+    /**
+     * Builder class for UssBulkAttrInputData
+     */
+    public static class Builder {
+
+        /**
+         * Walk selecting the paths changed
+         */
+        private final UssWalkInputData walk;
+
+        /**
+         * Paths changed, when no walk is given
+         */
+        private final List<String> paths;
+
+        /**
+         * Mode change applied to each path
+         */
+        private UssChangeModeInputData mode;
+
+        /**
+         * Owner change applied to each path
+         */
+        private UssChangeOwnerInputData owner;
+
+        /**
+         * Tag change applied to each path
+         */
+        private UssChangeTagInputData tag;
+
+        /**
+         * ACL change applied to each path
+         */
+        private UssSetAclInputData acl;
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Maximum number of requests started per second, 0 for no limit
+         */
+        private double maxRequestsPerSecond;
+
+        /**
+         * Number of times a request failing with a transient error is retried
+         */
+        private int maxRetries = 3;
+
+        /**
+         * Delay in milliseconds before the first retry, doubled for each further retry
+         */
+        private int retryDelay = 500;
+
+        /**
+         * Builder constructor changing the entries selected by a tree walk. The start directory itself is not
+         * changed. Tag changes apply to files only, so select regular files for them, see
+         * {@link UssWalkInputData.Builder#type}.
+         *
+         * @param walk UssWalkInputData object
+         */
+        public Builder(final UssWalkInputData walk) {
+            ValidateUtils.checkNullParameter(walk, "walk");
+            this.walk = walk;
+            this.paths = List.of();
+        }
+
+        /**
+         * Builder constructor changing the given paths
+         *
+         * @param paths list of paths
+         */
+        public Builder(final List<String> paths) {
+            ValidateUtils.checkNullParameter(paths, "paths");
+            paths.forEach(path -> ValidateUtils.checkIllegalParameter(path, "path"));
+            this.walk = null;
+            this.paths = List.copyOf(paths);
+        }
+
+        /**
+         * Set the mode change applied to each path
+         *
+         * @param mode UssChangeModeInputData object
+         * @return Builder this object
+         */
+        public Builder mode(final UssChangeModeInputData mode) {
+            ValidateUtils.checkNullParameter(mode, "mode");
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Set the owner change applied to each path
+         *
+         * @param owner UssChangeOwnerInputData object
+         * @return Builder this object
+         */
+        public Builder owner(final UssChangeOwnerInputData owner) {
+            ValidateUtils.checkNullParameter(owner, "owner");
+            this.owner = owner;
+            return this;
+        }
+
+        /**
+         * Set the tag change applied to each path
+         *
+         * @param tag UssChangeTagInputData object
+         * @return Builder this object
+         */
+        public Builder tag(final UssChangeTagInputData tag) {
+            ValidateUtils.checkNullParameter(tag, "tag");
+            this.tag = tag;
+            return this;
+        }
+
+        /**
+         * Set the ACL change applied to each path
+         *
+         * @param acl UssSetAclInputData object
+         * @return Builder this object
+         */
+        public Builder acl(final UssSetAclInputData acl) {
+            ValidateUtils.checkNullParameter(acl, "acl");
+            this.acl = acl;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests started per second across all threads
+         *
+         * @param maxRequestsPerSecond value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxRequestsPerSecond(final double maxRequestsPerSecond) {
+            if (!(maxRequestsPerSecond > 0)) {
+                throw new IllegalArgumentException("maxRequestsPerSecond must be greater than zero");
+            }
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Set the number of times a request failing with a transient error is retried. Transient errors are
+         * connection failures and http status 429, 502, 503 and 504.
+         *
+         * @param maxRetries value zero or greater
+         * @return Builder this object
+         */
+        public Builder maxRetries(final int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Set the delay before the first retry, doubled for each further retry
+         *
+         * @param retryDelay value in milliseconds, zero or greater
+         * @return Builder this object
+         */
+        public Builder retryDelay(final int retryDelay) {
+            if (retryDelay < 0) {
+                throw new IllegalArgumentException("retryDelay must not be negative");
+            }
+            this.retryDelay = retryDelay;
+            return this;
+        }
+
+        /**
+         * Return UssBulkAttrInputData object based on Builder this object
+         *
+         * @return UssBulkAttrInputData object
+         * @throws IllegalStateException when no change is set
+         */
+        public UssBulkAttrInputData build() {
+            if (mode == null && owner == null && tag == null && acl == null) {
+                throw new IllegalStateException("at least one of mode, owner, tag or acl must be specified");
+            }
+            return new UssBulkAttrInputData(this);
+        }
+
+    }
+
+}
@@ -78,6 +78,11 @@ public class UssGetInputData {
      */
     private final String recordsRange;
 
+    /**
+     * If true, asks z/OSMF to return the ETag of the file read, see X-IBM-Return-Etag header.
+     */
+    private final boolean returnEtag;
+
     /**
      * UssGetInputData constructor
      *
@@ -92,6 +97,7 @@ public class UssGetInputData {
         this.queryCount = builder.queryCount;
         this.binary = builder.binary;
         this.recordsRange = builder.recordsRange;
+        this.returnEtag = builder.returnEtag;
     }
 
     /**
@@ -157,6 +163,15 @@ public class UssGetInputData {
         return Optional.ofNullable(recordsRange);
     }
 
+    /**
+     * Retrieve is returnEtag specified
+     *
+     * @return boolean true or false
+     */
+    public boolean isReturnEtag() {
+        return returnEtag;
+    }
+
     /**
      * Return string value representing UssGetInputData object
      *
@@ -173,6 +188,7 @@ public class UssGetInputData {
                 ", binary=" + binary +
                 ", queryCount=" + queryCount +
                 ", recordsRange=" + recordsRange +
+                ", returnEtag=" + returnEtag +
                 '}';
     }
 
@@ -236,6 +252,11 @@ public class UssGetInputData {
          */
         private String recordsRange;
 
+        /**
+         * If true, asks z/OSMF to return the ETag of the file read, see X-IBM-Return-Etag header.
+         */
+        private boolean returnEtag = false;
+
         /**
          * Builder constructor
          */
@@ -318,6 +339,17 @@ public class UssGetInputData {
             return this;
         }
 
+        /**
+         * Set a returnEtag boolean value
+         *
+         * @param returnEtag boolean true or false value
+         * @return Builder this object
+         */
+        public Builder returnEtag(final boolean returnEtag) {
+            this.returnEtag = returnEtag;
+            return this;
+        }
+
         /**
          * Return UssGetInputData object based on Builder this object
          *
@@ -0,0 +1,337 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parameter container class for Unix System Services (USS) content search operation across many files
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSearchInputData {
+
+    /**
+     * Walk selecting the files searched, regular files only
+     */
+    private final UssWalkInputData walk;
+
+    /**
+     * Files searched, when no walk is given
+     */
+    private final List<String> files;
+
+    /**
+     * String searched for, may not be specified with research
+     */
+    private final String search;
+
+    /**
+     * Extended regular expression searched for, may not be specified with search
+     */
+    private final String research;
+
+    /**
+     * The default is 'true'. When 'true', searches (search and research) are case-insensitive.
+     */
+    private final boolean insensitive;
+
+    /**
+     * Maximum number of file searches running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Number of matches after which the search stops
+     */
+    private final long maxMatches;
+
+    /**
+     * Log and skip files that cannot be read instead of failing the search
+     */
+    private final boolean skipErrors;
+
+    /**
+     * UssSearchInputData constructor
+     *
+     * @param builder UssSearchInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private UssSearchInputData(final UssSearchInputData.Builder builder) {
+        this.walk = builder.walk;
+        this.files = builder.files;
+        this.search = builder.search;
+        this.research = builder.research;
+        this.insensitive = builder.insensitive;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxMatches = builder.maxMatches;
+        this.skipErrors = builder.skipErrors;
+    }
+
+    /**
+     * Retrieve walk value
+     *
+     * @return UssWalkInputData object, empty when a list of files is searched
+     */
+    public Optional<UssWalkInputData> getWalk() {
+        return Optional.ofNullable(walk);
+    }
+
+    /**
+     * Retrieve files value
+     *
+     * @return list of file paths, empty when a walk selects the files
+     */
+    public List<String> getFiles() {
+        return files;
+    }
+
+    /**
+     * Retrieve search value
+     *
+     * @return search value
+     */
+    public Optional<String> getSearch() {
+        return Optional.ofNullable(search);
+    }
+
+    /**
+     * Retrieve research value
+     *
+     * @return research value
+     */
+    public Optional<String> getResearch() {
+        return Optional.ofNullable(research);
+    }
+
+    /**
+     * Retrieve insensitive boolean value
+     *
+     * @return boolean true or false
+     */
+    public boolean isInsensitive() {
+        return insensitive;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve maxMatches value
+     *
+     * @return maxMatches value
+     */
+    public long getMaxMatches() {
+        return maxMatches;
+    }
+
+    /**
+     * Retrieve skipErrors value
+     *
+     * @return true if files that cannot be read are skipped
+     */
+    public boolean isSkipErrors() {
+        return skipErrors;
+    }
+
+    /**
+     * Return string value representing UssSearchInputData object
+     *
+     * @return string representation of UssSearchInputData
+     */
+    @Override
+    public String toString() {
+        return "UssSearchInputData{" +
+                "walk=" + walk +
+                ", files=" + files +
+                ", search=" + search +
+                ", research=" + research +
+                ", insensitive=" + insensitive +
+                ", maxConcurrency=" + maxConcurrency +
+                ", maxMatches=" + maxMatches +
+                ", skipErrors=" + skipErrors +
+                '}';
+    }
+
+    /**
+     * Builder class for UssSearchInputData
+     */
+    public static class Builder {
+
+        /**
+         * Walk selecting the files searched, regular files only
+         */
+        private final UssWalkInputData walk;
+
+        /**
+         * Files searched, when no walk is given
+         */
+        private final List<String> files;
+
+        /**
+         * String searched for, may not be specified with research
+         */
+        private String search;
+
+        /**
+         * Extended regular expression searched for, may not be specified with search
+         */
+        private String research;
+
+        /**
+         * The default is 'true'. When 'true', searches (search and research) are case-insensitive.
+         */
+        private boolean insensitive = true;
+
+        /**
+         * Maximum number of file searches running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Number of matches after which the search stops
+         */
+        private long maxMatches = Long.MAX_VALUE;
+
+        /**
+         * Log and skip files that cannot be read instead of failing the search
+         */
+        private boolean skipErrors;
+
+        /**
+         * Builder constructor searching the regular files selected by a tree walk
+         *
+         * @param walk UssWalkInputData object
+         */
+        public Builder(final UssWalkInputData walk) {
+            ValidateUtils.checkNullParameter(walk, "walk");
+            this.walk = walk;
+            this.files = List.of();
+        }
+
+        /**
+         * Builder constructor searching the given files
+         *
+         * @param files list of file paths
+         */
+        public Builder(final List<String> files) {
+            ValidateUtils.checkNullParameter(files, "files");
+            files.forEach(file -> ValidateUtils.checkIllegalParameter(file, "file"));
+            this.walk = null;
+            this.files = List.copyOf(files);
+        }
+
+        /**
+         * Set a search string value
+         *
+         * @param search string value
+         * @return Builder this object
+         */
+        public Builder search(final String search) {
+            ValidateUtils.checkIllegalParameter(search, "search");
+            if (this.research != null) {
+                throw new IllegalStateException("cannot specify both search and research parameters");
+            }
+            this.search = search;
+            return this;
+        }
+
+        /**
+         * Set an extended regular expression value. Matched lines after the first one of a file are selected with
+         * {@link java.util.regex.Pattern}, which accepts the common extended regular expression syntax.
+         *
+         * @param research string value
+         * @return Builder this object
+         */
+        public Builder research(final String research) {
+            ValidateUtils.checkIllegalParameter(research, "research");
+            if (this.search != null) {
+                throw new IllegalStateException("cannot specify both search and research parameters");
+            }
+            this.research = research;
+            return this;
+        }
+
+        /**
+         * Set insensitive boolean value
+         *
+         * @param insensitive boolean true or false value
+         * @return Builder this object
+         */
+        public Builder insensitive(final boolean insensitive) {
+            this.insensitive = insensitive;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of file searches running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the number of matches after which the search stops
+         *
+         * @param maxMatches value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxMatches(final long maxMatches) {
+            if (maxMatches <= 0) {
+                throw new IllegalArgumentException("maxMatches must be greater than zero");
+            }
+            this.maxMatches = maxMatches;
+            return this;
+        }
+
+        /**
+         * Set whether files that cannot be read are logged and skipped instead of failing the search
+         *
+         * @param skipErrors true to skip
+         * @return Builder this object
+         */
+        public Builder skipErrors(final boolean skipErrors) {
+            this.skipErrors = skipErrors;
+            return this;
+        }
+
+        /**
+         * Return UssSearchInputData object based on Builder this object
+         *
+         * @return UssSearchInputData object
+         * @throws IllegalStateException when neither search nor research is set
+         */
+        public UssSearchInputData build() {
+            if (search == null && research == null) {
+                throw new IllegalStateException("search or research parameter must be specified");
+            }
+            return new UssSearchInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,506 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.types.SyncDirection;
+
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Parameter container class for Unix System Services (USS) directory sync operation
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSyncInputData {
+
+    /**
+     * Tag value selecting a binary tag instead of a text codeset
+     */
+    public static final String BINARY_TAG = "binary";
+
+    /**
+     * Local directory
+     */
+    private final Path localDir;
+
+    /**
+     * USS directory
+     */
+    private final String remoteDir;
+
+    /**
+     * Direction of the sync
+     */
+    private final SyncDirection direction;
+
+    /**
+     * Delete target files and directories that are not in the source
+     */
+    private final boolean delete;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Compare content hashes recorded in the state file when a local file time changed
+     */
+    private final boolean checksum;
+
+    /**
+     * File recording the state of the last sync
+     */
+    private final Path stateFile;
+
+    /**
+     * Permission applied to every file uploaded
+     */
+    private final String mode;
+
+    /**
+     * Apply the local POSIX permissions of every file uploaded
+     */
+    private final boolean preserveMode;
+
+    /**
+     * Time zone of the z/OS system, used to compare USS mtime values with local file times
+     */
+    private final ZoneId remoteZone;
+
+    /**
+     * Relative path patterns excluded from the sync
+     */
+    private final List<Pattern> excludes;
+
+    /**
+     * Relative path patterns and the tag applied to files uploaded that match them
+     */
+    private final Map<Pattern, String> tags;
+
+    /**
+     * UssSyncInputData constructor
+     *
+     * @param builder UssSyncInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private UssSyncInputData(final UssSyncInputData.Builder builder) {
+        this.localDir = builder.localDir;
+        this.remoteDir = builder.remoteDir;
+        this.direction = builder.direction;
+        this.delete = builder.delete;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.checksum = builder.checksum;
+        this.stateFile = builder.stateFile;
+        this.mode = builder.mode;
+        this.preserveMode = builder.preserveMode;
+        this.remoteZone = builder.remoteZone;
+        this.excludes = List.copyOf(builder.excludes);
+        this.tags = new LinkedHashMap<>(builder.tags);
+    }
+
+    /**
+     * Retrieve localDir value
+     *
+     * @return localDir value
+     */
+    public Path getLocalDir() {
+        return localDir;
+    }
+
+    /**
+     * Retrieve remoteDir value
+     *
+     * @return remoteDir value
+     */
+    public String getRemoteDir() {
+        return remoteDir;
+    }
+
+    /**
+     * Retrieve direction value
+     *
+     * @return SyncDirection value
+     */
+    public SyncDirection getDirection() {
+        return direction;
+    }
+
+    /**
+     * Retrieve delete value
+     *
+     * @return true if target entries missing from the source are deleted
+     */
+    public boolean isDelete() {
+        return delete;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve checksum value
+     *
+     * @return true if content hashes are compared
+     */
+    public boolean isChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Retrieve stateFile value
+     *
+     * @return stateFile value
+     */
+    public Optional<Path> getStateFile() {
+        return Optional.ofNullable(stateFile);
+    }
+
+    /**
+     * Retrieve mode value
+     *
+     * @return mode value
+     */
+    public Optional<String> getMode() {
+        return Optional.ofNullable(mode);
+    }
+
+    /**
+     * Retrieve preserveMode value
+     *
+     * @return true if local POSIX permissions are applied
+     */
+    public boolean isPreserveMode() {
+        return preserveMode;
+    }
+
+    /**
+     * Retrieve remoteZone value
+     *
+     * @return remoteZone value
+     */
+    public ZoneId getRemoteZone() {
+        return remoteZone;
+    }
+
+    /**
+     * Whether the relative path, using "/" separators, is excluded from the sync
+     *
+     * @param relativePath relative path
+     * @return true if excluded
+     */
+    public boolean isExcluded(final String relativePath) {
+        return excludes.stream().anyMatch(pattern -> pattern.matcher(relativePath).matches());
+    }
+
+    /**
+     * Retrieve the tag for the relative path, using "/" separators, of a file uploaded
+     *
+     * @param relativePath relative path
+     * @return codeset value or {@link #BINARY_TAG}, empty if no tag applies
+     */
+    public Optional<String> getTag(final String relativePath) {
+        return tags.entrySet().stream()
+                .filter(entry -> entry.getKey().matcher(relativePath).matches())
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+
+    /**
+     * Return string value representing UssSyncInputData object
+     *
+     * @return string representation of UssSyncInputData
+     */
+    @Override
+    public String toString() {
+        return "UssSyncInputData{" +
+                "localDir=" + localDir +
+                ", remoteDir='" + remoteDir + '\'' +
+                ", direction=" + direction +
+                ", delete=" + delete +
+                ", maxConcurrency=" + maxConcurrency +
+                ", checksum=" + checksum +
+                ", stateFile=" + stateFile +
+                ", mode='" + mode + '\'' +
+                ", preserveMode=" + preserveMode +
+                ", remoteZone=" + remoteZone +
+                ", excludes=" + excludes +
+                ", tags=" + tags +
+                '}';
+    }
+
+    /**
+     * Builder class for UssSyncInputData
+     */
+    public static class Builder {
+
+        /**
+         * Local directory
+         */
+        private final Path localDir;
+
+        /**
+         * USS directory
+         */
+        private final String remoteDir;
+
+        /**
+         * Direction of the sync
+         */
+        private SyncDirection direction = SyncDirection.PUSH;
+
+        /**
+         * Delete target files and directories that are not in the source
+         */
+        private boolean delete;
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Compare content hashes recorded in the state file when a local file time changed
+         */
+        private boolean checksum;
+
+        /**
+         * File recording the state of the last sync
+         */
+        private Path stateFile;
+
+        /**
+         * Permission applied to every file uploaded
+         */
+        private String mode;
+
+        /**
+         * Apply the local POSIX permissions of every file uploaded
+         */
+        private boolean preserveMode;
+
+        /**
+         * Time zone of the z/OS system
+         */
+        private ZoneId remoteZone = ZoneId.systemDefault();
+
+        /**
+         * Relative path patterns excluded from the sync
+         */
+        private final List<Pattern> excludes = new ArrayList<>();
+
+        /**
+         * Relative path patterns and the tag applied to files uploaded that match them
+         */
+        private final Map<Pattern, String> tags = new LinkedHashMap<>();
+
+        /**
+         * Builder constructor
+         *
+         * @param localDir  local directory
+         * @param remoteDir USS directory
+         */
+        public Builder(final Path localDir, final String remoteDir) {
+            ValidateUtils.checkNullParameter(localDir, "localDir");
+            ValidateUtils.checkIllegalParameter(remoteDir, "remoteDir");
+            this.localDir = localDir;
+            this.remoteDir = remoteDir;
+        }
+
+        /**
+         * Set the direction of the sync, PUSH by default
+         *
+         * @param direction SyncDirection value
+         * @return Builder this object
+         */
+        public Builder direction(final SyncDirection direction) {
+            ValidateUtils.checkNullParameter(direction, "direction");
+            this.direction = direction;
+            return this;
+        }
+
+        /**
+         * Set whether target files and directories that are not in the source are deleted
+         *
+         * @param delete true to delete
+         * @return Builder this object
+         */
+        public Builder delete(final boolean delete) {
+            this.delete = delete;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set whether a SHA-256 hash of each local file is recorded in the state file, so a file whose time
+         * changed but whose content did not is not transferred again. Requires a state file.
+         *
+         * @param checksum true to compare hashes
+         * @return Builder this object
+         */
+        public Builder checksum(final boolean checksum) {
+            this.checksum = checksum;
+            return this;
+        }
+
+        /**
+         * Set the file recording the size and time of both sides after each sync. With it, a file is
+         * transferred only when either side changed since the last sync, without comparing clocks.
+         *
+         * @param stateFile state file path
+         * @return Builder this object
+         */
+        public Builder stateFile(final Path stateFile) {
+            ValidateUtils.checkNullParameter(stateFile, "stateFile");
+            this.stateFile = stateFile;
+            return this;
+        }
+
+        /**
+         * Set the permission applied to every file uploaded, for example "rwxr-xr-x"
+         *
+         * @param mode permission value
+         * @return Builder this object
+         */
+        public Builder mode(final String mode) {
+            ValidateUtils.checkIllegalParameter(mode, "mode");
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Set whether the local POSIX permissions of every file uploaded are applied to the USS file
+         *
+         * @param preserveMode true to apply local permissions
+         * @return Builder this object
+         */
+        public Builder preserveMode(final boolean preserveMode) {
+            this.preserveMode = preserveMode;
+            return this;
+        }
+
+        /**
+         * Set the time zone of the z/OS system, the system default by default
+         *
+         * @param remoteZone ZoneId value
+         * @return Builder this object
+         */
+        public Builder remoteZone(final ZoneId remoteZone) {
+            ValidateUtils.checkNullParameter(remoteZone, "remoteZone");
+            this.remoteZone = remoteZone;
+            return this;
+        }
+
+        /**
+         * Exclude relative paths matching the glob, where * does not cross a "/" and ** does
+         *
+         * @param glob relative path pattern, for example ".git/**" or "**&#47;*.class"
+         * @return Builder this object
+         */
+        public Builder exclude(final String glob) {
+            ValidateUtils.checkIllegalParameter(glob, "glob");
+            excludes.add(globToPattern(glob));
+            return this;
+        }
+
+        /**
+         * Tag files uploaded whose relative path matches the glob as text in the given codeset.
+         * The first matching tag rule applies.
+         *
+         * @param glob    relative path pattern
+         * @param codeset codeset value, for example "ISO8859-1"
+         * @return Builder this object
+         */
+        public Builder textTag(final String glob, final String codeset) {
+            ValidateUtils.checkIllegalParameter(glob, "glob");
+            ValidateUtils.checkIllegalParameter(codeset, "codeset");
+            tags.put(globToPattern(glob), codeset);
+            return this;
+        }
+
+        /**
+         * Tag files uploaded whose relative path matches the glob as binary. The first matching tag rule applies.
+         *
+         * @param glob relative path pattern
+         * @return Builder this object
+         */
+        public Builder binaryTag(final String glob) {
+            ValidateUtils.checkIllegalParameter(glob, "glob");
+            tags.put(globToPattern(glob), BINARY_TAG);
+            return this;
+        }
+
+        /**
+         * Return UssSyncInputData object based on Builder this object
+         *
+         * @return UssSyncInputData object
+         */
+        public UssSyncInputData build() {
+            if (checksum && stateFile == null) {
+                throw new IllegalStateException("checksum requires a state file");
+            }
+            return new UssSyncInputData(this);
+        }
+
+    }
+
+    private static Pattern globToPattern(final String glob) {
+        final StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            final char c = glob.charAt(i);
+            if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                // "**/" also matches no directory at all
+                if (i + 2 < glob.length() && glob.charAt(i + 2) == '/') {
+                    regex.append("(?:.*/)?");
+                    i += 2;
+                } else {
+                    regex.append(".*");
+                    i++;
+                }
+            } else if (c == '*') {
+                regex.append("[^/]*");
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+}
@@ -0,0 +1,282 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Parameter container class for Unix System Services (USS) bulk upload of a local directory
+ * <p>
+ * Files are uploaded in text or binary mode by file extension. Files with an extension not mapped are uploaded
+ * in binary mode.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssUploadInputData {
+
+    /**
+     * Local directory uploaded
+     */
+    private final Path localDir;
+
+    /**
+     * USS directory receiving the content of the local directory
+     */
+    private final String remoteDir;
+
+    /**
+     * File encoding of each text extension
+     */
+    private final Map<String, String> extensions;
+
+    /**
+     * Tag text files with their file encoding after upload
+     */
+    private final boolean tag;
+
+    /**
+     * Maximum number of requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Mode of the directories created
+     */
+    private final String directoryMode;
+
+    /**
+     * UssUploadInputData constructor
+     *
+     * @param builder UssUploadInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private UssUploadInputData(final UssUploadInputData.Builder builder) {
+        this.localDir = builder.localDir;
+        this.remoteDir = builder.remoteDir;
+        this.extensions = Map.copyOf(builder.extensions);
+        this.tag = builder.tag;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.directoryMode = builder.directoryMode;
+    }
+
+    /**
+     * Retrieve localDir value
+     *
+     * @return localDir value
+     */
+    public Path getLocalDir() {
+        return localDir;
+    }
+
+    /**
+     * Retrieve remoteDir value
+     *
+     * @return remoteDir value
+     */
+    public String getRemoteDir() {
+        return remoteDir;
+    }
+
+    /**
+     * Retrieve the file encoding a file is uploaded with
+     *
+     * @param fileName file name
+     * @return file encoding for a text file, empty for a binary file
+     */
+    public Optional<String> getFileEncoding(final String fileName) {
+        return Optional.ofNullable(extensions.get(extensionOf(fileName)));
+    }
+
+    /**
+     * Retrieve tag value
+     *
+     * @return true if text files are tagged with their file encoding
+     */
+    public boolean isTag() {
+        return tag;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve directoryMode value
+     *
+     * @return directoryMode value
+     */
+    public String getDirectoryMode() {
+        return directoryMode;
+    }
+
+    /**
+     * Return string value representing UssUploadInputData object
+     *
+     * @return string representation of UssUploadInputData
+     */
+    @Override
+    public String toString() {
+        return "UssUploadInputData{" +
+                "localDir=" + localDir +
+                ", remoteDir='" + remoteDir + '\'' +
+                ", textExtensions=" + extensions +
+                ", tag=" + tag +
+                ", maxConcurrency=" + maxConcurrency +
+                ", directoryMode='" + directoryMode + '\'' +
+                '}';
+    }
+
+    /**
+     * Extension of a file name, lower case and without the dot, empty when there is none
+     *
+     * @param fileName file name
+     * @return extension
+     */
+    private static String extensionOf(final String fileName) {
+        final int dot = fileName.lastIndexOf('.');
+        return dot <= 0 ? "" : fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Builder class for UssUploadInputData
+     */
+    public static class Builder {
+
+        /**
+         * Local directory uploaded
+         */
+        private final Path localDir;
+
+        /**
+         * USS directory receiving the content of the local directory
+         */
+        private final String remoteDir;
+
+        /**
+         * File encoding of each text extension
+         */
+        private final Map<String, String> extensions = new HashMap<>();
+
+        /**
+         * Tag text files with their file encoding after upload
+         */
+        private boolean tag = true;
+
+        /**
+         * Maximum number of requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Mode of the directories created
+         */
+        private String directoryMode = "rwxr-xr-x";
+
+        /**
+         * Builder constructor
+         *
+         * @param localDir  local directory uploaded
+         * @param remoteDir USS directory receiving the content of the local directory
+         */
+        public Builder(final Path localDir, final String remoteDir) {
+            ValidateUtils.checkNullParameter(localDir, "localDir");
+            ValidateUtils.checkIllegalParameter(remoteDir, "remoteDir");
+            this.localDir = localDir;
+            this.remoteDir = remoteDir.endsWith("/") && remoteDir.length() > 1 ?
+                    remoteDir.substring(0, remoteDir.length() - 1) : remoteDir;
+        }
+
+        /**
+         * Upload files with the given extension in text mode, converted from UTF-8 to the file encoding
+         *
+         * @param extension    file extension without the dot, case-insensitive, empty for files without one
+         * @param fileEncoding EBCDIC code page, for example IBM-1047
+         * @return Builder this object
+         */
+        public Builder text(final String extension, final String fileEncoding) {
+            ValidateUtils.checkNullParameter(extension, "extension");
+            ValidateUtils.checkIllegalParameter(fileEncoding, "fileEncoding");
+            this.extensions.put(extension.toLowerCase(Locale.ROOT), fileEncoding);
+            return this;
+        }
+
+        /**
+         * Upload files with the given extension in binary mode, the default for extensions not mapped
+         *
+         * @param extension file extension without the dot, case-insensitive, empty for files without one
+         * @return Builder this object
+         */
+        public Builder binary(final String extension) {
+            ValidateUtils.checkNullParameter(extension, "extension");
+            this.extensions.remove(extension.toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Set whether text files are tagged with their file encoding after upload, the default is true
+         *
+         * @param tag boolean true or false value
+         * @return Builder this object
+         */
+        public Builder tag(final boolean tag) {
+            this.tag = tag;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the mode of the directories created, the default is rwxr-xr-x
+         *
+         * @param directoryMode mode value, for example rwxr-x---
+         * @return Builder this object
+         */
+        public Builder directoryMode(final String directoryMode) {
+            ValidateUtils.checkIllegalParameter(directoryMode, "directoryMode");
+            this.directoryMode = directoryMode;
+            return this;
+        }
+
+        /**
+         * Return UssUploadInputData object based on Builder this object
+         *
+         * @return UssUploadInputData object
+         */
+        public UssUploadInputData build() {
+            return new UssUploadInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,332 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.types.ListFilterType;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Parameter container class for Unix System Services (USS) tree walk operation
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssWalkInputData {
+
+    /**
+     * Directory the walk starts at
+     */
+    private final String path;
+
+    /**
+     * Number of directory levels listed, 1 lists the start directory only
+     */
+    private final int maxDepth;
+
+    /**
+     * Maximum number of directory list requests running at once
+     */
+    private final int maxConcurrency;
+
+    /**
+     * Descend into directories reached through symbolic links instead of reporting the links
+     */
+    private final boolean followSymlinks;
+
+    /**
+     * Log and skip directories that cannot be listed instead of failing the walk
+     */
+    private final boolean skipErrors;
+
+    /**
+     * Predicate selecting the entries handed to the consumer; directories are descended regardless
+     */
+    private final Predicate<UnixFile> filter;
+
+    /**
+     * UssWalkInputData constructor
+     *
+     * @param builder UssWalkInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private UssWalkInputData(final UssWalkInputData.Builder builder) {
+        this.path = builder.path;
+        this.maxDepth = builder.maxDepth;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.followSymlinks = builder.followSymlinks;
+        this.skipErrors = builder.skipErrors;
+        this.filter = builder.filter;
+    }
+
+    /**
+     * Retrieve path value
+     *
+     * @return path value
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieve maxDepth value
+     *
+     * @return maxDepth value
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Retrieve maxConcurrency value
+     *
+     * @return maxConcurrency value
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Retrieve followSymlinks value
+     *
+     * @return true if symbolic links to directories are followed
+     */
+    public boolean isFollowSymlinks() {
+        return followSymlinks;
+    }
+
+    /**
+     * Retrieve skipErrors value
+     *
+     * @return true if directories that cannot be listed are skipped
+     */
+    public boolean isSkipErrors() {
+        return skipErrors;
+    }
+
+    /**
+     * Retrieve filter value
+     *
+     * @return filter predicate
+     */
+    public Predicate<UnixFile> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Return string value representing UssWalkInputData object
+     *
+     * @return string representation of UssWalkInputData
+     */
+    @Override
+    public String toString() {
+        return "UssWalkInputData{" +
+                "path='" + path + '\'' +
+                ", maxDepth=" + maxDepth +
+                ", maxConcurrency=" + maxConcurrency +
+                ", followSymlinks=" + followSymlinks +
+                ", skipErrors=" + skipErrors +
+                '}';
+    }
+
+    /**
+     * Builder class for UssWalkInputData
+     */
+    public static class Builder {
+
+        /**
+         * Directory the walk starts at
+         */
+        private final String path;
+
+        /**
+         * Number of directory levels listed, 1 lists the start directory only
+         */
+        private int maxDepth = Integer.MAX_VALUE;
+
+        /**
+         * Maximum number of directory list requests running at once
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Descend into directories reached through symbolic links instead of reporting the links
+         */
+        private boolean followSymlinks;
+
+        /**
+         * Log and skip directories that cannot be listed instead of failing the walk
+         */
+        private boolean skipErrors;
+
+        /**
+         * Predicate selecting the entries handed to the consumer
+         */
+        private Predicate<UnixFile> filter = file -> true;
+
+        /**
+         * Builder constructor
+         *
+         * @param path directory the walk starts at
+         */
+        public Builder(final String path) {
+            ValidateUtils.checkIllegalParameter(path, "path");
+            this.path = path;
+        }
+
+        /**
+         * Set the number of directory levels listed, 1 lists the start directory only
+         *
+         * @param maxDepth value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxDepth(final int maxDepth) {
+            if (maxDepth <= 0) {
+                throw new IllegalArgumentException("maxDepth must be greater than zero");
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of directory list requests running at once
+         *
+         * @param maxConcurrency value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxConcurrency(final int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set whether directories reached through symbolic links are descended. A link leading back to a directory
+         * the walk went through to reach it is not followed, so link cycles end.
+         *
+         * @param followSymlinks true to follow symbolic links
+         * @return Builder this object
+         */
+        public Builder followSymlinks(final boolean followSymlinks) {
+            this.followSymlinks = followSymlinks;
+            return this;
+        }
+
+        /**
+         * Set whether directories that cannot be listed, for example for lack of permission, are logged and
+         * skipped instead of failing the walk
+         *
+         * @param skipErrors true to skip
+         * @return Builder this object
+         */
+        public Builder skipErrors(final boolean skipErrors) {
+            this.skipErrors = skipErrors;
+            return this;
+        }
+
+        /**
+         * Select entries whose name matches a glob pattern, where * matches any characters and ? matches
+         * one character
+         *
+         * @param glob name pattern
+         * @return Builder this object
+         */
+        public Builder name(final String glob) {
+            ValidateUtils.checkIllegalParameter(glob, "glob");
+            final Pattern pattern = globToPattern(glob);
+            return filter(file -> pattern.matcher(file.getName()).matches());
+        }
+
+        /**
+         * Select entries modified after the given time, in the z/OS system local time reported by z/OSMF
+         *
+         * @param time LocalDateTime value
+         * @return Builder this object
+         */
+        public Builder modifiedAfter(final LocalDateTime time) {
+            ValidateUtils.checkNullParameter(time, "time");
+            return filter(file -> !file.getMtime().isEmpty() && LocalDateTime.parse(file.getMtime()).isAfter(time));
+        }
+
+        /**
+         * Select entries of at least the given size in bytes
+         *
+         * @param size size in bytes
+         * @return Builder this object
+         */
+        public Builder minSize(final long size) {
+            return filter(file -> file.getSize() >= size);
+        }
+
+        /**
+         * Select entries of at most the given size in bytes
+         *
+         * @param size size in bytes
+         * @return Builder this object
+         */
+        public Builder maxSize(final long size) {
+            return filter(file -> file.getSize() <= size);
+        }
+
+        /**
+         * Select entries of the given type
+         *
+         * @param type ListFilterType value
+         * @return Builder this object
+         */
+        public Builder type(final ListFilterType type) {
+            ValidateUtils.checkNullParameter(type, "type");
+            return filter(file -> type.getValue().equals(file.getType()));
+        }
+
+        /**
+         * Select entries matching the predicate, in addition to the selections already set
+         *
+         * @param filter predicate
+         * @return Builder this object
+         */
+        public Builder filter(final Predicate<UnixFile> filter) {
+            ValidateUtils.checkNullParameter(filter, "filter");
+            this.filter = this.filter.and(filter);
+            return this;
+        }
+
+        /**
+         * Return UssWalkInputData object based on Builder this object
+         *
+         * @return UssWalkInputData object
+         */
+        public UssWalkInputData build() {
+            return new UssWalkInputData(this);
+        }
+
+    }
+
+    private static Pattern globToPattern(final String glob) {
+        final StringBuilder regex = new StringBuilder();
+        for (final char c : glob.toCharArray()) {
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+}
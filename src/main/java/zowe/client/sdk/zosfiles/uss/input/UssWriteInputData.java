@@ -9,6 +9,7 @@
  */
 package zowe.client.sdk.zosfiles.uss.input;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -32,6 +33,11 @@ public class UssWriteInputData {
      */
     private final byte[] binaryContent;
 
+    /**
+     * Local file streamed as the content while the request is sent, instead of content held in memory
+     */
+    private final Path localFile;
+
     /**
      * Can be used to specify an alternate EBCDIC code page. The default code page is IBM-1047.
      */
@@ -48,6 +54,12 @@ public class UssWriteInputData {
      */
     private final boolean binary;
 
+    /**
+     * ETag of the file version the content is based on. When specified, the write only takes place if the file
+     * still has this ETag; otherwise z/OSMF answers 412 and a ZosmfConflictException is thrown.
+     */
+    private final String etag;
+
     /**
      * UssWriteInputData constructor
      *
@@ -57,9 +69,11 @@ public class UssWriteInputData {
     public UssWriteInputData(final UssWriteInputData.Builder builder) {
         this.textContent = builder.textContent;
         this.binaryContent = builder.binaryContent;
+        this.localFile = builder.localFile;
         this.fileEncoding = builder.fileEncoding;
         this.crlf = builder.crlf;
         this.binary = builder.binary;
+        this.etag = builder.etag;
     }
 
     /**
@@ -80,6 +94,15 @@ public class UssWriteInputData {
         return Optional.ofNullable(binaryContent);
     }
 
+    /**
+     * Retrieve localFile value
+     *
+     * @return localFile value
+     */
+    public Optional<Path> getLocalFile() {
+        return Optional.ofNullable(localFile);
+    }
+
     /**
      * Retrieve fileEncoding value
      *
@@ -107,6 +130,15 @@ public class UssWriteInputData {
         return binary;
     }
 
+    /**
+     * Retrieve etag value
+     *
+     * @return etag value
+     */
+    public Optional<String> getEtag() {
+        return Optional.ofNullable(etag);
+    }
+
     /**
      * Return string value representing UssWriteInputData object
      *
@@ -117,9 +149,11 @@ public class UssWriteInputData {
         return "UssWriteInputData{" +
                 "textContent=" + textContent +
                 ", binaryContent=" + Arrays.toString(binaryContent) +
+                ", localFile=" + localFile +
                 ", fileEncoding=" + fileEncoding +
                 ", crlf=" + crlf +
                 ", binary=" + binary +
+                ", etag=" + etag +
                 '}';
     }
 
@@ -138,6 +172,11 @@ public class UssWriteInputData {
          */
         private byte[] binaryContent;
 
+        /**
+         * Local file streamed as the content while the request is sent, instead of content held in memory
+         */
+        private Path localFile;
+
         /**
          * Can be used to specify an alternate EBCDIC code page. The default code page is IBM-1047.
          */
@@ -154,6 +193,11 @@ public class UssWriteInputData {
          */
         private boolean binary = false;
 
+        /**
+         * ETag of the file version the content is based on
+         */
+        private String etag;
+
         /**
          * Builder constructor
          */
@@ -182,6 +226,18 @@ public class UssWriteInputData {
             return this;
         }
 
+        /**
+         * Set a local file streamed as the content, taking precedence over textContent and binaryContent. In text
+         * mode the file is read as UTF-8 and converted to fileEncoding by z/OSMF.
+         *
+         * @param localFile Path value
+         * @return Builder this object
+         */
+        public Builder localFile(final Path localFile) {
+            this.localFile = localFile;
+            return this;
+        }
+
         /**
          * Set fileEncoding string value
          *
@@ -215,6 +271,17 @@ public class UssWriteInputData {
             return this;
         }
 
+        /**
+         * Set the ETag sent as If-Match header to write only if the file is unchanged
+         *
+         * @param etag ETag value, as returned by UssGet getTextWithEtag
+         * @return Builder this object
+         */
+        public Builder etag(final String etag) {
+            this.etag = etag;
+            return this;
+        }
+
         /**
          * Return UssWriteInputData object based on Builder this object
          *
@@ -0,0 +1,55 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces request starts evenly at a fixed rate across threads, without bursts
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+final class RateLimiter {
+
+    private final long intervalNanos;
+    private long next = System.nanoTime();
+
+    /**
+     * RateLimiter constructor
+     *
+     * @param permitsPerSecond permits per second, greater than zero
+     */
+    RateLimiter(final double permitsPerSecond) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be greater than zero");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    /**
+     * Wait for the next permit
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        final long wait;
+        synchronized (this) {
+            final long now = System.nanoTime();
+            final long slot = Math.max(next, now);
+            next = slot + intervalNanos;
+            wait = slot - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Size and time of both sides of every file after the last sync, kept in a properties file keyed by
+ * relative path
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+final class SyncState {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Load the state file, an absent file gives an empty state
+     *
+     * @param file state file path
+     * @return SyncState object
+     * @throws IOException error reading the file
+     */
+    static SyncState load(final Path file) throws IOException {
+        final SyncState state = new SyncState();
+        if (!Files.exists(file)) {
+            return state;
+        }
+        final Properties properties = new Properties();
+        try (final InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        for (final String key : properties.stringPropertyNames()) {
+            final String[] fields = properties.getProperty(key).split(",", -1);
+            if (fields.length != 5) {
+                // written by another version, the file is compared again
+                continue;
+            }
+            try {
+                state.entries.put(key, new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]),
+                        Long.parseLong(fields[2]), fields[3], fields[4].isEmpty() ? null : fields[4]));
+            } catch (NumberFormatException e) {
+                // same as above
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Write the state file, replacing the previous one only once it is fully written
+     *
+     * @param file state file path
+     * @throws IOException error writing the file
+     */
+    void save(final Path file) throws IOException {
+        final Properties properties = new Properties();
+        entries.forEach((key, entry) -> properties.setProperty(key, entry.localSize + "," + entry.localTime + "," +
+                entry.remoteSize + "," + entry.remoteMtime + "," + (entry.sha256 == null ? "" : entry.sha256)));
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (final OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "zowe uss sync state");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    Entry get(final String relativePath) {
+        return entries.get(relativePath);
+    }
+
+    void put(final String relativePath, final Entry entry) {
+        entries.put(relativePath, entry);
+    }
+
+    /**
+     * Recorded state of one file
+     */
+    static final class Entry {
+        final long localSize;
+        final long localTime;
+        final long remoteSize;
+        final String remoteMtime;
+        final String sha256;
+
+        Entry(final long localSize, final long localTime, final long remoteSize, final String remoteMtime,
+              final String sha256) {
+            this.localSize = localSize;
+            this.localTime = localTime;
+            this.remoteSize = remoteSize;
+            this.remoteMtime = remoteMtime;
+            this.sha256 = sha256;
+        }
+    }
+
+}
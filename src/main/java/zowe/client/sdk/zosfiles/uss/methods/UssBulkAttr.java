@@ -0,0 +1,265 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.UssBulkAttrInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeModeInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeOwnerInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeTagInputData;
+import zowe.client.sdk.zosfiles.uss.input.factory.UssSetAclInputData;
+import zowe.client.sdk.zosfiles.uss.response.UssBulkAttrResponse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Provides Unix System Services (USS) bulk chmod, chown, chtag and setfacl functionality over many paths
+ * <p>
+ * Each change is one z/OSMF request per path. The requests run with a bounded number at once and, optionally,
+ * under a cap on the number started per second. Requests failing with a transient error are retried with a
+ * doubling delay. A path that still fails is reported with its error and the remaining paths carry on.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssBulkAttr {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UssBulkAttr.class);
+
+    /**
+     * Http status codes retried, besides connection failures
+     */
+    private static final Set<Integer> TRANSIENT_STATUS = Set.of(429, 502, 503, 504);
+
+    private final Supplier<UssList> listSupplier;
+    private final Supplier<UssChangeMode> changeModeSupplier;
+    private final Supplier<UssChangeOwner> changeOwnerSupplier;
+    private final Supplier<UssChangeTag> changeTagSupplier;
+    private final Supplier<UssSetAcl> setAclSupplier;
+
+    /**
+     * UssBulkAttr Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public UssBulkAttr(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.listSupplier = () -> new UssList(connection);
+        this.changeModeSupplier = () -> new UssChangeMode(connection);
+        this.changeOwnerSupplier = () -> new UssChangeOwner(connection);
+        this.changeTagSupplier = () -> new UssChangeTag(connection);
+        this.setAclSupplier = () -> new UssSetAcl(connection);
+    }
+
+    /**
+     * Alternative UssBulkAttr constructor with suppliers of the USS method objects. This is mainly used for
+     * internal code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param listSupplier        supplier of the UssList object used by the tree walk
+     * @param changeModeSupplier  supplier of the UssChangeMode object used by each worker thread
+     * @param changeOwnerSupplier supplier of the UssChangeOwner object used by each worker thread
+     * @param changeTagSupplier   supplier of the UssChangeTag object used by each worker thread
+     * @param setAclSupplier      supplier of the UssSetAcl object used by each worker thread
+     * @author Frank Giordano
+     */
+    UssBulkAttr(final Supplier<UssList> listSupplier, final Supplier<UssChangeMode> changeModeSupplier,
+                final Supplier<UssChangeOwner> changeOwnerSupplier, final Supplier<UssChangeTag> changeTagSupplier,
+                final Supplier<UssSetAcl> setAclSupplier) {
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        ValidateUtils.checkNullParameter(changeModeSupplier, "changeModeSupplier");
+        ValidateUtils.checkNullParameter(changeOwnerSupplier, "changeOwnerSupplier");
+        ValidateUtils.checkNullParameter(changeTagSupplier, "changeTagSupplier");
+        ValidateUtils.checkNullParameter(setAclSupplier, "setAclSupplier");
+        this.listSupplier = listSupplier;
+        this.changeModeSupplier = changeModeSupplier;
+        this.changeOwnerSupplier = changeOwnerSupplier;
+        this.changeTagSupplier = changeTagSupplier;
+        this.setAclSupplier = setAclSupplier;
+    }
+
+    /**
+     * Apply the changes to every path
+     *
+     * @param bulkAttrInputData UssBulkAttrInputData object
+     * @return UssBulkAttrResponse object with the number of paths changed and the error of each path that failed
+     * @throws ZosmfRequestException the tree walk failed, or the run was interrupted
+     * @author Frank Giordano
+     */
+    public UssBulkAttrResponse apply(final UssBulkAttrInputData bulkAttrInputData) throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(bulkAttrInputData, "bulkAttrInputData");
+        return new Run(bulkAttrInputData).run();
+    }
+
+    /**
+     * Determine whether a request error is worth retrying
+     *
+     * @param e ZosmfRequestException object
+     * @return true for a connection failure or a transient http status
+     */
+    static boolean isTransient(final ZosmfRequestException e) {
+        if (e.getResponse() == null) {
+            // no response at all, the connection failed
+            return e.getCause() != null;
+        }
+        return TRANSIENT_STATUS.contains(e.getResponse().getStatusCode().orElse(0));
+    }
+
+    /**
+     * One change request against a path
+     */
+    @FunctionalInterface
+    private interface Change {
+
+        void apply(String path) throws ZosmfRequestException;
+
+    }
+
+    /**
+     * State of one run
+     */
+    private final class Run {
+
+        private final UssBulkAttrInputData inputData;
+        private final RateLimiter limiter;
+        private final ExecutorService executor;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final Map<String, String> failures = new ConcurrentHashMap<>();
+        // the method objects hold their request, so each worker thread sends with its own
+        private final ThreadLocal<UssChangeMode> changeModes = ThreadLocal.withInitial(changeModeSupplier);
+        private final ThreadLocal<UssChangeOwner> changeOwners = ThreadLocal.withInitial(changeOwnerSupplier);
+        private final ThreadLocal<UssChangeTag> changeTags = ThreadLocal.withInitial(changeTagSupplier);
+        private final ThreadLocal<UssSetAcl> setAcls = ThreadLocal.withInitial(setAclSupplier);
+
+        private Run(final UssBulkAttrInputData inputData) {
+            this.inputData = inputData;
+            this.limiter = inputData.getMaxRequestsPerSecond() > 0 ?
+                    new RateLimiter(inputData.getMaxRequestsPerSecond()) : null;
+            this.executor = Executors.newFixedThreadPool(inputData.getMaxConcurrency(),
+                    ParallelUtils.threadFactory("uss-bulk-attr"));
+        }
+
+        private UssBulkAttrResponse run() throws ZosmfRequestException {
+            // held by the producer so the run cannot end before all paths are submitted
+            pending.incrementAndGet();
+            try {
+                if (inputData.getWalk().isPresent()) {
+                    new UssWalk(listSupplier).walk(inputData.getWalk().get(), entry -> submit(entry.getPath()));
+                } else {
+                    inputData.getPaths().forEach(this::submit);
+                }
+            } catch (ZosmfRequestException e) {
+                executor.shutdownNow();
+                throw e;
+            } finally {
+                finish();
+            }
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ZosmfRequestException("Interrupted during bulk attribute change", e);
+            } finally {
+                executor.shutdownNow();
+            }
+            return new UssBulkAttrResponse(succeeded.get(), failures, retries.get());
+        }
+
+        private void submit(final String path) {
+            pending.incrementAndGet();
+            try {
+                executor.execute(() -> change(path));
+            } catch (RejectedExecutionException e) {
+                finish();
+            }
+        }
+
+        private void change(final String path) {
+            try {
+                final UssChangeModeInputData mode = inputData.getMode().orElse(null);
+                final UssChangeOwnerInputData owner = inputData.getOwner().orElse(null);
+                final UssChangeTagInputData tag = inputData.getTag().orElse(null);
+                final UssSetAclInputData acl = inputData.getAcl().orElse(null);
+                if ((mode == null || apply("chmod", path, p -> changeModes.get().change(p, mode))) &&
+                        (owner == null || apply("chown", path, p -> changeOwners.get().changeCommon(p, owner))) &&
+                        (tag == null || apply("chtag", path, p -> changeTags.get().changeCommon(p, tag))) &&
+                        (acl == null || apply("setfacl", path, p -> setAcls.get().setAclCommon(p, acl)))) {
+                    succeeded.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                failures.put(path, e.toString());
+            } finally {
+                finish();
+            }
+        }
+
+        /**
+         * Apply one change, retrying transient errors
+         *
+         * @return false when the change failed and was recorded as the failure of the path
+         */
+        private boolean apply(final String name, final String path, final Change change) {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    if (limiter != null) {
+                        limiter.acquire();
+                    }
+                    change.apply(path);
+                    return true;
+                } catch (ZosmfRequestException e) {
+                    if (attempt >= inputData.getMaxRetries() || !isTransient(e)) {
+                        failures.put(path, name + ": " + e.getMessage());
+                        return false;
+                    }
+                    retries.incrementAndGet();
+                    LOG.debug("retrying {} of {}: {}", name, path, e.getMessage());
+                    try {
+                        TimeUnit.MILLISECONDS.sleep((long) inputData.getRetryDelay() << Math.min(attempt, 16));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        failures.put(path, name + ": interrupted");
+                        return false;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.put(path, name + ": interrupted");
+                    return false;
+                }
+            }
+        }
+
+        private void finish() {
+            if (pending.decrementAndGet() == 0) {
+                done.countDown();
+            }
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
 import zowe.client.sdk.zosfiles.uss.input.UssCopyInputData;
 
 import java.util.HashMap;
@@ -118,7 +119,9 @@ public class UssCopy {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(copyMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        ContentCache.invalidateUssPath(connection, targetPath);
+        return response;
     }
 
 }
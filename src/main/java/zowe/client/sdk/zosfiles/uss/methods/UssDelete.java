@@ -17,6 +17,7 @@ import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
 
 import java.util.Map;
 
@@ -100,7 +101,9 @@ public class UssDelete {
         }
         request.setUrl(url);
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        ContentCache.invalidateUssPath(connection, targetPath);
+        return response;
     }
 
     /**
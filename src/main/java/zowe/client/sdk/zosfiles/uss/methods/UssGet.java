@@ -17,10 +17,16 @@ import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.CacheKey;
+import zowe.client.sdk.zosfiles.cache.CachedContent;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
 import zowe.client.sdk.zosfiles.uss.input.UssGetInputData;
+import zowe.client.sdk.zosfiles.uss.model.UssContent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Provides Unix System Services (USS) read from object functionality
@@ -35,6 +41,7 @@ public class UssGet {
 
     private final ZosConnection connection;
     private ZosmfRequest request;
+    private final ContentCache cache;
 
     /**
      * UssGet Constructor
@@ -46,6 +53,7 @@ public class UssGet {
     public UssGet(final ZosConnection connection) {
         ValidateUtils.checkNullParameter(connection, "connection");
         this.connection = connection;
+        this.cache = null;
     }
 
     /**
@@ -65,6 +73,47 @@ public class UssGet {
         this.connection = connection;
         // request type check deferred 
         this.request = request;
+        this.cache = null;
+    }
+
+    /**
+     * Alternative UssGet constructor with ZoweRequest and ContentCache objects. This is mainly used for internal
+     * code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param request    a {@link GetStreamZosmfRequest} or {@link GetTextZosmfRequest} implementation object
+     * @param cache      ContentCache object
+     * @author Frank Giordano
+     */
+    UssGet(final ZosConnection connection, final ZosmfRequest request, final ContentCache cache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(request, "request");
+        ValidateUtils.checkNullParameter(cache, "cache");
+        this.connection = connection;
+        this.request = request;
+        this.cache = cache;
+    }
+
+    /**
+     * Create a UssGet with a local content cache
+     * <p>
+     * Whole file content retrieved is stored with its ETag and revalidated on later calls with a conditional
+     * request; an unchanged file is served from the cache without transferring its content. Requests using
+     * search, research, maxreturnsize or a records range are partial reads and bypass the cache.
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @param cache      ContentCache object
+     * @return UssGet object
+     * @author Frank Giordano
+     */
+    public static UssGet withCache(final ZosConnection connection, final ContentCache cache) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(cache, "cache");
+        // replaced by a stream request on the first binary read
+        return new UssGet(connection, ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT),
+                cache);
     }
 
     /**
@@ -97,12 +146,28 @@ public class UssGet {
         return (String) response.getResponsePhrase().orElse("");
     }
 
+    /**
+     * Get the text contents of a UNIX file along with its ETag, to be sent back with
+     * {@link UssWrite#writeTextIfMatch(String, String, String)} so that the write fails with a
+     * ZosmfConflictException if the file was changed in between
+     *
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @return UssContent object with the text contents and ETag of the file
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public UssContent getTextWithEtag(final String fileNamePath) throws ZosmfRequestException {
+        UssGetInputData getInputData = new UssGetInputData.Builder().returnEtag(true).build();
+        Response response = getCommon(fileNamePath, getInputData);
+        return new UssContent((String) response.getResponsePhrase().orElse(""), response.getEtag().orElse(null));
+    }
+
     /**
      * Get the contents of a UNIX file driven by the UssGetInputData object settings
      *
      * @param fileNamePath UNIX path that resolves to the target
      * @param getInputData UssGetInputData object to drive the request
-     * @return Response object
+     * @return Response object, with status code 304 when served from the content cache
      * @throws ZosmfRequestException request error state
      * @author Frank Giordano
      * @author James Kostrewski
@@ -146,10 +211,56 @@ public class UssGet {
         }
         getInputData.getRecordsRange().ifPresent(range -> headers.put("X-IBM-Record-Range", range));
 
+        final CacheKey cacheKey = isCacheable(getInputData) ?
+                CacheKey.ussFile(connection, fileNamePath, getInputData.isBinary() ? "binary" : "text") : null;
+        final Optional<CachedContent> cached = cacheKey != null ? cache.get(cacheKey) : Optional.empty();
+        if (cacheKey != null || getInputData.isReturnEtag()) {
+            headers.put(ZosmfHeaders.HEADERS.get("X_IBM_RETURN_ETAG").get(0),
+                    ZosmfHeaders.HEADERS.get("X_IBM_RETURN_ETAG").get(1));
+        }
+        cached.ifPresent(c -> headers.put(ZosmfHeaders.HEADERS.get("IF_NONE_MATCH").get(0), c.getEtag()));
+
         request.setHeaders(headers);
         request.setUrl(url.toString());
 
-        return request.executeRequest();
+        if (cacheKey == null) {
+            return request.executeRequest();
+        }
+
+        final Response response;
+        try {
+            response = request.executeRequest();
+        } catch (ZosmfRequestException e) {
+            if (cached.isPresent() && ContentCache.isNotModified(e)) {
+                final byte[] content = cached.get().getContent();
+                return new Response(getInputData.isBinary() ? content : new String(content, StandardCharsets.UTF_8),
+                        304, e.getResponse().getStatusText().orElse("not modified"), null,
+                        Map.of("ETag", cached.get().getEtag()));
+            }
+            throw e;
+        }
+
+        final Optional<String> etag = response.getEtag();
+        final Object phrase = response.getResponsePhrase().orElse(null);
+        if (etag.isPresent() && (phrase instanceof byte[] || phrase instanceof String)) {
+            cache.put(cacheKey, etag.get(), phrase instanceof byte[] ?
+                    (byte[]) phrase : ((String) phrase).getBytes(StandardCharsets.UTF_8));
+        } else {
+            cache.remove(cacheKey);
+        }
+        return response;
+    }
+
+    /**
+     * Determine whether a request reads the whole file and can use the content cache
+     *
+     * @param getInputData UssGetInputData object to drive the request
+     * @return true if cacheable
+     * @author Frank Giordano
+     */
+    private boolean isCacheable(final UssGetInputData getInputData) {
+        return cache != null && getInputData.getSearch().isEmpty() && getInputData.getResearch().isEmpty() &&
+                getInputData.getMaxReturnSize().isEmpty() && getInputData.getRecordsRange().isEmpty();
     }
 
 }
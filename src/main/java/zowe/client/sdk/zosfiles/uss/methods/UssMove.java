@@ -21,6 +21,7 @@ import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -128,7 +129,10 @@ public class UssMove {
         request.setUrl(url);
         request.setBody(JsonUtils.asRequestBodyJson(moveMap));
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        ContentCache.invalidateUssPath(connection, fromPath);
+        ContentCache.invalidateUssPath(connection, targetPath);
+        return response;
     }
 
 }
@@ -0,0 +1,354 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.UssGetInputData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Provides paged, random access reading of a Unix System Services (USS) text file by record (line) number
+ * <p>
+ * Every read sends an X-IBM-Record-Range header, so only the requested records cross the network. This allows
+ * inspecting large log files on USS without retrieving them in full the way {@link UssGet#getText(String)} does.
+ * Record numbers are 0-based.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssRecordReader {
+
+    /**
+     * Default number of records fetched by each request of {@link #lines()}
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private static final Pattern PAST_END = Pattern.compile(
+            "end of (the )?file|\\beof\\b|past (the )?end|beyond (the )?end|out of range", Pattern.CASE_INSENSITIVE);
+
+    private final UssGet ussGet;
+
+    private final String fileNamePath;
+
+    private final int pageSize;
+
+    /**
+     * UssRecordReader constructor with the default page size
+     *
+     * @param connection   for connection information, see ZosConnection object
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @author Frank Giordano
+     */
+    public UssRecordReader(final ZosConnection connection, final String fileNamePath) {
+        this(connection, fileNamePath, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * UssRecordReader constructor
+     *
+     * @param connection   for connection information, see ZosConnection object
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @param pageSize     number of records fetched by each request of {@link #lines()}
+     * @author Frank Giordano
+     */
+    public UssRecordReader(final ZosConnection connection, final String fileNamePath, final int pageSize) {
+        this(new UssGet(connection), fileNamePath, pageSize);
+    }
+
+    /**
+     * Alternative UssRecordReader constructor with UssGet object. This is mainly used for internal code unit
+     * testing, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param ussGet       UssGet object
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @param pageSize     number of records fetched by each request of {@link #lines()}
+     * @author Frank Giordano
+     */
+    UssRecordReader(final UssGet ussGet, final String fileNamePath, final int pageSize) {
+        ValidateUtils.checkNullParameter(ussGet, "ussGet");
+        ValidateUtils.checkIllegalParameter(fileNamePath, "fileNamePath");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
+        }
+        this.ussGet = ussGet;
+        this.fileNamePath = fileNamePath;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Read the first records of the file
+     *
+     * @param count number of records
+     * @return list of records, fewer than count if the file is shorter
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public List<String> head(final int count) throws ZosmfRequestException {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than zero");
+        }
+        return range(0, count);
+    }
+
+    /**
+     * Read the last records of the file
+     *
+     * @param count number of records
+     * @return list of records, fewer than count if the file is shorter
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public List<String> tail(final int count) throws ZosmfRequestException {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be greater than zero");
+        }
+        return read("-" + count);
+    }
+
+    /**
+     * Read the records from one record number up to, but not including, another
+     *
+     * @param from first record, 0-based, inclusive
+     * @param to   last record, 0-based, exclusive
+     * @return list of records, fewer than to - from if the file ends first
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    public List<String> lines(final long from, final long to) throws ZosmfRequestException {
+        if (from < 0) {
+            throw new IllegalArgumentException("from must not be negative");
+        }
+        if (to <= from) {
+            throw new IllegalArgumentException("to must be greater than from");
+        }
+        return range(from, to - from);
+    }
+
+    /**
+     * Lazily stream all records of the file
+     *
+     * @return stream of records, see {@link #lines(long)}
+     * @author Frank Giordano
+     */
+    public Stream<String> lines() {
+        return lines(0);
+    }
+
+    /**
+     * Lazily stream the records of the file starting at the given record
+     * <p>
+     * Pages of records are fetched as the stream is consumed, and the next page is fetched in the background
+     * while the current one is consumed. Close the stream when it is not consumed to the end. A request error
+     * is thrown as an IllegalStateException with the ZosmfRequestException as cause.
+     *
+     * @param from first record, 0-based
+     * @return stream of records
+     * @author Frank Giordano
+     */
+    public Stream<String> lines(final long from) {
+        if (from < 0) {
+            throw new IllegalArgumentException("from must not be negative");
+        }
+        final PageIterator iterator = new PageIterator(from);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(iterator::close);
+    }
+
+    /**
+     * Read count records starting at the given record
+     *
+     * @param from  first record, 0-based
+     * @param count number of records
+     * @return list of records
+     * @throws ZosmfRequestException request error state
+     */
+    private List<String> range(final long from, final long count) throws ZosmfRequestException {
+        return read(from + "," + count);
+    }
+
+    /**
+     * Read the records of the given range. z/OSMF answers a range holding no records, such as any range of an
+     * empty file or one starting past its end, with status 500 and a reason naming the end of the file, which is
+     * returned as no records. Any other error, including a status 500 for another reason, is thrown.
+     *
+     * @param range X-IBM-Record-Range value
+     * @return list of records
+     * @throws ZosmfRequestException request error state
+     */
+    private List<String> read(final String range) throws ZosmfRequestException {
+        final Object phrase;
+        try {
+            phrase = ussGet.getCommon(fileNamePath,
+                    new UssGetInputData.Builder().recordsRange(range).build()).getResponsePhrase().orElse("");
+        } catch (ZosmfRequestException e) {
+            if (isPastEnd(e)) {
+                return Collections.emptyList();
+            }
+            throw e;
+        }
+        return split(phrase.toString());
+    }
+
+    /**
+     * Determine whether the request error reports a record range past the end of the file
+     *
+     * @param e ZosmfRequestException object
+     * @return true for status 500 with a reason naming the end of the file
+     */
+    static boolean isPastEnd(final ZosmfRequestException e) {
+        if (e.getResponse() == null || e.getResponse().getStatusCode().orElse(0) != 500) {
+            return false;
+        }
+        final String reason = e.getResponse().getResponsePhrase()
+                .map(phrase -> phrase instanceof byte[] ?
+                        new String((byte[]) phrase, StandardCharsets.UTF_8) : phrase.toString())
+                .orElse("") + " " + Objects.toString(e.getMessage(), "");
+        return PAST_END.matcher(reason).find();
+    }
+
+    /**
+     * Split text into records, a final line terminator does not start another record
+     *
+     * @param text response text
+     * @return list of records
+     */
+    static List<String> split(final String text) {
+        if (text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<String> records = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = text.indexOf('\n', start)) != -1) {
+            records.add(text.substring(start, end));
+            start = end + 1;
+        }
+        if (start < text.length()) {
+            records.add(text.substring(start));
+        }
+        return records;
+    }
+
+    /**
+     * Read one page for the stream
+     *
+     * @param from first record of the page
+     * @return list of records, fewer than the page size at the end of the file
+     * @throws ZosmfRequestException request error state
+     */
+    List<String> readPage(final long from) throws ZosmfRequestException {
+        return range(from, pageSize);
+    }
+
+    /**
+     * Iterator over the records, fetching one page ahead
+     */
+    private final class PageIterator implements Iterator<String> {
+
+        private long next;
+        private boolean last;
+        private Iterator<String> current = Collections.emptyIterator();
+        private Future<List<String>> ahead;
+        private ExecutorService executor;
+
+        private PageIterator(final long from) {
+            this.next = from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (last) {
+                    close();
+                    return false;
+                }
+                final List<String> page = ahead != null ? await(ahead) : fetch(next);
+                ahead = null;
+                next += page.size();
+                last = page.size() < pageSize;
+                current = page.iterator();
+                if (!last) {
+                    final long start = next;
+                    ahead = executor().submit(() -> readPage(start));
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private List<String> fetch(final long from) {
+            try {
+                return readPage(from);
+            } catch (ZosmfRequestException e) {
+                throw new IllegalStateException("Failed to read records of " + fileNamePath + ": " +
+                        e.getMessage(), e);
+            }
+        }
+
+        private List<String> await(final Future<List<String>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted reading records of " + fileNamePath, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to read records of " + fileNamePath + ": " +
+                        e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        private ExecutorService executor() {
+            if (executor == null) {
+                executor = Executors.newSingleThreadExecutor(ParallelUtils.threadFactory("uss-read-ahead"));
+            }
+            return executor;
+        }
+
+        private void close() {
+            if (ahead != null) {
+                ahead.cancel(true);
+                ahead = null;
+            }
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+}
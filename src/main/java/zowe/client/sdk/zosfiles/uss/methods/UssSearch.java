@@ -0,0 +1,254 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.FanOut;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.UssGetInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssSearchInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixSearchMatch;
+import zowe.client.sdk.zosfiles.uss.types.ListFilterType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Provides a Unix System Services (USS) content search across many files built on the server-side search of
+ * {@link UssGet#getCommon(String, UssGetInputData)}
+ * <p>
+ * Each file is searched with its own requests, with a bounded number of requests running at once. Every request
+ * returns the next matched line only, together with its record number, and the search of a file is repeated on
+ * z/OSMF from the record after that match until no match remains. Only matched lines are transferred, and every
+ * match is found by z/OSMF with its own search semantics. Matches are handed to the consumer as they are found,
+ * and the search stops once the requested number of matches is reached.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSearch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UssSearch.class);
+
+    /**
+     * Response header holding the records returned by a search as SSS,NNN
+     */
+    private static final String RECORD_RANGE = "X-IBM-Record-Range";
+
+    /**
+     * Record count of a range reaching to the end of any file
+     */
+    private static final int REST_OF_FILE = Integer.MAX_VALUE;
+
+    private final Supplier<UssGet> getSupplier;
+    private final Supplier<UssList> listSupplier;
+
+    /**
+     * UssSearch Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public UssSearch(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.getSupplier = () -> new UssGet(connection);
+        this.listSupplier = () -> new UssList(connection);
+    }
+
+    /**
+     * Alternative UssSearch constructor with UssGet and UssList suppliers. This is mainly used for internal code
+     * unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param getSupplier  supplier of the UssGet object used by each worker thread
+     * @param listSupplier supplier of the UssList object used by the tree walk
+     * @author Frank Giordano
+     */
+    UssSearch(final Supplier<UssGet> getSupplier, final Supplier<UssList> listSupplier) {
+        ValidateUtils.checkNullParameter(getSupplier, "getSupplier");
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        this.getSupplier = getSupplier;
+        this.listSupplier = listSupplier;
+    }
+
+    /**
+     * Search the files and hand each matched line to the consumer
+     * <p>
+     * The consumer is called from the worker threads, one call at a time, and is not called again once the
+     * search returns. Matches of different files arrive in no particular order.
+     *
+     * @param searchInputData UssSearchInputData object
+     * @param consumer        receives the matched lines
+     * @return number of matches handed to the consumer
+     * @throws ZosmfRequestException request error state, or the search was interrupted
+     * @author Frank Giordano
+     */
+    public long search(final UssSearchInputData searchInputData, final Consumer<UnixSearchMatch> consumer)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(searchInputData, "searchInputData");
+        ValidateUtils.checkNullParameter(consumer, "consumer");
+        return new Search(searchInputData, consumer).run();
+    }
+
+    /**
+     * Search the files and collect the matched lines
+     *
+     * @param searchInputData UssSearchInputData object
+     * @return list of UnixSearchMatch objects, in the order they were found
+     * @throws ZosmfRequestException request error state, or the search was interrupted
+     * @author Frank Giordano
+     */
+    public List<UnixSearchMatch> search(final UssSearchInputData searchInputData) throws ZosmfRequestException {
+        final List<UnixSearchMatch> matches = new ArrayList<>();
+        search(searchInputData, matches::add);
+        return matches;
+    }
+
+    /**
+     * Parse the first record of a search response, 0-based
+     *
+     * @param response search response
+     * @return first record, empty when z/OSMF did not report the range
+     */
+    private static OptionalLong firstRecord(final Response response) {
+        final String range = response.getHeader(RECORD_RANGE).orElse("");
+        final int comma = range.indexOf(',');
+        try {
+            return comma > 0 ? OptionalLong.of(Long.parseLong(range.substring(0, comma).trim())) :
+                    OptionalLong.empty();
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Thrown from the walk consumer to end the walk once the search is over
+     */
+    private static final class StopWalk extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StopWalk() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * State of one search
+     */
+    private final class Search {
+
+        private final UssSearchInputData inputData;
+        private final FanOut<UnixSearchMatch> fanOut;
+        private final ThreadLocal<UssGet> gets = ThreadLocal.withInitial(getSupplier);
+
+        private Search(final UssSearchInputData inputData, final Consumer<UnixSearchMatch> consumer) {
+            this.inputData = inputData;
+            this.fanOut = new FanOut<>(inputData.getMaxConcurrency(), "uss-search", inputData.getMaxMatches(),
+                    consumer);
+        }
+
+        private long run() throws ZosmfRequestException {
+            try {
+                if (inputData.getWalk().isPresent()) {
+                    new UssWalk(listSupplier).walk(inputData.getWalk().get(), entry -> {
+                        if (fanOut.isOver()) {
+                            throw new StopWalk();
+                        }
+                        if (ListFilterType.FILE.getValue().equals(entry.getFile().getType())) {
+                            fanOut.submit(() -> search(entry.getPath()));
+                        }
+                    });
+                } else {
+                    for (final String file : inputData.getFiles()) {
+                        if (fanOut.isOver()) {
+                            break;
+                        }
+                        fanOut.submit(() -> search(file));
+                    }
+                }
+            } catch (StopWalk e) {
+                // search ended while walking
+            } catch (ZosmfRequestException | RuntimeException e) {
+                fanOut.fail(e);
+            }
+            return fanOut.await();
+        }
+
+        private void search(final String file) {
+            try {
+                final UssGet get = gets.get();
+                long from = 0;
+                while (!fanOut.isOver()) {
+                    final UssGetInputData.Builder builder = new UssGetInputData.Builder()
+                            .insensitive(inputData.isInsensitive())
+                            .maxreturnsize(1);
+                    inputData.getSearch().ifPresent(builder::search);
+                    inputData.getResearch().ifPresent(builder::research);
+                    if (from > 0) {
+                        // search again from the record after the last match
+                        builder.recordsRange(from + "," + REST_OF_FILE);
+                    }
+                    final Response response;
+                    try {
+                        response = get.getCommon(file, builder.build());
+                    } catch (ZosmfRequestException e) {
+                        if (from > 0 && UssRecordReader.isPastEnd(e)) {
+                            return;
+                        }
+                        throw e;
+                    }
+                    final List<String> lines = UssRecordReader.split(response.getResponsePhrase()
+                            .map(Object::toString).orElse(""));
+                    if (lines.isEmpty()) {
+                        return;
+                    }
+                    final long record = firstRecord(response).orElseThrow(() -> new ZosmfRequestException(
+                            "z/OSMF returned no record range for the search of " + file));
+                    if (record < from) {
+                        throw new ZosmfRequestException("z/OSMF ignored the record range for the search of " +
+                                file);
+                    }
+                    if (!emit(file, record, lines.get(0))) {
+                        return;
+                    }
+                    from = record + 1;
+                }
+            } catch (ZosmfRequestException e) {
+                if (inputData.isSkipErrors()) {
+                    LOG.warn("skipping file {}: {}", file, e.getMessage());
+                } else {
+                    fanOut.fail(e);
+                }
+            }
+        }
+
+        /**
+         * Hand a match to the consumer
+         *
+         * @param file   file path
+         * @param record record of the match, 0-based
+         * @param line   matched line
+         * @return false once the search is over
+         */
+        private boolean emit(final String file, final long record, final String line) {
+            return fanOut.emit(new UnixSearchMatch(file, record + 1, line));
+        }
+    }
+
+}
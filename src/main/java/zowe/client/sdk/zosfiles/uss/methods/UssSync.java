@@ -0,0 +1,534 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeModeInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssCreateInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssSyncInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWalkInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.model.UnixTreeEntry;
+import zowe.client.sdk.zosfiles.uss.response.UssSyncResponse;
+import zowe.client.sdk.zosfiles.uss.types.CreateType;
+import zowe.client.sdk.zosfiles.uss.types.ListFilterType;
+import zowe.client.sdk.zosfiles.uss.types.SyncDirection;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Provides an incremental sync between a local directory tree and a Unix System Services (USS) directory tree
+ * <p>
+ * The local tree is compared with a remote listing from {@link UssWalk}, and only files that changed are
+ * transferred, in parallel. Uploads are written with {@link UssWrite} in binary, and downloads read with
+ * {@link UssGet} in binary. After the transfers, permissions are applied with {@link UssChangeMode}, tags with
+ * {@link UssChangeTag}, and target entries that are not in the source are deleted when requested.
+ * <p>
+ * Without a state file, a file is transferred when its size differs or the source is newer than the target.
+ * With a state file, a file is transferred only when either side changed since the last sync, which does not
+ * depend on the local and z/OS clocks agreeing.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSync {
+
+    private final UssWalk ussWalk;
+
+    private final Supplier<UssGet> getSupplier;
+
+    private final Supplier<UssWrite> writeSupplier;
+
+    private final Supplier<UssCreate> createSupplier;
+
+    private final Supplier<UssDelete> deleteSupplier;
+
+    private final Supplier<UssChangeMode> changeModeSupplier;
+
+    private final Supplier<UssChangeTag> changeTagSupplier;
+
+    /**
+     * UssSync Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public UssSync(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.ussWalk = new UssWalk(connection);
+        this.getSupplier = () -> new UssGet(connection);
+        this.writeSupplier = () -> new UssWrite(connection);
+        this.createSupplier = () -> new UssCreate(connection);
+        this.deleteSupplier = () -> new UssDelete(connection);
+        this.changeModeSupplier = () -> new UssChangeMode(connection);
+        this.changeTagSupplier = () -> new UssChangeTag(connection);
+    }
+
+    /**
+     * Alternative UssSync constructor with a UssWalk object and suppliers of the USS method objects. This is
+     * mainly used for internal code unit testing with Mockito, and it is not recommended to be used by the larger
+     * community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param ussWalk            UssWalk object listing the remote tree
+     * @param getSupplier        supplier of the UssGet object used by each worker thread
+     * @param writeSupplier      supplier of the UssWrite object used by each worker thread
+     * @param createSupplier     supplier of the UssCreate object creating the remote directories
+     * @param deleteSupplier     supplier of the UssDelete object used by each worker thread
+     * @param changeModeSupplier supplier of the UssChangeMode object used by each worker thread
+     * @param changeTagSupplier  supplier of the UssChangeTag object used by each worker thread
+     * @author Frank Giordano
+     */
+    UssSync(final UssWalk ussWalk, final Supplier<UssGet> getSupplier, final Supplier<UssWrite> writeSupplier,
+            final Supplier<UssCreate> createSupplier, final Supplier<UssDelete> deleteSupplier,
+            final Supplier<UssChangeMode> changeModeSupplier, final Supplier<UssChangeTag> changeTagSupplier) {
+        ValidateUtils.checkNullParameter(ussWalk, "ussWalk");
+        ValidateUtils.checkNullParameter(getSupplier, "getSupplier");
+        ValidateUtils.checkNullParameter(writeSupplier, "writeSupplier");
+        ValidateUtils.checkNullParameter(createSupplier, "createSupplier");
+        ValidateUtils.checkNullParameter(deleteSupplier, "deleteSupplier");
+        ValidateUtils.checkNullParameter(changeModeSupplier, "changeModeSupplier");
+        ValidateUtils.checkNullParameter(changeTagSupplier, "changeTagSupplier");
+        this.ussWalk = ussWalk;
+        this.getSupplier = getSupplier;
+        this.writeSupplier = writeSupplier;
+        this.createSupplier = createSupplier;
+        this.deleteSupplier = deleteSupplier;
+        this.changeModeSupplier = changeModeSupplier;
+        this.changeTagSupplier = changeTagSupplier;
+    }
+
+    /**
+     * Sync the local and USS directory trees in the direction given by the input data
+     *
+     * @param syncInputData UssSyncInputData object
+     * @return UssSyncResponse object
+     * @throws ZosmfRequestException request error state
+     * @throws IOException           error reading or writing a local file or the state file
+     * @author Frank Giordano
+     */
+    public UssSyncResponse sync(final UssSyncInputData syncInputData) throws ZosmfRequestException, IOException {
+        ValidateUtils.checkNullParameter(syncInputData, "syncInputData");
+        final boolean push = syncInputData.getDirection() == SyncDirection.PUSH;
+        final Path localDir = syncInputData.getLocalDir();
+        if (push && !Files.isDirectory(localDir)) {
+            throw new IllegalArgumentException("local directory not found: " + localDir);
+        }
+        final String remoteDir = trimSlash(syncInputData.getRemoteDir());
+        final SyncState state = syncInputData.getStateFile().isPresent() ?
+                SyncState.load(syncInputData.getStateFile().get()) : new SyncState();
+
+        final Map<String, LocalFile> localFiles = listLocal(localDir, syncInputData);
+        final Map<String, UnixFile> remoteFiles = listRemote(remoteDir, syncInputData, push);
+
+        // plan the work, in relative path order so parent directories come first
+        final List<String> directories = new ArrayList<>();
+        final List<String> transfers = new ArrayList<>();
+        int unchanged = 0;
+        final Map<String, ?> source = push ? localFiles : remoteFiles;
+        final Map<String, ?> target = push ? remoteFiles : localFiles;
+        for (final String relativePath : source.keySet()) {
+            final boolean directory = push ? localFiles.get(relativePath).directory :
+                    isDirectory(remoteFiles.get(relativePath));
+            if (directory) {
+                if (!target.containsKey(relativePath)) {
+                    directories.add(relativePath);
+                }
+            } else if (inSync(localFiles.get(relativePath), remoteFiles.get(relativePath),
+                    state.get(relativePath), syncInputData, push)) {
+                unchanged++;
+            } else {
+                transfers.add(relativePath);
+            }
+        }
+        final List<String> deletes = new ArrayList<>();
+        if (syncInputData.isDelete()) {
+            final Set<String> deletedDirs = new HashSet<>();
+            for (final String relativePath : target.keySet()) {
+                if (source.containsKey(relativePath) || hasAncestor(relativePath, deletedDirs)) {
+                    // kept, or removed with its directory
+                    continue;
+                }
+                deletes.add(relativePath);
+                final boolean directory = push ? isDirectory(remoteFiles.get(relativePath)) :
+                        localFiles.get(relativePath).directory;
+                if (directory) {
+                    deletedDirs.add(relativePath);
+                }
+            }
+        }
+
+        // directories one at a time, parents before children
+        if (!push) {
+            Files.createDirectories(localDir);
+        }
+        final UssCreate ussCreate = push && !directories.isEmpty() ? createSupplier.get() : null;
+        for (final String relativePath : directories) {
+            if (push) {
+                mkdir(ussCreate, remoteDir + "/" + relativePath);
+            } else {
+                Files.createDirectories(localDir.resolve(relativePath));
+            }
+        }
+
+        // the method objects hold their request, so each worker thread sends with its own
+        final ThreadLocal<UssGet> gets = ThreadLocal.withInitial(getSupplier);
+        final ThreadLocal<UssWrite> writes = ThreadLocal.withInitial(writeSupplier);
+        final ThreadLocal<UssDelete> removes = ThreadLocal.withInitial(deleteSupplier);
+        final ThreadLocal<UssChangeMode> changeModes = ThreadLocal.withInitial(changeModeSupplier);
+        final ThreadLocal<UssChangeTag> changeTags = ThreadLocal.withInitial(changeTagSupplier);
+        final int concurrency = syncInputData.getMaxConcurrency();
+        final List<Transferred> transferred = ParallelUtils.runAll(transfers, concurrency, "sync",
+                relativePath -> push ? upload(writes.get(), localDir, remoteDir, relativePath, syncInputData) :
+                        download(gets.get(), localDir, remoteDir, relativePath, remoteFiles.get(relativePath),
+                                syncInputData));
+        if (push) {
+            ParallelUtils.runAll(transfers, concurrency, "sync", relativePath -> {
+                applyAttributes(changeModes.get(), changeTags.get(), localDir, remoteDir, relativePath,
+                        syncInputData);
+                return null;
+            });
+        }
+        ParallelUtils.runAll(deletes, concurrency, "sync", relativePath -> {
+            if (push) {
+                removes.get().delete(remoteDir + "/" + relativePath, isDirectory(remoteFiles.get(relativePath)));
+            } else {
+                deleteLocal(localDir.resolve(relativePath));
+            }
+            return null;
+        });
+
+        if (syncInputData.getStateFile().isPresent()) {
+            // uploads changed the remote times, list again to record them
+            final Map<String, UnixFile> remoteNow = push && !transferred.isEmpty() ?
+                    listRemote(remoteDir, syncInputData, true) : remoteFiles;
+            saveState(state, localDir, remoteNow, transferred, syncInputData);
+        }
+
+        long bytes = 0;
+        final List<String> paths = new ArrayList<>(transferred.size());
+        for (final Transferred result : transferred) {
+            paths.add(result.relativePath);
+            bytes += result.bytes;
+        }
+        return new UssSyncResponse(paths, deletes, unchanged, bytes);
+    }
+
+    /**
+     * Whether the target file already matches the source file
+     *
+     * @param local         local file, or null
+     * @param remoteFile    remote file, or null
+     * @param recorded      state recorded by the last sync, or null
+     * @param syncInputData UssSyncInputData object
+     * @param push          true when the local tree is the source
+     * @return true if the file need not be transferred
+     */
+    private boolean inSync(final LocalFile local, final UnixFile remoteFile, final SyncState.Entry recorded,
+                           final UssSyncInputData syncInputData, final boolean push) throws IOException {
+        if (local == null || remoteFile == null || local.directory || isDirectory(remoteFile)) {
+            return false;
+        }
+        if (recorded != null) {
+            if (recorded.remoteSize != remoteFile.getSize() || !recorded.remoteMtime.equals(remoteFile.getMtime())) {
+                // changed on z/OS since the last sync
+                return false;
+            }
+            if (recorded.localSize == local.size && recorded.localTime == local.time) {
+                return true;
+            }
+            // touched locally, unchanged if the content is the same
+            return syncInputData.isChecksum() && recorded.sha256 != null && recorded.localSize == local.size &&
+                    recorded.sha256.equals(sha256(Files.readAllBytes(local.path)));
+        }
+        if (local.size != remoteFile.getSize()) {
+            return false;
+        }
+        final long remoteTime = remoteTime(remoteFile, syncInputData);
+        if (remoteTime == Long.MIN_VALUE) {
+            return false;
+        }
+        // z/OSMF reports whole seconds
+        final long localTime = TimeUnit.MILLISECONDS.toSeconds(local.time);
+        final long remoteSeconds = TimeUnit.MILLISECONDS.toSeconds(remoteTime);
+        return push ? localTime <= remoteSeconds : remoteSeconds <= localTime;
+    }
+
+    private static Transferred upload(final UssWrite ussWrite, final Path localDir, final String remoteDir,
+                                      final String relativePath, final UssSyncInputData syncInputData)
+            throws ZosmfRequestException, IOException {
+        final byte[] content = Files.readAllBytes(localDir.resolve(relativePath));
+        ussWrite.writeBinary(remoteDir + "/" + relativePath, content);
+        return new Transferred(relativePath, content.length, syncInputData.isChecksum() ? sha256(content) : null);
+    }
+
+    private static Transferred download(final UssGet ussGet, final Path localDir, final String remoteDir,
+                                        final String relativePath, final UnixFile remoteFile,
+                                        final UssSyncInputData syncInputData)
+            throws ZosmfRequestException, IOException {
+        final byte[] content = ussGet.getBinary(remoteDir + "/" + relativePath);
+        final Path file = localDir.resolve(relativePath);
+        Files.write(file, content);
+        final long remoteTime = remoteTime(remoteFile, syncInputData);
+        if (remoteTime != Long.MIN_VALUE) {
+            // keeps the next sync without a state file from transferring the file back
+            Files.setLastModifiedTime(file, FileTime.fromMillis(remoteTime));
+        }
+        return new Transferred(relativePath, content.length, syncInputData.isChecksum() ? sha256(content) : null);
+    }
+
+    private static void applyAttributes(final UssChangeMode ussChangeMode, final UssChangeTag ussChangeTag,
+                                        final Path localDir, final String remoteDir, final String relativePath,
+                                        final UssSyncInputData syncInputData)
+            throws ZosmfRequestException, IOException {
+        final String remotePath = remoteDir + "/" + relativePath;
+        String mode = syncInputData.getMode().orElse(null);
+        if (syncInputData.isPreserveMode()) {
+            try {
+                mode = PosixFilePermissions.toString(Files.getPosixFilePermissions(localDir.resolve(relativePath)));
+            } catch (UnsupportedOperationException e) {
+                // no POSIX permissions on this file system, keep the configured mode if any
+            }
+        }
+        if (mode != null) {
+            ussChangeMode.change(remotePath, new UssChangeModeInputData.Builder().mode(mode).build());
+        }
+        final String tag = syncInputData.getTag(relativePath).orElse(null);
+        if (UssSyncInputData.BINARY_TAG.equals(tag)) {
+            ussChangeTag.binary(remotePath);
+        } else if (tag != null) {
+            ussChangeTag.text(remotePath, tag);
+        }
+    }
+
+    private static void mkdir(final UssCreate ussCreate, final String path) throws ZosmfRequestException {
+        ussCreate.create(path, new UssCreateInputData(CreateType.DIR, "rwxr-xr-x"));
+    }
+
+    private void saveState(final SyncState state, final Path localDir, final Map<String, UnixFile> remoteFiles,
+                           final List<Transferred> transferred, final UssSyncInputData syncInputData)
+            throws IOException {
+        final Map<String, String> hashes = new HashMap<>();
+        transferred.forEach(result -> hashes.put(result.relativePath, result.sha256));
+        final SyncState next = new SyncState();
+        for (final Map.Entry<String, UnixFile> entry : remoteFiles.entrySet()) {
+            final String relativePath = entry.getKey();
+            final Path file = localDir.resolve(relativePath);
+            if (isDirectory(entry.getValue()) || !Files.isRegularFile(file)) {
+                continue;
+            }
+            final long size = Files.size(file);
+            final long time = Files.getLastModifiedTime(file).toMillis();
+            String sha256 = hashes.get(relativePath);
+            if (sha256 == null && syncInputData.isChecksum()) {
+                final SyncState.Entry recorded = state.get(relativePath);
+                sha256 = recorded != null && recorded.localSize == size && recorded.localTime == time ?
+                        recorded.sha256 : null;
+                if (sha256 == null) {
+                    sha256 = sha256(Files.readAllBytes(file));
+                }
+            }
+            next.put(relativePath, new SyncState.Entry(size, time, entry.getValue().getSize(),
+                    entry.getValue().getMtime(), sha256));
+        }
+        next.save(syncInputData.getStateFile().orElseThrow());
+    }
+
+    private Map<String, LocalFile> listLocal(final Path localDir, final UssSyncInputData syncInputData)
+            throws IOException {
+        final Map<String, LocalFile> files = new TreeMap<>();
+        if (!Files.isDirectory(localDir)) {
+            return files;
+        }
+        final Path stateFile = syncInputData.getStateFile().map(Path::toAbsolutePath).orElse(null);
+        Files.walkFileTree(localDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                if (dir.equals(localDir)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                final String relativePath = relativize(localDir, dir);
+                if (syncInputData.isExcluded(relativePath)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                files.put(relativePath, new LocalFile(dir, true, 0, 0));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                final String relativePath = relativize(localDir, file);
+                if (attrs.isRegularFile() && !syncInputData.isExcluded(relativePath) &&
+                        !file.toAbsolutePath().equals(stateFile)) {
+                    files.put(relativePath, new LocalFile(file, false, attrs.size(),
+                            attrs.lastModifiedTime().toMillis()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    private Map<String, UnixFile> listRemote(final String remoteDir, final UssSyncInputData syncInputData,
+                                             final boolean push) throws ZosmfRequestException {
+        final List<UnixTreeEntry> entries;
+        try {
+            entries = ussWalk.walk(new UssWalkInputData.Builder(remoteDir)
+                    .maxConcurrency(syncInputData.getMaxConcurrency())
+                    .build());
+        } catch (ZosmfRequestException e) {
+            if (push && e.getResponse() != null && e.getResponse().getStatusCode().orElse(0) == 404) {
+                mkdir(createSupplier.get(), remoteDir);
+                return new TreeMap<>();
+            }
+            throw e;
+        }
+        final Map<String, UnixFile> files = new TreeMap<>();
+        final String prefix = remoteDir.endsWith("/") ? remoteDir : remoteDir + "/";
+        for (final UnixTreeEntry entry : entries) {
+            final String relativePath = entry.getPath().substring(prefix.length());
+            final String type = entry.getFile().getType();
+            final boolean kept = ListFilterType.DIRECTORY.getValue().equals(type) ||
+                    ListFilterType.FILE.getValue().equals(type);
+            if (kept && !isExcludedPath(relativePath, syncInputData)) {
+                files.put(relativePath, entry.getFile());
+            }
+        }
+        return files;
+    }
+
+    private static boolean hasAncestor(final String relativePath, final Set<String> directories) {
+        int slash = relativePath.indexOf('/');
+        while (slash > 0) {
+            if (directories.contains(relativePath.substring(0, slash))) {
+                return true;
+            }
+            slash = relativePath.indexOf('/', slash + 1);
+        }
+        return false;
+    }
+
+    private static boolean isExcludedPath(final String relativePath, final UssSyncInputData syncInputData) {
+        // the remote listing is not pruned, so check every parent as well
+        int slash = relativePath.indexOf('/');
+        while (slash > 0) {
+            if (syncInputData.isExcluded(relativePath.substring(0, slash))) {
+                return true;
+            }
+            slash = relativePath.indexOf('/', slash + 1);
+        }
+        return syncInputData.isExcluded(relativePath);
+    }
+
+    private static boolean isDirectory(final UnixFile file) {
+        return file != null && ListFilterType.DIRECTORY.getValue().equals(file.getType());
+    }
+
+    private static long remoteTime(final UnixFile file, final UssSyncInputData syncInputData) {
+        try {
+            return LocalDateTime.parse(file.getMtime()).atZone(syncInputData.getRemoteZone())
+                    .toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static String relativize(final Path root, final Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static String trimSlash(final String path) {
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static void deleteLocal(final Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (final Stream<Path> walk = Files.walk(path)) {
+                for (final Path child : (Iterable<Path>) walk.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(child);
+                }
+            }
+        } else {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static String sha256(final byte[] content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Local file found by the listing
+     */
+    private static final class LocalFile {
+        private final Path path;
+        private final boolean directory;
+        private final long size;
+        private final long time;
+
+        private LocalFile(final Path path, final boolean directory, final long size, final long time) {
+            this.path = path;
+            this.directory = directory;
+            this.size = size;
+            this.time = time;
+        }
+    }
+
+    /**
+     * Result of one transfer
+     */
+    private static final class Transferred {
+        private final String relativePath;
+        private final long bytes;
+        private final String sha256;
+
+        private Transferred(final String relativePath, final long bytes, final String sha256) {
+            this.relativePath = relativePath;
+            this.bytes = bytes;
+            this.sha256 = sha256;
+        }
+    }
+
+}
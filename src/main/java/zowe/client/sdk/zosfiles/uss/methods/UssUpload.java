@@ -0,0 +1,225 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.UssCreateInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssUploadInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWriteInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixUploadedFile;
+import zowe.client.sdk.zosfiles.uss.response.UssUploadResponse;
+import zowe.client.sdk.zosfiles.uss.types.CreateType;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Provides Unix System Services (USS) bulk upload of a local directory tree
+ * <p>
+ * The remote directories are created first, one request per directory, with the directories of one level created
+ * in parallel. The files are then streamed from disk in parallel, each read while its request is sent rather than
+ * held in memory, in text or binary mode by file extension. Text files are tagged with their file encoding.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssUpload {
+
+    private final Supplier<UssCreate> createSupplier;
+
+    private final Supplier<UssWrite> writeSupplier;
+
+    private final Supplier<UssChangeTag> changeTagSupplier;
+
+    /**
+     * UssUpload Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public UssUpload(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.createSupplier = () -> new UssCreate(connection);
+        this.writeSupplier = () -> new UssWrite(connection);
+        this.changeTagSupplier = () -> new UssChangeTag(connection);
+    }
+
+    /**
+     * Alternative UssUpload constructor with UssCreate, UssWrite and UssChangeTag suppliers. This is mainly used
+     * for internal code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param createSupplier    supplier of the UssCreate object used by each worker thread
+     * @param writeSupplier     supplier of the UssWrite object used by each worker thread
+     * @param changeTagSupplier supplier of the UssChangeTag object used by each worker thread
+     * @author Frank Giordano
+     */
+    UssUpload(final Supplier<UssCreate> createSupplier, final Supplier<UssWrite> writeSupplier,
+              final Supplier<UssChangeTag> changeTagSupplier) {
+        ValidateUtils.checkNullParameter(createSupplier, "createSupplier");
+        ValidateUtils.checkNullParameter(writeSupplier, "writeSupplier");
+        ValidateUtils.checkNullParameter(changeTagSupplier, "changeTagSupplier");
+        this.createSupplier = createSupplier;
+        this.writeSupplier = writeSupplier;
+        this.changeTagSupplier = changeTagSupplier;
+    }
+
+    /**
+     * Upload the local directory tree to the remote directory, replacing files already there
+     *
+     * @param uploadInputData UssUploadInputData object
+     * @return UssUploadResponse object with the size and time of every file uploaded
+     * @throws ZosmfRequestException first request error, the remaining work is cancelled
+     * @throws IOException           error reading the local directory or a local file
+     * @author Frank Giordano
+     */
+    public UssUploadResponse upload(final UssUploadInputData uploadInputData)
+            throws ZosmfRequestException, IOException {
+        ValidateUtils.checkNullParameter(uploadInputData, "uploadInputData");
+        final Path localDir = uploadInputData.getLocalDir();
+        if (!Files.isDirectory(localDir)) {
+            throw new NotDirectoryException(localDir.toString());
+        }
+        final String remoteDir = uploadInputData.getRemoteDir();
+        final int concurrency = uploadInputData.getMaxConcurrency();
+        final long start = System.nanoTime();
+
+        // relative directories grouped by depth, since a directory can only be created inside an existing one
+        final Map<Integer, List<String>> levels = new TreeMap<>();
+        final List<String> files = new ArrayList<>();
+        Files.walkFileTree(localDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                if (!dir.equals(localDir)) {
+                    final String relativePath = relativize(localDir, dir);
+                    levels.computeIfAbsent(depth(relativePath), k -> new ArrayList<>()).add(relativePath);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    files.add(relativize(localDir, file));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        // the method objects hold their request, so each worker thread sends with its own
+        final ThreadLocal<UssCreate> creates = ThreadLocal.withInitial(createSupplier);
+        final ThreadLocal<UssWrite> writes = ThreadLocal.withInitial(writeSupplier);
+        final ThreadLocal<UssChangeTag> changeTags = ThreadLocal.withInitial(changeTagSupplier);
+
+        final String mode = uploadInputData.getDirectoryMode();
+        int created = mkdir(creates.get(), remoteDir, mode) ? 1 : 0;
+        for (final List<String> level : levels.values()) {
+            for (final Boolean result : ParallelUtils.runAll(level, concurrency, "upload",
+                    relativePath -> mkdir(creates.get(), remoteDir + "/" + relativePath, mode))) {
+                created += result ? 1 : 0;
+            }
+        }
+
+        final List<UnixUploadedFile> uploaded = ParallelUtils.runAll(files, concurrency, "upload",
+                relativePath -> uploadFile(writes.get(), changeTags.get(), localDir.resolve(relativePath),
+                        remoteDir + "/" + relativePath, uploadInputData));
+        return new UssUploadResponse(uploaded, created,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Create a directory
+     *
+     * @param ussCreate UssCreate object of the worker thread
+     * @param path      remote directory path
+     * @param mode      permission bits of the directory
+     * @return false when the directory already exists
+     * @throws ZosmfRequestException request error
+     */
+    private static boolean mkdir(final UssCreate ussCreate, final String path, final String mode)
+            throws ZosmfRequestException {
+        try {
+            ussCreate.create(path, new UssCreateInputData(CreateType.DIR, mode));
+            return true;
+        } catch (ZosmfRequestException e) {
+            if (isExists(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Upload one file and tag it when it is a text file
+     *
+     * @param ussWrite        UssWrite object of the worker thread
+     * @param ussChangeTag    UssChangeTag object of the worker thread
+     * @param local           local file
+     * @param remotePath      remote file path
+     * @param uploadInputData UssUploadInputData object
+     * @return UnixUploadedFile object
+     * @throws ZosmfRequestException request error
+     * @throws IOException           error reading the local file
+     */
+    private static UnixUploadedFile uploadFile(final UssWrite ussWrite, final UssChangeTag ussChangeTag,
+                                               final Path local, final String remotePath,
+                                               final UssUploadInputData uploadInputData)
+            throws ZosmfRequestException, IOException {
+        final Optional<String> fileEncoding = uploadInputData.getFileEncoding(local.getFileName().toString());
+        final long size = Files.size(local);
+        final long begin = System.nanoTime();
+        ussWrite.writeCommon(remotePath, new UssWriteInputData.Builder()
+                .localFile(local)
+                .binary(fileEncoding.isEmpty())
+                .fileEncoding(fileEncoding.orElse(null))
+                .build());
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        if (fileEncoding.isPresent() && uploadInputData.isTag()) {
+            ussChangeTag.text(remotePath, fileEncoding.get());
+        }
+        return new UnixUploadedFile(remotePath, size, elapsedMillis, fileEncoding.orElse(null));
+    }
+
+    private static String relativize(final Path root, final Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static int depth(final String relativePath) {
+        return (int) relativePath.chars().filter(c -> c == '/').count();
+    }
+
+    /**
+     * Determine whether a create request failed because the path exists
+     *
+     * @param e ZosmfRequestException object
+     * @return true when z/OSMF reported EDC5117I File exists
+     */
+    static boolean isExists(final ZosmfRequestException e) {
+        final String message = e.getMessage();
+        return message != null && (message.contains("EDC5117I") || message.contains("File exists"));
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.FanOut;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosfiles.uss.input.UssListInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWalkInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.model.UnixTreeEntry;
+import zowe.client.sdk.zosfiles.uss.types.ListFilterType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Provides a Unix System Services (USS) tree walk built on {@link UssList#getFiles(UssListInputData)}
+ * <p>
+ * A single list request with a depth value returns one flat list capped by X-IBM-Max-Items, which times out or
+ * is cut short on deep trees. The walk instead lists one directory per request, breadth-first, with a bounded
+ * number of requests running at once, and hands each entry to the consumer as soon as its directory is listed.
+ * Only the paths of directories still to be listed are kept in memory.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssWalk {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UssWalk.class);
+
+    /**
+     * X-IBM-Max-Items value used for each directory, z/OSMF returns 1000 entries when the header is not sent
+     */
+    private static final int MAX_ITEMS = Integer.MAX_VALUE;
+
+    private final Supplier<UssList> listSupplier;
+
+    /**
+     * UssWalk Constructor
+     *
+     * @param connection for connection information, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public UssWalk(final ZosConnection connection) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        this.listSupplier = () -> new UssList(connection);
+    }
+
+    /**
+     * Alternative UssWalk constructor with a UssList supplier. This is mainly used for internal code unit
+     * testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param listSupplier supplier of the UssList object used by each worker thread
+     * @author Frank Giordano
+     */
+    UssWalk(final Supplier<UssList> listSupplier) {
+        ValidateUtils.checkNullParameter(listSupplier, "listSupplier");
+        this.listSupplier = listSupplier;
+    }
+
+    /**
+     * Walk the directory tree and hand each entry selected by the filter to the consumer
+     * <p>
+     * The consumer is called from the worker threads, one call at a time. Directories are descended whether
+     * or not the filter selects them.
+     *
+     * @param walkInputData UssWalkInputData object
+     * @param consumer      receives the selected entries
+     * @return number of entries handed to the consumer
+     * @throws ZosmfRequestException request error state, or the walk was interrupted
+     * @author Frank Giordano
+     */
+    public long walk(final UssWalkInputData walkInputData, final Consumer<UnixTreeEntry> consumer)
+            throws ZosmfRequestException {
+        ValidateUtils.checkNullParameter(walkInputData, "walkInputData");
+        ValidateUtils.checkNullParameter(consumer, "consumer");
+        return new Walk(walkInputData, consumer).run();
+    }
+
+    /**
+     * Walk the directory tree and collect the entries selected by the filter
+     *
+     * @param walkInputData UssWalkInputData object
+     * @return list of UnixTreeEntry objects, in the order they were found
+     * @throws ZosmfRequestException request error state, or the walk was interrupted
+     * @author Frank Giordano
+     */
+    public List<UnixTreeEntry> walk(final UssWalkInputData walkInputData) throws ZosmfRequestException {
+        final List<UnixTreeEntry> entries = new ArrayList<>();
+        walk(walkInputData, entries::add);
+        return entries;
+    }
+
+    /**
+     * State of one walk
+     */
+    private final class Walk {
+
+        private final UssWalkInputData inputData;
+        private final FanOut<UnixTreeEntry> fanOut;
+        private final ThreadLocal<UssList> lists = ThreadLocal.withInitial(listSupplier);
+
+        private Walk(final UssWalkInputData inputData, final Consumer<UnixTreeEntry> consumer) {
+            this.inputData = inputData;
+            this.fanOut = new FanOut<>(inputData.getMaxConcurrency(), "uss-walk", Long.MAX_VALUE, consumer);
+        }
+
+        private long run() throws ZosmfRequestException {
+            submit(new Directory(inputData.getPath(), inputData.getPath(), false, 1, null));
+            return fanOut.await();
+        }
+
+        private void submit(final Directory directory) {
+            // the FIFO work queue lists the tree level by level
+            fanOut.submit(() -> list(directory));
+        }
+
+        private void list(final Directory directory) {
+            try {
+                // links are reported with their target, which is needed to follow them
+                final List<UnixFile> files = lists.get().getFiles(new UssListInputData.Builder()
+                        .path(directory.path)
+                        .maxLength(MAX_ITEMS)
+                        .symlinks(true)
+                        .build());
+                if (directory.link && files.stream().noneMatch(file -> ".".equals(file.getName()))) {
+                    // the link resolves to a file, already reported with its directory
+                    return;
+                }
+                final int depth = directory.depth;
+                final List<UnixTreeEntry> selected = new ArrayList<>();
+                for (final UnixFile file : files) {
+                    final String name = file.getName();
+                    if (".".equals(name) || "..".equals(name)) {
+                        continue;
+                    }
+                    final String path = child(directory.path, name);
+                    if (depth < inputData.getMaxDepth()) {
+                        if (ListFilterType.DIRECTORY.getValue().equals(file.getType())) {
+                            submit(new Directory(path, child(directory.realPath, name), false, depth + 1, directory));
+                        } else if (inputData.isFollowSymlinks() &&
+                                ListFilterType.SYMBOLIC_LINK.getValue().equals(file.getType()) &&
+                                file.getTarget() != null && !file.getTarget().isEmpty()) {
+                            final String target = resolve(directory.realPath, file.getTarget());
+                            if (directory.isCycle(target)) {
+                                LOG.debug("not following {} to {}, it leads back into the walk", path, target);
+                            } else {
+                                submit(new Directory(path, target, true, depth + 1, directory));
+                            }
+                        }
+                    }
+                    if (inputData.getFilter().test(file)) {
+                        selected.add(new UnixTreeEntry(path, depth, file));
+                    }
+                }
+                selected.forEach(fanOut::emit);
+            } catch (ZosmfRequestException e) {
+                if (directory.link) {
+                    // dangling links are common, they do not fail the walk
+                    LOG.debug("skipping link {}: {}", directory.path, e.getMessage());
+                } else if (inputData.isSkipErrors()) {
+                    LOG.warn("skipping directory {}: {}", directory.path, e.getMessage());
+                } else {
+                    fanOut.fail(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Directory still to be listed, with the chain of directories the walk went through to reach it
+     */
+    private static final class Directory {
+
+        /**
+         * Path reported for the entries of the directory, through the links followed
+         */
+        private final String path;
+
+        /**
+         * Path of the directory with the links followed resolved
+         */
+        private final String realPath;
+
+        /**
+         * Whether the directory is reached through a symbolic link, which may resolve to a file
+         */
+        private final boolean link;
+
+        /**
+         * Depth of the entries of the directory, 1 for the walk root
+         */
+        private final int depth;
+
+        /**
+         * Directory the walk went through to reach this one, null for the walk root
+         */
+        private final Directory parent;
+
+        private Directory(final String path, final String realPath, final boolean link, final int depth,
+                          final Directory parent) {
+            this.path = path;
+            this.realPath = realPath;
+            this.link = link;
+            this.depth = depth;
+            this.parent = parent;
+        }
+
+        /**
+         * Return true when following a link to the target would list a directory of this branch again
+         *
+         * @param target resolved target path of the link
+         * @return true when the target is this directory, one it was reached through, or one of their parents
+         */
+        private boolean isCycle(final String target) {
+            final String prefix = target.endsWith("/") ? target : target + "/";
+            for (Directory directory = this; directory != null; directory = directory.parent) {
+                if (directory.realPath.equals(target) || directory.realPath.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Path of an entry of a directory
+     *
+     * @param directory directory path
+     * @param name      entry name
+     * @return entry path
+     */
+    private static String child(final String directory, final String name) {
+        return directory.endsWith("/") ? directory + name : directory + "/" + name;
+    }
+
+    /**
+     * Resolve the target of a symbolic link to a normalized absolute path
+     *
+     * @param directory real path of the directory holding the link
+     * @param target    link target, absolute or relative to the directory
+     * @return normalized absolute path
+     */
+    static String resolve(final String directory, final String target) {
+        final Deque<String> names = new ArrayDeque<>();
+        final String path = target.startsWith("/") ? target : child(directory, target);
+        for (final String name : path.split("/")) {
+            if ("..".equals(name)) {
+                names.pollLast();
+            } else if (!name.isEmpty() && !".".equals(name)) {
+                names.addLast(name);
+            }
+        }
+        return "/" + String.join("/", names);
+    }
+
+}
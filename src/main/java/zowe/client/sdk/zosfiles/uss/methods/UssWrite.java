@@ -13,12 +13,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
+import zowe.client.sdk.rest.exception.ZosmfConflictException;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
 import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.FileUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
 import zowe.client.sdk.zosfiles.uss.input.UssWriteInputData;
 
 import java.util.HashMap;
@@ -82,6 +84,24 @@ public class UssWrite {
         return writeCommon(fileNamePath, new UssWriteInputData.Builder().textContent(content).build());
     }
 
+    /**
+     * Perform UNIX write text content request only if the file still has the given ETag, as returned by
+     * {@link UssGet#getTextWithEtag(String)}
+     *
+     * @param fileNamePath UNIX path that resolves to the target file
+     * @param content      string content to write to file
+     * @param etag         ETag of the version the content is based on
+     * @return Response object, with the ETag of the new version when returned by z/OSMF
+     * @throws ZosmfConflictException the file was changed since the ETag was read
+     * @throws ZosmfRequestException  request error state
+     * @author Frank Giordano
+     */
+    public Response writeTextIfMatch(final String fileNamePath, final String content, final String etag)
+            throws ZosmfRequestException {
+        ValidateUtils.checkIllegalParameter(etag, "etag");
+        return writeCommon(fileNamePath, new UssWriteInputData.Builder().textContent(content).etag(etag).build());
+    }
+
     /**
      * Perform UNIX write binary content request
      *
@@ -117,7 +137,24 @@ public class UssWrite {
                 EncodeUtils.encodeURIComponent(FileUtils.validatePath(fileNamePath));
 
         final Map<String, String> headers = new HashMap<>();
-        if (writeInputData.isBinary()) {
+        if (writeInputData.getLocalFile().isPresent()) {
+            final StringBuilder typeHeader = new StringBuilder(writeInputData.isBinary() ? "binary" : "text");
+            if (!writeInputData.isBinary()) {
+                writeInputData.getFileEncoding().ifPresent(encoding ->
+                        typeHeader.append(";fileEncoding=").append(encoding));
+                if (writeInputData.isCrlf()) {
+                    typeHeader.append(";crlf=true");
+                }
+                headers.put("Content-Type", "text/plain; charset=UTF-8");
+            }
+            typeHeader.append(";");
+            headers.put("X-IBM-Data-Type", typeHeader.toString());
+            if (request == null || !(request instanceof PutStreamZosmfRequest)) {
+                request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_STREAM);
+            }
+            // streamed from the file while the request is sent
+            request.setBody(writeInputData.getLocalFile().get());
+        } else if (writeInputData.isBinary()) {
             headers.put("X-IBM-Data-Type", "binary;");
             if (writeInputData.getBinaryContent().isEmpty()) {
                 LOG.debug("binaryContent is empty");
@@ -144,10 +181,14 @@ public class UssWrite {
             request.setBody(writeInputData.getTextContent().orElse(""));
         }
 
+        writeInputData.getEtag().ifPresent(etag ->
+                headers.put(ZosmfHeaders.HEADERS.get(ZosmfHeaders.IF_MATCH).get(0), etag));
         request.setHeaders(headers);
         request.setUrl(url);
 
-        return request.executeRequest();
+        final Response response = request.executeRequest();
+        ContentCache.invalidateUssPath(connection, fileNamePath);
+        return response;
     }
 
 }
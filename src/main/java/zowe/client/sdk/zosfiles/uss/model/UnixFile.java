@@ -10,6 +10,7 @@
 package zowe.client.sdk.zosfiles.uss.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -185,6 +186,20 @@ public final class UnixFile {
         return target;
     }
 
+    /**
+     * Retrieve the file type letter from the mode value, as used by ListFilterType, for example "d" for a
+     * directory and "l" for a symbolic link
+     *
+     * @return type letter, "f" for a regular file
+     */
+    @JsonIgnore
+    public String getType() {
+        if (mode.isEmpty() || mode.charAt(0) == '-') {
+            return "f";
+        }
+        return String.valueOf(mode.charAt(0));
+    }
+
     /**
      * Return string value representing a UnixFile object
      *
@@ -0,0 +1,90 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.model;
+
+/**
+ * One line matched by a Unix System Services (USS) content search, with the path and line number it was found at
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class UnixSearchMatch {
+
+    /**
+     * Full path of the file
+     */
+    private final String path;
+
+    /**
+     * Line number of the match, 1-based
+     */
+    private final long lineNumber;
+
+    /**
+     * Text of the matched line
+     */
+    private final String line;
+
+    /**
+     * UnixSearchMatch constructor
+     *
+     * @param path       full path of the file
+     * @param lineNumber line number of the match, 1-based
+     * @param line       text of the matched line
+     * @author Frank Giordano
+     */
+    public UnixSearchMatch(final String path, final long lineNumber, final String line) {
+        this.path = path;
+        this.lineNumber = lineNumber;
+        this.line = line;
+    }
+
+    /**
+     * Retrieve path value
+     *
+     * @return path value
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieve lineNumber value
+     *
+     * @return line number, 1-based
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Retrieve line value
+     *
+     * @return line value
+     */
+    public String getLine() {
+        return line;
+    }
+
+    /**
+     * Return string value representing a UnixSearchMatch object
+     *
+     * @return string representation of UnixSearchMatch
+     */
+    @Override
+    public String toString() {
+        return "UnixSearchMatch{" +
+                "path=" + path +
+                ", lineNumber=" + lineNumber +
+                ", line=" + line +
+                '}';
+    }
+
+}
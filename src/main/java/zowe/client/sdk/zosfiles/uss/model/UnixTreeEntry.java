@@ -0,0 +1,90 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.model;
+
+/**
+ * One entry found by a Unix System Services (USS) tree walk, with its full path and depth
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class UnixTreeEntry {
+
+    /**
+     * Full path of the entry
+     */
+    private final String path;
+
+    /**
+     * Directory level of the entry, 1 for entries of the start directory
+     */
+    private final int depth;
+
+    /**
+     * Attributes of the entry as returned by the list request
+     */
+    private final UnixFile file;
+
+    /**
+     * UnixTreeEntry constructor
+     *
+     * @param path  full path of the entry
+     * @param depth directory level of the entry
+     * @param file  UnixFile object
+     * @author Frank Giordano
+     */
+    public UnixTreeEntry(final String path, final int depth, final UnixFile file) {
+        this.path = path;
+        this.depth = depth;
+        this.file = file;
+    }
+
+    /**
+     * Retrieve path value
+     *
+     * @return path value
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieve depth value
+     *
+     * @return depth value
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Retrieve file value
+     *
+     * @return UnixFile object
+     */
+    public UnixFile getFile() {
+        return file;
+    }
+
+    /**
+     * Return string value representing a UnixTreeEntry object
+     *
+     * @return string representation of UnixTreeEntry
+     */
+    @Override
+    public String toString() {
+        return "UnixTreeEntry{" +
+                "path=" + path +
+                ", depth=" + depth +
+                ", file=" + file +
+                '}';
+    }
+
+}
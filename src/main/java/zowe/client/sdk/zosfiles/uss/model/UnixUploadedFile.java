@@ -0,0 +1,118 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.model;
+
+import java.util.Optional;
+
+/**
+ * One file uploaded by a Unix System Services (USS) bulk upload, with its size and transfer time
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public final class UnixUploadedFile {
+
+    /**
+     * Full path of the uploaded file
+     */
+    private final String path;
+
+    /**
+     * Number of bytes read from the local file
+     */
+    private final long bytes;
+
+    /**
+     * Time taken by the upload in milliseconds, tagging excluded
+     */
+    private final long elapsedMillis;
+
+    /**
+     * File encoding of a text file, null for a binary file
+     */
+    private final String fileEncoding;
+
+    /**
+     * UnixUploadedFile constructor
+     *
+     * @param path          full path of the uploaded file
+     * @param bytes         number of bytes read from the local file
+     * @param elapsedMillis time taken by the upload in milliseconds
+     * @param fileEncoding  file encoding of a text file, null for a binary file
+     * @author Frank Giordano
+     */
+    public UnixUploadedFile(final String path, final long bytes, final long elapsedMillis, final String fileEncoding) {
+        this.path = path;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.fileEncoding = fileEncoding;
+    }
+
+    /**
+     * Retrieve path value
+     *
+     * @return path value
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieve bytes value
+     *
+     * @return number of bytes read from the local file
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the upload in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve fileEncoding value
+     *
+     * @return file encoding of a text file, empty for a binary file
+     */
+    public Optional<String> getFileEncoding() {
+        return Optional.ofNullable(fileEncoding);
+    }
+
+    /**
+     * Retrieve the throughput of the upload
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return bytes * 1000.0 / Math.max(1, elapsedMillis);
+    }
+
+    /**
+     * Return string value representing a UnixUploadedFile object
+     *
+     * @return string representation of UnixUploadedFile
+     */
+    @Override
+    public String toString() {
+        return "UnixUploadedFile{" +
+                "path=" + path +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                ", fileEncoding=" + fileEncoding +
+                '}';
+    }
+
+}
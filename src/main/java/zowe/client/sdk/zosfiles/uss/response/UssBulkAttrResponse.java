@@ -0,0 +1,104 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.response;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Holds the result of a Unix System Services (USS) bulk attribute change, the paths changed are counted and only
+ * the paths that failed are listed
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssBulkAttrResponse {
+
+    /**
+     * Number of paths all changes were applied to
+     */
+    private final long succeeded;
+
+    /**
+     * Error message of each path that failed, sorted by path
+     */
+    private final Map<String, String> failures;
+
+    /**
+     * Number of requests retried after a transient error
+     */
+    private final long retries;
+
+    /**
+     * UssBulkAttrResponse constructor
+     *
+     * @param succeeded number of paths all changes were applied to
+     * @param failures  error message of each path that failed
+     * @param retries   number of requests retried
+     * @author Frank Giordano
+     */
+    public UssBulkAttrResponse(final long succeeded, final Map<String, String> failures, final long retries) {
+        this.succeeded = succeeded;
+        this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+        this.retries = retries;
+    }
+
+    /**
+     * Retrieve succeeded value
+     *
+     * @return number of paths all changes were applied to
+     */
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Retrieve failures value
+     *
+     * @return error message of each path that failed, sorted by path
+     */
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Retrieve retries value
+     *
+     * @return number of requests retried after a transient error
+     */
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * Determine whether every path was changed
+     *
+     * @return true when no path failed
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Return string value representing UssBulkAttrResponse object
+     *
+     * @return string representation of UssBulkAttrResponse
+     */
+    @Override
+    public String toString() {
+        return "UssBulkAttrResponse{" +
+                "succeeded=" + succeeded +
+                ", failed=" + failures.size() +
+                ", retries=" + retries +
+                '}';
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.response;
+
+import java.util.List;
+
+/**
+ * Holds the result of a Unix System Services (USS) directory sync
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSyncResponse {
+
+    /**
+     * Relative paths of the files transferred
+     */
+    private final List<String> transferred;
+
+    /**
+     * Relative paths of the files and directories deleted from the target
+     */
+    private final List<String> deleted;
+
+    /**
+     * Number of files found unchanged
+     */
+    private final int unchanged;
+
+    /**
+     * Number of bytes transferred
+     */
+    private final long bytesTransferred;
+
+    /**
+     * UssSyncResponse constructor
+     *
+     * @param transferred      relative paths of the files transferred
+     * @param deleted          relative paths of the files and directories deleted
+     * @param unchanged        number of files found unchanged
+     * @param bytesTransferred number of bytes transferred
+     * @author Frank Giordano
+     */
+    public UssSyncResponse(final List<String> transferred, final List<String> deleted, final int unchanged,
+                           final long bytesTransferred) {
+        this.transferred = List.copyOf(transferred);
+        this.deleted = List.copyOf(deleted);
+        this.unchanged = unchanged;
+        this.bytesTransferred = bytesTransferred;
+    }
+
+    /**
+     * Retrieve transferred value
+     *
+     * @return relative paths of the files transferred
+     */
+    public List<String> getTransferred() {
+        return transferred;
+    }
+
+    /**
+     * Retrieve deleted value
+     *
+     * @return relative paths of the files and directories deleted
+     */
+    public List<String> getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Retrieve unchanged value
+     *
+     * @return number of files found unchanged
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Retrieve bytesTransferred value
+     *
+     * @return number of bytes transferred
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Return string value representing UssSyncResponse object
+     *
+     * @return string representation of UssSyncResponse
+     */
+    @Override
+    public String toString() {
+        return "UssSyncResponse{" +
+                "transferred=" + transferred.size() +
+                ", deleted=" + deleted.size() +
+                ", unchanged=" + unchanged +
+                ", bytesTransferred=" + bytesTransferred +
+                '}';
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.response;
+
+import zowe.client.sdk.zosfiles.uss.model.UnixUploadedFile;
+
+import java.util.List;
+
+/**
+ * Holds the result of a Unix System Services (USS) bulk upload
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssUploadResponse {
+
+    /**
+     * Files uploaded, with the size and time of each
+     */
+    private final List<UnixUploadedFile> files;
+
+    /**
+     * Number of directories created
+     */
+    private final int directoriesCreated;
+
+    /**
+     * Time taken by the whole upload in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * UssUploadResponse constructor
+     *
+     * @param files              files uploaded
+     * @param directoriesCreated number of directories created
+     * @param elapsedMillis      time taken by the whole upload in milliseconds
+     * @author Frank Giordano
+     */
+    public UssUploadResponse(final List<UnixUploadedFile> files, final int directoriesCreated,
+                             final long elapsedMillis) {
+        this.files = List.copyOf(files);
+        this.directoriesCreated = directoriesCreated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Retrieve files value
+     *
+     * @return files uploaded, with the size and time of each
+     */
+    public List<UnixUploadedFile> getFiles() {
+        return files;
+    }
+
+    /**
+     * Retrieve directoriesCreated value
+     *
+     * @return number of directories created
+     */
+    public int getDirectoriesCreated() {
+        return directoriesCreated;
+    }
+
+    /**
+     * Retrieve elapsedMillis value
+     *
+     * @return time taken by the whole upload in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Retrieve the total number of bytes uploaded
+     *
+     * @return number of bytes
+     */
+    public long getBytes() {
+        return files.stream().mapToLong(UnixUploadedFile::getBytes).sum();
+    }
+
+    /**
+     * Retrieve the overall throughput of the upload, over the whole elapsed time
+     *
+     * @return bytes per second
+     */
+    public double getBytesPerSecond() {
+        return getBytes() * 1000.0 / Math.max(1, elapsedMillis);
+    }
+
+    /**
+     * Return string value representing UssUploadResponse object
+     *
+     * @return string representation of UssUploadResponse
+     */
+    @Override
+    public String toString() {
+        return "UssUploadResponse{" +
+                "files=" + files.size() +
+                ", bytes=" + getBytes() +
+                ", directoriesCreated=" + directoriesCreated +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+}
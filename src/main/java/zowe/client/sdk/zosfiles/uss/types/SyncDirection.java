@@ -0,0 +1,31 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.types;
+
+/**
+ * Direction of a sync between a local directory and a Unix System Services (USS) directory or a partitioned
+ * dataset
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public enum SyncDirection {
+
+    /**
+     * Local directory to USS directory or partitioned dataset
+     */
+    PUSH,
+
+    /**
+     * USS directory or partitioned dataset to local directory
+     */
+    PULL
+
+}
@@ -15,7 +15,6 @@ import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.rest.*;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
-import zowe.client.sdk.utility.EncodeUtils;
 import zowe.client.sdk.utility.JsonUtils;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.zosjobs.JobsConstants;
@@ -113,15 +112,13 @@ public class JobGet {
         ValidateUtils.checkIllegalParameter(commonInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
         ValidateUtils.checkIllegalParameter(commonInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
 
-        url = connection.getZosmfUrl() +
-                JobsConstants.RESOURCE +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(commonInputData.getJobName().get()) +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(commonInputData.getJobId().get()) +
-                JobsConstants.RESOURCE_SPOOL_FILES +
-                JobsConstants.RESOURCE_JCL_CONTENT +
-                JobsConstants.RESOURCE_SPOOL_CONTENT;
+        url = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .segment(commonInputData.getJobName().get())
+                .segment(commonInputData.getJobId().get())
+                .path(JobsConstants.RESOURCE_SPOOL_FILES + JobsConstants.RESOURCE_JCL_CONTENT +
+                        JobsConstants.RESOURCE_SPOOL_CONTENT)
+                .build();
 
         if (request == null || !(request instanceof GetTextZosmfRequest)) {
             request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
@@ -218,42 +215,32 @@ public class JobGet {
     public List<Job> getCommon(final JobGetInputData getInputData) throws ZosmfRequestException {
         List<Job> jobs = new ArrayList<>();
 
-        url = connection.getZosmfUrl() +
-                JobsConstants.RESOURCE +
-                UrlConstants.QUERY_ID;
+        final ZosmfUrlBuilder urlBuilder = ZosmfUrlBuilder.of(connection).path(JobsConstants.RESOURCE);
 
         if (getInputData != null) {
             if (getInputData.getOwner().isPresent()) {
-                url += JobsConstants.QUERY_OWNER + EncodeUtils.encodeURIComponent(getInputData.getOwner().get());
+                urlBuilder.query(JobsConstants.QUERY_OWNER, getInputData.getOwner().get());
             }
             if (getInputData.getPrefix().isPresent()) {
                 if (!JobsConstants.DEFAULT_PREFIX.equals(getInputData.getPrefix().get())) {
-                    if (url.contains(UrlConstants.QUERY_ID)) {
-                        url += UrlConstants.COMBO_ID;
-                    }
-                    url += JobsConstants.QUERY_PREFIX + EncodeUtils.encodeURIComponent(getInputData.getPrefix().get());
+                    urlBuilder.query(JobsConstants.QUERY_PREFIX, getInputData.getPrefix().get());
                 }
             }
             if (getInputData.getMaxJobs().isPresent()) {
                 if (getInputData.getMaxJobs().getAsInt() != JobsConstants.DEFAULT_MAX_JOBS) {
-                    if (url.contains(UrlConstants.QUERY_ID)) {
-                        url += UrlConstants.COMBO_ID;
-                    }
-                    url += JobsConstants.QUERY_MAX_JOBS + getInputData.getMaxJobs().getAsInt();
+                    urlBuilder.query(JobsConstants.QUERY_MAX_JOBS, getInputData.getMaxJobs().getAsInt());
                 }
             }
             if (getInputData.getJobId().isPresent()) {
-                if (url.contains(UrlConstants.QUERY_ID)) {
-                    url += UrlConstants.COMBO_ID;
-                }
-                url += JobsConstants.QUERY_JOBID + EncodeUtils.encodeURIComponent(getInputData.getJobId().get());
+                urlBuilder.query(JobsConstants.QUERY_JOBID, getInputData.getJobId().get());
             }
         } else {
             // if no user defined in ZosConnection, then query jobs by the z/OS user ID
             if (connection.getUser() != null && !connection.getUser().isEmpty()) {
-                url += JobsConstants.QUERY_OWNER + EncodeUtils.encodeURIComponent(connection.getUser());
+                urlBuilder.query(JobsConstants.QUERY_OWNER, connection.getUser());
             }
         }
+        url = urlBuilder.build();
 
         if (request == null || !(request instanceof GetJsonZosmfRequest)) {
             request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
@@ -316,16 +303,13 @@ public class JobGet {
         ValidateUtils.checkIllegalParameter(jobFile.getJobName(), "jobName");
         ValidateUtils.checkIllegalParameter(jobFile.getJobId(), "jobId");
 
-        url = connection.getZosmfUrl() +
-                JobsConstants.RESOURCE +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(jobFile.getJobName()) +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(jobFile.getJobId()) +
-                JobsConstants.RESOURCE_SPOOL_FILES +
-                UrlConstants.URL_PATH_DELIM +
-                jobFile.getId() +
-                JobsConstants.RESOURCE_SPOOL_CONTENT;
+        url = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .segment(jobFile.getJobName())
+                .segment(jobFile.getJobId())
+                .path(JobsConstants.RESOURCE_SPOOL_FILES + UrlConstants.URL_PATH_DELIM + jobFile.getId() +
+                        JobsConstants.RESOURCE_SPOOL_CONTENT)
+                .build();
 
         if (request == null || !(request instanceof GetTextZosmfRequest)) {
             request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_TEXT);
@@ -380,13 +364,12 @@ public class JobGet {
         ValidateUtils.checkIllegalParameter(commonInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
         ValidateUtils.checkIllegalParameter(commonInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
 
-        url = connection.getZosmfUrl() +
-                JobsConstants.RESOURCE +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(commonInputData.getJobName().get()) +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(commonInputData.getJobId().get()) +
-                "/files";
+        url = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .segment(commonInputData.getJobName().get())
+                .segment(commonInputData.getJobId().get())
+                .path(JobsConstants.RESOURCE_SPOOL_FILES)
+                .build();
 
         if (request == null || !(request instanceof GetJsonZosmfRequest)) {
             request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
@@ -479,16 +462,15 @@ public class JobGet {
         ValidateUtils.checkIllegalParameter(commonInputData.getJobName().isEmpty(), JobsConstants.JOB_NAME_ILLEGAL_MSG);
         ValidateUtils.checkIllegalParameter(commonInputData.getJobId().isEmpty(), JobsConstants.JOB_ID_ILLEGAL_MSG);
 
-        url = connection.getZosmfUrl() +
-                JobsConstants.RESOURCE +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(commonInputData.getJobName().get()) +
-                UrlConstants.URL_PATH_DELIM +
-                EncodeUtils.encodeURIComponent(commonInputData.getJobId().get());
+        final ZosmfUrlBuilder urlBuilder = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .segment(commonInputData.getJobName().get())
+                .segment(commonInputData.getJobId().get());
 
         if (commonInputData.isStepData()) {
-            url += JobsConstants.QUERY_ID + JobsConstants.STEP_DATA;
+            urlBuilder.query(JobsConstants.STEP_DATA);
         }
+        url = urlBuilder.build();
 
         if (request == null || !(request instanceof GetJsonZosmfRequest)) {
             request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
@@ -13,6 +13,7 @@ package zowe.client.sdk.zosjobs.methods;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.jfr.JobMonitorPollEvent;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.utility.ValidateUtils;
 import zowe.client.sdk.utility.WaitUtil;
@@ -224,6 +225,32 @@ public class JobMonitor {
         return -1;
     }
 
+    /**
+     * Complete and commit the given poll event when a Java Flight Recorder recording has it enabled.
+     *
+     * @param event            poll event started before the poll attempt
+     * @param monitorInputData monitor jobs parameters, see JobMonitorInputData
+     * @param pollType         poll type, either "status" or "message"
+     * @param target           status or message waited for
+     * @param attempt          attempt number
+     * @param found            whether the status or message was found
+     * @author Frank Giordano
+     */
+    private static void commitPollEvent(final JobMonitorPollEvent event, final JobMonitorInputData monitorInputData,
+                                        final String pollType, final String target, final int attempt,
+                                        final boolean found) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobName = monitorInputData.getJobName().orElse("");
+            event.jobId = monitorInputData.getJobId().orElse("");
+            event.pollType = pollType;
+            event.target = target;
+            event.attempt = attempt;
+            event.found = found;
+            event.commit();
+        }
+    }
+
     /**
      * Determines if a given job is in a running state or not.
      *
@@ -262,7 +289,10 @@ public class JobMonitor {
 
         do {
             numOfAttempts++;
+            final JobMonitorPollEvent event = new JobMonitorPollEvent();
+            event.begin();
             messageFound = checkMessage(monitorInputData, message);
+            commitPollEvent(event, monitorInputData, "message", message, numOfAttempts, messageFound);
             shouldContinue = !messageFound && (maxAttempts > 0 && numOfAttempts < maxAttempts);
 
             if (shouldContinue) {
@@ -299,8 +329,11 @@ public class JobMonitor {
         CheckStatusResponse checkJobStatus;
         do {
             numOfAttempts++;
+            final JobMonitorPollEvent event = new JobMonitorPollEvent();
+            event.begin();
             checkJobStatus = checkStatus(monitorInputData);
             expectedStatus = checkJobStatus.isStatusFound();
+            commitPollEvent(event, monitorInputData, "status", statusName, numOfAttempts, expectedStatus);
             shouldContinue = !expectedStatus && (maxAttempts > 0 && numOfAttempts < maxAttempts);
 
             if (shouldContinue) {
@@ -0,0 +1,176 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosmfauth.input;
+
+import java.util.Optional;
+
+/**
+ * Parameters for the z/OSMF token session manager
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SessionManagerInputData {
+
+    /**
+     * Default time in milliseconds before token expiry at which the token is renewed
+     */
+    public static final long DEFAULT_RENEW_AHEAD = 300_000L;
+
+    /**
+     * Default token lifetime in milliseconds used when the expiry cannot be derived from the token
+     */
+    public static final long DEFAULT_TOKEN_TTL = 3_600_000L;
+
+    /**
+     * Time in milliseconds before token expiry at which the token is renewed
+     */
+    private final long renewAhead;
+
+    /**
+     * Token lifetime in milliseconds used when the expiry cannot be derived from the token
+     */
+    private final long tokenTtl;
+
+    /**
+     * Name of the token cookie to use, e.g. jwtToken or LtpaToken2
+     */
+    private final String tokenName;
+
+    /**
+     * SessionManagerInputData constructor
+     *
+     * @param builder SessionManagerInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private SessionManagerInputData(final SessionManagerInputData.Builder builder) {
+        this.renewAhead = builder.renewAhead;
+        this.tokenTtl = builder.tokenTtl;
+        this.tokenName = builder.tokenName;
+    }
+
+    /**
+     * Retrieve renewAhead value
+     *
+     * @return renewAhead value in milliseconds
+     */
+    public long getRenewAhead() {
+        return renewAhead;
+    }
+
+    /**
+     * Retrieve tokenTtl value
+     *
+     * @return tokenTtl value in milliseconds
+     */
+    public long getTokenTtl() {
+        return tokenTtl;
+    }
+
+    /**
+     * Retrieve tokenName value
+     *
+     * @return tokenName value
+     */
+    public Optional<String> getTokenName() {
+        return Optional.ofNullable(tokenName);
+    }
+
+    /**
+     * Return string value representing SessionManagerInputData object
+     *
+     * @return string representation of SessionManagerInputData
+     */
+    @Override
+    public String toString() {
+        return "SessionManagerInputData{" +
+                "renewAhead=" + renewAhead +
+                ", tokenTtl=" + tokenTtl +
+                ", tokenName=" + tokenName +
+                '}';
+    }
+
+    /**
+     * Builder class for SessionManagerInputData
+     */
+    public static class Builder {
+
+        /**
+         * Time in milliseconds before token expiry at which the token is renewed
+         */
+        private long renewAhead = DEFAULT_RENEW_AHEAD;
+
+        /**
+         * Token lifetime in milliseconds used when the expiry cannot be derived from the token
+         */
+        private long tokenTtl = DEFAULT_TOKEN_TTL;
+
+        /**
+         * Name of the token cookie to use; by default jwtToken is preferred when returned
+         */
+        private String tokenName;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set time in milliseconds before token expiry at which the token is renewed
+         *
+         * @param renewAhead milliseconds value, zero or greater
+         * @return Builder this object
+         */
+        public Builder renewAhead(final long renewAhead) {
+            if (renewAhead < 0) {
+                throw new IllegalArgumentException("renewAhead must not be negative");
+            }
+            this.renewAhead = renewAhead;
+            return this;
+        }
+
+        /**
+         * Set token lifetime in milliseconds used when the expiry cannot be derived from the token
+         *
+         * @param tokenTtl milliseconds value, greater than zero
+         * @return Builder this object
+         */
+        public Builder tokenTtl(final long tokenTtl) {
+            if (tokenTtl <= 0) {
+                throw new IllegalArgumentException("tokenTtl must be greater than zero");
+            }
+            this.tokenTtl = tokenTtl;
+            return this;
+        }
+
+        /**
+         * Set name of the token cookie to use, e.g. jwtToken or LtpaToken2
+         *
+         * @param tokenName token cookie name
+         * @return Builder this object
+         */
+        public Builder tokenName(final String tokenName) {
+            this.tokenName = tokenName;
+            return this;
+        }
+
+        /**
+         * Return SessionManagerInputData object based on Builder this object
+         *
+         * @return SessionManagerInputData object
+         */
+        public SessionManagerInputData build() {
+            return new SessionManagerInputData(this);
+        }
+
+    }
+
+}
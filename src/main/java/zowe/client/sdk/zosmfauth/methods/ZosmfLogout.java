@@ -80,6 +80,8 @@ public class ZosmfLogout {
         final String url = connection.getZosmfUrl() + ZosmfAuthConstants.RESOURCE;
 
         request.setUrl(url);
+        // the given token is logged out, whatever the credentials of the connection
+        request.setToken(token);
 
         return request.executeRequest();
     }
@@ -0,0 +1,301 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosmfauth.methods;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import kong.unirest.core.Cookie;
+import kong.unirest.core.Cookies;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.AuthType;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.rest.SessionTokenProvider;
+import zowe.client.sdk.rest.SessionTokenRegistry;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.utility.JsonUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosmfauth.input.SessionManagerInputData;
+import zowe.client.sdk.zosmfauth.response.ZosmfLoginResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Manages a z/OSMF authentication token on behalf of a basic authentication connection.
+ * <p>
+ * Once started, every request issued with the connection sends the token cookie obtained from a single
+ * z/OSMF login instead of the user id and password. The token is renewed shortly before it expires, a
+ * request rejected with HTTP 401 is retried once with a new token, and the token is logged out on close.
+ * <p>
+ * This avoids a full RACF authentication on the server for every request.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ZosmfSessionManager implements SessionTokenProvider, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ZosmfSessionManager.class);
+
+    /**
+     * Token cookie name preferred when z/OSMF returns several tokens
+     */
+    public static final String JWT_TOKEN_NAME = "jwtToken";
+
+    private final ZosConnection connection;
+    private final SessionManagerInputData inputData;
+    private final ZosmfLogin login;
+    private final Function<Cookie, ZosmfLogout> logoutFactory;
+    private final Clock clock;
+    private Cookie token;
+    private Instant expiry;
+    private boolean started;
+
+    /**
+     * ZosmfSessionManager constructor with default settings
+     *
+     * @param connection basic authentication connection, see ZosConnection object
+     * @author Frank Giordano
+     */
+    public ZosmfSessionManager(final ZosConnection connection) {
+        this(connection, new SessionManagerInputData.Builder().build());
+    }
+
+    /**
+     * ZosmfSessionManager constructor
+     *
+     * @param connection basic authentication connection, see ZosConnection object
+     * @param inputData  session settings, see SessionManagerInputData object
+     * @author Frank Giordano
+     */
+    public ZosmfSessionManager(final ZosConnection connection, final SessionManagerInputData inputData) {
+        // the logout sends the token on the basic connection, a token connection per token would keep an http
+        // client per token alive
+        this(connection, inputData, new ZosmfLogin(connection), cookie -> new ZosmfLogout(connection),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Alternative ZosmfSessionManager constructor with login, logout and clock objects. This is mainly used
+     * for internal code unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param connection    basic authentication connection, see ZosConnection object
+     * @param inputData     session settings, see SessionManagerInputData object
+     * @param login         ZosmfLogin object
+     * @param logoutFactory creates the ZosmfLogout object for a given token
+     * @param clock         clock used to evaluate token expiry
+     * @author Frank Giordano
+     */
+    ZosmfSessionManager(final ZosConnection connection, final SessionManagerInputData inputData,
+                        final ZosmfLogin login, final Function<Cookie, ZosmfLogout> logoutFactory,
+                        final Clock clock) {
+        ValidateUtils.checkNullParameter(connection, "connection");
+        ValidateUtils.checkNullParameter(inputData, "inputData");
+        ValidateUtils.checkNullParameter(login, "login");
+        ValidateUtils.checkNullParameter(logoutFactory, "logoutFactory");
+        ValidateUtils.checkNullParameter(clock, "clock");
+        this.connection = connection;
+        this.inputData = inputData;
+        this.login = login;
+        this.logoutFactory = logoutFactory;
+        this.clock = clock;
+    }
+
+    /**
+     * Log in to z/OSMF and route all further requests of the connection through the obtained token
+     *
+     * @return ZosmfSessionManager this object
+     * @throws ZosmfRequestException request error state
+     * @throws IllegalArgumentException connection is not of basic authentication type
+     * @author Frank Giordano
+     */
+    public synchronized ZosmfSessionManager start() throws ZosmfRequestException {
+        // fail before the login is sent, the token could not be registered for the connection afterwards
+        ValidateUtils.checkIllegalParameter(connection.getAuthType() != AuthType.BASIC,
+                "session tokens require a basic authentication connection");
+        if (token == null) {
+            loginNow();
+        }
+        SessionTokenRegistry.register(connection, this);
+        started = true;
+        return this;
+    }
+
+    /**
+     * Retrieve the current token, logging in again first when it is absent or about to expire
+     *
+     * @param connection connection the request is made with
+     * @return token cookie
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    @Override
+    public synchronized Cookie getToken(final ZosConnection connection) throws ZosmfRequestException {
+        if (token == null) {
+            loginNow();
+        } else if (!clock.instant().isBefore(expiry.minusMillis(inputData.getRenewAhead()))) {
+            final Cookie previous = token;
+            loginNow();
+            logoutQuietly(previous);
+        }
+        return token;
+    }
+
+    /**
+     * Log in again after the given token was rejected, unless another request already replaced it
+     *
+     * @param connection connection the request is made with
+     * @param rejected   token cookie rejected by the server
+     * @return new token cookie
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    @Override
+    public synchronized Cookie renewToken(final ZosConnection connection, final Cookie rejected)
+            throws ZosmfRequestException {
+        if (token == null || rejected == null || token.getValue().equals(rejected.getValue())) {
+            loginNow();
+        }
+        return token;
+    }
+
+    /**
+     * Retrieve the time the current token expires
+     *
+     * @return expiry instant or null when no token is held
+     */
+    public synchronized Instant getExpiry() {
+        return expiry;
+    }
+
+    /**
+     * Retrieve whether requests of the connection are currently routed through this manager
+     *
+     * @return true if started and not closed
+     */
+    public synchronized boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Stop routing requests through this manager and log the current token out of z/OSMF
+     *
+     * @author Frank Giordano
+     */
+    @Override
+    public synchronized void close() {
+        SessionTokenRegistry.unregister(connection, this);
+        started = false;
+        if (token != null) {
+            logoutQuietly(token);
+        }
+        token = null;
+        expiry = null;
+    }
+
+    private void loginNow() throws ZosmfRequestException {
+        final ZosmfLoginResponse response;
+        SessionTokenRegistry.enterBypass();
+        try {
+            response = login.login();
+        } finally {
+            SessionTokenRegistry.exitBypass();
+        }
+        final Cookie selected = selectToken(response.getTokens(), inputData.getTokenName().orElse(null));
+        if (selected == null) {
+            throw new ZosmfRequestException("z/OSMF login returned no authentication token");
+        }
+        token = selected;
+        expiry = expiryOf(selected, clock.instant(), inputData.getTokenTtl());
+        LOG.debug("z/OSMF session token {} obtained, expires {}", selected.getName(), expiry);
+    }
+
+    private void logoutQuietly(final Cookie cookie) {
+        SessionTokenRegistry.enterBypass();
+        try {
+            logoutFactory.apply(cookie).logout(cookie);
+        } catch (ZosmfRequestException | RuntimeException e) {
+            LOG.debug("z/OSMF session token logout failed", e);
+        } finally {
+            SessionTokenRegistry.exitBypass();
+        }
+    }
+
+    /**
+     * Pick the token cookie to use from a login response
+     *
+     * @param tokens    cookies returned by login
+     * @param tokenName requested cookie name or null for the default preference
+     * @return selected cookie or null if none is usable
+     */
+    static Cookie selectToken(final Cookies tokens, final String tokenName) {
+        if (tokens == null || tokens.isEmpty()) {
+            return null;
+        }
+        final String wanted = tokenName != null ? tokenName : JWT_TOKEN_NAME;
+        for (final Cookie cookie : tokens) {
+            if (wanted.equals(cookie.getName())) {
+                return cookie;
+            }
+        }
+        return tokenName != null ? null : tokens.get(0);
+    }
+
+    /**
+     * Determine when a token expires from its cookie attributes, its JWT exp claim, or the given lifetime
+     *
+     * @param cookie token cookie
+     * @param now    current time
+     * @param ttl    fallback lifetime in milliseconds
+     * @return expiry instant
+     */
+    static Instant expiryOf(final Cookie cookie, final Instant now, final long ttl) {
+        if (cookie.getExpiration() != null) {
+            return cookie.getExpiration().toInstant();
+        }
+        final int maxAge = maxAgeOf(cookie);
+        if (maxAge > 0) {
+            return now.plusSeconds(maxAge);
+        }
+        final Instant jwtExpiry = jwtExpiry(cookie.getValue());
+        return jwtExpiry != null ? jwtExpiry : now.plusMillis(ttl);
+    }
+
+    private static int maxAgeOf(final Cookie cookie) {
+        try {
+            return cookie.getMaxAge();
+        } catch (NullPointerException e) {
+            // Cookie.getMaxAge unboxes a null value when the cookie carries no Max-Age attribute
+            return 0;
+        }
+    }
+
+    private static Instant jwtExpiry(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final String[] parts = value.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            final String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+            final JsonNode exp = JsonUtils.parse(payload).path("exp");
+            return exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IllegalArgumentException | ZosmfRequestException e) {
+            return null;
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.jfr.TsoSessionEvent;
 import zowe.client.sdk.rest.PostJsonZosmfRequest;
 import zowe.client.sdk.rest.UrlConstants;
 import zowe.client.sdk.rest.ZosmfRequest;
@@ -82,6 +83,32 @@ public class TsoStart {
      */
     public TsoStartResponse start(final StartTsoInputData inputData) throws ZosmfRequestException {
         ValidateUtils.checkNullParameter(inputData, "inputData");
+        final TsoSessionEvent event = new TsoSessionEvent();
+        event.begin();
+        TsoStartResponse startResponse = null;
+        try {
+            startResponse = startCommon(inputData);
+            return startResponse;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.action = TsoSessionEvent.START;
+                event.sessionId = startResponse != null ? startResponse.getSessionId() : null;
+                event.success = startResponse != null && startResponse.isSuccess();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Perform the start TSO request and parse its response.
+     *
+     * @param inputData parameters for start tso call, see StartTsoInputData
+     * @return TsoStartResponse object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    private TsoStartResponse startCommon(final StartTsoInputData inputData) throws ZosmfRequestException {
         final String url = connection.getZosmfUrl() +
                 TsoConstants.RESOURCE +
                 UrlConstants.URL_PATH_DELIM +
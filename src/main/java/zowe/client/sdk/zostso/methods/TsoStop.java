@@ -12,6 +12,7 @@ package zowe.client.sdk.zostso.methods;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.jfr.TsoSessionEvent;
 import zowe.client.sdk.rest.DeleteJsonZosmfRequest;
 import zowe.client.sdk.rest.UrlConstants;
 import zowe.client.sdk.rest.ZosmfRequest;
@@ -78,9 +79,36 @@ public class TsoStop {
      * @throws ZosmfRequestException request error state
      * @author Frank Giordano
      */
-    @SuppressWarnings("DuplicatedCode")
     public TsoCommonResponse stop(final String sessionId) throws ZosmfRequestException {
         ValidateUtils.checkIllegalParameter(sessionId, "sessionId");
+        final TsoSessionEvent event = new TsoSessionEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            final TsoCommonResponse tsoCommonResponse = stopCommon(sessionId);
+            success = true;
+            return tsoCommonResponse;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.action = TsoSessionEvent.STOP;
+                event.sessionId = sessionId;
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Perform the stop TSO request and parse its response.
+     *
+     * @param sessionId servletKey id retrieved from start TSO request
+     * @return TsoCommonResponse object
+     * @throws ZosmfRequestException request error state
+     * @author Frank Giordano
+     */
+    @SuppressWarnings("DuplicatedCode")
+    private TsoCommonResponse stopCommon(final String sessionId) throws ZosmfRequestException {
         final String url = connection.getZosmfUrl() +
                 TsoConstants.RESOURCE +
                 UrlConstants.URL_PATH_DELIM +
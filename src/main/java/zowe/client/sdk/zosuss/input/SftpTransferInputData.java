@@ -0,0 +1,180 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.input;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.nio.file.Path;
+
+/**
+ * Parameters for one file transfer performed by UssSftp
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SftpTransferInputData {
+
+    /**
+     * Absolute path of the USS file
+     */
+    private final String remotePath;
+
+    /**
+     * Path of the local file
+     */
+    private final Path localPath;
+
+    /**
+     * Continue a partial transfer from the size of the partially written target file
+     */
+    private final boolean resume;
+
+    /**
+     * Compare the POSIX cksum of the local and remote file after the transfer
+     */
+    private final boolean verify;
+
+    /**
+     * SftpTransferInputData constructor
+     *
+     * @param builder SftpTransferInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private SftpTransferInputData(final SftpTransferInputData.Builder builder) {
+        this.remotePath = builder.remotePath;
+        this.localPath = builder.localPath;
+        this.resume = builder.resume;
+        this.verify = builder.verify;
+    }
+
+    /**
+     * Retrieve remotePath value
+     *
+     * @return remotePath value
+     */
+    public String getRemotePath() {
+        return remotePath;
+    }
+
+    /**
+     * Retrieve localPath value
+     *
+     * @return localPath value
+     */
+    public Path getLocalPath() {
+        return localPath;
+    }
+
+    /**
+     * Retrieve resume value
+     *
+     * @return true if a partial transfer is continued
+     */
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * Retrieve verify value
+     *
+     * @return true if the transfer is verified with cksum
+     */
+    public boolean isVerify() {
+        return verify;
+    }
+
+    /**
+     * Return string value representing SftpTransferInputData object
+     *
+     * @return string representation of SftpTransferInputData
+     */
+    @Override
+    public String toString() {
+        return "SftpTransferInputData{" +
+                "remotePath='" + remotePath + '\'' +
+                ", localPath=" + localPath +
+                ", resume=" + resume +
+                ", verify=" + verify +
+                '}';
+    }
+
+    /**
+     * Builder class for SftpTransferInputData
+     */
+    public static class Builder {
+
+        /**
+         * Absolute path of the USS file
+         */
+        private final String remotePath;
+
+        /**
+         * Path of the local file
+         */
+        private final Path localPath;
+
+        /**
+         * Continue a partial transfer from the size of the partially written target file
+         */
+        private boolean resume;
+
+        /**
+         * Compare the POSIX cksum of the local and remote file after the transfer
+         */
+        private boolean verify;
+
+        /**
+         * Builder constructor
+         *
+         * @param remotePath absolute path of the USS file
+         * @param localPath  path of the local file
+         */
+        public Builder(final String remotePath, final Path localPath) {
+            ValidateUtils.checkIllegalParameter(remotePath, "remotePath");
+            ValidateUtils.checkNullParameter(localPath, "localPath");
+            this.remotePath = remotePath;
+            this.localPath = localPath;
+        }
+
+        /**
+         * Set whether a partial transfer is continued from the size of the target file instead of
+         * transferring the whole file again
+         *
+         * @param resume true to resume
+         * @return Builder this object
+         */
+        public Builder resume(final boolean resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        /**
+         * Set whether the POSIX cksum of the local and remote file are compared after the transfer
+         *
+         * @param verify true to verify
+         * @return Builder this object
+         */
+        public Builder verify(final boolean verify) {
+            this.verify = verify;
+            return this;
+        }
+
+        /**
+         * Return SftpTransferInputData object based on Builder this object
+         *
+         * @return SftpTransferInputData object
+         */
+        public SftpTransferInputData build() {
+            return new SftpTransferInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.input;
+
+/**
+ * Parameters for the SSH session pool used by UssCmd
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SshSessionPoolInputData {
+
+    /**
+     * Maximum number of SSH sessions kept per connection
+     */
+    private final int maxSessions;
+
+    /**
+     * Maximum number of exec channels open at once on a single session
+     */
+    private final int maxChannelsPerSession;
+
+    /**
+     * Interval in milliseconds between SSH keepalive messages on an idle session
+     */
+    private final int keepAliveInterval;
+
+    /**
+     * Time in milliseconds after which an unused session is disconnected
+     */
+    private final long idleTimeout;
+
+    /**
+     * SshSessionPoolInputData constructor
+     *
+     * @param builder SshSessionPoolInputData.Builder builder
+     * @author Frank Giordano
+     */
+    private SshSessionPoolInputData(final SshSessionPoolInputData.Builder builder) {
+        this.maxSessions = builder.maxSessions;
+        this.maxChannelsPerSession = builder.maxChannelsPerSession;
+        this.keepAliveInterval = builder.keepAliveInterval;
+        this.idleTimeout = builder.idleTimeout;
+    }
+
+    /**
+     * Retrieve maxSessions value
+     *
+     * @return maxSessions value
+     */
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Retrieve maxChannelsPerSession value
+     *
+     * @return maxChannelsPerSession value
+     */
+    public int getMaxChannelsPerSession() {
+        return maxChannelsPerSession;
+    }
+
+    /**
+     * Retrieve keepAliveInterval value
+     *
+     * @return keepAliveInterval value in milliseconds
+     */
+    public int getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Retrieve idleTimeout value
+     *
+     * @return idleTimeout value in milliseconds
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Return string value representing SshSessionPoolInputData object
+     *
+     * @return string representation of SshSessionPoolInputData
+     */
+    @Override
+    public String toString() {
+        return "SshSessionPoolInputData{" +
+                "maxSessions=" + maxSessions +
+                ", maxChannelsPerSession=" + maxChannelsPerSession +
+                ", keepAliveInterval=" + keepAliveInterval +
+                ", idleTimeout=" + idleTimeout +
+                '}';
+    }
+
+    /**
+     * Builder class for SshSessionPoolInputData
+     */
+    public static class Builder {
+
+        /**
+         * Maximum number of SSH sessions kept per connection
+         */
+        private int maxSessions = 2;
+
+        /**
+         * Maximum number of exec channels open at once on a single session; z/OS OpenSSH allows 10 by default
+         */
+        private int maxChannelsPerSession = 4;
+
+        /**
+         * Interval in milliseconds between SSH keepalive messages on an idle session
+         */
+        private int keepAliveInterval = 30_000;
+
+        /**
+         * Time in milliseconds after which an unused session is disconnected
+         */
+        private long idleTimeout = 300_000L;
+
+        /**
+         * Builder constructor
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set maximum number of SSH sessions kept per connection
+         *
+         * @param maxSessions value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxSessions(final int maxSessions) {
+            if (maxSessions <= 0) {
+                throw new IllegalArgumentException("maxSessions must be greater than zero");
+            }
+            this.maxSessions = maxSessions;
+            return this;
+        }
+
+        /**
+         * Set maximum number of exec channels open at once on a single session
+         *
+         * @param maxChannelsPerSession value greater than zero
+         * @return Builder this object
+         */
+        public Builder maxChannelsPerSession(final int maxChannelsPerSession) {
+            if (maxChannelsPerSession <= 0) {
+                throw new IllegalArgumentException("maxChannelsPerSession must be greater than zero");
+            }
+            this.maxChannelsPerSession = maxChannelsPerSession;
+            return this;
+        }
+
+        /**
+         * Set interval in milliseconds between SSH keepalive messages on an idle session
+         *
+         * @param keepAliveInterval milliseconds value, zero disables keepalive messages
+         * @return Builder this object
+         */
+        public Builder keepAliveInterval(final int keepAliveInterval) {
+            if (keepAliveInterval < 0) {
+                throw new IllegalArgumentException("keepAliveInterval must not be negative");
+            }
+            this.keepAliveInterval = keepAliveInterval;
+            return this;
+        }
+
+        /**
+         * Set time in milliseconds after which an unused session is disconnected
+         *
+         * @param idleTimeout milliseconds value greater than zero
+         * @return Builder this object
+         */
+        public Builder idleTimeout(final long idleTimeout) {
+            if (idleTimeout <= 0) {
+                throw new IllegalArgumentException("idleTimeout must be greater than zero");
+            }
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Return SshSessionPoolInputData object based on Builder this object
+         *
+         * @return SshSessionPoolInputData object
+         */
+        public SshSessionPoolInputData build() {
+            return new SshSessionPoolInputData(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * z/OS ssh unix system services input package
+ */
+package zowe.client.sdk.zosuss.input;
\ No newline at end of file
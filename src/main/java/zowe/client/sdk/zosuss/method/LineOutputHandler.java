@@ -0,0 +1,142 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import zowe.client.sdk.utility.ValidateUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * UssOutputHandler that splits standard output and standard error into lines and passes each line to a
+ * consumer. Line terminators (LF or CRLF) are removed.
+ * <p>
+ * Memory use is bounded by the maximum line length: a longer line is delivered in pieces of at most that
+ * many bytes.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class LineOutputHandler implements UssOutputHandler {
+
+    /**
+     * Default maximum number of bytes held for a single line
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 64 * 1024;
+
+    private final LineSplitter stdout;
+    private final LineSplitter stderr;
+
+    /**
+     * LineOutputHandler constructor using UTF-8 and the default maximum line length
+     *
+     * @param stdoutConsumer receives standard output lines
+     * @param stderrConsumer receives standard error lines
+     * @author Frank Giordano
+     */
+    public LineOutputHandler(final Consumer<String> stdoutConsumer, final Consumer<String> stderrConsumer) {
+        this(stdoutConsumer, stderrConsumer, StandardCharsets.UTF_8, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * LineOutputHandler constructor
+     *
+     * @param stdoutConsumer receives standard output lines
+     * @param stderrConsumer receives standard error lines
+     * @param charset        charset used to decode the output
+     * @param maxLineLength  maximum number of bytes held for a single line
+     * @author Frank Giordano
+     */
+    public LineOutputHandler(final Consumer<String> stdoutConsumer, final Consumer<String> stderrConsumer,
+                             final Charset charset, final int maxLineLength) {
+        ValidateUtils.checkNullParameter(stdoutConsumer, "stdoutConsumer");
+        ValidateUtils.checkNullParameter(stderrConsumer, "stderrConsumer");
+        ValidateUtils.checkNullParameter(charset, "charset");
+        if (maxLineLength <= 0) {
+            throw new IllegalArgumentException("maxLineLength must be greater than zero");
+        }
+        this.stdout = new LineSplitter(stdoutConsumer, charset, maxLineLength);
+        this.stderr = new LineSplitter(stderrConsumer, charset, maxLineLength);
+    }
+
+    @Override
+    public void onStdout(final byte[] data, final int offset, final int length) {
+        stdout.accept(data, offset, length);
+    }
+
+    @Override
+    public void onStderr(final byte[] data, final int offset, final int length) {
+        stderr.accept(data, offset, length);
+    }
+
+    /**
+     * Deliver the last line of each stream when the output did not end with a line terminator
+     *
+     * @param exitStatus exit status of the command
+     */
+    @Override
+    public void onComplete(final int exitStatus) {
+        stdout.flush();
+        stderr.flush();
+    }
+
+    /**
+     * Accumulates bytes of one stream until a line terminator
+     */
+    private static final class LineSplitter {
+
+        private final Consumer<String> consumer;
+        private final Charset charset;
+        private final int maxLineLength;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        private LineSplitter(final Consumer<String> consumer, final Charset charset, final int maxLineLength) {
+            this.consumer = consumer;
+            this.charset = charset;
+            this.maxLineLength = maxLineLength;
+        }
+
+        private synchronized void accept(final byte[] data, final int offset, final int length) {
+            int start = offset;
+            final int end = offset + length;
+            for (int i = offset; i < end; i++) {
+                if (data[i] == '\n') {
+                    line.write(data, start, i - start);
+                    emit();
+                    start = i + 1;
+                } else if (line.size() + (i - start) + 1 >= maxLineLength) {
+                    line.write(data, start, i - start + 1);
+                    emit();
+                    start = i + 1;
+                }
+            }
+            line.write(data, start, end - start);
+        }
+
+        private synchronized void flush() {
+            if (line.size() > 0) {
+                emit();
+            }
+        }
+
+        private void emit() {
+            int size = line.size();
+            final byte[] bytes = line.toByteArray();
+            if (size > 0 && bytes[size - 1] == '\r') {
+                size--;
+            }
+            line.reset();
+            consumer.accept(new String(bytes, 0, size, charset));
+        }
+    }
+
+}
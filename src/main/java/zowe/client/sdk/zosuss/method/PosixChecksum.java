@@ -0,0 +1,107 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Checksum;
+
+/**
+ * CRC computed the way the POSIX cksum utility does it, so a local file can be compared with the output of
+ * cksum on z/OS UNIX without transferring the file again
+ * <p>
+ * The CRC uses the polynomial 0x04C11DB7 without bit reflection, covers the data followed by its length in
+ * as few bytes as needed, and is complemented at the end.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+final class PosixChecksum implements Checksum {
+
+    private static final int POLYNOMIAL = 0x04C11DB7;
+
+    private static final int[] TABLE = new int[256];
+
+    static {
+        for (int i = 0; i < TABLE.length; i++) {
+            int crc = i << 24;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x80000000) != 0 ? (crc << 1) ^ POLYNOMIAL : crc << 1;
+            }
+            TABLE[i] = crc;
+        }
+    }
+
+    private int crc;
+
+    private long length;
+
+    /**
+     * Compute the checksum of a file
+     *
+     * @param file file path
+     * @return PosixChecksum object holding the file checksum and length
+     * @throws IOException error reading the file
+     */
+    static PosixChecksum of(final Path file) throws IOException {
+        final PosixChecksum checksum = new PosixChecksum();
+        final byte[] buffer = new byte[64 * 1024];
+        try (final InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+        return checksum;
+    }
+
+    @Override
+    public void update(final int b) {
+        crc = (crc << 8) ^ TABLE[((crc >>> 24) ^ b) & 0xFF];
+        length++;
+    }
+
+    @Override
+    public void update(final byte[] b, final int off, final int len) {
+        int value = crc;
+        for (int i = off; i < off + len; i++) {
+            value = (value << 8) ^ TABLE[((value >>> 24) ^ b[i]) & 0xFF];
+        }
+        crc = value;
+        length += len;
+    }
+
+    /**
+     * Retrieve the number of bytes processed
+     *
+     * @return length value
+     */
+    long getLength() {
+        return length;
+    }
+
+    @Override
+    public long getValue() {
+        int value = crc;
+        for (long n = length; n != 0; n >>>= 8) {
+            value = (value << 8) ^ TABLE[((value >>> 24) ^ (int) n) & 0xFF];
+        }
+        return ~value & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0;
+        length = 0;
+    }
+
+}
@@ -0,0 +1,488 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.SshConnection;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.input.SshSessionPoolInputData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of connected SSH sessions keyed by {@link SshConnection}, shared by UssCmd instances.
+ * <p>
+ * Logging in to z/OS over SSH (TCP connect, key exchange and password authentication) usually takes far
+ * longer than the short commands issued through UssCmd. The pool keeps up to
+ * {@link SshSessionPoolInputData#getMaxSessions()} sessions per connection and runs up to
+ * {@link SshSessionPoolInputData#getMaxChannelsPerSession()} exec channels on each of them at once.
+ * Idle sessions are kept alive with SSH keepalive messages, which also disconnect a session once the server stops
+ * answering. Only connected sessions are reused, a session that fails when used is not handed out again, and
+ * sessions unused for {@link SshSessionPoolInputData#getIdleTimeout()} milliseconds are disconnected. A session
+ * can be dropped by the network before a keepalive notices; UssCmd and UssSftp therefore retry once on a newly
+ * opened session when a channel cannot be opened on a reused one.
+ * <p>
+ * Sessions are opened with the same host key verification rules as UssCmd.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SshSessionPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SshSessionPool.class);
+
+    private final SshSessionPoolInputData inputData;
+    private final SessionFactory factory;
+    private final Map<SshConnection, Sessions> pool = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final ScheduledExecutorService evictor;
+    private boolean closed;
+
+    /**
+     * Opens a connected SSH session for a connection
+     */
+    @FunctionalInterface
+    interface SessionFactory {
+        Session open(SshConnection connection, int timeout) throws JSchException;
+    }
+
+    /**
+     * SshSessionPool constructor with default settings
+     *
+     * @author Frank Giordano
+     */
+    public SshSessionPool() {
+        this(new SshSessionPoolInputData.Builder().build());
+    }
+
+    /**
+     * SshSessionPool constructor
+     *
+     * @param inputData pool settings, see SshSessionPoolInputData object
+     * @author Frank Giordano
+     */
+    public SshSessionPool(final SshSessionPoolInputData inputData) {
+        this(inputData, UssCmd::connectSession);
+    }
+
+    /**
+     * Alternative SshSessionPool constructor with a session factory. This is mainly used for internal code
+     * unit testing with Mockito, and it is not recommended to be used by the larger community.
+     * <p>
+     * This constructor is package-private visibility.
+     *
+     * @param inputData pool settings, see SshSessionPoolInputData object
+     * @param factory   opens new sessions
+     * @author Frank Giordano
+     */
+    SshSessionPool(final SshSessionPoolInputData inputData, final SessionFactory factory) {
+        ValidateUtils.checkNullParameter(inputData, "inputData");
+        ValidateUtils.checkNullParameter(factory, "factory");
+        this.inputData = inputData;
+        this.factory = factory;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+                ParallelUtils.threadFactory("ssh-session-evictor"));
+        final long period = Math.max(1000L, Math.min(inputData.getIdleTimeout(), 60_000L) / 2);
+        evictor.scheduleAtFixedRate(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a session for the connection, reusing a healthy pooled session with a free channel slot, opening
+     * a new session while under the session limit, or waiting for a slot to be released.
+     * <p>
+     * The returned lease must be closed once its channel is closed.
+     *
+     * @param connection SshConnection object
+     * @param timeout    milliseconds to wait for a free slot, also used as the connect timeout of a new session
+     * @return Lease object holding the session
+     * @throws UssCmdException no slot became available within the timeout, or the pool is closed
+     * @throws JSchException   a new session failed to connect
+     * @author Frank Giordano
+     */
+    public Lease borrow(final SshConnection connection, final int timeout) throws UssCmdException, JSchException {
+        return borrow(connection, timeout, 1, true);
+    }
+
+    /**
+     * Borrow a newly opened session for the connection, opening it while under the session limit or waiting
+     * for a slot to be released. Used to retry on a fresh session once a channel could not be opened on a
+     * reused one.
+     *
+     * @param connection SshConnection object
+     * @param timeout    milliseconds to wait for a free slot, also used as the connect timeout of the session
+     * @return Lease object holding the session
+     * @throws UssCmdException no slot became available within the timeout, or the pool is closed
+     * @throws JSchException   the session failed to connect
+     */
+    Lease borrowNew(final SshConnection connection, final int timeout) throws UssCmdException, JSchException {
+        return borrow(connection, timeout, 1, false);
+    }
+
+    /**
+     * Borrow a session holding several of its channel slots, so that a batch of commands can run on one
+     * session without other borrowers taking the channels it relies on.
+     *
+     * @param connection SshConnection object
+     * @param timeout    milliseconds to wait for free slots, also used as the connect timeout of a new session
+     * @param channels   number of channel slots, at most the channel limit per session
+     * @param reuse      false to skip the pooled sessions and open a new one
+     * @return Lease object holding the session
+     * @throws UssCmdException no slots became available within the timeout, or the pool is closed
+     * @throws JSchException   a new session failed to connect
+     */
+    Lease borrow(final SshConnection connection, final int timeout, final int channels, final boolean reuse)
+            throws UssCmdException, JSchException {
+        ValidateUtils.checkSshConnection(connection);
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be greater than zero");
+        }
+        if (channels <= 0 || channels > inputData.getMaxChannelsPerSession()) {
+            throw new IllegalArgumentException("Channels must be between 1 and the channel limit per session");
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        final List<Session> stale = new ArrayList<>();
+        Sessions sessions;
+        lock.lock();
+        try {
+            while (true) {
+                checkOpen();
+                sessions = pool.computeIfAbsent(connection, key -> new Sessions());
+                final PooledSession reusable = reuse ? findReusable(sessions, channels, stale) : null;
+                if (reusable != null) {
+                    reusable.activeChannels += channels;
+                    return new Lease(this, connection, reusable, channels, true);
+                }
+                if (sessions.list.size() + sessions.pending < inputData.getMaxSessions()) {
+                    sessions.pending++;
+                    break;
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new UssCmdException("No SSH session available after " + timeout + " ms",
+                            new TimeoutException("SSH session pool exhausted"));
+                }
+                released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UssCmdException("Interrupted waiting for an SSH session", e);
+        } finally {
+            lock.unlock();
+            stale.forEach(SshSessionPool::disconnect);
+        }
+
+        // connect outside the lock, other borrowers keep using the existing sessions meanwhile
+        final Session session;
+        try {
+            session = openSession(connection, timeout);
+        } catch (JSchException | RuntimeException e) {
+            lock.lock();
+            try {
+                sessions.pending--;
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            sessions.pending--;
+            if (closed) {
+                disconnect(session);
+                throw new UssCmdException("SSH session pool is closed", new IllegalStateException("closed"));
+            }
+            final PooledSession pooled = new PooledSession(session);
+            pooled.activeChannels += channels;
+            sessions.list.add(pooled);
+            // borrowers that queued behind this connect can share its remaining channels
+            released.signalAll();
+            LOG.debug("opened pooled SSH session for {}:{}", connection.getHost(), connection.getPort());
+            return new Lease(this, connection, pooled, channels, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Session openSession(final SshConnection connection, final int timeout) throws JSchException {
+        final Session session = factory.open(connection, timeout);
+        try {
+            if (inputData.getKeepAliveInterval() > 0) {
+                session.setServerAliveInterval(inputData.getKeepAliveInterval());
+            }
+        } catch (JSchException | RuntimeException e) {
+            disconnect(session);
+            throw e;
+        }
+        return session;
+    }
+
+    /**
+     * Retrieve the number of pooled sessions for the connection
+     *
+     * @param connection SshConnection object
+     * @return number of sessions
+     */
+    public int getSessionCount(final SshConnection connection) {
+        lock.lock();
+        try {
+            final Sessions sessions = pool.get(connection);
+            return sessions == null ? 0 : sessions.list.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the number of channel slots currently held by leases for the connection
+     *
+     * @param connection SshConnection object
+     * @return number of active channels
+     */
+    public int getActiveChannelCount(final SshConnection connection) {
+        lock.lock();
+        try {
+            final Sessions sessions = pool.get(connection);
+            return sessions == null ? 0 : sessions.list.stream().mapToInt(s -> s.activeChannels).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieve the pool settings
+     *
+     * @return SshSessionPoolInputData object
+     */
+    public SshSessionPoolInputData getInputData() {
+        return inputData;
+    }
+
+    /**
+     * Disconnect every pooled session and stop the idle evictor. Leases still held disconnect their
+     * session when closed.
+     *
+     * @author Frank Giordano
+     */
+    @Override
+    public void close() {
+        final List<Session> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pool.values().forEach(sessions -> sessions.list.stream()
+                    .filter(s -> s.activeChannels == 0)
+                    .forEach(s -> toClose.add(s.session)));
+            pool.clear();
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        evictor.shutdownNow();
+        toClose.forEach(SshSessionPool::disconnect);
+    }
+
+    /**
+     * Disconnect sessions unused for longer than the idle timeout and sessions found disconnected
+     */
+    void evictIdle() {
+        final List<Session> toClose = new ArrayList<>();
+        final long now = System.nanoTime();
+        final long idleNanos = TimeUnit.MILLISECONDS.toNanos(inputData.getIdleTimeout());
+        lock.lock();
+        try {
+            for (final Iterator<Sessions> poolIt = pool.values().iterator(); poolIt.hasNext(); ) {
+                final Sessions sessions = poolIt.next();
+                for (final Iterator<PooledSession> it = sessions.list.iterator(); it.hasNext(); ) {
+                    final PooledSession pooled = it.next();
+                    if (pooled.activeChannels == 0 &&
+                            (now - pooled.lastUsed > idleNanos || !pooled.session.isConnected())) {
+                        it.remove();
+                        toClose.add(pooled.session);
+                    }
+                }
+                if (sessions.list.isEmpty() && sessions.pending == 0) {
+                    poolIt.remove();
+                }
+            }
+            if (!toClose.isEmpty()) {
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(SshSessionPool::disconnect);
+    }
+
+    private PooledSession findReusable(final Sessions sessions, final int channels, final List<Session> stale) {
+        for (final Iterator<PooledSession> it = sessions.list.iterator(); it.hasNext(); ) {
+            final PooledSession pooled = it.next();
+            if (pooled.broken || pooled.activeChannels + channels > inputData.getMaxChannelsPerSession()) {
+                continue;
+            }
+            if (isHealthy(pooled)) {
+                return pooled;
+            }
+            if (pooled.activeChannels == 0) {
+                it.remove();
+                stale.add(pooled.session);
+            }
+        }
+        return null;
+    }
+
+    private boolean isHealthy(final PooledSession pooled) {
+        // no network I/O under the lock: the session's own keepalive messages disconnect it once the server
+        // stops answering, and a half-open session is invalidated through its lease when its channel fails
+        return pooled.session.isConnected();
+    }
+
+    private void release(final SshConnection connection, final PooledSession pooled, final int channels,
+                         final boolean discard) {
+        boolean disconnect = false;
+        lock.lock();
+        try {
+            pooled.activeChannels -= channels;
+            pooled.lastUsed = System.nanoTime();
+            pooled.broken |= discard;
+            final Sessions sessions = pool.get(connection);
+            if (closed || pooled.broken || sessions == null) {
+                if (pooled.activeChannels == 0) {
+                    if (sessions != null) {
+                        sessions.list.remove(pooled);
+                    }
+                    disconnect = true;
+                }
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (disconnect) {
+            disconnect(pooled.session);
+        }
+    }
+
+    private void checkOpen() throws UssCmdException {
+        if (closed) {
+            throw new UssCmdException("SSH session pool is closed", new IllegalStateException("closed"));
+        }
+    }
+
+    private static void disconnect(final Session session) {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    /**
+     * Sessions pooled for one connection
+     */
+    private static final class Sessions {
+        private final List<PooledSession> list = new ArrayList<>();
+        private int pending;
+    }
+
+    /**
+     * Pooled session with its channel usage
+     */
+    private static final class PooledSession {
+        private final Session session;
+        private int activeChannels;
+        private boolean broken;
+        private long lastUsed = System.nanoTime();
+
+        private PooledSession(final Session session) {
+            this.session = session;
+        }
+    }
+
+    /**
+     * Session borrowed from the pool, returned to it on close
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final SshSessionPool owner;
+        private final SshConnection connection;
+        private final PooledSession pooled;
+        private final int channels;
+        private final boolean reused;
+        private boolean invalid;
+        private boolean released;
+
+        private Lease(final SshSessionPool owner, final SshConnection connection, final PooledSession pooled,
+                      final int channels, final boolean reused) {
+            this.owner = owner;
+            this.connection = connection;
+            this.pooled = pooled;
+            this.channels = channels;
+            this.reused = reused;
+        }
+
+        /**
+         * Retrieve the borrowed session
+         *
+         * @return connected JSch Session object
+         */
+        public Session getSession() {
+            return pooled.session;
+        }
+
+        /**
+         * Determine whether the session was already pooled rather than opened for this lease. A reused session
+         * may have been dropped by the network without being disconnected yet.
+         *
+         * @return true if the session was already pooled
+         */
+        public boolean isReused() {
+            return reused;
+        }
+
+        /**
+         * Mark the session as broken so that it is disconnected instead of reused once released
+         */
+        public void invalidate() {
+            invalid = true;
+        }
+
+        /**
+         * Return the session to the pool
+         */
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                owner.release(connection, pooled, channels, invalid);
+            }
+        }
+    }
+
+}
@@ -16,18 +16,32 @@ import com.jcraft.jsch.Session;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import zowe.client.sdk.core.SshConnection;
+import zowe.client.sdk.jfr.UssCmdEvent;
 import zowe.client.sdk.rest.RestConstant;
+import zowe.client.sdk.utility.ParallelUtils;
 import zowe.client.sdk.utility.ValidateUtils;
-import zowe.client.sdk.utility.WaitUtil;
 import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.response.UssCmdResponse;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * UssCmd Class provides a way to execute USS commands via ssh connection
@@ -52,8 +66,17 @@ public class UssCmd {
 
     private static final Logger LOG = LoggerFactory.getLogger(UssCmd.class);
 
+    private static final long SIGNAL_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final int HANDLER_QUEUE_CHUNKS = 64;
+
+    private static final String DEFAULT_KNOWN_HOSTS_PATH =
+            System.getProperty("user.home") + File.separator + ".ssh" + File.separator + "known_hosts";
+
     private final SshConnection connection;
 
+    private final SshSessionPool pool;
+
     /**
      * UssCmd constructor
      *
@@ -62,6 +85,22 @@ public class UssCmd {
     public UssCmd(final SshConnection connection) {
         ValidateUtils.checkSshConnection(connection);
         this.connection = connection;
+        this.pool = null;
+    }
+
+    /**
+     * UssCmd constructor that borrows sessions from the given pool instead of opening a new SSH session
+     * for every command
+     *
+     * @param connection SshConnection object
+     * @param pool       SshSessionPool object
+     * @author Frank Giordano
+     */
+    public UssCmd(final SshConnection connection, final SshSessionPool pool) {
+        ValidateUtils.checkSshConnection(connection);
+        ValidateUtils.checkNullParameter(pool, "pool");
+        this.connection = connection;
+        this.pool = pool;
     }
 
     /**
@@ -85,42 +124,379 @@ public class UssCmd {
      * @author Frank Giordano
      */
     public String issueCommand(final String command, final int timeout) throws UssCmdException {
+        final ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
+        run(command, timeout, responseStream, null, null);
+        return responseStream.toString();
+    }
+
+    /**
+     * Executes USS command(s) and streams standard output and standard error to the given handler as
+     * the output arrives, without buffering it.
+     * <p>
+     * Use this method for commands that produce large output, or when standard error or the exit status
+     * is needed. {@link LineOutputHandler} delivers the output line by line. The handler runs on a thread of
+     * its own, see UssOutputHandler. The call returns once the channel is closed and the handler received all
+     * of the output.
+     *
+     * @param command string value containing one or more USS commands
+     * @param timeout int value in milliseconds used independently as the timeout for
+     *                the SSH session connection, SSH channel connection, and remote
+     *                command execution
+     * @param handler receives the command output, see UssOutputHandler
+     * @return exit status of the command, or -1 if the server did not report one
+     * @throws UssCmdException if an SSH connection, channel connection, or command
+     *                         execution fails or times out, or the handler throws
+     * @author Frank Giordano
+     */
+    public int issueCommand(final String command, final int timeout, final UssOutputHandler handler)
+            throws UssCmdException {
+        ValidateUtils.checkNullParameter(handler, "handler");
+        final HandlerQueue output = new HandlerQueue(handler);
+        final ExecutorService executor = Executors.newSingleThreadExecutor(ParallelUtils.threadFactory("uss-output"));
+        try {
+            final Future<?> delivery = executor.submit(output);
+            final int exitStatus = run(command, timeout, output.stream(false), output.stream(true), null);
+            output.finish(delivery);
+            handler.onComplete(exitStatus);
+            return exitStatus;
+        } finally {
+            // stops the delivery when the command failed, output still queued is dropped
+            output.abandon();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executes a list of USS commands over a single SSH session, running up to maxChannels of them at once
+     * on separate exec channels.
+     * <p>
+     * The total time is close to that of the slowest commands rather than the sum of all of them, and the
+     * SSH login is paid once. Commands run independently of each other and in no guaranteed order; use a
+     * single command string joined with ";" or "&amp;&amp;" when one depends on another. Keep maxChannels at
+     * or below the z/OS sshd MaxSessions setting (10 by default).
+     * <p>
+     * When this UssCmd uses an SshSessionPool, the batch borrows one pooled session holding as many channel
+     * slots as commands run at once, so maxChannels is further limited to the pool's channel limit per session.
+     * <p>
+     * A command whose channel cannot be opened, or which fails or times out, does not stop the others; its
+     * UssCmdResponse holds the error instead, see {@link UssCmdResponse#getError()}.
+     *
+     * @param commands    list of USS commands
+     * @param maxChannels maximum number of commands running at once
+     * @param timeout     int value in milliseconds used independently as the timeout for the SSH
+     *                    session connection, each SSH channel connection, and each command execution
+     * @return list of UssCmdResponse objects in the order of the given commands
+     * @throws UssCmdException if the SSH connection fails or no pooled session is available
+     * @author Frank Giordano
+     */
+    public List<UssCmdResponse> issueCommands(final List<String> commands, final int maxChannels, final int timeout)
+            throws UssCmdException {
+        ValidateUtils.checkNullParameter(commands, "commands");
+        if (maxChannels <= 0) {
+            throw new IllegalArgumentException("maxChannels must be greater than zero");
+        }
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be greater than zero");
+        }
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+
+        final int channels = Math.min(maxChannels, commands.size());
+        try {
+            if (pool != null) {
+                return runPooledBatch(commands, Math.min(channels, pool.getInputData().getMaxChannelsPerSession()),
+                        timeout);
+            }
+            try (final ManagedSession session = new ManagedSession(connection, timeout)) {
+                return runBatch(commands, channels, timeout, session.get(), new AtomicInteger());
+            }
+        } catch (JSchException e) {
+            throw toUssCmdException(e, timeout);
+        }
+    }
+
+    /**
+     * Run the commands on one session borrowed from the pool for the whole batch
+     *
+     * @param commands list of USS commands
+     * @param channels number of commands running at once, and of channel slots borrowed
+     * @param timeout  timeout in milliseconds
+     * @return list of UssCmdResponse objects in command order
+     * @throws JSchException   a new session failed to connect
+     * @throws UssCmdException no pooled session available
+     */
+    private List<UssCmdResponse> runPooledBatch(final List<String> commands, final int channels, final int timeout)
+            throws JSchException, UssCmdException {
+        try (final SshSessionPool.Lease lease = pool.borrow(connection, timeout, channels, true)) {
+            final AtomicInteger channelFailures = new AtomicInteger();
+            final List<UssCmdResponse> responses = runBatch(commands, channels, timeout, lease.getSession(),
+                    channelFailures);
+            if (channelFailures.get() == 0) {
+                return responses;
+            }
+            // a channel could not be opened, do not hand this session out again
+            lease.invalidate();
+            if (!lease.isReused() || channelFailures.get() < commands.size()) {
+                return responses;
+            }
+            LOG.debug("no channel could be opened on a pooled SSH session, retrying the batch on a new session");
+        }
+        // no command started, the pooled session may have been half-open
+        try (final SshSessionPool.Lease lease = pool.borrow(connection, timeout, channels, false)) {
+            final AtomicInteger channelFailures = new AtomicInteger();
+            final List<UssCmdResponse> responses = runBatch(commands, channels, timeout, lease.getSession(),
+                    channelFailures);
+            if (channelFailures.get() > 0) {
+                lease.invalidate();
+            }
+            return responses;
+        }
+    }
+
+    /**
+     * Run the commands on a fixed number of worker threads, each command on its own channel of the session.
+     * A failed command is recorded in its UssCmdResponse and does not stop the others.
+     *
+     * @param commands        list of USS commands
+     * @param channels        maximum number of commands running at once
+     * @param timeout         timeout in milliseconds
+     * @param session         shared session
+     * @param channelFailures counts the commands whose channel could not be opened
+     * @return list of UssCmdResponse objects in command order
+     * @throws UssCmdException interrupted waiting for the commands
+     */
+    private List<UssCmdResponse> runBatch(final List<String> commands, final int channels, final int timeout,
+                                          final Session session, final AtomicInteger channelFailures)
+            throws UssCmdException {
+        final ExecutorService executor = Executors.newFixedThreadPool(channels,
+                ParallelUtils.threadFactory("uss-batch"));
+        try {
+            final List<Future<UssCmdResponse>> futures = new ArrayList<>(commands.size());
+            for (final String command : commands) {
+                futures.add(executor.submit(() -> {
+                    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    final ByteArrayOutputStream err = new ByteArrayOutputStream();
+                    try {
+                        final int exitStatus = run(command, timeout, out, err, session);
+                        return new UssCmdResponse(command, exitStatus, out.toString(), err.toString());
+                    } catch (UssCmdException e) {
+                        if (e.getCause() instanceof JSchException) {
+                            channelFailures.incrementAndGet();
+                        }
+                        return new UssCmdResponse(command, -1, out.toString(), err.toString(), e.getMessage());
+                    }
+                }));
+            }
+            final List<UssCmdResponse> responses = new ArrayList<>(commands.size());
+            for (final Future<UssCmdResponse> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UssCmdException("Interrupted waiting for batch commands", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UssCmdException) {
+                throw (UssCmdException) e.getCause();
+            }
+            throw new UssCmdException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            // cancels the commands still running when the wait was interrupted
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Run the command and record it as a {@link UssCmdEvent}
+     *
+     * @param command USS command(s)
+     * @param timeout timeout in milliseconds
+     * @param out     receives standard output
+     * @param err     receives standard error, or null to discard it
+     * @param session session to run on, or null to open or borrow one
+     * @return command exit status
+     * @throws UssCmdException command failed or timed out
+     */
+    private int run(final String command, final int timeout, final OutputStream out, final OutputStream err,
+                    final Session session) throws UssCmdException {
         if (timeout <= 0) {
             throw new IllegalArgumentException("Timeout must be greater than zero");
         }
 
-        try (final ByteArrayOutputStream responseStream = new ByteArrayOutputStream();
-             final ManagedSession session = new ManagedSession(connection, timeout);
-             final ManagedChannel channel = new ManagedChannel(session.get(), command, responseStream, timeout)) {
+        final UssCmdEvent event = new UssCmdEvent();
+        event.begin();
+        final ChannelSignal signal = new ChannelSignal();
+        final ChannelOutput stdout = new ChannelOutput(out, signal, true);
+        // always attached, JSch closes the standard error stream once the channel is closed
+        final ChannelOutput stderr = new ChannelOutput(err == null ? OutputStream.nullOutputStream() : err,
+                signal, false);
+        int exitStatus = -1;
+        boolean success = false;
+
+        try {
+            exitStatus = session != null ?
+                    runChannel(session, command, stdout, stderr, signal, timeout) :
+                    execute(command, stdout, stderr, signal, timeout);
+            success = true;
+            return exitStatus;
+        } catch (JSchException e) {
+            throw toUssCmdException(e, timeout);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.host = connection.getHost();
+                event.port = connection.getPort();
+                event.command = command;
+                event.exitStatus = exitStatus;
+                event.bytes = stdout.bytes + (err == null ? 0 : stderr.bytes);
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Run the command on a new session, or on a session borrowed from the pool when one is configured
+     *
+     * @param command USS command(s)
+     * @param stdout  receives standard output
+     * @param stderr  receives standard error
+     * @param signal  completion signal shared by the output streams
+     * @param timeout timeout in milliseconds
+     * @return command exit status
+     * @throws JSchException   SSH session or channel error
+     * @throws UssCmdException command execution timed out or no pooled session available
+     */
+    private int execute(final String command, final ChannelOutput stdout, final ChannelOutput stderr,
+                        final ChannelSignal signal, final int timeout) throws JSchException, UssCmdException {
+        if (pool == null) {
+            try (final ManagedSession session = new ManagedSession(connection, timeout)) {
+                return runChannel(session.get(), command, stdout, stderr, signal, timeout);
+            }
+        }
+
+        try (final SshSessionPool.Lease lease = pool.borrow(connection, timeout)) {
+            try {
+                return runChannel(lease.getSession(), command, stdout, stderr, signal, timeout);
+            } catch (JSchException e) {
+                // the channel could not be opened, do not hand this session out again
+                lease.invalidate();
+                if (!lease.isReused()) {
+                    throw e;
+                }
+                LOG.debug("channel failed on a pooled SSH session, retrying on a new session: {}", e.getMessage());
+            }
+        }
+        // the command did not start, a pooled session may have been half-open
+        try (final SshSessionPool.Lease lease = pool.borrowNew(connection, timeout)) {
+            try {
+                return runChannel(lease.getSession(), command, stdout, stderr, signal, timeout);
+            } catch (JSchException e) {
+                lease.invalidate();
+                throw e;
+            }
+        }
+    }
 
-            final long startTime = System.nanoTime();
+    /**
+     * Run the command on an exec channel of an already connected session, buffering its output
+     *
+     * @param session connected session
+     * @param command USS command(s)
+     * @param timeout timeout in milliseconds
+     * @return UssCmdResponse object
+     * @throws JSchException   SSH channel error
+     * @throws UssCmdException command execution timed out
+     */
+    static UssCmdResponse runOnSession(final Session session, final String command, final int timeout)
+            throws JSchException, UssCmdException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final ChannelSignal signal = new ChannelSignal();
+        final int exitStatus = runChannel(session, command, new ChannelOutput(out, signal, true),
+                new ChannelOutput(err, signal, false), signal, timeout);
+        return new UssCmdResponse(command, exitStatus, out.toString(), err.toString());
+    }
 
-            // loop checks isClosed() to catch normal process completion
-            while (!channel.get().isClosed()) {
-                WaitUtil.wait(100);
+    /**
+     * Run the command on an exec channel of the given session and wait for it to finish
+     *
+     * @param session connected session
+     * @param command USS command(s)
+     * @param stdout  receives standard output
+     * @param stderr  receives standard error
+     * @param signal  completion signal shared by the output streams
+     * @param timeout timeout in milliseconds
+     * @return command exit status
+     * @throws JSchException   SSH channel error
+     * @throws UssCmdException command execution timed out or output processing failed
+     */
+    private static int runChannel(final Session session, final String command, final ChannelOutput stdout,
+                                  final ChannelOutput stderr, final ChannelSignal signal, final int timeout)
+            throws JSchException, UssCmdException {
+        try (final ManagedChannel channel = new ManagedChannel(session, command, stdout, stderr, timeout)) {
+            awaitClose(channel.get(), signal, timeout);
+            return channel.get().getExitStatus();
+        }
+    }
 
+    /**
+     * Wait until the channel is closed. JSch closes the standard output stream at end of output and the standard
+     * error stream once the channel is closed, and the wait wakes up on each of them. The timed wait re-checks
+     * for a channel that the server marked closed through its exit status alone.
+     *
+     * @param channel exec channel
+     * @param signal  completion signal shared by the output streams
+     * @param timeout timeout in milliseconds
+     * @throws UssCmdException command execution timed out or output processing failed
+     */
+    private static void awaitClose(final ChannelExec channel, final ChannelSignal signal, final int timeout)
+            throws UssCmdException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            while (!channel.isClosed()) {
+                if (signal.failure != null) {
+                    break;
+                }
                 // protect against network hangs or stuck processes
-                if ((System.nanoTime() - startTime) > TimeUnit.MILLISECONDS.toNanos(timeout)) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
                     throw new UssCmdException(
                             "Command execution timed out after " + timeout + " ms",
                             new java.util.concurrent.TimeoutException("SSH execution limit exceeded.")
                     );
                 }
+                final CountDownLatch next = signal.eof.getCount() > 0 ? signal.eof : signal.closed;
+                next.await(Math.min(remaining, SIGNAL_WAIT_NANOS), TimeUnit.NANOSECONDS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UssCmdException("Interrupted waiting for command completion", e);
+        }
+        if (signal.failure != null) {
+            throw new UssCmdException("Command output processing failed: " + signal.failure.getMessage(),
+                    signal.failure);
+        }
+    }
 
-            return responseStream.toString();
-        } catch (IOException | JSchException e) {
-            if (isSocketTimeout(e)) {
-                throw new UssCmdException(
-                        "SSH operation timed out after " + timeout
-                                + " ms. Consider increasing the timeout value if "
-                                + "the operation requires more time to complete.",
-                        e
-                );
-            }
-
-            throw new UssCmdException(e.getMessage(), e);
+    /**
+     * Wrap an SSH or IO error in a UssCmdException, with a timeout hint for socket timeouts
+     *
+     * @param e       error to wrap
+     * @param timeout timeout in milliseconds
+     * @return UssCmdException object
+     */
+    static UssCmdException toUssCmdException(final Exception e, final int timeout) {
+        if (isSocketTimeout(e)) {
+            return new UssCmdException(
+                    "SSH operation timed out after " + timeout
+                            + " ms. Consider increasing the timeout value if "
+                            + "the operation requires more time to complete.",
+                    e
+            );
         }
+        return new UssCmdException(e.getMessage(), e);
     }
 
     /**
@@ -143,6 +519,38 @@ public class UssCmd {
         return false;
     }
 
+    /**
+     * Open and connect a new SSH session for the connection, applying the host key verification rules
+     * described in the class-level Javadoc
+     *
+     * @param connection SshConnection object
+     * @param timeout    connect timeout in milliseconds
+     * @return connected JSch Session object
+     * @throws JSchException SSH connection error
+     */
+    static Session connectSession(final SshConnection connection, final int timeout) throws JSchException {
+        final JSch jsch = new JSch();
+        final Session session = jsch.getSession(connection.getUser(), connection.getHost(), connection.getPort());
+        session.setPassword(connection.getPassword());
+        final Properties config = new Properties();
+        config.put("PreferredAuthentications", "password");
+        final boolean inSecure = Boolean.parseBoolean(
+                System.getProperty(RestConstant.INSECURE_PROPERTY_NAME, "false"));
+        if (inSecure) {
+            // Insecure mode
+            LOG.warn("{} is enabled; SSH host key verification is disabled for this connection",
+                    RestConstant.INSECURE_PROPERTY_NAME);
+            config.put("StrictHostKeyChecking", "no");
+        } else {
+            // Secure mode
+            jsch.setKnownHosts(DEFAULT_KNOWN_HOSTS_PATH);
+            config.put("StrictHostKeyChecking", "yes");
+        }
+        session.setConfig(config);
+        session.connect(timeout);
+        return session;
+    }
+
     /**
      * AutoCloseable wrapper for JSch Session
      * <p>
@@ -154,31 +562,10 @@ public class UssCmd {
      */
     static class ManagedSession implements AutoCloseable {
 
-        private static final String DEFAULT_KNOWN_HOSTS_PATH =
-                System.getProperty("user.home") + File.separator + ".ssh" + File.separator + "known_hosts";
-
         private final Session session;
 
         ManagedSession(final SshConnection connection, final int timeout) throws JSchException {
-            final JSch jsch = new JSch();
-            this.session = jsch.getSession(connection.getUser(), connection.getHost(), connection.getPort());
-            session.setPassword(connection.getPassword());
-            final Properties config = new Properties();
-            config.put("PreferredAuthentications", "password");
-            final boolean inSecure = Boolean.parseBoolean(
-                    System.getProperty(RestConstant.INSECURE_PROPERTY_NAME, "false"));
-            if (inSecure) {
-                // Insecure mode
-                LOG.warn("{} is enabled; SSH host key verification is disabled for this connection",
-                        RestConstant.INSECURE_PROPERTY_NAME);
-                config.put("StrictHostKeyChecking", "no");
-            } else {
-                // Secure mode
-                jsch.setKnownHosts(DEFAULT_KNOWN_HOSTS_PATH);
-                config.put("StrictHostKeyChecking", "yes");
-            }
-            session.setConfig(config);
-            session.connect(timeout);
+            this.session = connectSession(connection, timeout);
         }
 
         Session get() {
@@ -204,9 +591,21 @@ public class UssCmd {
                        final OutputStream responseStream,
                        final int timeout)
                 throws JSchException {
+            this(session, command, responseStream, null, timeout);
+        }
+
+        ManagedChannel(final Session session,
+                       final String command,
+                       final OutputStream responseStream,
+                       final OutputStream errorStream,
+                       final int timeout)
+                throws JSchException {
             this.channel = (ChannelExec) session.openChannel("exec");
             channel.setCommand(command);
             channel.setOutputStream(responseStream);
+            if (errorStream != null) {
+                channel.setErrStream(errorStream);
+            }
             channel.connect(timeout);
         }
 
@@ -222,4 +621,197 @@ public class UssCmd {
         }
     }
 
+    /**
+     * Completion state shared by the output streams of one channel
+     */
+    static final class ChannelSignal {
+        private final CountDownLatch eof = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile Exception failure;
+
+        private void fail(final Exception e) {
+            if (failure == null) {
+                failure = e;
+            }
+            eof.countDown();
+            closed.countDown();
+        }
+    }
+
+    /**
+     * Output stream handed to JSch. Counts the bytes written and shields JSch's I/O thread from errors of the
+     * target stream. Signals end of output when JSch closes the standard output stream, and the channel close
+     * when it closes the standard error stream.
+     */
+    static final class ChannelOutput extends OutputStream {
+        private final OutputStream target;
+        private final ChannelSignal signal;
+        private final boolean stdout;
+        private volatile long bytes;
+
+        ChannelOutput(final OutputStream target, final ChannelSignal signal, final boolean stdout) {
+            this.target = target;
+            this.signal = signal;
+            this.stdout = stdout;
+        }
+
+        @Override
+        public void write(final int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] data, final int offset, final int length) {
+            if (signal.failure != null) {
+                return;
+            }
+            try {
+                target.write(data, offset, length);
+                bytes += length;
+            } catch (IOException | RuntimeException e) {
+                signal.fail(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                target.flush();
+            } catch (IOException | RuntimeException e) {
+                signal.fail(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+            if (stdout) {
+                signal.eof.countDown();
+            } else {
+                signal.closed.countDown();
+            }
+        }
+    }
+
+    /**
+     * Hands output chunks from JSch's I/O thread to a UssOutputHandler running on a thread of its own, through
+     * a bounded queue. JSch's I/O thread only waits for the handler once the queue is full.
+     */
+    private static final class HandlerQueue implements Runnable {
+        private static final Chunk END = new Chunk(new byte[0], false);
+
+        private final UssOutputHandler handler;
+        private final BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(HANDLER_QUEUE_CHUNKS);
+        private volatile Exception failure;
+        private volatile boolean abandoned;
+
+        private HandlerQueue(final UssOutputHandler handler) {
+            this.handler = handler;
+        }
+
+        private OutputStream stream(final boolean stderr) {
+            return new OutputStream() {
+                @Override
+                public void write(final int b) throws IOException {
+                    write(new byte[]{(byte) b}, 0, 1);
+                }
+
+                @Override
+                public void write(final byte[] data, final int offset, final int length) throws IOException {
+                    if (length > 0) {
+                        put(new Chunk(Arrays.copyOfRange(data, offset, offset + length), stderr));
+                    }
+                }
+            };
+        }
+
+        /**
+         * Queue a chunk, failing once the handler failed so that the command is cancelled
+         */
+        private void put(final Chunk chunk) throws IOException {
+            try {
+                while (!abandoned) {
+                    rethrowFailure();
+                    if (queue.offer(chunk, SIGNAL_WAIT_NANOS, TimeUnit.NANOSECONDS)) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted queueing command output");
+            }
+        }
+
+        private void rethrowFailure() throws IOException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure != null) {
+                throw (RuntimeException) failure;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                Chunk chunk;
+                while ((chunk = queue.take()) != END) {
+                    // after a failure the queue is still drained, so that JSch's I/O thread never waits on it
+                    if (failure == null) {
+                        try {
+                            if (chunk.stderr) {
+                                handler.onStderr(chunk.data, 0, chunk.data.length);
+                            } else {
+                                handler.onStdout(chunk.data, 0, chunk.data.length);
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            failure = e;
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Wait until the handler received all queued output
+         *
+         * @param delivery future of this queue's run
+         * @throws UssCmdException the handler failed, or the wait was interrupted
+         */
+        private void finish(final Future<?> delivery) throws UssCmdException {
+            try {
+                queue.put(END);
+                delivery.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UssCmdException("Interrupted waiting for command output", e);
+            } catch (ExecutionException e) {
+                throw new UssCmdException(e.getCause().getMessage(), e.getCause());
+            }
+            if (failure != null) {
+                throw new UssCmdException("Command output processing failed: " + failure.getMessage(), failure);
+            }
+        }
+
+        private void abandon() {
+            abandoned = true;
+            queue.clear();
+        }
+    }
+
+    /**
+     * Chunk of standard output or standard error
+     */
+    private static final class Chunk {
+        private final byte[] data;
+        private final boolean stderr;
+
+        private Chunk(final byte[] data, final boolean stderr) {
+            this.data = data;
+            this.stderr = stderr;
+        }
+    }
+
 }
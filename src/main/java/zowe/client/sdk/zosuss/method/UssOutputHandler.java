@@ -0,0 +1,55 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import java.io.IOException;
+
+/**
+ * Receives the output of a USS command as it arrives over the SSH channel.
+ * <p>
+ * Chunks are delivered in arrival order on a thread of their own, handed over from the SSH session's I/O thread
+ * through a bounded queue, and must not be retained beyond the callback. Once a slow handler lets the queue fill
+ * up, the I/O thread waits for it, which slows down the remote command and any other channel of the same
+ * session rather than buffering more output in memory. Throwing from a callback cancels the command.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public interface UssOutputHandler {
+
+    /**
+     * Receive a chunk of standard output
+     *
+     * @param data   buffer holding the chunk
+     * @param offset start of the chunk in the buffer
+     * @param length number of bytes in the chunk
+     * @throws IOException stop processing the command
+     */
+    void onStdout(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Receive a chunk of standard error
+     *
+     * @param data   buffer holding the chunk
+     * @param offset start of the chunk in the buffer
+     * @param length number of bytes in the chunk
+     * @throws IOException stop processing the command
+     */
+    void onStderr(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Called once the command finished and all of its output was delivered
+     *
+     * @param exitStatus exit status of the command, or -1 if the server did not report one
+     */
+    default void onComplete(final int exitStatus) {
+    }
+
+}
@@ -0,0 +1,560 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpException;
+import com.jcraft.jsch.SftpProgressMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import zowe.client.sdk.core.SshConnection;
+import zowe.client.sdk.utility.ParallelUtils;
+import zowe.client.sdk.utility.ValidateUtils;
+import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.input.SftpTransferInputData;
+import zowe.client.sdk.zosuss.response.SftpTransferResponse;
+import zowe.client.sdk.zosuss.response.UssCmdResponse;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * UssSftp Class provides file transfer of USS files over the SFTP subsystem of the z/OS SSH server
+ * <p>
+ * File content is streamed in binary over the SSH connection instead of being sent as one REST payload
+ * through z/OSMF, which is faster for large files and does not use z/OSMF CPU. Sessions are opened and
+ * verified the same way as for {@link UssCmd}, including the host key rules described there, and can be
+ * borrowed from an {@link SshSessionPool}.
+ * <p>
+ * Transfers can resume from the size of a partially written target file, and can be verified by
+ * comparing the POSIX cksum of both files once the transfer is done.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSftp {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UssSftp.class);
+
+    private final SshConnection connection;
+
+    private final SshSessionPool pool;
+
+    /**
+     * UssSftp constructor
+     *
+     * @param connection SshConnection object
+     * @author Frank Giordano
+     */
+    public UssSftp(final SshConnection connection) {
+        ValidateUtils.checkSshConnection(connection);
+        this.connection = connection;
+        this.pool = null;
+    }
+
+    /**
+     * UssSftp constructor that borrows sessions from the given pool instead of opening a new SSH session
+     * for every transfer
+     *
+     * @param connection SshConnection object
+     * @param pool       SshSessionPool object
+     * @author Frank Giordano
+     */
+    public UssSftp(final SshConnection connection, final SshSessionPool pool) {
+        ValidateUtils.checkSshConnection(connection);
+        ValidateUtils.checkNullParameter(pool, "pool");
+        this.connection = connection;
+        this.pool = pool;
+    }
+
+    /**
+     * Stream the content of a USS file to the given output stream. The stream is not closed.
+     *
+     * @param remotePath absolute path of the USS file
+     * @param out        OutputStream receiving the file content
+     * @param timeout    int value in milliseconds used as the timeout for the SSH session and SFTP channel
+     *                   connection
+     * @return number of bytes transferred
+     * @throws UssCmdException if the SSH connection or the transfer fails
+     * @author Frank Giordano
+     */
+    public long get(final String remotePath, final OutputStream out, final int timeout) throws UssCmdException {
+        ValidateUtils.checkIllegalParameter(remotePath, "remotePath");
+        ValidateUtils.checkNullParameter(out, "out");
+        checkTimeout(timeout);
+        return withSession(null, remotePath, timeout, session -> {
+            try (final ManagedSftp sftp = new ManagedSftp(session, timeout)) {
+                final ByteCounter counter = new ByteCounter();
+                sftp.get().get(remotePath, out, counter);
+                return counter.bytes;
+            }
+        });
+    }
+
+    /**
+     * Stream the given input stream into a USS file, replacing its content. The stream is not closed.
+     *
+     * @param in         InputStream providing the file content
+     * @param remotePath absolute path of the USS file
+     * @param timeout    int value in milliseconds used as the timeout for the SSH session and SFTP channel
+     *                   connection
+     * @return number of bytes transferred
+     * @throws UssCmdException if the SSH connection or the transfer fails
+     * @author Frank Giordano
+     */
+    public long put(final InputStream in, final String remotePath, final int timeout) throws UssCmdException {
+        ValidateUtils.checkNullParameter(in, "in");
+        ValidateUtils.checkIllegalParameter(remotePath, "remotePath");
+        checkTimeout(timeout);
+        return withSession(null, remotePath, timeout, session -> {
+            try (final ManagedSftp sftp = new ManagedSftp(session, timeout)) {
+                final ByteCounter counter = new ByteCounter();
+                sftp.get().put(in, remotePath, counter, ChannelSftp.OVERWRITE);
+                return counter.bytes;
+            }
+        });
+    }
+
+    /**
+     * Download a USS file to a local file
+     *
+     * @param transfer SftpTransferInputData object
+     * @param timeout  int value in milliseconds used as the timeout for the SSH session, SFTP channel, and
+     *                 cksum command
+     * @return SftpTransferResponse object
+     * @throws UssCmdException if the SSH connection, the transfer, or the verification fails
+     * @author Frank Giordano
+     */
+    public SftpTransferResponse download(final SftpTransferInputData transfer, final int timeout)
+            throws UssCmdException {
+        ValidateUtils.checkNullParameter(transfer, "transfer");
+        checkTimeout(timeout);
+        return withSession(null, transfer.getRemotePath(), timeout, session -> download(session, transfer, timeout));
+    }
+
+    /**
+     * Upload a local file to a USS file
+     *
+     * @param transfer SftpTransferInputData object
+     * @param timeout  int value in milliseconds used as the timeout for the SSH session, SFTP channel, and
+     *                 cksum command
+     * @return SftpTransferResponse object
+     * @throws UssCmdException if the SSH connection, the transfer, or the verification fails
+     * @author Frank Giordano
+     */
+    public SftpTransferResponse upload(final SftpTransferInputData transfer, final int timeout)
+            throws UssCmdException {
+        ValidateUtils.checkNullParameter(transfer, "transfer");
+        checkTimeout(timeout);
+        return withSession(null, transfer.getRemotePath(), timeout, session -> upload(session, transfer, timeout));
+    }
+
+    /**
+     * Download many USS files, up to maxParallel of them at once on separate SFTP channels
+     * <p>
+     * Without a pool all transfers share one SSH session; keep maxParallel at or below the z/OS sshd
+     * MaxSessions setting (10 by default). With a pool each transfer borrows its channel from the pool.
+     *
+     * @param transfers   list of SftpTransferInputData objects
+     * @param maxParallel maximum number of transfers running at once
+     * @param timeout     int value in milliseconds used as the timeout for each SSH session, SFTP channel, and
+     *                    cksum command
+     * @return list of SftpTransferResponse objects in the order of the given transfers
+     * @throws UssCmdException if the SSH connection fails, or any transfer or verification fails
+     * @author Frank Giordano
+     */
+    public List<SftpTransferResponse> downloadAll(final List<SftpTransferInputData> transfers,
+                                                  final int maxParallel, final int timeout)
+            throws UssCmdException {
+        return transferAll(transfers, maxParallel, timeout, false);
+    }
+
+    /**
+     * Upload many local files, up to maxParallel of them at once on separate SFTP channels
+     * <p>
+     * Without a pool all transfers share one SSH session; keep maxParallel at or below the z/OS sshd
+     * MaxSessions setting (10 by default). With a pool each transfer borrows its channel from the pool.
+     *
+     * @param transfers   list of SftpTransferInputData objects
+     * @param maxParallel maximum number of transfers running at once
+     * @param timeout     int value in milliseconds used as the timeout for each SSH session, SFTP channel, and
+     *                    cksum command
+     * @return list of SftpTransferResponse objects in the order of the given transfers
+     * @throws UssCmdException if the SSH connection fails, or any transfer or verification fails
+     * @author Frank Giordano
+     */
+    public List<SftpTransferResponse> uploadAll(final List<SftpTransferInputData> transfers,
+                                                final int maxParallel, final int timeout)
+            throws UssCmdException {
+        return transferAll(transfers, maxParallel, timeout, true);
+    }
+
+    /**
+     * Run the transfers on a fixed number of worker threads, each transfer on its own SFTP channel
+     *
+     * @param transfers   list of SftpTransferInputData objects
+     * @param maxParallel maximum number of transfers running at once
+     * @param timeout     timeout in milliseconds
+     * @param upload      true to upload, false to download
+     * @return list of SftpTransferResponse objects in transfer order
+     * @throws UssCmdException a transfer failed
+     */
+    private List<SftpTransferResponse> transferAll(final List<SftpTransferInputData> transfers,
+                                                   final int maxParallel, final int timeout,
+                                                   final boolean upload) throws UssCmdException {
+        ValidateUtils.checkNullParameter(transfers, "transfers");
+        if (maxParallel <= 0) {
+            throw new IllegalArgumentException("maxParallel must be greater than zero");
+        }
+        checkTimeout(timeout);
+        if (transfers.isEmpty()) {
+            return List.of();
+        }
+
+        if (pool != null) {
+            return transferAll(transfers, maxParallel, timeout, upload, null);
+        }
+        try (final UssCmd.ManagedSession session = new UssCmd.ManagedSession(connection, timeout)) {
+            return transferAll(transfers, maxParallel, timeout, upload, session.get());
+        } catch (JSchException e) {
+            throw UssCmd.toUssCmdException(e, timeout);
+        }
+    }
+
+    private List<SftpTransferResponse> transferAll(final List<SftpTransferInputData> transfers,
+                                                   final int maxParallel, final int timeout,
+                                                   final boolean upload, final Session shared)
+            throws UssCmdException {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxParallel, transfers.size()),
+                ParallelUtils.threadFactory("uss-sftp"));
+        try {
+            final List<Future<SftpTransferResponse>> futures = new ArrayList<>(transfers.size());
+            for (final SftpTransferInputData transfer : transfers) {
+                ValidateUtils.checkNullParameter(transfer, "transfer");
+                futures.add(executor.submit(() -> withSession(shared, transfer.getRemotePath(), timeout,
+                        session -> upload ? upload(session, transfer, timeout) : download(session, transfer, timeout))));
+            }
+            final List<SftpTransferResponse> responses = new ArrayList<>(transfers.size());
+            for (final Future<SftpTransferResponse> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UssCmdException("Interrupted waiting for file transfers", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UssCmdException) {
+                throw (UssCmdException) e.getCause();
+            }
+            throw new UssCmdException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            // cancels the transfers still running when one of them failed
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Download on the given session, resuming from the size of the local file when requested
+     *
+     * @param session  connected session
+     * @param transfer SftpTransferInputData object
+     * @param timeout  timeout in milliseconds
+     * @return SftpTransferResponse object
+     */
+    private static SftpTransferResponse download(final Session session, final SftpTransferInputData transfer,
+                                                 final int timeout)
+            throws JSchException, SftpException, IOException, UssCmdException {
+        final String remotePath = transfer.getRemotePath();
+        final Path localPath = transfer.getLocalPath();
+        final long offset = transfer.isResume() && Files.exists(localPath) ? Files.size(localPath) : 0;
+
+        final long bytes;
+        try (final ManagedSftp sftp = new ManagedSftp(session, timeout)) {
+            if (offset > 0) {
+                final long remoteSize = sftp.get().stat(remotePath).getSize();
+                if (offset > remoteSize) {
+                    throw new UssCmdException("Cannot resume download of " + remotePath + ", local file " +
+                            localPath + " is larger than the remote file",
+                            new IllegalStateException("local size " + offset + " > remote size " + remoteSize));
+                }
+            }
+            // counts what is written locally, since in RESUME mode JSch also reports the skipped offset as progress
+            try (final CountingOutputStream out = new CountingOutputStream(offset > 0 ?
+                    Files.newOutputStream(localPath, StandardOpenOption.APPEND) :
+                    Files.newOutputStream(localPath))) {
+                sftp.get().get(remotePath, out, null, ChannelSftp.RESUME, offset);
+                bytes = out.bytes;
+            }
+        }
+
+        final OptionalLong checksum = transfer.isVerify() ?
+                OptionalLong.of(verify(session, remotePath, localPath, timeout)) : OptionalLong.empty();
+        return new SftpTransferResponse(remotePath, localPath, offset, bytes, checksum);
+    }
+
+    /**
+     * Upload on the given session, resuming from the size of the remote file when requested
+     *
+     * @param session  connected session
+     * @param transfer SftpTransferInputData object
+     * @param timeout  timeout in milliseconds
+     * @return SftpTransferResponse object
+     */
+    private static SftpTransferResponse upload(final Session session, final SftpTransferInputData transfer,
+                                               final int timeout)
+            throws JSchException, SftpException, IOException, UssCmdException {
+        final String remotePath = transfer.getRemotePath();
+        final Path localPath = transfer.getLocalPath();
+        final long localSize = Files.size(localPath);
+
+        final ByteCounter counter = new ByteCounter();
+        long offset = 0;
+        try (final ManagedSftp sftp = new ManagedSftp(session, timeout)) {
+            if (transfer.isResume()) {
+                offset = remoteSize(sftp.get(), remotePath);
+                if (offset > localSize) {
+                    throw new UssCmdException("Cannot resume upload of " + localPath + ", remote file " +
+                            remotePath + " is larger than the local file",
+                            new IllegalStateException("remote size " + offset + " > local size " + localSize));
+                }
+            }
+            try (final SeekableByteChannel channel = Files.newByteChannel(localPath)) {
+                channel.position(offset);
+                // APPEND writes at the current remote size without skipping the already positioned input
+                sftp.get().put(Channels.newInputStream(channel), remotePath, counter,
+                        offset > 0 ? ChannelSftp.APPEND : ChannelSftp.OVERWRITE);
+            }
+        }
+
+        final OptionalLong checksum = transfer.isVerify() ?
+                OptionalLong.of(verify(session, remotePath, localPath, timeout)) : OptionalLong.empty();
+        return new SftpTransferResponse(remotePath, localPath, offset, counter.bytes, checksum);
+    }
+
+    /**
+     * Size of the remote file, zero if it does not exist
+     *
+     * @param sftp       connected SFTP channel
+     * @param remotePath absolute path of the USS file
+     * @return size in bytes
+     * @throws SftpException SFTP error other than a missing file
+     */
+    private static long remoteSize(final ChannelSftp sftp, final String remotePath) throws SftpException {
+        try {
+            return sftp.stat(remotePath).getSize();
+        } catch (SftpException e) {
+            if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Compare the POSIX cksum of the local file with the output of cksum for the remote file
+     *
+     * @param session    connected session
+     * @param remotePath absolute path of the USS file
+     * @param localPath  path of the local file
+     * @param timeout    timeout in milliseconds
+     * @return checksum value shared by both files
+     * @throws UssCmdException the checksums differ or cksum failed
+     */
+    static long verify(final Session session, final String remotePath, final Path localPath, final int timeout)
+            throws JSchException, IOException, UssCmdException {
+        final PosixChecksum local = PosixChecksum.of(localPath);
+        final UssCmdResponse response = UssCmd.runOnSession(session, "cksum " + quote(remotePath), timeout);
+        final String[] fields = response.getStdout().trim().split("\\s+");
+        if (response.getExitStatus() != 0 || fields.length < 2) {
+            throw new UssCmdException("cksum failed for " + remotePath + ": " + response.getStderr().trim(),
+                    new IllegalStateException("exit status " + response.getExitStatus()));
+        }
+        final long remoteValue;
+        final long remoteLength;
+        try {
+            remoteValue = Long.parseLong(fields[0]);
+            remoteLength = Long.parseLong(fields[1]);
+        } catch (NumberFormatException e) {
+            throw new UssCmdException("Unexpected cksum output for " + remotePath + ": " + response.getStdout(), e);
+        }
+        if (remoteValue != local.getValue() || remoteLength != local.getLength()) {
+            throw new UssCmdException("Checksum mismatch for " + remotePath + ": local " + local.getValue() + " " +
+                    local.getLength() + ", remote " + remoteValue + " " + remoteLength,
+                    new IOException("transferred content differs"));
+        }
+        return remoteValue;
+    }
+
+    /**
+     * Quote a path for the z/OS UNIX shell
+     *
+     * @param path file path
+     * @return single quoted path
+     */
+    static String quote(final String path) {
+        return "'" + path.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * Run the action on the shared session, a session borrowed from the pool, or a new session
+     *
+     * @param shared     shared session, or null
+     * @param remotePath absolute path of the USS file, used in error messages
+     * @param timeout    timeout in milliseconds
+     * @param action     action to run
+     * @return action result
+     * @throws UssCmdException action failed
+     */
+    private <T> T withSession(final Session shared, final String remotePath, final int timeout,
+                              final SessionAction<T> action) throws UssCmdException {
+        try {
+            if (shared != null) {
+                return action.run(shared);
+            }
+            if (pool == null) {
+                try (final UssCmd.ManagedSession session = new UssCmd.ManagedSession(connection, timeout)) {
+                    return action.run(session.get());
+                }
+            }
+            try (final SshSessionPool.Lease lease = pool.borrow(connection, timeout)) {
+                try {
+                    return action.run(lease.getSession());
+                } catch (JSchException e) {
+                    // the channel could not be opened, do not hand this session out again
+                    lease.invalidate();
+                    if (!lease.isReused()) {
+                        throw e;
+                    }
+                    LOG.debug("channel failed on a pooled SSH session, retrying on a new session: {}",
+                            e.getMessage());
+                }
+            }
+            // nothing was transferred, a pooled session may have been half-open
+            try (final SshSessionPool.Lease lease = pool.borrowNew(connection, timeout)) {
+                try {
+                    return action.run(lease.getSession());
+                } catch (JSchException e) {
+                    lease.invalidate();
+                    throw e;
+                }
+            }
+        } catch (JSchException | IOException e) {
+            throw UssCmd.toUssCmdException(e, timeout);
+        } catch (SftpException e) {
+            throw new UssCmdException("SFTP transfer of " + remotePath + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Validate the timeout value
+     *
+     * @param timeout timeout in milliseconds
+     */
+    private static void checkTimeout(final int timeout) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be greater than zero");
+        }
+    }
+
+    /**
+     * Work done on a connected session
+     *
+     * @param <T> result type
+     */
+    @FunctionalInterface
+    private interface SessionAction<T> {
+        T run(Session session) throws JSchException, SftpException, IOException, UssCmdException;
+    }
+
+    /**
+     * AutoCloseable wrapper for JSch ChannelSftp
+     */
+    static class ManagedSftp implements AutoCloseable {
+
+        private final ChannelSftp channel;
+
+        ManagedSftp(final Session session, final int timeout) throws JSchException {
+            this.channel = (ChannelSftp) session.openChannel("sftp");
+            channel.connect(timeout);
+        }
+
+        ChannelSftp get() {
+            return channel;
+        }
+
+        @Override
+        public void close() {
+            if (channel != null && channel.isConnected()) {
+                channel.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Progress monitor counting the bytes transferred
+     */
+    private static final class ByteCounter implements SftpProgressMonitor {
+        private long bytes;
+
+        @Override
+        public void init(final int op, final String src, final String dest, final long max) {
+        }
+
+        @Override
+        public boolean count(final long count) {
+            bytes += count;
+            return true;
+        }
+
+        @Override
+        public void end() {
+        }
+    }
+
+    /**
+     * Output stream counting the bytes written through it
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long bytes;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.response;
+
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+/**
+ * Holds the result of one file transfer performed over SFTP
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SftpTransferResponse {
+
+    /**
+     * Absolute path of the USS file
+     */
+    private final String remotePath;
+
+    /**
+     * Path of the local file
+     */
+    private final Path localPath;
+
+    /**
+     * Byte offset the transfer started at, greater than zero when a partial transfer was resumed
+     */
+    private final long offset;
+
+    /**
+     * Number of bytes transferred
+     */
+    private final long bytesTransferred;
+
+    /**
+     * POSIX cksum value shared by the local and remote file, present when the transfer was verified
+     */
+    private final OptionalLong checksum;
+
+    /**
+     * SftpTransferResponse constructor
+     *
+     * @param remotePath       absolute path of the USS file
+     * @param localPath        path of the local file
+     * @param offset           byte offset the transfer started at
+     * @param bytesTransferred number of bytes transferred
+     * @param checksum         verified cksum value, empty if not verified
+     * @author Frank Giordano
+     */
+    public SftpTransferResponse(final String remotePath, final Path localPath, final long offset,
+                                final long bytesTransferred, final OptionalLong checksum) {
+        this.remotePath = remotePath;
+        this.localPath = localPath;
+        this.offset = offset;
+        this.bytesTransferred = bytesTransferred;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Retrieve remotePath value
+     *
+     * @return remotePath value
+     */
+    public String getRemotePath() {
+        return remotePath;
+    }
+
+    /**
+     * Retrieve localPath value
+     *
+     * @return localPath value
+     */
+    public Path getLocalPath() {
+        return localPath;
+    }
+
+    /**
+     * Retrieve offset value
+     *
+     * @return offset value
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Retrieve bytesTransferred value
+     *
+     * @return bytesTransferred value
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Retrieve checksum value
+     *
+     * @return checksum value, empty if the transfer was not verified
+     */
+    public OptionalLong getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Return string value representing SftpTransferResponse object
+     *
+     * @return string representation of SftpTransferResponse
+     */
+    @Override
+    public String toString() {
+        return "SftpTransferResponse{" +
+                "remotePath='" + remotePath + '\'' +
+                ", localPath=" + localPath +
+                ", offset=" + offset +
+                ", bytesTransferred=" + bytesTransferred +
+                ", checksum=" + checksum +
+                '}';
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.response;
+
+import java.util.Optional;
+
+/**
+ * Holds the result of one USS command executed over SSH
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssCmdResponse {
+
+    /**
+     * Command executed
+     */
+    private final String command;
+
+    /**
+     * Exit status of the command, -1 if the server did not report one
+     */
+    private final int exitStatus;
+
+    /**
+     * Standard output of the command
+     */
+    private final String stdout;
+
+    /**
+     * Standard error of the command
+     */
+    private final String stderr;
+
+    /**
+     * Error that stopped the command, null if it ran to completion
+     */
+    private final String error;
+
+    /**
+     * UssCmdResponse constructor
+     *
+     * @param command    command executed
+     * @param exitStatus exit status of the command
+     * @param stdout     standard output of the command
+     * @param stderr     standard error of the command
+     * @author Frank Giordano
+     */
+    public UssCmdResponse(final String command, final int exitStatus, final String stdout, final String stderr) {
+        this(command, exitStatus, stdout, stderr, null);
+    }
+
+    /**
+     * UssCmdResponse constructor for a command that could not run to completion
+     *
+     * @param command    command executed
+     * @param exitStatus exit status of the command, -1 if the server did not report one
+     * @param stdout     standard output received before the error
+     * @param stderr     standard error received before the error
+     * @param error      error that stopped the command, or null
+     * @author Frank Giordano
+     */
+    public UssCmdResponse(final String command, final int exitStatus, final String stdout, final String stderr,
+                          final String error) {
+        this.command = command;
+        this.exitStatus = exitStatus;
+        this.stdout = stdout;
+        this.stderr = stderr;
+        this.error = error;
+    }
+
+    /**
+     * Retrieve command
+     *
+     * @return command value
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Retrieve exitStatus
+     *
+     * @return exit status value, -1 if the server did not report one
+     */
+    public int getExitStatus() {
+        return exitStatus;
+    }
+
+    /**
+     * Retrieve stdout
+     *
+     * @return standard output value
+     */
+    public String getStdout() {
+        return stdout;
+    }
+
+    /**
+     * Retrieve stderr
+     *
+     * @return standard error value
+     */
+    public String getStderr() {
+        return stderr;
+    }
+
+    /**
+     * Retrieve error, set when the channel could not be opened or the command failed or timed out
+     *
+     * @return error value
+     */
+    public Optional<String> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Return string value representing UssCmdResponse object
+     *
+     * @return string representation of UssCmdResponse
+     */
+    @Override
+    public String toString() {
+        return "UssCmdResponse{" +
+                "command='" + command + '\'' +
+                ", exitStatus=" + exitStatus +
+                ", stdout='" + stdout + '\'' +
+                ", stderr='" + stderr + '\'' +
+                ", error='" + error + '\'' +
+                '}';
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Response objects for z/OS ssh unix system services processing
+ */
+package zowe.client.sdk.zosuss.response;
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.methods.DsnGet;
+import zowe.client.sdk.zosfiles.dsn.methods.DsnRecordReader;
+import zowe.client.sdk.zosfiles.dsn.model.DsnRecord;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing record mode downloads decoded on the client by {@link DsnRecordReader} against text
+ * downloads converted by z/OSMF.
+ * <p>
+ * Not a unit test; run from the test classpath with the main method. The decode benchmarks run on generated
+ * IBM-1047 content of fixed 80 byte records and compare the {@link DsnRecordReader} translation table with the
+ * JDK charset decoder. The REST benchmarks run only when zowe.bench.zosmf.host and zowe.bench.dataset are set,
+ * together with zowe.bench.zosmf.port, zowe.bench.zosmf.user and zowe.bench.zosmf.password. They read the
+ * dataset either as text converted on z/OS or as records decoded on the client, so the difference includes the
+ * conversion cost moved off z/OS.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DsnRecordBenchmark {
+
+    private static final String ENCODING = "IBM-1047";
+
+    private static final int RECORD_LENGTH = 80;
+
+    @Param({"10000", "100000"})
+    private int records;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ()=,.'*/";
+        final Charset charset = Charset.forName(ENCODING);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(records * (RECORD_LENGTH + 4));
+        final StringBuilder line = new StringBuilder(RECORD_LENGTH);
+        for (int i = 0; i < records; i++) {
+            line.setLength(0);
+            for (int j = 0; j < RECORD_LENGTH; j++) {
+                line.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            out.writeBytes(ByteBuffer.allocate(4).putInt(RECORD_LENGTH).array());
+            out.writeBytes(line.toString().getBytes(charset));
+        }
+        content = out.toByteArray();
+    }
+
+    @Benchmark
+    public long decodeTable() {
+        long chars = 0;
+        final DsnRecordReader reader = new DsnRecordReader(new ByteArrayInputStream(content), ENCODING);
+        while (reader.hasNext()) {
+            chars += reader.next().getText().length();
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public long decodeCharset() {
+        long chars = 0;
+        final Charset charset = Charset.forName(ENCODING);
+        final ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            final int length = buffer.getInt();
+            chars += new String(content, buffer.position(), length, charset).length();
+            buffer.position(buffer.position() + length);
+        }
+        return chars;
+    }
+
+    /**
+     * z/OSMF REST side, only set up when a z/OSMF host and a dataset are given
+     */
+    @State(Scope.Benchmark)
+    public static class Rest {
+
+        private DsnGet dsnGet;
+        private String datasetName;
+
+        @Setup
+        public void setup() {
+            final ZosConnection connection = ZosConnectionFactory.createBasicConnection(
+                    System.getProperty("zowe.bench.zosmf.host"),
+                    Integer.parseInt(System.getProperty("zowe.bench.zosmf.port", "443")),
+                    System.getProperty("zowe.bench.zosmf.user"),
+                    System.getProperty("zowe.bench.zosmf.password"));
+            dsnGet = new DsnGet(connection);
+            datasetName = System.getProperty("zowe.bench.dataset");
+        }
+    }
+
+    @Benchmark
+    public long restText(final Rest rest) throws ZosmfRequestException, IOException {
+        long chars = 0;
+        try (InputStream input = rest.dsnGet.get(rest.datasetName, new DsnDownloadInputData.Builder().build());
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                chars += line.length();
+            }
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public long restRecord(final Rest rest) throws ZosmfRequestException {
+        final long[] chars = new long[1];
+        rest.dsnGet.getRecords(rest.datasetName, ENCODING, reader -> {
+            while (reader.hasNext()) {
+                final DsnRecord record = reader.next();
+                chars[0] += record.getText().length();
+            }
+        });
+        return chars[0];
+    }
+
+    /**
+     * Run the benchmark, including the REST benchmarks when zowe.bench.zosmf.host and zowe.bench.dataset are set
+     *
+     * @param args unused
+     * @throws RunnerException benchmark run error
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(DsnRecordBenchmark.class.getSimpleName() + ".decode");
+        if (System.getProperty("zowe.bench.zosmf.host") != null && System.getProperty("zowe.bench.dataset") != null) {
+            options.include(DsnRecordBenchmark.class.getSimpleName() + ".rest");
+        }
+        new Runner(options.build()).run();
+    }
+
+}
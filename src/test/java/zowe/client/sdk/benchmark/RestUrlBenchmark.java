@@ -0,0 +1,162 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.ZosmfHeaders;
+import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.ZosmfRequestFactory;
+import zowe.client.sdk.rest.ZosmfUrlBuilder;
+import zowe.client.sdk.rest.type.ZosmfRequestType;
+import zowe.client.sdk.utility.EncodeUtils;
+import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosjobs.JobsConstants;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the per-call cost of building and setting the JobGet and DsnList request urls and
+ * headers by string concatenation against {@link ZosmfUrlBuilder} and {@link ZosmfHeaders#put(Map, String)}.
+ * <p>
+ * Not a unit test; run from the test classpath with the main method, which enables the GC profiler so the
+ * gc.alloc.rate.norm column reports bytes allocated per call.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RestUrlBenchmark {
+
+    private ZosConnection connection;
+    private ZosmfRequest request;
+    private String jobName;
+    private String jobId;
+    private String datasetName;
+
+    @Setup
+    public void setup() {
+        connection = ZosConnectionFactory.createBasicConnection("host.example.com", 443, "user", "password");
+        request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.GET_JSON);
+        jobName = "PAYROLL1";
+        jobId = "JOB01234";
+        datasetName = "HLQ.PAYROLL.DATA";
+    }
+
+    @Benchmark
+    public String jobGetConcatenated() {
+        final String url = "https://" + connection.getHost() + ":" + connection.getZosmfPort() + "/zosmf" +
+                JobsConstants.RESOURCE + "/" + legacyEncode(jobName) + "/" + legacyEncode(jobId) +
+                JobsConstants.QUERY_ID + JobsConstants.STEP_DATA;
+        legacyValidate(url);
+        return url;
+    }
+
+    @Benchmark
+    public String jobGetBuilder() {
+        final String url = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .segment(jobName)
+                .segment(jobId)
+                .query(JobsConstants.STEP_DATA)
+                .build();
+        request.setUrl(url);
+        return url;
+    }
+
+    @Benchmark
+    public Map<String, String> dsnListConcatenated() {
+        final Map<String, String> headers = new HashMap<>();
+        final String url = "https://" + connection.getHost() + ":" + connection.getZosmfPort() + "/zosmf" +
+                ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES + "?" +
+                ZosFilesConstants.QUERY_DS_LEVEL + legacyEncode(datasetName);
+        headers.put(ZosmfHeaders.HEADERS.get("ACCEPT_ENCODING").get(0),
+                ZosmfHeaders.HEADERS.get("ACCEPT_ENCODING").get(1));
+        headers.put(ZosmfHeaders.HEADERS.get("X_IBM_ATTRIBUTES_BASE").get(0),
+                ZosmfHeaders.HEADERS.get("X_IBM_ATTRIBUTES_BASE").get(1));
+        headers.put(ZosmfHeaders.HEADERS.get("X_IBM_MAX_ITEMS").get(0),
+                ZosmfHeaders.HEADERS.get("X_IBM_MAX_ITEMS").get(1));
+        legacyValidate(url);
+        request.setHeaders(headers);
+        return headers;
+    }
+
+    @Benchmark
+    public Map<String, String> dsnListBuilder() {
+        final Map<String, String> headers = new HashMap<>();
+        final String url = ZosmfUrlBuilder.of(connection)
+                .path(ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES)
+                .query(ZosFilesConstants.QUERY_DS_LEVEL, datasetName)
+                .build();
+        ZosmfHeaders.put(headers, ZosmfHeaders.ACCEPT_ENCODING);
+        ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_ATTRIBUTES_BASE);
+        ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_MAX_ITEMS);
+        request.setUrl(url);
+        request.setHeaders(headers);
+        return headers;
+    }
+
+    @Benchmark
+    public String encodeSafeSegment() {
+        return EncodeUtils.encodeURIComponent(datasetName);
+    }
+
+    private static String legacyEncode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8)
+                .replace("+", "%20")
+                .replace("%21", "!")
+                .replace("%27", "'")
+                .replace("%28", "(")
+                .replace("%29", ")")
+                .replace("%7E", "~");
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static void legacyValidate(final String url) {
+        try {
+            new URI(url).toURL();
+        } catch (MalformedURLException | URISyntaxException e) {
+            throw new IllegalArgumentException("invalid url: " + url, e);
+        }
+    }
+
+    /**
+     * Run the benchmark with allocation profiling
+     *
+     * @param args unused
+     * @throws RunnerException benchmark run error
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(RestUrlBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import zowe.client.sdk.core.SshConnection;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.methods.UssGet;
+import zowe.client.sdk.zosfiles.uss.methods.UssWrite;
+import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.method.SshSessionPool;
+import zowe.client.sdk.zosuss.method.UssSftp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing USS file transfer over SFTP with {@link UssSftp} against the z/OSMF REST path with
+ * {@link UssGet} and {@link UssWrite}.
+ * <p>
+ * Not a unit test; run from the test classpath with the main method. The SFTP benchmarks need an SSH server,
+ * a local sshd works as a stand-in, set with the system properties zowe.bench.ssh.host (default localhost),
+ * zowe.bench.ssh.port (default 22), zowe.bench.ssh.user, zowe.bench.ssh.password and zowe.bench.dir (default
+ * /tmp). The host key must be in the known_hosts file, see UssCmd. The REST benchmarks run only when
+ * zowe.bench.zosmf.host is set, together with zowe.bench.zosmf.port, zowe.bench.zosmf.user and
+ * zowe.bench.zosmf.password.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UssTransferBenchmark {
+
+    private static final int TIMEOUT = 60_000;
+
+    @Param({"1048576", "16777216"})
+    private int size;
+
+    private byte[] content;
+    private String remotePath;
+    private SshSessionPool pool;
+    private UssSftp sftp;
+
+    @Setup
+    public void setup() throws UssCmdException {
+        content = new byte[size];
+        new Random(42).nextBytes(content);
+        remotePath = System.getProperty("zowe.bench.dir", "/tmp") + "/zowe-bench-" + size + ".bin";
+        final SshConnection connection = new SshConnection(
+                System.getProperty("zowe.bench.ssh.host", "localhost"),
+                Integer.parseInt(System.getProperty("zowe.bench.ssh.port", "22")),
+                System.getProperty("zowe.bench.ssh.user"),
+                System.getProperty("zowe.bench.ssh.password"));
+        pool = new SshSessionPool();
+        sftp = new UssSftp(connection, pool);
+        sftp.put(new ByteArrayInputStream(content), remotePath, TIMEOUT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public long sftpGet() throws UssCmdException {
+        return sftp.get(remotePath, new ByteArrayOutputStream(size), TIMEOUT);
+    }
+
+    @Benchmark
+    public long sftpPut() throws UssCmdException {
+        return sftp.put(new ByteArrayInputStream(content), remotePath, TIMEOUT);
+    }
+
+    /**
+     * z/OSMF REST side, only set up when a z/OSMF host is given
+     */
+    @State(Scope.Benchmark)
+    public static class Rest {
+
+        private UssGet ussGet;
+        private UssWrite ussWrite;
+
+        @Setup
+        public void setup() {
+            final ZosConnection connection = ZosConnectionFactory.createBasicConnection(
+                    System.getProperty("zowe.bench.zosmf.host"),
+                    Integer.parseInt(System.getProperty("zowe.bench.zosmf.port", "443")),
+                    System.getProperty("zowe.bench.zosmf.user"),
+                    System.getProperty("zowe.bench.zosmf.password"));
+            ussGet = new UssGet(connection);
+            ussWrite = new UssWrite(connection);
+        }
+    }
+
+    @Benchmark
+    public byte[] restGet(final Rest rest) throws ZosmfRequestException {
+        return rest.ussGet.getBinary(remotePath);
+    }
+
+    @Benchmark
+    public Object restWrite(final Rest rest) throws ZosmfRequestException {
+        return rest.ussWrite.writeBinary(remotePath, content);
+    }
+
+    /**
+     * Run the benchmark, including the REST benchmarks when zowe.bench.zosmf.host is set
+     *
+     * @param args unused
+     * @throws RunnerException benchmark run error
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(UssTransferBenchmark.class.getSimpleName() + ".sftp");
+        if (System.getProperty("zowe.bench.zosmf.host") != null) {
+            options.include(UssTransferBenchmark.class.getSimpleName() + ".rest");
+        }
+        new Runner(options.build()).run();
+    }
+
+}
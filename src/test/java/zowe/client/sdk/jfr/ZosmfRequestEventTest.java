@@ -0,0 +1,87 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ZosmfRequestEvent.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ZosmfRequestEventTest {
+
+    @Test
+    public void tstToEndpointStripsQuerySuccess() {
+        assertEquals("https://1:443/zosmf/restfiles/ds",
+                ZosmfRequestEvent.toEndpoint("https://1:443/zosmf/restfiles/ds?dslevel=TEST"));
+    }
+
+    @Test
+    public void tstToEndpointWithoutQuerySuccess() {
+        assertEquals("https://1:443/zosmf/restjobs/jobs",
+                ZosmfRequestEvent.toEndpoint("https://1:443/zosmf/restjobs/jobs"));
+    }
+
+    @Test
+    public void tstToEndpointNullSuccess() {
+        assertNull(ZosmfRequestEvent.toEndpoint(null));
+    }
+
+    @Test
+    public void tstEventNotCommittedWhenNotRecordingSuccess() {
+        final ZosmfRequestEvent event = new ZosmfRequestEvent();
+        event.begin();
+        event.end();
+        assertFalse(event.shouldCommit());
+    }
+
+    @Test
+    public void tstEventRecordedSuccess() throws Exception {
+        final Path file = Files.createTempFile("zowe-sdk", ".jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(ZosmfRequestEvent.class).withoutThreshold();
+            recording.start();
+            final ZosmfRequestEvent event = new ZosmfRequestEvent();
+            event.begin();
+            event.end();
+            assertTrue(event.shouldCommit());
+            event.method = "GET";
+            event.endpoint = "https://1:443/zosmf/info";
+            event.statusCode = 200;
+            event.bytes = 10;
+            event.commit();
+            recording.stop();
+            recording.dump(file);
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final RecordedEvent recorded = events.stream()
+                    .filter(e -> "zowe.sdk.ZosmfRequest".equals(e.getEventType().getName()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals("GET", recorded.getString("method"));
+            assertEquals(200, recorded.getInt("statusCode"));
+            assertEquals(10, recorded.getLong("bytes"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
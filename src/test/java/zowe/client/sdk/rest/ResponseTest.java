@@ -13,6 +13,7 @@ import kong.unirest.core.Cookies;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Map;
 import java.util.OptionalInt;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -228,4 +229,19 @@ public class ResponseTest {
         assertTrue(value.contains("statusText=ok"));
     }
 
+    @Test
+    public void tstResponseHeadersCaseInsensitiveSuccess() {
+        final Response response = new Response("hello", 200, "ok", null, Map.of("ETag", "\"abc\""));
+        assertEquals("\"abc\"", response.getEtag().orElseThrow());
+        assertEquals("\"abc\"", response.getHeader("etag").orElseThrow());
+        assertFalse(response.getHeader("Content-Type").isPresent());
+    }
+
+    @Test
+    public void tstResponseWithoutHeadersSuccess() {
+        final Response response = new Response("hello", 200, "ok");
+        assertTrue(response.getHeaders().isEmpty());
+        assertFalse(response.getEtag().isPresent());
+    }
+
 }
@@ -0,0 +1,86 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import kong.unirest.core.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for SessionTokenRegistry.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SessionTokenRegistryTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+
+    private final SessionTokenProvider provider = new SessionTokenProvider() {
+        @Override
+        public Cookie getToken(final ZosConnection connection) {
+            return new Cookie("jwtToken", "jwt");
+        }
+
+        @Override
+        public Cookie renewToken(final ZosConnection connection, final Cookie rejected) {
+            return new Cookie("jwtToken", "jwt2");
+        }
+    };
+
+    @AfterEach
+    public void cleanup() {
+        SessionTokenRegistry.unregister(connection, provider);
+    }
+
+    @Test
+    public void tstRegisterSuccess() {
+        SessionTokenRegistry.register(connection, provider);
+        assertSame(provider, SessionTokenRegistry.get(connection));
+        assertSame(provider, SessionTokenRegistry.get(
+                ZosConnectionFactory.createBasicConnection("1", 443, "1", "1")));
+    }
+
+    @Test
+    public void tstUnregisterSuccess() {
+        SessionTokenRegistry.register(connection, provider);
+        SessionTokenRegistry.unregister(connection, provider);
+        assertNull(SessionTokenRegistry.get(connection));
+    }
+
+    @Test
+    public void tstBypassSuccess() {
+        SessionTokenRegistry.register(connection, provider);
+        SessionTokenRegistry.enterBypass();
+        SessionTokenRegistry.enterBypass();
+        try {
+            assertNull(SessionTokenRegistry.get(connection));
+            SessionTokenRegistry.exitBypass();
+            assertNull(SessionTokenRegistry.get(connection));
+        } finally {
+            SessionTokenRegistry.exitBypass();
+        }
+        assertSame(provider, SessionTokenRegistry.get(connection));
+    }
+
+    @Test
+    public void tstRegisterTokenConnectionFailure() {
+        final ZosConnection tokenConnection = ZosConnectionFactory
+                .createTokenConnection("1", 443, new Cookie("jwtToken", "jwt"));
+        assertThrows(IllegalArgumentException.class,
+                () -> SessionTokenRegistry.register(tokenConnection, provider));
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for SingleFlight.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SingleFlightTest {
+
+    private final ZosConnection connection = ZosConnectionFactory.createBasicConnection("1", 443, "1", "1");
+
+    @Test
+    public void tstSingleFlightConcurrentIdenticalRequestsShareResponseSuccess() throws Exception {
+        final SingleFlight.Key key = new SingleFlight.Key(connection, GetJsonZosmfRequest.class,
+                "https://1:443/zosmf/info", Map.of("Content-Type", "application/json"));
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Response expected = new Response("{}", 200, "ok");
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Response> leader = executor.submit(() -> SingleFlight.execute(key, () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return expected;
+            }));
+            started.await();
+
+            final AtomicReference<Response> shared = new AtomicReference<>();
+            final Thread follower = new Thread(() -> {
+                try {
+                    shared.set(SingleFlight.execute(key, () -> {
+                        calls.incrementAndGet();
+                        return new Response("{}", 200, "ok");
+                    }));
+                } catch (ZosmfRequestException e) {
+                    fail(e);
+                }
+            });
+            follower.start();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (follower.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(expected, leader.get(5, TimeUnit.SECONDS));
+            follower.join(5000);
+            assertSame(expected, shared.get());
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, SingleFlight.inFlightCount());
+    }
+
+    @Test
+    public void tstSingleFlightSequentialRequestsNotCoalescedSuccess() throws ZosmfRequestException {
+        final SingleFlight.Key key = new SingleFlight.Key(connection, GetJsonZosmfRequest.class,
+                "https://1:443/zosmf/info", Map.of());
+        final AtomicInteger calls = new AtomicInteger();
+        SingleFlight.execute(key, () -> {
+            calls.incrementAndGet();
+            return new Response("{}", 200, "ok");
+        });
+        SingleFlight.execute(key, () -> {
+            calls.incrementAndGet();
+            return new Response("{}", 200, "ok");
+        });
+        assertEquals(2, calls.get());
+        assertEquals(0, SingleFlight.inFlightCount());
+    }
+
+    @Test
+    public void tstSingleFlightErrorReleasesKeyFailure() {
+        final SingleFlight.Key key = new SingleFlight.Key(connection, GetJsonZosmfRequest.class,
+                "https://1:443/zosmf/error", Map.of());
+        final ZosmfRequestException err = assertThrows(ZosmfRequestException.class,
+                () -> SingleFlight.execute(key, () -> {
+                    throw new ZosmfRequestException("error");
+                }));
+        assertEquals("error", err.getMessage());
+        assertEquals(0, SingleFlight.inFlightCount());
+    }
+
+    @Test
+    public void tstSingleFlightKeyEqualitySuccess() {
+        final SingleFlight.Key key1 = new SingleFlight.Key(connection, GetJsonZosmfRequest.class,
+                "https://1:443/zosmf/info", Map.of("a", "b"));
+        final SingleFlight.Key key2 = new SingleFlight.Key(
+                ZosConnectionFactory.createBasicConnection("1", 443, "1", "1"), GetJsonZosmfRequest.class,
+                "https://1:443/zosmf/info", Map.of("a", "b"));
+        final SingleFlight.Key key3 = new SingleFlight.Key(connection, GetTextZosmfRequest.class,
+                "https://1:443/zosmf/info", Map.of("a", "b"));
+        final SingleFlight.Key key4 = new SingleFlight.Key(connection, GetJsonZosmfRequest.class,
+                "https://1:443/zosmf/info", Map.of("a", "c"));
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertNotEquals(key1, key3);
+        assertNotEquals(key1, key4);
+    }
+
+    @Test
+    public void tstSingleFlightDisabledByDefaultSuccess() {
+        System.clearProperty(RestConstant.SINGLE_FLIGHT_PROPERTY_NAME);
+        assertFalse(SingleFlight.isEnabled());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -12,6 +12,11 @@ package zowe.client.sdk.rest;
 import org.junit.jupiter.api.Test;
 import zowe.client.sdk.utility.UtilsTestHelper;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Class containing unit test for ZosmfHeaders.
  *
@@ -29,4 +34,26 @@ public class ZosmfHeadersTest {
         UtilsTestHelper.validateClass(ZosmfHeaders.class, privateConstructorExceptionMsg);
     }
 
+    @Test
+    public void tstZosmfHeadersEntrySuccess() {
+        final Map.Entry<String, String> entry = ZosmfHeaders.entry(ZosmfHeaders.ACCEPT_ENCODING);
+        assertEquals("Accept-Encoding", entry.getKey());
+        assertEquals("gzip", entry.getValue());
+        assertSame(entry, ZosmfHeaders.entry(ZosmfHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    public void tstZosmfHeadersPutSuccess() {
+        final Map<String, String> headers = new HashMap<>();
+        ZosmfHeaders.put(headers, ZosmfHeaders.X_IBM_ATTRIBUTES_VOL);
+        assertEquals(Map.of("X-IBM-Attributes", "vol"), headers);
+    }
+
+    @Test
+    public void tstZosmfHeadersEntryWithoutValueFailure() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ZosmfHeaders.entry(ZosmfHeaders.IF_MATCH));
+        assertEquals("no header value defined for IF_MATCH", exception.getMessage());
+    }
+
 }
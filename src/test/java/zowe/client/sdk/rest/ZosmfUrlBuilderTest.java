@@ -0,0 +1,77 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.rest;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.zosfiles.ZosFilesConstants;
+import zowe.client.sdk.zosjobs.JobsConstants;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ZosmfUrlBuilder.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ZosmfUrlBuilderTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+
+    @Test
+    public void tstBuildPathAndSegmentsSuccess() {
+        final String url = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .segment("JOB NAME")
+                .segment("JOB00001")
+                .path(JobsConstants.RESOURCE_SPOOL_FILES)
+                .build();
+        assertEquals("https://1:443/zosmf/restjobs/jobs/JOB%20NAME/JOB00001/files", url);
+    }
+
+    @Test
+    public void tstBuildQuerySuccess() {
+        final String url = ZosmfUrlBuilder.of(connection)
+                .path(ZosFilesConstants.RESOURCE + ZosFilesConstants.RES_DS_FILES)
+                .query(ZosFilesConstants.QUERY_DS_LEVEL, "HLQ.*")
+                .query(ZosFilesConstants.QUERY_VOLUME, "VOL&1")
+                .query(JobsConstants.QUERY_MAX_JOBS, 10)
+                .query(JobsConstants.STEP_DATA)
+                .build();
+        assertEquals("https://1:443/zosmf/restfiles/ds?dslevel=HLQ.*&volser=VOL%261&max-jobs=10&step-data=Y", url);
+    }
+
+    @Test
+    public void tstBuildWithBasePathSuccess() {
+        final ZosConnection basePathConnection = ZosConnectionFactory
+                .createBasicConnection("1", 443, "1", "1", "gateway");
+        assertEquals("https://1:443/gateway/zosmf/restjobs/jobs",
+                ZosmfUrlBuilder.of(basePathConnection).path(JobsConstants.RESOURCE).build());
+    }
+
+    @Test
+    public void tstPathAfterQueryFailure() {
+        final ZosmfUrlBuilder builder = ZosmfUrlBuilder.of(connection)
+                .path(JobsConstants.RESOURCE)
+                .query(JobsConstants.QUERY_OWNER, "*");
+        assertThrows(IllegalStateException.class, () -> builder.segment("JOB"));
+    }
+
+    @Test
+    public void tstNullConnectionFailure() {
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> ZosmfUrlBuilder.of(null));
+        assertEquals("connection is null", exception.getMessage());
+    }
+
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfConflictException;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.rest.type.ZosmfRequestType;
 
@@ -129,6 +130,21 @@ public class ZoweRequestTest {
         assertEquals(expectedErrMsg, errMsg);
     }
 
+    @Test
+    public void tstZoweRequestBuildResponseWithPreconditionFailedFailure() {
+        Mockito.when(mockReply.getStatusText()).thenReturn("Precondition Failed");
+        Mockito.when(mockReply.getStatus()).thenReturn(412);
+        Mockito.when(mockReply.getBody()).thenReturn(new JsonNode("{}"));
+
+        final ZosmfRequest request = ZosmfRequestFactory.buildRequest(connection, ZosmfRequestType.PUT_JSON);
+
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> request.buildResponse(mockReply));
+        assertInstanceOf(ZosmfConflictException.class, e);
+        assertEquals(412, e.getResponse().getStatusCode().orElse(-1));
+        assertTrue(((ZosmfConflictException) e).getCurrentEtag().isEmpty());
+    }
+
     @Test
     public void tstZoweRequestInitializeSslSetupFailure() {
         final ZosConnection connection = ZosConnectionFactory.createSslConnection("host", 443,
@@ -0,0 +1,47 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Class containing unit tests for DsnUtils.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnUtilsTest {
+
+    /**
+     * Validate class structure
+     */
+    @Test
+    public void tstDsnUtilsClassStructureSuccess() {
+        final String privateConstructorExceptionMsg = "Utility class";
+        UtilsTestHelper.validateClass(DsnUtils.class, privateConstructorExceptionMsg);
+    }
+
+    @Test
+    public void tstLevelPatternsSuccess() {
+        assertEquals(List.of("HLQ.APP.*", "HLQ.TEST.*", "SINGLE"),
+                DsnUtils.levelPatterns(List.of("HLQ.TEST.LOG", "HLQ.APP.JCL", "SINGLE", "HLQ.APP.LOAD")));
+    }
+
+    @Test
+    public void tstLevelPatternsNullFailure() {
+        assertThrows(NullPointerException.class, () -> DsnUtils.levelPatterns(null));
+    }
+
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,7 +66,9 @@ public class EncodeUtilsTest {
                 Arguments.of("你好", "%E4%BD%A0%E5%A5%BD"),
                 Arguments.of("email@test.com", "email%40test.com"),
                 Arguments.of("a/b/c", "a%2Fb%2Fc"),
-                Arguments.of("100%", "100%25")
+                Arguments.of("100%", "100%25"),
+                Arguments.of("HLQ.DATA-SET_1.*", "HLQ.DATA-SET_1.*"),
+                Arguments.of("JOB*#", "JOB*%23")
         );
     }
 
@@ -83,4 +86,22 @@ public class EncodeUtilsTest {
         );
     }
 
+    @Test
+    public void tstDecodeTableSuccess() {
+        final char[] table = EncodeUtils.decodeTable("IBM-1047");
+        assertEquals(256, table.length);
+        assertEquals('A', table[0xC1]);
+        assertEquals(' ', table[0x40]);
+        assertEquals('[', table[0xAD]);
+        assertEquals('[', EncodeUtils.decodeTable("IBM-037")[0xBA]);
+        assertEquals("A1", EncodeUtils.decode(ByteBuffer.wrap(new byte[]{0x40, (byte) 0xC1, (byte) 0xF1}), 1, 2,
+                table));
+    }
+
+    @Test
+    public void tstDecodeTableFailure() {
+        assertThrows(IllegalArgumentException.class, () -> EncodeUtils.decodeTable("IBM-939"));
+        assertThrows(IllegalArgumentException.class, () -> EncodeUtils.decodeTable("NO-SUCH-CODEPAGE"));
+    }
+
 }
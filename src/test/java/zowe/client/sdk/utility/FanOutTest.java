@@ -0,0 +1,103 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.utility;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Class containing unit tests for FanOut.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class FanOutTest {
+
+    @Test
+    public void tstAwaitAllTasksSuccess() throws ZosmfRequestException {
+        final List<Integer> items = new ArrayList<>();
+        final FanOut<Integer> fanOut = new FanOut<>(3, "test", Long.MAX_VALUE, items::add);
+        for (int i = 0; i < 10; i++) {
+            final int item = i;
+            // nested submits are awaited as well
+            fanOut.submit(() -> fanOut.submit(() -> fanOut.emit(item)));
+        }
+
+        assertEquals(10, fanOut.await());
+        assertEquals(10, items.size());
+        assertFalse(fanOut.emit(99));
+    }
+
+    @Test
+    public void tstAwaitWithoutTasksSuccess() throws ZosmfRequestException {
+        assertEquals(0, new FanOut<String>(1, "test", 5, item -> {
+        }).await());
+    }
+
+    @Test
+    public void tstStopAtMaxItemsSuccess() throws ZosmfRequestException {
+        final List<Integer> items = new ArrayList<>();
+        final AtomicInteger started = new AtomicInteger();
+        final FanOut<Integer> fanOut = new FanOut<>(1, "test", 3, items::add);
+        for (int i = 0; i < 10; i++) {
+            final int item = i;
+            fanOut.submit(() -> {
+                started.incrementAndGet();
+                fanOut.emit(item);
+            });
+        }
+
+        assertEquals(3, fanOut.await());
+        assertEquals(List.of(0, 1, 2), items);
+        assertTrue(fanOut.isOver());
+        assertTrue(started.get() <= 4);
+    }
+
+    @Test
+    public void tstFirstErrorFailure() {
+        final ZosmfRequestException error = new ZosmfRequestException("first");
+        final FanOut<Integer> fanOut = new FanOut<>(1, "test", Long.MAX_VALUE, item -> {
+        });
+        fanOut.submit(() -> fanOut.fail(error));
+        fanOut.submit(() -> fanOut.fail(new ZosmfRequestException("second")));
+
+        assertSame(error, assertThrows(ZosmfRequestException.class, fanOut::await));
+    }
+
+    @Test
+    public void tstTaskRuntimeErrorFailure() {
+        final FanOut<Integer> fanOut = new FanOut<>(2, "test", Long.MAX_VALUE, item -> {
+        });
+        fanOut.submit(() -> {
+            throw new IllegalStateException("broken");
+        });
+
+        assertEquals("broken", assertThrows(IllegalStateException.class, fanOut::await).getMessage());
+    }
+
+    @Test
+    public void tstConstructorFailure() {
+        assertThrows(IllegalArgumentException.class, () -> new FanOut<String>(0, "test", 1, item -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> new FanOut<String>(1, "test", 0, item -> {
+        }));
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for ContentCache.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ContentCacheTest {
+
+    private final ZosConnection connection = ZosConnectionFactory.createBasicConnection("1", 443, "1", "1");
+    private final ZosConnection otherConnection = ZosConnectionFactory.createBasicConnection("2", 443, "1", "1");
+    private Path directory;
+    private ContentCache cache;
+
+    @BeforeEach
+    public void init() throws IOException {
+        directory = Files.createTempDirectory("zowe-cache");
+        cache = new ContentCache(directory, 10);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        cache.close();
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Test
+    public void tstContentCachePutGetSuccess() {
+        final CacheKey key = CacheKey.dataset(connection, "test.lib(mem)", "text");
+        cache.put(key, "etag1", "data".getBytes());
+        final CachedContent content = cache.get(key).orElseThrow();
+        assertEquals("etag1", content.getEtag());
+        assertEquals("data", new String(content.getContent()));
+        assertEquals(4, cache.getSizeBytes());
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstContentCacheKeyNormalizedDatasetNameSuccess() {
+        cache.put(CacheKey.dataset(connection, "test.lib(mem)", "text"), "etag1", "data".getBytes());
+        assertTrue(cache.get(CacheKey.dataset(connection, "TEST.LIB(MEM)", "text")).isPresent());
+        assertFalse(cache.get(CacheKey.dataset(connection, "TEST.LIB(MEM)", "binary")).isPresent());
+        assertFalse(cache.get(CacheKey.dataset(otherConnection, "TEST.LIB(MEM)", "text")).isPresent());
+    }
+
+    @Test
+    public void tstContentCacheLruEvictionSuccess() {
+        final CacheKey key1 = CacheKey.ussFile(connection, "/u/a", "text");
+        final CacheKey key2 = CacheKey.ussFile(connection, "/u/b", "text");
+        final CacheKey key3 = CacheKey.ussFile(connection, "/u/c", "text");
+        cache.put(key1, "e1", "1234".getBytes());
+        cache.put(key2, "e2", "1234".getBytes());
+        cache.get(key1);
+        cache.put(key3, "e3", "1234".getBytes());
+        assertTrue(cache.get(key1).isPresent());
+        assertFalse(cache.get(key2).isPresent());
+        assertTrue(cache.get(key3).isPresent());
+        assertEquals(8, cache.getSizeBytes());
+    }
+
+    @Test
+    public void tstContentCacheContentLargerThanCacheNotStoredSuccess() {
+        final CacheKey key = CacheKey.ussFile(connection, "/u/big", "binary");
+        cache.put(key, "e1", new byte[11]);
+        assertFalse(cache.get(key).isPresent());
+        assertEquals(0, cache.getSizeBytes());
+    }
+
+    @Test
+    public void tstContentCacheInvalidateDatasetMembersSuccess() {
+        final CacheKey member1 = CacheKey.dataset(connection, "TEST.LIB(MEM1)", "text");
+        final CacheKey member2 = CacheKey.dataset(connection, "TEST.LIB(MEM2)", "text");
+        final CacheKey other = CacheKey.dataset(connection, "TEST.LIBX", "text");
+        cache.put(member1, "e1", "1".getBytes());
+        cache.put(member2, "e2", "2".getBytes());
+        cache.put(other, "e3", "3".getBytes());
+
+        ContentCache.invalidateDataset(connection, "TEST.LIB(MEM1)");
+        assertFalse(cache.get(member1).isPresent());
+        assertTrue(cache.get(member2).isPresent());
+
+        ContentCache.invalidateDataset(connection, "test.lib");
+        assertFalse(cache.get(member2).isPresent());
+        assertTrue(cache.get(other).isPresent());
+    }
+
+    @Test
+    public void tstContentCacheInvalidateUssDirectorySuccess() {
+        final CacheKey file = CacheKey.ussFile(connection, "/u/dir/file", "text");
+        final CacheKey sibling = CacheKey.ussFile(connection, "/u/dirx", "text");
+        cache.put(file, "e1", "1".getBytes());
+        cache.put(sibling, "e2", "2".getBytes());
+
+        ContentCache.invalidateUssPath(otherConnection, "/u/dir");
+        assertTrue(cache.get(file).isPresent());
+
+        ContentCache.invalidateUssPath(connection, "/u/dir/");
+        assertFalse(cache.get(file).isPresent());
+        assertTrue(cache.get(sibling).isPresent());
+    }
+
+    @Test
+    public void tstContentCacheClosedNotInvalidatedSuccess() {
+        final CacheKey file = CacheKey.ussFile(connection, "/u/file", "text");
+        cache.put(file, "e1", "1".getBytes());
+        cache.close();
+        ContentCache.invalidateUssPath(connection, "/u/file");
+        assertTrue(cache.get(file).isPresent());
+    }
+
+    @Test
+    public void tstContentCacheReloadFromDiskSuccess() {
+        final CacheKey key = CacheKey.dataset(connection, "TEST.SEQ", "binary");
+        cache.put(key, "etag1", "data".getBytes());
+        cache.close();
+
+        final ContentCache reloaded = new ContentCache(directory, 10);
+        try {
+            final CachedContent content = reloaded.get(key).orElseThrow();
+            assertEquals("etag1", content.getEtag());
+            assertEquals("data", new String(content.getContent()));
+            assertEquals(4, reloaded.getSizeBytes());
+        } finally {
+            reloaded.close();
+        }
+    }
+
+    @Test
+    public void tstContentCacheClearSuccess() {
+        cache.put(CacheKey.dataset(connection, "TEST.SEQ", "text"), "e1", "1".getBytes());
+        cache.clear();
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getSizeBytes());
+    }
+
+    @Test
+    public void tstContentCacheIsNotModifiedSuccess() {
+        assertTrue(ContentCache.isNotModified(new ZosmfRequestException("error",
+                new Response(null, 304, "not modified"))));
+        assertFalse(ContentCache.isNotModified(new ZosmfRequestException("error",
+                new Response(null, 404, "not found"))));
+        assertFalse(ContentCache.isNotModified(new ZosmfRequestException("error")));
+    }
+
+    @Test
+    public void tstContentCacheInvalidMaxBytesFailure() {
+        assertThrows(IllegalArgumentException.class, () -> new ContentCache(directory, 0));
+    }
+
+}
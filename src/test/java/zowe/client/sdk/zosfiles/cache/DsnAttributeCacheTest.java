@@ -0,0 +1,96 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.cache;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Class containing unit tests for DsnAttributeCache.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnAttributeCacheTest {
+
+    private final ZosConnection connection = ZosConnectionFactory.createBasicConnection("1", 443, "1", "1");
+    private final ZosConnection otherConnection = ZosConnectionFactory.createBasicConnection("2", 443, "1", "1");
+    private final AtomicLong clock = new AtomicLong();
+    private final DsnAttributeCache cache = new DsnAttributeCache(Duration.ofSeconds(10), clock::get);
+
+    private static Dataset dataset(final String name) {
+        return new Dataset(name, "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
+    }
+
+    @Test
+    public void tstDsnAttributeCachePutGetSuccess() {
+        final Dataset dataset = dataset("TEST.DATA.SET");
+        cache.put(connection, dataset);
+        assertSame(dataset, cache.get(connection, "test.data.set").orElseThrow());
+        assertTrue(cache.get(otherConnection, "TEST.DATA.SET").isEmpty());
+        assertEquals(1, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstDsnAttributeCacheExpirySuccess() {
+        cache.put(connection, dataset("TEST.DATA.SET"));
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertTrue(cache.get(connection, "TEST.DATA.SET").isPresent());
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertTrue(cache.get(connection, "TEST.DATA.SET").isEmpty());
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstDsnAttributeCacheInvalidateSuccess() {
+        cache.put(connection, dataset("TEST.DATA.SET"));
+        cache.put(connection, dataset("TEST.OTHER"));
+        cache.put(otherConnection, dataset("TEST.DATA.SET"));
+
+        DsnAttributeCache.invalidateDataset(connection, "test.data.set(member)");
+
+        assertTrue(cache.get(connection, "TEST.DATA.SET").isEmpty());
+        assertTrue(cache.get(connection, "TEST.OTHER").isPresent());
+        assertTrue(cache.get(otherConnection, "TEST.DATA.SET").isPresent());
+    }
+
+    @Test
+    public void tstDsnAttributeCacheSeparateFromContentCacheSuccess() {
+        cache.put(connection, dataset("TEST.DATA.SET"));
+
+        ContentCache.invalidateDataset(connection, "TEST.DATA.SET");
+
+        assertTrue(cache.get(connection, "TEST.DATA.SET").isPresent());
+    }
+
+    @Test
+    public void tstDsnAttributeCacheRemoveAndClearSuccess() {
+        cache.put(connection, dataset("TEST.DATA.SET"));
+        cache.put(connection, dataset("TEST.OTHER"));
+        cache.remove(connection, "TEST.DATA.SET");
+        assertEquals(1, cache.getEntryCount());
+        cache.clear();
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    public void tstDsnAttributeCacheInvalidTtlFailure() {
+        assertThrows(IllegalArgumentException.class, () -> new DsnAttributeCache(Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> new DsnAttributeCache(null));
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnCatalogSearch.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnCatalogSearchTest {
+
+    private static final List<String> CATALOG = Arrays.asList(
+            "HLQ.APP.COBOL", "HLQ.APP.JCL", "HLQ.APP.LOAD", "HLQ.APP1.COBOL", "HLQ.TEST.DATA",
+            "SYS1.LINKLIB", "SYS1.MACLIB", "SYS1.PARMLIB", "USER.A", "USER.B", "USER.C", "USER.D");
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final Map<String, String> volumes = new ConcurrentHashMap<>();
+
+    private final DsnList dsnList = mock(DsnList.class);
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        when(dsnList.getDatasets(anyString(), any(DsnListInputData.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    /**
+     * List the catalog the way z/OSMF answers a dataset list request
+     */
+    private List<Dataset> page(final String pattern, final DsnListInputData listInputData) {
+        requests.incrementAndGet();
+        listInputData.getVolume().ifPresent(volume -> volumes.put(pattern, volume));
+        final String prefix = pattern.replace("**", "");
+        final String start = listInputData.getStart().orElse(null);
+        return CATALOG.stream()
+                .filter(name -> name.startsWith(prefix))
+                .sorted(DsnCatalogSearch.CATALOG_ORDER)
+                .filter(name -> start == null || DsnCatalogSearch.CATALOG_ORDER.compare(name, start) >= 0)
+                .limit(Integer.parseInt(listInputData.getMaxLength().orElseThrow()))
+                .map(DsnCatalogSearchTest::dataset)
+                .collect(Collectors.toList());
+    }
+
+    private static Dataset dataset(final String name) {
+        return new Dataset(name, "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
+    }
+
+    private static List<String> names(final List<Dataset> datasets) {
+        return datasets.stream().map(Dataset::getDsname).collect(Collectors.toList());
+    }
+
+    @Test
+    public void tstDsnCatalogSearchMergeSuccess() throws ZosmfRequestException {
+        final DsnCatalogSearchInputData input = new DsnCatalogSearchInputData.Builder()
+                .pattern("USER.**").pattern("SYS1.**").pattern("HLQ.TEST.**").build();
+        final List<Dataset> datasets = new DsnCatalogSearch(() -> dsnList).search(input);
+        assertEquals(Arrays.asList("HLQ.TEST.DATA", "SYS1.LINKLIB", "SYS1.MACLIB", "SYS1.PARMLIB",
+                "USER.A", "USER.B", "USER.C", "USER.D"), names(datasets));
+    }
+
+    @Test
+    public void tstDsnCatalogSearchDuplicateSuccess() throws ZosmfRequestException {
+        final DsnCatalogSearchInputData input = new DsnCatalogSearchInputData.Builder()
+                .pattern("HLQ.**").pattern("HLQ.APP.**").build();
+        final List<String> seen = new ArrayList<>();
+        final long count = new DsnCatalogSearch(() -> dsnList).search(input, dataset -> seen.add(dataset.getDsname()));
+        assertEquals(5, count);
+        assertEquals(Arrays.asList("HLQ.APP.COBOL", "HLQ.APP.JCL", "HLQ.APP.LOAD", "HLQ.APP1.COBOL",
+                "HLQ.TEST.DATA"), seen);
+    }
+
+    @Test
+    public void tstDsnCatalogSearchPagingSuccess() throws ZosmfRequestException {
+        final DsnCatalogSearchInputData input = new DsnCatalogSearchInputData.Builder()
+                .pattern("USER.**").pattern("SYS1.**").pageSize(2).build();
+        final List<Dataset> datasets = new DsnCatalogSearch(() -> dsnList).search(input);
+        assertEquals(7, datasets.size());
+        assertEquals("USER.D", datasets.get(6).getDsname());
+        // USER: A-B, B-C, C-D, D; SYS1: LINKLIB-MACLIB, MACLIB-PARMLIB, PARMLIB
+        assertEquals(7, requests.get());
+    }
+
+    @Test
+    public void tstDsnCatalogSearchVolumeSuccess() throws ZosmfRequestException {
+        final DsnCatalogSearchInputData input = new DsnCatalogSearchInputData.Builder()
+                .pattern("SYS1.**", "SYSRES").pattern("USER.**").build();
+        new DsnCatalogSearch(() -> dsnList).search(input);
+        assertEquals("SYSRES", volumes.get("SYS1.**"));
+        assertTrue(!volumes.containsKey("USER.**"));
+    }
+
+    @Test
+    public void tstDsnCatalogSearchOrderSuccess() {
+        final List<String> sorted = new ArrayList<>(Arrays.asList("HLQ.APP1", "HLQ.APP", "HLQ.1A", "HLQ.A1",
+                "HLQ.$A", "HLQ.AB"));
+        sorted.sort(DsnCatalogSearch.CATALOG_ORDER);
+        assertEquals(Arrays.asList("HLQ.$A", "HLQ.AB", "HLQ.APP", "HLQ.APP1", "HLQ.A1", "HLQ.1A"), sorted);
+    }
+
+    @Test
+    public void tstDsnCatalogSearchRequestFailure() throws ZosmfRequestException {
+        when(dsnList.getDatasets(startsWith("SYS1"), any(DsnListInputData.class)))
+                .thenThrow(new ZosmfRequestException("not authorized"));
+        final DsnCatalogSearchInputData input = new DsnCatalogSearchInputData.Builder()
+                .pattern("USER.**").pattern("SYS1.**").build();
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> new DsnCatalogSearch(() -> dsnList).search(input));
+        assertEquals("not authorized", e.getMessage());
+    }
+
+    @Test
+    public void tstDsnCatalogSearchNoPatternFailure() {
+        assertThrows(IllegalStateException.class, () -> new DsnCatalogSearchInputData.Builder().build());
+    }
+
+}
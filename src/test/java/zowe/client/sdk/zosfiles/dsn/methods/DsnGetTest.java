@@ -16,17 +16,26 @@ import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import zowe.client.sdk.core.ZosConnection;
 import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.ContentHandler;
 import zowe.client.sdk.rest.GetStreamZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.cache.CacheKey;
+import zowe.client.sdk.zosfiles.cache.ContentCache;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
 import zowe.client.sdk.zosfiles.dsn.model.Dataset;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -77,6 +86,15 @@ public class DsnGetTest {
         assertEquals("https://1:443/zosmf/restfiles/ds/TEST.DATASET", mockGetRequest.getUrl());
     }
 
+    @Test
+    public void tstDsnGetRecordTokenSuccess() throws ZosmfRequestException {
+        final DsnGet dsnGet = new DsnGet(connection, mockGetRequestToken);
+        final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder().record(true).build();
+        dsnGet.get("TEST.DATASET", downloadInputData);
+        assertEquals("{X-IBM-Data-Type=record, Accept-Encoding=gzip, X-CSRF-ZOSMF-HEADER=true, " +
+                "Content-Type=application/json}", mockGetRequestToken.getHeaders().toString());
+    }
+
     @Test
     public void tstDsnGetWithVolumeSuccess() throws ZosmfRequestException, IOException {
         final DsnGet dsnGet = new DsnGet(connection, mockGetRequest);
@@ -273,6 +291,50 @@ public class DsnGetTest {
         }
     }
 
+    @Test
+    public void tstGetDsnInfoTargetedPatternSuccess() throws Exception {
+        final Dataset mockDataset = new Dataset("TEST.DATA", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "");
+        final Dataset childDataset = new Dataset("TEST.DATA.CHILD", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "");
+
+        try (MockedConstruction<DsnList> mocked = Mockito.mockConstruction(DsnList.class,
+                (mock, context) ->
+                        Mockito.when(mock.getDatasets(Mockito.eq("TEST.DATA"), Mockito.any()))
+                                .thenReturn(List.of(mockDataset, childDataset)))) {
+
+            final DsnGet dsnGet = new DsnGet(connection);
+            final Dataset result = dsnGet.getDsnInfo("TEST.DATA");
+
+            assertSame(mockDataset, result);
+            assertEquals(1, mocked.constructed().size());
+        }
+    }
+
+    @Test
+    public void tstGetDsnInfoWithAttributeCacheSuccess() throws Exception {
+        final Dataset mockDataset = new Dataset("TEST.DATA.SET", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "");
+
+        try (MockedConstruction<DsnList> mocked = Mockito.mockConstruction(DsnList.class,
+                (mock, context) ->
+                        Mockito.when(mock.getDatasets(Mockito.anyString(), Mockito.any()))
+                                .thenReturn(List.of(mockDataset)))) {
+
+            final DsnGet dsnGet = DsnGet.withAttributeCache(connection, new DsnAttributeCache(Duration.ofMinutes(5)));
+            assertSame(mockDataset, dsnGet.getDsnInfo("TEST.DATA.SET"));
+            assertSame(mockDataset, dsnGet.getDsnInfo("test.data.set"));
+            assertEquals(1, mocked.constructed().size());
+
+            DsnAttributeCache.invalidateDataset(connection, "TEST.DATA.SET(MEMBER)");
+            assertSame(mockDataset, dsnGet.getDsnInfo("TEST.DATA.SET"));
+            assertEquals(2, mocked.constructed().size());
+        }
+    }
+
     @Test
     public void tstGetDsnInfoDatasetNotFoundFailure() {
         try (MockedConstruction<DsnList> ignored = Mockito.mockConstruction(DsnList.class,
@@ -299,4 +361,85 @@ public class DsnGetTest {
         assertEquals("datasetName not specified", ex.getMessage());
     }
 
+    @Test
+    public void tstDsnGetWithCacheStoresEtagSuccess() throws ZosmfRequestException, IOException {
+        final GetStreamZosmfRequest mockCacheRequest = buildCacheRequestMock();
+        Mockito.when(mockCacheRequest.executeRequest()).thenReturn(
+                new Response("test data".getBytes(), 200, "success", null, Map.of("ETag", "etag1")));
+        doCallRealMethod().when(mockCacheRequest).setHeaders(anyMap());
+        doCallRealMethod().when(mockCacheRequest).getHeaders();
+        try (final ContentCache cache = new ContentCache(Files.createTempDirectory("zowe-cache"), 1024)) {
+            final DsnGet dsnGet = new DsnGet(connection, mockCacheRequest, cache);
+            final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder().build();
+            final InputStream inputStream = dsnGet.get("TEST.LIB(MEMBER)", downloadInputData);
+            assertEquals("test data", new String(inputStream.readAllBytes()));
+            assertEquals("true", mockCacheRequest.getHeaders().get("X-IBM-Return-Etag"));
+            assertFalse(mockCacheRequest.getHeaders().containsKey("If-None-Match"));
+            assertEquals("etag1", cache.get(CacheKey.dataset(connection, "TEST.LIB(MEMBER)", "text"))
+                    .orElseThrow().getEtag());
+            cache.clear();
+        }
+    }
+
+    @Test
+    public void tstDsnGetWithCacheNotModifiedSuccess() throws ZosmfRequestException, IOException {
+        final GetStreamZosmfRequest mockCacheRequest = buildCacheRequestMock();
+        Mockito.when(mockCacheRequest.executeRequest()).thenThrow(
+                new ZosmfRequestException("not modified", new Response(null, 304, "not modified")));
+        doCallRealMethod().when(mockCacheRequest).setHeaders(anyMap());
+        doCallRealMethod().when(mockCacheRequest).getHeaders();
+        try (final ContentCache cache = new ContentCache(Files.createTempDirectory("zowe-cache"), 1024)) {
+            cache.put(CacheKey.dataset(connection, "TEST.LIB(MEMBER)", "text"), "etag1", "cached".getBytes());
+            final DsnGet dsnGet = new DsnGet(connection, mockCacheRequest, cache);
+            final DsnDownloadInputData downloadInputData = new DsnDownloadInputData.Builder().build();
+            final InputStream inputStream = dsnGet.get("TEST.LIB(MEMBER)", downloadInputData);
+            assertEquals("cached", new String(inputStream.readAllBytes()));
+            assertEquals("etag1", mockCacheRequest.getHeaders().get("If-None-Match"));
+            cache.clear();
+        }
+    }
+
+    @Test
+    public void tstDsnGetRecordsStreamsResponseSuccess() throws ZosmfRequestException {
+        final GetStreamZosmfRequest mockRecordRequest = buildCacheRequestMock();
+        doCallRealMethod().when(mockRecordRequest).setHeaders(anyMap());
+        doCallRealMethod().when(mockRecordRequest).getHeaders();
+        Mockito.when(mockRecordRequest.executeRequest(any(ContentHandler.class))).thenAnswer(invocation -> {
+            final ContentHandler handler = invocation.getArgument(0);
+            // record mode: a 4-byte length ahead of each record, "AB" and "C" in IBM-1047
+            handler.handle(new ByteArrayInputStream(new byte[]{0, 0, 0, 2, (byte) 0xC1, (byte) 0xC2,
+                    0, 0, 0, 1, (byte) 0xC3}));
+            return new Response(null, 200, "success");
+        });
+
+        final List<String> records = new ArrayList<>();
+        new DsnGet(connection, mockRecordRequest).getRecords("TEST.LIB(MEMBER)", "IBM-1047", reader -> {
+            while (reader.hasNext()) {
+                records.add(reader.next().getText());
+            }
+        });
+
+        assertEquals(List.of("AB", "C"), records);
+        assertEquals("record", mockRecordRequest.getHeaders().get("X-IBM-Data-Type"));
+        assertEquals("https://1:443/zosmf/restfiles/ds/TEST.LIB(MEMBER)", mockRecordRequest.getUrl());
+        Mockito.verify(mockRecordRequest, Mockito.never()).executeRequest();
+    }
+
+    @Test
+    public void tstDsnGetRecordsNullHandlerFailure() {
+        final DsnGet dsnGet = new DsnGet(connection, mockGetRequest);
+        NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> dsnGet.getRecords("TEST.LIB(MEMBER)", "IBM-1047", null));
+        assertEquals("handler is null", exception.getMessage());
+    }
+
+    private GetStreamZosmfRequest buildCacheRequestMock() {
+        final GetStreamZosmfRequest mockCacheRequest = Mockito.mock(GetStreamZosmfRequest.class,
+                withSettings().useConstructor(connection));
+        doCallRealMethod().when(mockCacheRequest).setStandardHeaders();
+        doCallRealMethod().when(mockCacheRequest).setUrl(any());
+        doCallRealMethod().when(mockCacheRequest).getUrl();
+        return mockCacheRequest;
+    }
+
 }
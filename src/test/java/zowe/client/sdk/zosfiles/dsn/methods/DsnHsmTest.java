@@ -0,0 +1,218 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnHsmInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.DatasetPattern;
+import zowe.client.sdk.zosfiles.dsn.model.HsmResult;
+import zowe.client.sdk.zosfiles.dsn.types.HsmAction;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnHsm.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnHsmTest {
+
+    private final Map<String, String> volumes = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> listingsUntilDone = new ConcurrentHashMap<>();
+
+    private final List<List<String>> listings = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private final DsnUpdate dsnUpdate = mock(DsnUpdate.class);
+
+    private final DsnCatalogSearch dsnCatalogSearch = mock(DsnCatalogSearch.class);
+
+    private DsnHsm dsnHsm;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        when(dsnUpdate.migrate(anyString(), eq(false))).thenAnswer(this::request);
+        when(dsnUpdate.recallMigrated(anyString(), eq(false))).thenAnswer(this::request);
+        when(dsnCatalogSearch.search(any(DsnCatalogSearchInputData.class), any())).thenAnswer(this::list);
+        dsnHsm = new DsnHsm(() -> dsnUpdate, dsnCatalogSearch);
+    }
+
+    /**
+     * Accept the HSM request the way z/OSMF does, without waiting for HSM
+     */
+    private Response request(final InvocationOnMock invocation) throws ZosmfRequestException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(5);
+            if (invocation.<String>getArgument(0).contains("BAD")) {
+                throw new ZosmfRequestException("dataset not found");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+        return new Response(null, 200, "ok");
+    }
+
+    /**
+     * List the volumes, HSM finishing a dataset after its number of listings
+     */
+    private long list(final InvocationOnMock invocation) {
+        final DsnCatalogSearchInputData searchInputData = invocation.getArgument(0);
+        final Consumer<Dataset> consumer = invocation.getArgument(1);
+        listings.add(searchInputData.getPatterns().stream().map(DatasetPattern::getPattern)
+                .collect(Collectors.toList()));
+        listingsUntilDone.replaceAll((name, count) -> {
+            if (count == 1) {
+                volumes.put(name, "MIGRAT".equals(volumes.get(name)) ? "VOL001" : "MIGRAT");
+            }
+            return count - 1;
+        });
+        volumes.forEach((name, volume) -> consumer.accept(dataset(name, volume)));
+        return volumes.size();
+    }
+
+    private static Dataset dataset(final String name, final String volume) {
+        return new Dataset(name, "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", volume);
+    }
+
+    private void migrated(final String name, final int listings) {
+        volumes.put(name, "MIGRAT");
+        listingsUntilDone.put(name, listings);
+    }
+
+    @Test
+    public void tstDsnHsmRecallSuccess() throws ZosmfRequestException {
+        migrated("HLQ.APP.COBOL", 1);
+        migrated("HLQ.APP.JCL", 3);
+        migrated("HLQ.TEST.DATA", 2);
+        volumes.put("HLQ.APP.LOAD", "VOL001");
+        final List<Dataset> list = volumes.entrySet().stream()
+                .map(entry -> dataset(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        final DsnHsmInputData input = new DsnHsmInputData.Builder(HsmAction.RECALL)
+                .datasets(list)
+                .pollInterval(Duration.ofMillis(10))
+                .build();
+        assertEquals(3, input.getDatasetNames().size());
+        final List<HsmResult> results = dsnHsm.process(input);
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(HsmResult::isCompleted));
+        // one listing per parent qualifier of the pending datasets
+        assertTrue(listings.stream().allMatch(patterns -> patterns.size() <= 2));
+        assertEquals(List.of("HLQ.APP.*"), listings.get(listings.size() - 1));
+    }
+
+    @Test
+    public void tstDsnHsmMigrateSuccess() throws ZosmfRequestException {
+        volumes.put("HLQ.OLD.DATA", "VOL001");
+        listingsUntilDone.put("HLQ.OLD.DATA", 2);
+        final DsnHsmInputData input = new DsnHsmInputData.Builder(HsmAction.MIGRATE)
+                .dataset("hlq.old.data")
+                .pollInterval(Duration.ofMillis(10))
+                .build();
+        final List<HsmResult> results = dsnHsm.process(input);
+        assertTrue(results.get(0).isCompleted());
+        assertEquals("MIGRAT", volumes.get("HLQ.OLD.DATA"));
+    }
+
+    @Test
+    public void tstDsnHsmConcurrencySuccess() throws ZosmfRequestException {
+        final DsnHsmInputData.Builder builder = new DsnHsmInputData.Builder(HsmAction.RECALL)
+                .maxConcurrency(3)
+                .pollInterval(Duration.ofMillis(10));
+        for (int i = 0; i < 20; i++) {
+            migrated("HLQ.DATA.D" + i, 1);
+            builder.dataset("HLQ.DATA.D" + i);
+        }
+        final List<HsmResult> results = dsnHsm.process(builder.build());
+        assertTrue(results.stream().allMatch(HsmResult::isCompleted));
+        assertTrue(maxRunning.get() <= 3);
+    }
+
+    @Test
+    public void tstDsnHsmFutureSuccess() throws Exception {
+        migrated("HLQ.FAST", 1);
+        migrated("HLQ.SLOW", 4);
+        final DsnHsmInputData input = new DsnHsmInputData.Builder(HsmAction.RECALL)
+                .dataset("HLQ.FAST").dataset("HLQ.SLOW")
+                .pollInterval(Duration.ofMillis(10))
+                .build();
+        final Map<String, CompletableFuture<HsmResult>> futures = dsnHsm.submit(input);
+        assertEquals(Arrays.asList("HLQ.FAST", "HLQ.SLOW"), List.copyOf(futures.keySet()));
+        assertTrue(futures.get("HLQ.FAST").get().isCompleted());
+        assertFalse(futures.get("HLQ.SLOW").isDone());
+        assertTrue(futures.get("HLQ.SLOW").get().isCompleted());
+    }
+
+    @Test
+    public void tstDsnHsmRequestFailure() throws ZosmfRequestException {
+        migrated("HLQ.GOOD.DATA", 1);
+        final DsnHsmInputData input = new DsnHsmInputData.Builder(HsmAction.RECALL)
+                .dataset("HLQ.BAD.DATA").dataset("HLQ.GOOD.DATA")
+                .pollInterval(Duration.ofMillis(10))
+                .build();
+        final List<HsmResult> results = dsnHsm.process(input);
+        assertEquals("dataset not found", results.get(0).getError().orElse(""));
+        assertTrue(results.get(1).isCompleted());
+    }
+
+    @Test
+    public void tstDsnHsmTimeoutFailure() throws ZosmfRequestException {
+        migrated("HLQ.STUCK.DATA", Integer.MAX_VALUE);
+        final DsnHsmInputData input = new DsnHsmInputData.Builder(HsmAction.RECALL)
+                .dataset("HLQ.STUCK.DATA")
+                .pollInterval(Duration.ofMillis(10))
+                .timeout(Duration.ofMillis(50))
+                .build();
+        final HsmResult result = dsnHsm.process(input).get(0);
+        assertFalse(result.isCompleted());
+        assertEquals("timed out waiting for recall to complete", result.getError().orElse(""));
+    }
+
+    @Test
+    public void tstDsnHsmInputFailure() {
+        final DsnHsmInputData.Builder builder = new DsnHsmInputData.Builder(HsmAction.RECALL);
+        assertThrows(IllegalArgumentException.class, () -> builder.pollInterval(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxConcurrency(0));
+    }
+
+}
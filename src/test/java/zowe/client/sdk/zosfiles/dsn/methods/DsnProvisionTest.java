@@ -0,0 +1,248 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCatalogSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDeleteInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnProvisionInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.DatasetPattern;
+import zowe.client.sdk.zosfiles.dsn.model.ProvisionResult;
+import zowe.client.sdk.zosfiles.dsn.response.DsnProvisionResponse;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionOutcome;
+import zowe.client.sdk.zosfiles.dsn.types.ProvisionState;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnProvision.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnProvisionTest {
+
+    private static final DsnCreateInputData PDS = new DsnCreateInputData.Builder()
+            .dsorg("PO").recfm("FB").lrecl(80).alcunit("TRK").primary(1).secondary(1).dirblk(5).build();
+
+    private static final DsnCreateInputData SEQ = new DsnCreateInputData.Builder()
+            .dsorg("PS").recfm("FB").lrecl(80).alcunit("TRK").primary(1).secondary(1).build();
+
+    private final Set<String> cataloged = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, DsnCreateInputData> created = new ConcurrentHashMap<>();
+
+    private final List<String> deleted = new CopyOnWriteArrayList<>();
+
+    private final List<List<String>> listings = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private final DsnCatalogSearch dsnCatalogSearch = mock(DsnCatalogSearch.class);
+
+    private final DsnCreate dsnCreate = mock(DsnCreate.class);
+
+    private final DsnDelete dsnDelete = mock(DsnDelete.class);
+
+    private DsnProvision dsnProvision;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        when(dsnCatalogSearch.search(any(DsnCatalogSearchInputData.class), any())).thenAnswer(invocation -> {
+            final DsnCatalogSearchInputData searchInputData = invocation.getArgument(0);
+            final Consumer<Dataset> consumer = invocation.getArgument(1);
+            listings.add(searchInputData.getPatterns().stream().map(DatasetPattern::getPattern)
+                    .collect(Collectors.toList()));
+            cataloged.forEach(name -> consumer.accept(dataset(name)));
+            return (long) cataloged.size();
+        });
+        when(dsnCreate.create(anyString(), any(DsnCreateInputData.class))).thenAnswer(invocation -> {
+            final String datasetName = invocation.getArgument(0);
+            track(datasetName);
+            if (datasetName.contains("RACE")) {
+                throw new ZosmfRequestException("http status error code: 500, status text: Internal Server Error, " +
+                        "response phrase: IGD17101I DATA SET " + datasetName +
+                        " NOT DEFINED BECAUSE DUPLICATE NAME EXISTS IN CATALOG",
+                        new Response("{}", 500, "Internal Server Error"));
+            }
+            created.put(datasetName, invocation.getArgument(1));
+            return new Response("{}", 201, "Created");
+        });
+        when(dsnDelete.delete(any(DsnDeleteInputData.class))).thenAnswer(invocation -> {
+            final String datasetName = invocation.<DsnDeleteInputData>getArgument(0).getDatasetName();
+            track(datasetName);
+            if (datasetName.contains("GONE")) {
+                throw new ZosmfRequestException("not found", new Response("{}", 404, "Not Found"));
+            }
+            deleted.add(datasetName);
+            return new Response("{}", 204, "No Content");
+        });
+        dsnProvision = new DsnProvision(dsnCatalogSearch, () -> dsnCreate, () -> dsnDelete);
+    }
+
+    private static Dataset dataset(final String name) {
+        return new Dataset(name, "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
+    }
+
+    private void track(final String datasetName) throws ZosmfRequestException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(5);
+            if (datasetName.contains("BAD")) {
+                throw new ZosmfRequestException("allocation failed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @Test
+    public void tstDsnProvisionEnsureExistsSuccess() throws ZosmfRequestException {
+        cataloged.add("HLQ.TEST.OLD");
+        final DsnProvisionInputData input = new DsnProvisionInputData.Builder()
+                .template("pds", PDS)
+                .template("seq", SEQ)
+                .ensureExists("hlq.test.src", "pds")
+                .ensureExists("HLQ.TEST.OLD", "pds")
+                .ensureExists("HLQ.TEST.LOG", "seq")
+                .build();
+
+        final DsnProvisionResponse response = dsnProvision.provision(input);
+
+        assertTrue(response.isSuccess());
+        assertEquals(List.of("HLQ.TEST.SRC", "HLQ.TEST.OLD", "HLQ.TEST.LOG"), response.getResults().stream()
+                .map(ProvisionResult::getDatasetName).collect(Collectors.toList()));
+        assertEquals(List.of(ProvisionOutcome.CREATED, ProvisionOutcome.UNCHANGED, ProvisionOutcome.CREATED),
+                response.getResults().stream().map(ProvisionResult::getOutcome).collect(Collectors.toList()));
+        assertSame(PDS, created.get("HLQ.TEST.SRC"));
+        assertSame(SEQ, created.get("HLQ.TEST.LOG"));
+        assertFalse(created.containsKey("HLQ.TEST.OLD"));
+        assertEquals(List.of(List.of("HLQ.TEST.*")), listings);
+    }
+
+    @Test
+    public void tstDsnProvisionEnsureAbsentSuccess() throws ZosmfRequestException {
+        cataloged.add("HLQ.A.DATA");
+        cataloged.add("HLQ.B.GONE");
+        final DsnProvisionInputData input = new DsnProvisionInputData.Builder()
+                .ensureAbsent(List.of("HLQ.A.DATA", "HLQ.A.NONE", "HLQ.B.GONE"))
+                .build();
+
+        final DsnProvisionResponse response = dsnProvision.provision(input);
+
+        assertTrue(response.isSuccess());
+        assertEquals(List.of("HLQ.A.DATA"), deleted);
+        assertEquals(1, response.count(ProvisionOutcome.DELETED));
+        assertEquals(2, response.count(ProvisionOutcome.UNCHANGED));
+        assertEquals(ProvisionState.ABSENT, response.getResults().get(2).getState());
+        assertEquals(List.of(List.of("HLQ.A.*", "HLQ.B.*")), listings);
+    }
+
+    @Test
+    public void tstDsnProvisionAllocatedConcurrentlySuccess() throws ZosmfRequestException {
+        final DsnProvisionInputData input = new DsnProvisionInputData.Builder()
+                .template("seq", SEQ)
+                .ensureExists(List.of("HLQ.ONE", "HLQ.RACE"), "seq")
+                .build();
+
+        final DsnProvisionResponse response = dsnProvision.provision(input);
+
+        assertTrue(response.isSuccess());
+        assertEquals(ProvisionOutcome.CREATED, response.getResults().get(0).getOutcome());
+        assertEquals(ProvisionOutcome.UNCHANGED, response.getResults().get(1).getOutcome());
+    }
+
+    @Test
+    public void tstDsnProvisionFailureIsRecordedSuccess() throws ZosmfRequestException {
+        final DsnProvisionInputData input = new DsnProvisionInputData.Builder()
+                .template("seq", SEQ)
+                .ensureExists(List.of("HLQ.ONE", "HLQ.BAD", "HLQ.TWO"), "seq")
+                .build();
+
+        final DsnProvisionResponse response = dsnProvision.provision(input);
+
+        assertFalse(response.isSuccess());
+        assertEquals(2, response.count(ProvisionOutcome.CREATED));
+        assertEquals(1, response.getFailures().size());
+        assertEquals("HLQ.BAD", response.getFailures().get(0).getDatasetName());
+        assertEquals("allocation failed", response.getFailures().get(0).getError().orElse(""));
+    }
+
+    @Test
+    public void tstDsnProvisionMaxConcurrencySuccess() throws ZosmfRequestException {
+        final List<String> names = IntStream.range(0, 40).mapToObj(i -> "HLQ.DS" + i)
+                .collect(Collectors.toList());
+        final DsnProvisionInputData input = new DsnProvisionInputData.Builder()
+                .template("seq", SEQ)
+                .ensureExists(names, "seq")
+                .maxConcurrency(3)
+                .build();
+
+        final DsnProvisionResponse response = dsnProvision.provision(input);
+
+        assertEquals(40, response.count(ProvisionOutcome.CREATED));
+        assertTrue(maxRunning.get() <= 3);
+        assertTrue(maxRunning.get() > 1);
+    }
+
+    @Test
+    public void tstDsnProvisionEmptyInputSuccess() throws ZosmfRequestException {
+        final DsnProvisionResponse response = dsnProvision
+                .provision(new DsnProvisionInputData.Builder().build());
+        assertTrue(response.getResults().isEmpty());
+        assertTrue(listings.isEmpty());
+    }
+
+    @Test
+    public void tstDsnProvisionUnknownTemplateFailure() {
+        final DsnProvisionInputData.Builder builder = new DsnProvisionInputData.Builder();
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> builder.ensureExists("HLQ.DATA", "pds"));
+        assertEquals("unknown template: pds", e.getMessage());
+    }
+
+    @Test
+    public void tstDsnProvisionConflictingStatesFailure() {
+        final DsnProvisionInputData.Builder builder = new DsnProvisionInputData.Builder()
+                .template("seq", SEQ)
+                .ensureExists("HLQ.DATA", "seq");
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> builder.ensureAbsent("hlq.data"));
+        assertEquals("conflicting states requested for dataset HLQ.DATA", e.getMessage());
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.zosfiles.dsn.model.DsnRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Class containing unit tests for DsnRecordReader.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnRecordReaderTest {
+
+    private static final Charset IBM1047 = Charset.forName("IBM1047");
+
+    /**
+     * Record mode content, each record preceded by its length in a 4-byte big-endian field
+     */
+    private static byte[] records(final Charset charset, final String... lines) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final String line : lines) {
+            final byte[] bytes = line.getBytes(charset);
+            out.writeBytes(ByteBuffer.allocate(4).putInt(bytes.length).array());
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    public void tstReadRecordsSuccess() {
+        final String[] lines = {"//JOB1     JOB (ACCT),'[TEST]'", "", "//STEP1    EXEC PGM=IEFBR14      "};
+        final DsnRecordReader reader = new DsnRecordReader(
+                new ByteArrayInputStream(records(IBM1047, lines)), "IBM-1047");
+
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(reader.hasNext());
+            final DsnRecord record = reader.next();
+            assertEquals(i + 1, record.getNumber());
+            assertEquals(lines[i], record.getText());
+            assertArrayEquals(lines[i].getBytes(IBM1047), record.getBytes());
+        }
+        assertFalse(reader.hasNext());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    @Test
+    public void tstSmallBufferSuccess() {
+        // a 5 byte buffer is compacted between records and grown for the long one
+        final List<String> lines = List.of("A", "BCDEFGHIJKLMNOPQRSTUVWXYZ", "12", "");
+        final DsnRecordReader reader = new DsnRecordReader(
+                new ByteArrayInputStream(records(IBM1047, lines.toArray(new String[0]))), "1047", 5);
+
+        assertEquals(lines, reader.stream().map(DsnRecord::getText).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void tstShortReadsSuccess() {
+        final byte[] content = records(Charset.forName("IBM037"), "HELLO [WORLD]", "SECOND");
+        // returns one byte per read, as a slow network stream may
+        final InputStream trickle = new ByteArrayInputStream(content) {
+            @Override
+            public synchronized int read(final byte[] b, final int off, final int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        final DsnRecordReader reader = new DsnRecordReader(trickle, "IBM-037");
+
+        assertEquals("HELLO [WORLD]", reader.next().getText());
+        assertEquals("SECOND", reader.next().getText());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void tstAsByteBufferSuccess() {
+        final DsnRecordReader reader = new DsnRecordReader(
+                new ByteArrayInputStream(records(IBM1047, "AB", "CDE")), "IBM-1047");
+        reader.next();
+
+        final ByteBuffer view = reader.next().asByteBuffer();
+
+        assertTrue(view.isReadOnly());
+        assertEquals(3, view.remaining());
+        assertEquals((byte) 0xC3, view.get(0));
+    }
+
+    @Test
+    public void tstStreamCloseSuccess() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream input = new ByteArrayInputStream(records(IBM1047, "A")) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        try (Stream<DsnRecord> stream = new DsnRecordReader(input, "IBM-1047").stream()) {
+            assertEquals(1, stream.count());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void tstTruncatedRecordFailure() {
+        final byte[] content = records(IBM1047, "COMPLETE", "CUT");
+        final DsnRecordReader reader = new DsnRecordReader(
+                new ByteArrayInputStream(content, 0, content.length - 1), "IBM-1047");
+
+        assertEquals("COMPLETE", reader.next().getText());
+        assertThrows(IllegalStateException.class, reader::hasNext);
+    }
+
+    @Test
+    public void tstDoubleByteEncodingFailure() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DsnRecordReader(new ByteArrayInputStream(new byte[0]), "IBM-939"));
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnSearchInputData;
+import zowe.client.sdk.zosfiles.dsn.model.DsnSearchMatch;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnSearch.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSearchTest {
+
+    private static final Charset EBCDIC = Charset.forName("IBM1047");
+
+    private final Map<String, List<String>> members = new LinkedHashMap<>();
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final AtomicInteger unread = new AtomicInteger();
+
+    private final DsnGet dsnGet = mock(DsnGet.class);
+
+    private final DsnList dsnList = mock(DsnList.class);
+
+    private DsnSearch dsnSearch;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        when(dsnList.getMembers(eq("HLQ.APP.COBOL"), any(DsnListInputData.class))).thenAnswer(invocation -> {
+            final String prefix = invocation.<DsnListInputData>getArgument(1).getPattern().orElse("")
+                    .replace("*", "");
+            return members.keySet().stream().filter(name -> name.startsWith(prefix))
+                    .map(name -> new Member(name, null, null, null, null, null, null, null, null, null, null, null))
+                    .collect(Collectors.toList());
+        });
+        doAnswer(invocation -> {
+            final String name = invocation.getArgument(0);
+            records(name.substring(name.indexOf('(') + 1, name.length() - 1), invocation.getArgument(1),
+                    invocation.getArgument(2));
+            return null;
+        }).when(dsnGet).getRecords(anyString(), anyString(), any(DsnRecordHandler.class));
+        dsnSearch = new DsnSearch(() -> dsnGet, () -> dsnList);
+    }
+
+    /**
+     * Stream the records of a member the way z/OSMF answers a record mode read, counting those left unread
+     */
+    private void records(final String member, final String encoding, final DsnRecordHandler handler)
+            throws ZosmfRequestException {
+        reads.incrementAndGet();
+        if (member.equals("BROKEN")) {
+            throw new ZosmfRequestException("member in use");
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final String line : members.get(member)) {
+            final byte[] record = String.format("%-80s", line).getBytes(EBCDIC);
+            out.writeBytes(ByteBuffer.allocate(4).putInt(record.length).array());
+            out.writeBytes(record);
+        }
+        try (final DsnRecordReader reader = new DsnRecordReader(new ByteArrayInputStream(out.toByteArray()),
+                encoding)) {
+            handler.handle(reader);
+            while (reader.hasNext()) {
+                reader.next();
+                unread.incrementAndGet();
+            }
+        } catch (IOException e) {
+            throw new ZosmfRequestException(e.getMessage(), e);
+        }
+    }
+
+    private void library() {
+        members.put("PAYCALC", Arrays.asList("       IDENTIFICATION DIVISION.", "       CALL 'DB2API'.",
+                "       MOVE TAXRATE TO WS-RATE.", "       CALL 'db2api'."));
+        members.put("PAYRPT", Arrays.asList("       PERFORM PRINT-LINE.", "       MOVE TAXRATE TO OUT."));
+        members.put("INVUPD", Arrays.asList("       CALL 'DB2API'.", "       STOP RUN."));
+        members.put("UTIL", List.of("       EXIT."));
+    }
+
+    private static List<String> hits(final List<DsnSearchMatch> matches) {
+        return matches.stream()
+                .sorted(Comparator.comparing(DsnSearchMatch::getMember)
+                        .thenComparingLong(DsnSearchMatch::getLineNumber))
+                .map(match -> match.getMember() + ":" + match.getLineNumber())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void tstDsnSearchMultiPatternSuccess() throws ZosmfRequestException {
+        library();
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .search("DB2API").research("TAX\\w+ TO OUT").build();
+        final List<DsnSearchMatch> matches = dsnSearch.search(input);
+        assertEquals(Arrays.asList("INVUPD:1", "PAYCALC:2", "PAYCALC:4", "PAYRPT:2"), hits(matches));
+        final DsnSearchMatch match = matches.stream().filter(m -> m.getMember().equals("INVUPD")).findFirst()
+                .orElseThrow();
+        assertEquals("       CALL 'DB2API'.", match.getLine());
+    }
+
+    @Test
+    public void tstDsnSearchCaseSensitiveSuccess() throws ZosmfRequestException {
+        library();
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .search("db2api").insensitive(false).build();
+        assertEquals(List.of("PAYCALC:4"), hits(dsnSearch.search(input)));
+    }
+
+    @Test
+    public void tstDsnSearchMemberPatternSuccess() throws ZosmfRequestException {
+        library();
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .memberPattern("PAY*").search("DB2API").build();
+        assertEquals(Arrays.asList("PAYCALC:2", "PAYCALC:4"), hits(dsnSearch.search(input)));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void tstDsnSearchMaxMatchesSuccess() throws ZosmfRequestException {
+        for (int i = 0; i < 50; i++) {
+            members.put("MEM" + i, Arrays.asList("FOUND", "FOUND", "FOUND"));
+        }
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .search("FOUND").maxMatches(5).maxConcurrency(2).build();
+        final List<DsnSearchMatch> matches = new ArrayList<>();
+        final long count = dsnSearch.search(input, matches::add);
+        assertEquals(5, count);
+        assertEquals(5, matches.size());
+        assertTrue(reads.get() < 50);
+    }
+
+    @Test
+    public void tstDsnSearchMaxMatchesPerMemberSuccess() throws ZosmfRequestException {
+        library();
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .search("DB2API").maxMatchesPerMember(1).build();
+        assertEquals(Arrays.asList("INVUPD:1", "PAYCALC:2"), hits(dsnSearch.search(input)));
+    }
+
+    @Test
+    public void tstDsnSearchStopsReadingMemberSuccess() throws ZosmfRequestException {
+        members.put("BIG", Collections.nCopies(100, "FOUND"));
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .search("FOUND").maxMatchesPerMember(1).build();
+        assertEquals(List.of("BIG:1"), hits(dsnSearch.search(input)));
+        assertEquals(99, unread.get());
+    }
+
+    @Test
+    public void tstDsnSearchSkipErrorsSuccess() throws ZosmfRequestException {
+        library();
+        members.put("BROKEN", List.of());
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL")
+                .search("STOP RUN").skipErrors(true).build();
+        assertEquals(List.of("INVUPD:2"), hits(dsnSearch.search(input)));
+    }
+
+    @Test
+    public void tstDsnSearchReadFailure() {
+        library();
+        members.put("BROKEN", List.of());
+        final DsnSearchInputData input = new DsnSearchInputData.Builder("HLQ.APP.COBOL").search("STOP RUN").build();
+        final ZosmfRequestException e = assertThrows(ZosmfRequestException.class,
+                () -> dsnSearch.search(input));
+        assertEquals("member in use", e.getMessage());
+    }
+
+    @Test
+    public void tstDsnSearchNoPatternFailure() {
+        assertThrows(IllegalStateException.class, () -> new DsnSearchInputData.Builder("HLQ.APP.COBOL").build());
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.ContentHandler;
+import zowe.client.sdk.rest.GetStreamZosmfRequest;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnStreamCopyInputData;
+import zowe.client.sdk.zosfiles.dsn.model.CopiedDataset;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.response.DsnStreamCopyResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnStreamCopy.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnStreamCopyTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+
+    private final Map<String, Dataset> datasets = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> contents = new ConcurrentHashMap<>();
+
+    private final Map<String, String> written = new ConcurrentHashMap<>();
+
+    private final Map<String, DsnCreateInputData> created = new ConcurrentHashMap<>();
+
+    private String memberPattern;
+
+    private DsnStreamCopy dsnStreamCopy;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        final DsnGet dsnGet = mock(DsnGet.class);
+        when(dsnGet.getDsnInfo(anyString())).thenAnswer(invocation -> {
+            final Dataset dataset = datasets.get(invocation.<String>getArgument(0));
+            if (dataset == null) {
+                throw new ZosmfRequestException("dataset not found");
+            }
+            return dataset;
+        });
+        final DsnList dsnList = mock(DsnList.class);
+        when(dsnList.getMembers(anyString(), any(DsnListInputData.class))).thenAnswer(this::members);
+        final DsnCreate dsnCreate = mock(DsnCreate.class);
+        when(dsnCreate.create(anyString(), any(DsnCreateInputData.class))).thenAnswer(invocation -> {
+            created.put(invocation.getArgument(0), invocation.getArgument(1));
+            return new Response(null, 201, "created");
+        });
+        dsnStreamCopy = new DsnStreamCopy(connection, connection, () -> dsnGet, () -> dsnList, () -> dsnCreate,
+                this::readRequest, this::writeRequest);
+    }
+
+    private List<Member> members(final InvocationOnMock invocation) {
+        final String datasetName = invocation.getArgument(0);
+        memberPattern = invocation.<DsnListInputData>getArgument(1).getPattern().orElse(null);
+        return contents.keySet().stream()
+                .filter(name -> name.startsWith(datasetName + "("))
+                .map(name -> name.substring(datasetName.length() + 1, name.length() - 1))
+                .sorted()
+                .map(name -> new Member(name, null, null, null, null, null, null, null, null, null, null, null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * GET_STREAM request of one worker thread, serving the bytes of the dataset named by its url
+     */
+    private GetStreamZosmfRequest readRequest() {
+        final AtomicReference<String> url = new AtomicReference<>();
+        final GetStreamZosmfRequest request = mock(GetStreamZosmfRequest.class);
+        doAnswer(invocation -> {
+            url.set(invocation.getArgument(0));
+            return null;
+        }).when(request).setUrl(anyString());
+        try {
+            when(request.executeRequest(any(ContentHandler.class))).thenAnswer(invocation -> {
+                final String name = datasetOf(url.get());
+                if (name.contains("LOCKED")) {
+                    throw new ZosmfRequestException("member in use");
+                }
+                invocation.<ContentHandler>getArgument(0).handle(new ByteArrayInputStream(
+                        new byte[contents.get(name)]));
+                return new Response(null, 200, "ok");
+            });
+        } catch (ZosmfRequestException e) {
+            throw new IllegalStateException(e);
+        }
+        return request;
+    }
+
+    /**
+     * PUT_STREAM request of one worker thread, recording which source was written to the dataset of its url
+     */
+    private ZosmfRequest writeRequest() {
+        final AtomicReference<String> url = new AtomicReference<>();
+        final AtomicReference<InputStream> body = new AtomicReference<>();
+        final ZosmfRequest request = mock(ZosmfRequest.class);
+        doAnswer(invocation -> {
+            url.set(invocation.getArgument(0));
+            return null;
+        }).when(request).setUrl(anyString());
+        doAnswer(invocation -> {
+            body.set(invocation.getArgument(0));
+            return null;
+        }).when(request).setBody(any());
+        try {
+            when(request.executeRequest()).thenAnswer(invocation -> {
+                final int length = body.get().readAllBytes().length;
+                written.put(datasetOf(url.get()), String.valueOf(length));
+                return new Response(null, 201, "created");
+            });
+        } catch (ZosmfRequestException e) {
+            throw new IllegalStateException(e);
+        }
+        return request;
+    }
+
+    private static String datasetOf(final String url) {
+        return URLDecoder.decode(url.substring(url.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+    }
+
+    private static Dataset dataset(final String name, final String dsorg, final String dsntp, final String recfm,
+                                   final String lrecl, final String blksz, final String spacu, final String size) {
+        return new Dataset(name, blksz, "", "", "", dsntp, dsorg, "", "", lrecl, "", "", "", "", recfm, size,
+                spacu, "", "VOL001");
+    }
+
+    private void library() {
+        datasets.put("HLQ.SRC.COBOL", dataset("HLQ.SRC.COBOL", "PO-E", "LIBRARY", "FB", "80", "27920",
+                "CYLINDERS", "46"));
+        contents.put("HLQ.SRC.COBOL(PAYCALC)", 8400);
+        contents.put("HLQ.SRC.COBOL(PAYRPT)", 4200);
+        contents.put("HLQ.SRC.COBOL(INVUPD)", 840);
+    }
+
+    @Test
+    public void tstDsnStreamCopyLibrarySuccess() throws ZosmfRequestException {
+        library();
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.SRC.COBOL", "HLQ.DST.COBOL")
+                .create()
+                .build();
+        final DsnStreamCopyResponse response = dsnStreamCopy.copy(input);
+        assertTrue(response.isSuccess());
+        assertTrue(response.isCreated());
+        assertEquals(13440, response.getBytes());
+        assertEquals(Arrays.asList("HLQ.DST.COBOL(INVUPD)", "HLQ.DST.COBOL(PAYCALC)", "HLQ.DST.COBOL(PAYRPT)"),
+                response.getCopies().stream().map(CopiedDataset::getTarget).collect(Collectors.toList()));
+        assertEquals("4200", written.get("HLQ.DST.COBOL(PAYRPT)"));
+
+        final DsnCreateInputData allocation = created.get("HLQ.DST.COBOL");
+        assertEquals("PO", allocation.getDsorg().orElse(""));
+        assertEquals("LIBRARY", allocation.getDsntype().orElse(""));
+        assertEquals("FB", allocation.getRecfm().orElse(""));
+        assertEquals(80, allocation.getLrecl().orElse(0));
+        assertEquals(27920, allocation.getBlksize().orElse(0));
+        assertEquals("CYL", allocation.getAlcunit().orElse(""));
+        // 46 tracks round up to 4 cylinders
+        assertEquals(4, allocation.getPrimary().orElse(0));
+        assertEquals(2, allocation.getSecondary().orElse(0));
+    }
+
+    @Test
+    public void tstDsnStreamCopySequentialSuccess() throws ZosmfRequestException {
+        datasets.put("HLQ.SRC.DATA", dataset("HLQ.SRC.DATA", "PS", "BASIC", "VB", "255", "27998", "TRACKS", "30"));
+        contents.put("HLQ.SRC.DATA", 51000);
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.SRC.DATA", "HLQ.DST.DATA")
+                .create()
+                .build();
+        final DsnStreamCopyResponse response = dsnStreamCopy.copy(input);
+        assertEquals(1, response.getCopies().size());
+        assertEquals(51000, response.getBytes());
+        final DsnCreateInputData allocation = created.get("HLQ.DST.DATA");
+        assertEquals("PS", allocation.getDsorg().orElse(""));
+        assertEquals("VB", allocation.getRecfm().orElse(""));
+        assertEquals("TRK", allocation.getAlcunit().orElse(""));
+        assertEquals(30, allocation.getPrimary().orElse(0));
+    }
+
+    @Test
+    public void tstDsnStreamCopyMemberSuccess() throws ZosmfRequestException {
+        library();
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.SRC.COBOL(PAYCALC)",
+                "HLQ.DST.COBOL(PAYNEW)").build();
+        final DsnStreamCopyResponse response = dsnStreamCopy.copy(input);
+        assertEquals(8400, response.getBytes());
+        assertEquals("8400", written.get("HLQ.DST.COBOL(PAYNEW)"));
+        assertFalse(response.isCreated());
+        assertTrue(created.isEmpty());
+    }
+
+    @Test
+    public void tstDsnStreamCopyMemberPatternSuccess() throws ZosmfRequestException {
+        library();
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.SRC.COBOL", "HLQ.DST.COBOL")
+                .memberPattern("PAY*")
+                .build();
+        dsnStreamCopy.copy(input);
+        assertEquals("PAY*", memberPattern);
+    }
+
+    @Test
+    public void tstDsnStreamCopyMemberFailure() throws ZosmfRequestException {
+        library();
+        contents.put("HLQ.SRC.COBOL(LOCKED)", 80);
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.SRC.COBOL", "HLQ.DST.COBOL")
+                .build();
+        final DsnStreamCopyResponse response = dsnStreamCopy.copy(input);
+        assertFalse(response.isSuccess());
+        assertEquals(1, response.getFailures().size());
+        assertEquals("member in use", response.getFailures().get(0).getError().orElse(""));
+        assertEquals(3, written.size());
+    }
+
+    @Test
+    public void tstDsnStreamCopyLoadLibraryFailure() {
+        datasets.put("HLQ.LOADLIB", dataset("HLQ.LOADLIB", "PO", "PDS", "U", "0", "32760", "CYLINDERS", "5"));
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.LOADLIB", "HLQ.NEW.LOADLIB")
+                .build();
+        assertThrows(IllegalArgumentException.class, () -> dsnStreamCopy.copy(input));
+    }
+
+    @Test
+    public void tstDsnStreamCopyMixedNamesFailure() {
+        library();
+        final DsnStreamCopyInputData input = new DsnStreamCopyInputData.Builder("HLQ.SRC.COBOL(PAYCALC)",
+                "HLQ.DST.COBOL").build();
+        assertThrows(IllegalArgumentException.class, () -> dsnStreamCopy.copy(input));
+    }
+
+}
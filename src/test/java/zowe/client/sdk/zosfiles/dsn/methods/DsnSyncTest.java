@@ -0,0 +1,206 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDeleteInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnDownloadInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnListInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnSyncInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Member;
+import zowe.client.sdk.zosfiles.dsn.response.DsnSyncResponse;
+import zowe.client.sdk.zosfiles.uss.types.SyncDirection;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnSync.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnSyncTest {
+
+    private static final String DATASET = "HLQ.APP.COBOL";
+
+    @TempDir
+    Path localDir;
+
+    private final Map<String, String> contents = new ConcurrentHashMap<>();
+
+    private final Map<String, Member> members = new ConcurrentHashMap<>();
+
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private DsnSync dsnSync;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        final DsnList dsnList = mock(DsnList.class);
+        when(dsnList.getMembers(eq(DATASET), any(DsnListInputData.class)))
+                .thenAnswer(invocation -> new ArrayList<>(members.values()));
+        final DsnGet dsnGet = mock(DsnGet.class);
+        when(dsnGet.get(anyString(), any(DsnDownloadInputData.class))).thenAnswer(invocation -> {
+            reads.incrementAndGet();
+            final String name = invocation.getArgument(0);
+            final String member = name.substring(name.indexOf('(') + 1, name.length() - 1);
+            return new ByteArrayInputStream(contents.get(member).getBytes(StandardCharsets.UTF_8));
+        });
+        final DsnWrite dsnWrite = mock(DsnWrite.class);
+        when(dsnWrite.write(eq(DATASET), anyString(), anyString())).thenAnswer(invocation -> {
+            final String member = invocation.getArgument(1);
+            contents.put(member, invocation.getArgument(2));
+            final Member previous = members.get(member);
+            members.put(member, member(member, previous == null ? 0 : previous.getMod() + 1,
+                    "2030/01/01", "10:00", "00"));
+            return new Response(null, 204, "no content");
+        });
+        final DsnDelete dsnDelete = mock(DsnDelete.class);
+        when(dsnDelete.delete(any(DsnDeleteInputData.class))).thenAnswer(invocation -> {
+            final String member = invocation.<DsnDeleteInputData>getArgument(0).getMemberName();
+            contents.remove(member);
+            members.remove(member);
+            return new Response(null, 204, "no content");
+        });
+        dsnSync = new DsnSync(() -> dsnList, () -> dsnGet, () -> dsnWrite, () -> dsnDelete);
+    }
+
+    private static Member member(final String name, final long mod, final String m4date, final String mtime,
+                                 final String msec) {
+        return new Member(name, 1L, mod, "2020/01/01", m4date, 10L, 10L, 10L, mtime, msec, "DEV", null);
+    }
+
+    private void putRemote(final String name, final String content, final String m4date) {
+        contents.put(name, content);
+        members.put(name, member(name, 0, m4date, "12:00", "30"));
+    }
+
+    private Path writeLocal(final String fileName, final String content, final String time) throws IOException {
+        final Path file = localDir.resolve(fileName);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(LocalDateTime.parse(time).toInstant(ZoneOffset.UTC)));
+        return file;
+    }
+
+    private DsnSyncInputData.Builder input() {
+        return new DsnSyncInputData.Builder(localDir, DATASET).extension("cbl").remoteZone(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void tstPushChangedMembersSuccess() throws ZosmfRequestException, IOException {
+        writeLocal("a.cbl", "new a", "2024-06-01T00:00:00");
+        writeLocal("b.cbl", "new b", "2024-06-01T00:00:00");
+        writeLocal("d.cbl", "old d", "2019-01-01T00:00:00");
+        writeLocal("notes.txt", "skipped", "2024-06-01T00:00:00");
+        putRemote("A", "old a", "2020/01/01");
+        putRemote("C", "old c", "2020/01/01");
+        putRemote("D", "newer d", "2020/01/01");
+
+        final DsnSyncResponse response = dsnSync.sync(input().delete(true).build());
+
+        assertEquals(List.of("A", "B"), response.getTransferred());
+        assertEquals(List.of("C"), response.getDeleted());
+        assertEquals(1, response.getUnchanged());
+        assertEquals(10, response.getBytesTransferred());
+        assertEquals(Map.of("A", "new a", "B", "new b", "D", "newer d"), contents);
+    }
+
+    @Test
+    public void tstPullNewMembersSuccess() throws ZosmfRequestException, IOException {
+        putRemote("PAYROLL", "payroll", "2024/03/15");
+        putRemote("TAX", "tax", "2024/03/15");
+
+        final DsnSyncInputData input = input().direction(SyncDirection.PULL).build();
+        final DsnSyncResponse first = dsnSync.sync(input);
+        final DsnSyncResponse second = dsnSync.sync(input);
+
+        assertEquals(List.of("PAYROLL", "TAX"), first.getTransferred());
+        assertEquals("payroll", Files.readString(localDir.resolve("PAYROLL.cbl")));
+        assertEquals(LocalDateTime.parse("2024-03-15T12:00:30").toInstant(ZoneOffset.UTC),
+                Files.getLastModifiedTime(localDir.resolve("TAX.cbl")).toInstant());
+        assertTrue(second.getTransferred().isEmpty());
+        assertEquals(2, second.getUnchanged());
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void tstStateFileSuccess() throws ZosmfRequestException, IOException {
+        final Path stateFile = localDir.resolve("sync.properties");
+        // local clock ahead of z/OS, so only the state file keeps the second push from transferring again
+        writeLocal("a.cbl", "a", "2040-01-01T00:00:00");
+        final DsnSyncInputData push = input().stateFile(stateFile).build();
+
+        assertEquals(List.of("A"), dsnSync.sync(push).getTransferred());
+        assertTrue(Files.exists(stateFile));
+        assertTrue(dsnSync.sync(push).getTransferred().isEmpty());
+
+        // edited on z/OS, the pull sees the new statistics
+        contents.put("A", "edited");
+        members.put("A", member("A", 5, "2030/01/01", "10:00", "00"));
+        final DsnSyncResponse pull = dsnSync.sync(
+                input().stateFile(stateFile).direction(SyncDirection.PULL).build());
+
+        assertEquals(List.of("A"), pull.getTransferred());
+        assertEquals("edited", Files.readString(localDir.resolve("a.cbl")));
+        try (Stream<Path> files = Files.list(localDir)) {
+            assertEquals(List.of("a.cbl", "sync.properties"),
+                    files.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void tstPullWithoutStatisticsSuccess() throws ZosmfRequestException, IOException {
+        final Path stateFile = localDir.resolve("sync.properties");
+        contents.put("LOAD", "x");
+        members.put("LOAD", new Member("LOAD", null, null, null, null, null, null, null, null, null, null, null));
+        final DsnSyncInputData pull = input().stateFile(stateFile).direction(SyncDirection.PULL).build();
+
+        dsnSync.sync(pull);
+        dsnSync.sync(pull);
+
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void tstDuplicateLocalMemberFailure() throws IOException {
+        writeLocal("a.cbl", "a", "2024-06-01T00:00:00");
+        writeLocal("A.CBL", "a", "2024-06-01T00:00:00");
+
+        assertThrows(IllegalArgumentException.class, () -> dsnSync.sync(input().build()));
+    }
+
+}
@@ -23,7 +23,11 @@ import zowe.client.sdk.rest.PutJsonZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.cache.DsnAttributeCache;
 import zowe.client.sdk.zosfiles.dsn.input.DsnRenameInputData;
+import zowe.client.sdk.zosfiles.dsn.model.Dataset;
+
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -255,4 +259,20 @@ public class DsnUpdateTest {
         assertTrue(requestBody.get("wait").asBoolean());
     }
 
+    @Test
+    public void tstDsnUpdateMigrateAndRecallInvalidateAttributeCacheSuccess() throws ZosmfRequestException {
+        final DsnAttributeCache cache = new DsnAttributeCache(Duration.ofMinutes(5));
+        final Dataset dataset = new Dataset("TEST.DATASET", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "VOL001");
+        final DsnUpdate dsnUpdate = new DsnUpdate(connection, mockJsonPutRequest);
+
+        cache.put(connection, dataset);
+        dsnUpdate.migrate("TEST.DATASET");
+        assertTrue(cache.get(connection, "TEST.DATASET").isEmpty());
+
+        cache.put(connection, dataset);
+        dsnUpdate.recallMigrated("TEST.DATASET", true);
+        assertTrue(cache.get(connection, "TEST.DATASET").isEmpty());
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.dsn.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.dsn.input.DsnCreateInputData;
+import zowe.client.sdk.zosfiles.dsn.input.DsnUploadInputData;
+import zowe.client.sdk.zosfiles.dsn.model.UploadedMember;
+import zowe.client.sdk.zosfiles.dsn.response.DsnUploadResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for DsnUpload.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class DsnUploadTest {
+
+    private static final String DATASET = "HLQ.APP.COBOL";
+
+    @TempDir
+    Path localDir;
+
+    private final Map<String, String> written = new ConcurrentHashMap<>();
+
+    private DsnCreateInputData created;
+
+    private DsnUpload dsnUpload;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        final DsnCreate dsnCreate = mock(DsnCreate.class);
+        when(dsnCreate.create(eq(DATASET), any(DsnCreateInputData.class))).thenAnswer(invocation -> {
+            created = invocation.getArgument(1);
+            return new Response(null, 201, "created");
+        });
+        final DsnWrite dsnWrite = mock(DsnWrite.class);
+        when(dsnWrite.write(eq(DATASET), anyString(), anyString())).thenAnswer(invocation -> {
+            final String member = invocation.getArgument(1);
+            if ("BAD".equals(member)) {
+                throw new ZosmfRequestException("ISRZ002 Member in use");
+            }
+            written.put(member, invocation.getArgument(2));
+            return new Response(null, 204, "no content");
+        });
+        dsnUpload = new DsnUpload(() -> dsnCreate, () -> dsnWrite);
+    }
+
+    private void writeLocal(final String fileName, final String content) throws IOException {
+        Files.write(localDir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void tstUploadMembersSuccess() throws ZosmfRequestException, IOException {
+        writeLocal("payroll.cbl", "       IDENTIFICATION DIVISION.\n");
+        writeLocal("tax.cbl", "       PROGRAM-ID. TAX.\n");
+        writeLocal("notes.md", "skipped");
+        Files.createDirectories(localDir.resolve("sub"));
+
+        final DsnUploadResponse response = dsnUpload.upload(
+                new DsnUploadInputData.Builder(localDir, DATASET).extension("CBL").maxConcurrency(2).build());
+
+        assertEquals(Map.of("PAYROLL", "       IDENTIFICATION DIVISION.\n", "TAX", "       PROGRAM-ID. TAX.\n"),
+                written);
+        assertEquals(List.of("PAYROLL", "TAX"),
+                response.getMembers().stream().map(UploadedMember::getMember).collect(Collectors.toList()));
+        assertTrue(response.isSuccess());
+        assertFalse(response.isCreated());
+        assertNull(created);
+        assertEquals(56, response.getBytes());
+    }
+
+    @Test
+    public void tstUploadCreateSuccess() throws ZosmfRequestException, IOException {
+        writeLocal("a.jcl", "//A JOB\n//S EXEC PGM=IEFBR14\n");
+
+        final DsnUploadResponse response = dsnUpload.upload(
+                new DsnUploadInputData.Builder(localDir, DATASET).create().build());
+
+        assertTrue(response.isCreated());
+        assertEquals("PO", created.getDsorg().orElseThrow());
+        assertEquals("LIBRARY", created.getDsntype().orElseThrow());
+        assertEquals(80, created.getLrecl().orElseThrow());
+        assertEquals(27920, created.getBlksize().orElseThrow());
+        assertEquals(1, created.getPrimary().orElseThrow());
+        assertEquals(Map.of("A", "//A JOB\n//S EXEC PGM=IEFBR14\n"), written);
+    }
+
+    @Test
+    public void tstAllocationSuccess() {
+        // 20000 records of 80 bytes plus a quarter is 2000000 bytes, three cylinders of two 27920 byte blocks
+        final DsnCreateInputData allocation = DsnUpload.allocation(80, 20000, 52);
+
+        assertEquals(3, allocation.getPrimary().orElseThrow());
+        assertEquals(1, allocation.getSecondary().orElseThrow());
+        assertEquals(11, allocation.getDirblk().orElseThrow());
+        assertEquals(32760, DsnUpload.allocation(32760, 1, 1).getBlksize().orElseThrow());
+    }
+
+    @Test
+    public void tstUploadMemberFailure() throws ZosmfRequestException, IOException {
+        writeLocal("bad.cbl", "x");
+        writeLocal("good.cbl", "y");
+
+        final DsnUploadResponse response = dsnUpload.upload(
+                new DsnUploadInputData.Builder(localDir, DATASET).build());
+
+        assertFalse(response.isSuccess());
+        assertEquals(1, response.getFailures().size());
+        assertEquals("ISRZ002 Member in use", response.getFailures().get(0).getError().orElseThrow());
+        assertEquals(Map.of("GOOD", "y"), written);
+        assertEquals(1, response.getBytes());
+    }
+
+    @Test
+    public void tstUploadLocalCheckFailure() throws IOException {
+        writeLocal("toolongname.cbl", "x");
+        writeLocal("wide.cbl", "x".repeat(81));
+        writeLocal("dup.cbl", "x");
+        writeLocal("dup.cpy", "x");
+
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> dsnUpload.upload(new DsnUploadInputData.Builder(localDir, DATASET).build()));
+
+        assertTrue(e.getMessage().contains("invalid member name TOOLONGNAME"), e.getMessage());
+        assertTrue(e.getMessage().contains("wide.cbl: line 1 has 81 characters, more than 80"), e.getMessage());
+        assertTrue(e.getMessage().contains("member DUP also uploaded from"), e.getMessage());
+        assertTrue(written.isEmpty());
+    }
+
+    @Test
+    public void tstUploadVariableRecordLengthFailure() throws IOException {
+        writeLocal("wide.txt", "x".repeat(77));
+
+        final DsnUploadInputData input = new DsnUploadInputData.Builder(localDir, DATASET)
+                .create(new DsnCreateInputData.Builder().recfm("VB").lrecl(80).build()).build();
+
+        assertEquals(76, input.getMaxLineLength());
+        assertThrows(IllegalArgumentException.class, () -> dsnUpload.upload(input));
+    }
+
+}
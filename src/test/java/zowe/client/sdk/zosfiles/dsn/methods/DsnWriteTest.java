@@ -18,6 +18,7 @@ import zowe.client.sdk.core.ZosConnectionFactory;
 import zowe.client.sdk.rest.PutTextZosmfRequest;
 import zowe.client.sdk.rest.Response;
 import zowe.client.sdk.rest.ZosmfRequest;
+import zowe.client.sdk.rest.exception.ZosmfConflictException;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -82,6 +83,39 @@ public class DsnWriteTest {
         assertEquals("https://1:443/zosmf/restfiles/ds/TEXT_PDS", mockTextPutRequestToken.getUrl());
     }
 
+    @Test
+    public void tstDsnWriteIfMatchMemberSuccess() throws ZosmfRequestException {
+        final DsnWrite dsnWrite = new DsnWrite(connection, mockTextPutRequestToken);
+        final Response response = dsnWrite.writeIfMatch("TEXT_PDS", "MEM", "data", "\"1A2B\"");
+        assertEquals("\"1A2B\"", mockTextPutRequestToken.getHeaders().get("If-Match"));
+        assertEquals(200, response.getStatusCode().orElse(-1));
+        assertEquals("https://1:443/zosmf/restfiles/ds/TEXT_PDS(MEM)", mockTextPutRequestToken.getUrl());
+    }
+
+    @Test
+    public void tstDsnWriteAfterWriteIfMatchDropsIfMatchSuccess() throws ZosmfRequestException {
+        final DsnWrite dsnWrite = new DsnWrite(connection, mockTextPutRequestToken);
+        dsnWrite.writeIfMatch("TEXT_PDS", "data", "\"1A2B\"");
+        dsnWrite.write("TEXT_PDS", "data");
+        assertFalse(mockTextPutRequestToken.getHeaders().containsKey("If-Match"));
+    }
+
+    @Test
+    public void tstDsnWriteIfMatchConflictFailure() throws ZosmfRequestException {
+        Mockito.when(mockTextPutRequest.executeRequest()).thenThrow(new ZosmfConflictException(
+                "http status error code: 412", new Response("{}", 412, "Precondition Failed")));
+        final DsnWrite dsnWrite = new DsnWrite(connection, mockTextPutRequest);
+        assertThrows(ZosmfConflictException.class, () -> dsnWrite.writeIfMatch("TEXT_PDS", "data", "\"1A2B\""));
+    }
+
+    @Test
+    public void tstDsnWriteIfMatchEmptyEtagFailure() {
+        final DsnWrite dsnWrite = new DsnWrite(connection, mockTextPutRequest);
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> dsnWrite.writeIfMatch("TEXT_PDS", "data", ""));
+        assertEquals("etag is either null or empty", e.getMessage());
+    }
+
     @Test
     public void tstDsnWriteSecondaryConstructorWithValidRequestType() {
         ZosConnection connection = Mockito.mock(ZosConnection.class);
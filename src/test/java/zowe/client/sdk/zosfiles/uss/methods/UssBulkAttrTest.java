@@ -0,0 +1,189 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.input.UssBulkAttrInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeModeInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeOwnerInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeTagInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssListInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWalkInputData;
+import zowe.client.sdk.zosfiles.uss.input.factory.UssSetAclInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.response.UssBulkAttrResponse;
+import zowe.client.sdk.zosfiles.uss.types.ChangeTagAction;
+import zowe.client.sdk.zosfiles.uss.types.ChangeTagType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for UssBulkAttr.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssBulkAttrTest {
+
+    private final Queue<String> calls = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Errors thrown by the next chmod requests of a path
+     */
+    private final Map<String, Queue<ZosmfRequestException>> errors = new ConcurrentHashMap<>();
+
+    private final UssChangeModeInputData mode = new UssChangeModeInputData.Builder().mode("755").build();
+
+    private final UssChangeTagInputData tag = new UssChangeTagInputData.Builder()
+            .action(ChangeTagAction.SET).type(ChangeTagType.TEXT).codeset("IBM-1047").build();
+
+    private UssBulkAttr ussBulkAttr;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        final Response ok = new Response(null, 200, "ok");
+        final UssList ussList = mock(UssList.class);
+        when(ussList.getFiles(any(UssListInputData.class))).thenAnswer(invocation -> {
+            if (!"/u/app".equals(invocation.<UssListInputData>getArgument(0).getPath().orElseThrow())) {
+                return List.of();
+            }
+            return List.of(new UnixFile("a.txt", "-rw-r--r--", 1L, 1L, "user", 1L, "group",
+                            "2024-06-01T00:00:00", null),
+                    new UnixFile("b.txt", "-rw-r--r--", 1L, 1L, "user", 1L, "group",
+                            "2024-06-01T00:00:00", null));
+        });
+        final UssChangeMode ussChangeMode = mock(UssChangeMode.class);
+        when(ussChangeMode.change(anyString(), any(UssChangeModeInputData.class))).thenAnswer(invocation -> {
+            final String path = invocation.getArgument(0);
+            final ZosmfRequestException error = errors.getOrDefault(path, new ConcurrentLinkedQueue<>()).poll();
+            if (error != null) {
+                throw error;
+            }
+            calls.add("chmod " + invocation.<UssChangeModeInputData>getArgument(1).getMode().orElseThrow() +
+                    " " + path);
+            return ok;
+        });
+        final UssChangeOwner ussChangeOwner = mock(UssChangeOwner.class);
+        when(ussChangeOwner.changeCommon(anyString(), any(UssChangeOwnerInputData.class))).thenAnswer(invocation -> {
+            calls.add("chown " + invocation.getArgument(0));
+            return ok;
+        });
+        final UssChangeTag ussChangeTag = mock(UssChangeTag.class);
+        when(ussChangeTag.changeCommon(anyString(), any(UssChangeTagInputData.class))).thenAnswer(invocation -> {
+            calls.add("chtag " + invocation.getArgument(0));
+            return ok;
+        });
+        final UssSetAcl ussSetAcl = mock(UssSetAcl.class);
+        when(ussSetAcl.setAclCommon(anyString(), any(UssSetAclInputData.class))).thenAnswer(invocation -> {
+            calls.add("setfacl " + invocation.getArgument(0));
+            return ok;
+        });
+        ussBulkAttr = new UssBulkAttr(() -> ussList, () -> ussChangeMode, () -> ussChangeOwner,
+                () -> ussChangeTag, () -> ussSetAcl);
+    }
+
+    private static ZosmfRequestException status(final int statusCode) {
+        return new ZosmfRequestException("http status " + statusCode, new Response(null, statusCode, "error"));
+    }
+
+    @Test
+    public void tstApplyPathsSuccess() throws ZosmfRequestException {
+        final List<String> paths = IntStream.range(0, 100).mapToObj(i -> "/u/app/f" + i)
+                .collect(Collectors.toList());
+
+        final UssBulkAttrResponse response = ussBulkAttr.apply(new UssBulkAttrInputData.Builder(paths)
+                .mode(mode).tag(tag).maxConcurrency(8).build());
+
+        assertTrue(response.isSuccess());
+        assertEquals(100, response.getSucceeded());
+        assertEquals(200, calls.size());
+        // mode before tag for every path
+        final List<String> ordered = List.copyOf(calls);
+        assertTrue(ordered.indexOf("chmod 755 /u/app/f7") < ordered.indexOf("chtag /u/app/f7"));
+    }
+
+    @Test
+    public void tstApplyWalkSuccess() throws ZosmfRequestException {
+        final UssBulkAttrResponse response = ussBulkAttr.apply(new UssBulkAttrInputData.Builder(
+                new UssWalkInputData.Builder("/u/app").build()).mode(mode).build());
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(List.of("chmod 755 /u/app/a.txt", "chmod 755 /u/app/b.txt"),
+                calls.stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void tstApplyRetriesTransientSuccess() throws ZosmfRequestException {
+        errors.put("/u/a", new ConcurrentLinkedQueue<>(List.of(status(503),
+                new ZosmfRequestException("Connection reset", new IOException("reset")))));
+
+        final UssBulkAttrResponse response = ussBulkAttr.apply(new UssBulkAttrInputData.Builder(List.of("/u/a"))
+                .mode(mode).retryDelay(1).build());
+
+        assertTrue(response.isSuccess());
+        assertEquals(2, response.getRetries());
+    }
+
+    @Test
+    public void tstApplyPermanentErrorFailure() throws ZosmfRequestException {
+        errors.put("/u/a", new ConcurrentLinkedQueue<>(List.of(status(400))));
+        errors.put("/u/b", new ConcurrentLinkedQueue<>(List.of(status(503), status(503), status(503))));
+
+        final UssBulkAttrResponse response = ussBulkAttr.apply(new UssBulkAttrInputData.Builder(
+                List.of("/u/a", "/u/b", "/u/c")).mode(mode).tag(tag).maxRetries(2).retryDelay(1).build());
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(Map.of("/u/a", "chmod: http status 400", "/u/b", "chmod: http status 503"),
+                response.getFailures());
+        assertEquals(2, response.getRetries());
+        // the tag change is not attempted on a path whose mode change failed
+        assertEquals(List.of("chmod 755 /u/c", "chtag /u/c"), List.copyOf(calls));
+    }
+
+    @Test
+    public void tstApplyRateLimitSuccess() throws ZosmfRequestException {
+        final List<String> paths = IntStream.range(0, 11).mapToObj(i -> "/u/f" + i).collect(Collectors.toList());
+
+        final long start = System.nanoTime();
+        ussBulkAttr.apply(new UssBulkAttrInputData.Builder(paths).mode(mode).maxConcurrency(11)
+                .maxRequestsPerSecond(50).build());
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // 11 requests spaced 20 ms apart
+        assertTrue(elapsedMillis >= 190, "elapsed " + elapsedMillis);
+    }
+
+    @Test
+    public void tstBuildWithoutChangeFailure() {
+        assertThrows(IllegalStateException.class,
+                () -> new UssBulkAttrInputData.Builder(List.of("/u/a")).build());
+        assertThrows(IllegalArgumentException.class,
+                () -> new UssBulkAttrInputData.Builder(List.of("/u/a")).maxRequestsPerSecond(0));
+    }
+
+}
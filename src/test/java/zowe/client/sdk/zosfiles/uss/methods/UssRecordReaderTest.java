@@ -0,0 +1,183 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.input.UssGetInputData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Class containing unit tests for UssRecordReader.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssRecordReaderTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+
+    private final List<String> ranges = new ArrayList<>();
+
+    /**
+     * UssGet serving a file of numbered lines the way z/OSMF answers X-IBM-Record-Range
+     */
+    private UssGet fileOf(final int lineCount) {
+        final List<String> lines = IntStream.range(0, lineCount).mapToObj(i -> "line" + i)
+                .collect(Collectors.toList());
+        return new UssGet(connection) {
+            @Override
+            public Response getCommon(final String fileNamePath, final UssGetInputData getInputData)
+                    throws ZosmfRequestException {
+                final String range = getInputData.getRecordsRange().orElseThrow();
+                synchronized (ranges) {
+                    ranges.add(range);
+                }
+                final List<String> selected;
+                if (range.startsWith("-")) {
+                    final int count = Integer.parseInt(range.substring(1));
+                    selected = lines.subList(Math.max(0, lines.size() - count), lines.size());
+                } else {
+                    final String[] fields = range.split(",");
+                    final int start = Integer.parseInt(fields[0]);
+                    final int count = Integer.parseInt(fields[1]);
+                    if (start >= lines.size()) {
+                        throw new ZosmfRequestException("no records",
+                                new Response("record range starts past the end of file", 500, "error"));
+                    }
+                    selected = lines.subList(start, Math.min(lines.size(), start + count));
+                }
+                return new Response(selected.stream().map(line -> line + "\n").collect(Collectors.joining()),
+                        200, "ok");
+            }
+        };
+    }
+
+    @Test
+    public void tstHeadTailAndRangeSuccess() throws ZosmfRequestException {
+        final UssRecordReader reader = new UssRecordReader(fileOf(10), "/u/log", 4);
+
+        assertEquals(List.of("line0", "line1"), reader.head(2));
+        assertEquals(List.of("line8", "line9"), reader.tail(2));
+        assertEquals(List.of("line5", "line6", "line7"), reader.lines(5, 8));
+        assertEquals(List.of("0,2", "-2", "5,3"), ranges);
+    }
+
+    @Test
+    public void tstStreamAllPagesSuccess() {
+        final UssRecordReader reader = new UssRecordReader(fileOf(10), "/u/log", 4);
+
+        try (Stream<String> lines = reader.lines()) {
+            assertEquals(10, lines.count());
+        }
+        assertEquals(List.of("0,4", "4,4", "8,4"), ranges);
+    }
+
+    @Test
+    public void tstStreamEndsOnExactPageSuccess() {
+        final UssRecordReader reader = new UssRecordReader(fileOf(8), "/u/log", 4);
+
+        try (Stream<String> lines = reader.lines(2)) {
+            assertEquals(List.of("line2", "line3", "line4", "line5", "line6", "line7"),
+                    lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void tstStreamIsLazySuccess() {
+        final UssRecordReader reader = new UssRecordReader(fileOf(1000), "/u/log", 10);
+
+        try (Stream<String> lines = reader.lines()) {
+            assertEquals("line3", lines.skip(3).findFirst().orElseThrow());
+        }
+        // first page and at most the page read ahead
+        assertTrue(ranges.size() <= 2);
+    }
+
+    @Test
+    public void tstSplitSuccess() {
+        assertEquals(List.of("a", "", "b"), UssRecordReader.split("a\n\nb\n"));
+        assertEquals(List.of("a", "b"), UssRecordReader.split("a\nb"));
+        assertEquals(List.of(), UssRecordReader.split(""));
+    }
+
+    @Test
+    public void tstRangePastEndSuccess() throws ZosmfRequestException {
+        final UssRecordReader reader = new UssRecordReader(fileOf(10), "/u/log", 4);
+
+        assertEquals(List.of("line8", "line9"), reader.lines(8, 20));
+        assertEquals(List.of(), reader.lines(10, 20));
+    }
+
+    @Test
+    public void tstEmptyFileSuccess() throws ZosmfRequestException {
+        final UssRecordReader reader = new UssRecordReader(fileOf(0), "/u/log", 4);
+
+        assertEquals(List.of(), reader.head(5));
+        assertEquals(List.of(), reader.lines(0, 5));
+        try (Stream<String> lines = reader.lines()) {
+            assertEquals(0, lines.count());
+        }
+    }
+
+    @Test
+    public void tstRangeFailure() {
+        final UssRecordReader reader = new UssRecordReader(fileOf(10), "/u/log", 4);
+
+        assertThrows(IllegalArgumentException.class, () -> reader.lines(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> reader.lines(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> reader.head(0));
+    }
+
+    @Test
+    public void tstStreamRequestErrorFailure() {
+        final UssRecordReader reader = new UssRecordReader(new UssGet(connection) {
+            @Override
+            public Response getCommon(final String fileNamePath, final UssGetInputData getInputData)
+                    throws ZosmfRequestException {
+                throw new ZosmfRequestException("not found", new Response(null, 404, "error"));
+            }
+        }, "/u/log", 4);
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> reader.lines().count());
+        assertEquals("Failed to read records of /u/log: not found", exception.getMessage());
+    }
+
+    @Test
+    public void tstServerErrorNotTreatedAsEndFailure() {
+        final UssRecordReader reader = new UssRecordReader(new UssGet(connection) {
+            @Override
+            public Response getCommon(final String fileNamePath, final UssGetInputData getInputData)
+                    throws ZosmfRequestException {
+                throw new ZosmfRequestException("internal error",
+                        new Response("file system is not mounted", 500, "error"));
+            }
+        }, "/u/log", 4);
+
+        final ZosmfRequestException exception = assertThrows(ZosmfRequestException.class, () -> reader.head(5));
+        assertEquals("internal error", exception.getMessage());
+        assertThrows(IllegalStateException.class, () -> reader.lines().count());
+    }
+
+}
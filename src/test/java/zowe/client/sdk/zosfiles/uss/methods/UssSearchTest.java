@@ -0,0 +1,211 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.input.UssGetInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssListInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssSearchInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWalkInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.model.UnixSearchMatch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Class containing unit tests for UssSearch.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSearchTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+
+    private final Map<String, List<String>> files = new HashMap<>();
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    private final Set<String> listed = ConcurrentHashMap.newKeySet();
+
+    private boolean ignoreRange;
+
+    /**
+     * UssSearch over the files map, answering search and record range requests the way z/OSMF does
+     */
+    private UssSearch searcher(final boolean rangeHeader) {
+        return new UssSearch(() -> new UssGet(connection) {
+            @Override
+            public Response getCommon(final String fileNamePath, final UssGetInputData getInputData)
+                    throws ZosmfRequestException {
+                requests.computeIfAbsent(fileNamePath, k -> new AtomicInteger()).incrementAndGet();
+                final List<String> lines = files.get(fileNamePath);
+                if (lines == null) {
+                    throw new ZosmfRequestException("EDC5129I No such file or directory.");
+                }
+                final int from = getInputData.getRecordsRange().filter(range -> !ignoreRange)
+                        .map(range -> Integer.parseInt(range.split(",")[0])).orElse(0);
+                if (from >= lines.size()) {
+                    throw new ZosmfRequestException("no records",
+                            new Response("record range starts past the end of file", 500, "error"));
+                }
+                int start;
+                int count;
+                if (getInputData.getSearch().isPresent() || getInputData.getResearch().isPresent()) {
+                    final Pattern pattern = getInputData.getSearch().isPresent() ?
+                            Pattern.compile(Pattern.quote(getInputData.getSearch().get()), Pattern.CASE_INSENSITIVE) :
+                            Pattern.compile(getInputData.getResearch().get());
+                    // the search starts at the first record of the range
+                    start = IntStream.range(from, lines.size()).filter(i -> pattern.matcher(lines.get(i)).find())
+                            .findFirst().orElse(-1);
+                    if (start == -1) {
+                        return new Response(null, 200, "ok");
+                    }
+                    count = getInputData.getMaxReturnSize().orElse(100);
+                } else {
+                    start = from;
+                    count = Integer.parseInt(getInputData.getRecordsRange().orElseThrow().split(",")[1]);
+                }
+                final List<String> selected = lines.subList(start, Math.min(lines.size(), start + count));
+                return new Response(selected.stream().map(line -> line + "\n").collect(Collectors.joining()),
+                        200, "ok", null, rangeHeader ? Map.of("X-IBM-Record-Range", start + "," + selected.size())
+                        : Map.of());
+            }
+        }, () -> new UssList(connection) {
+            @Override
+            public List<UnixFile> getFiles(final UssListInputData listInputData) {
+                final String path = listInputData.getPath().orElseThrow();
+                listed.add(path);
+                return files.keySet().stream()
+                        .filter(file -> file.startsWith(path + "/") && file.indexOf('/', path.length() + 1) == -1)
+                        .map(file -> new UnixFile(file.substring(path.length() + 1), "-rw-r--r--", 10L, 1L,
+                                "user", 1L, "group", "2024-06-01T00:00:00", null))
+                        .collect(Collectors.toList());
+            }
+        });
+    }
+
+    private static List<String> log(final int size, final int... errorLines) {
+        final List<String> lines = IntStream.range(0, size).mapToObj(i -> "info " + i).collect(Collectors.toList());
+        for (final int line : errorLines) {
+            lines.set(line, "ERROR " + line);
+        }
+        return lines;
+    }
+
+    private static Set<String> found(final List<UnixSearchMatch> matches) {
+        return matches.stream().map(match -> match.getPath() + ":" + match.getLineNumber() + ":" + match.getLine())
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void tstSearchFilesSuccess() throws ZosmfRequestException {
+        files.put("/u/a.log", log(9, 2, 6));
+        files.put("/u/b.log", log(10));
+
+        final List<UnixSearchMatch> matches = searcher(true).search(new UssSearchInputData.Builder(
+                List.of("/u/a.log", "/u/b.log")).search("error").build());
+
+        assertEquals(Set.of("/u/a.log:3:ERROR 2", "/u/a.log:7:ERROR 6"), found(matches));
+        // one search per match, then one finding no further match
+        assertEquals(3, requests.get("/u/a.log").get());
+        assertEquals(1, requests.get("/u/b.log").get());
+    }
+
+    @Test
+    public void tstSearchMatchOnLastLineSuccess() throws ZosmfRequestException {
+        files.put("/u/a.log", log(10, 2, 6, 9));
+
+        final List<UnixSearchMatch> matches = searcher(true).search(new UssSearchInputData.Builder(
+                List.of("/u/a.log")).research("^ERR").insensitive(false).build());
+
+        assertEquals(Set.of("/u/a.log:3:ERROR 2", "/u/a.log:7:ERROR 6", "/u/a.log:10:ERROR 9"), found(matches));
+        // the search after the last line is answered as past the end of the file
+        assertEquals(4, requests.get("/u/a.log").get());
+    }
+
+    @Test
+    public void tstSearchWithoutRangeHeaderFailure() {
+        files.put("/u/a.log", log(10, 2));
+
+        final ZosmfRequestException exception = assertThrows(ZosmfRequestException.class, () -> searcher(false)
+                .search(new UssSearchInputData.Builder(List.of("/u/a.log")).search("ERROR").build()));
+        assertEquals("z/OSMF returned no record range for the search of /u/a.log", exception.getMessage());
+    }
+
+    @Test
+    public void tstSearchRangeIgnoredFailure() {
+        files.put("/u/a.log", log(10, 2, 6));
+        ignoreRange = true;
+
+        final ZosmfRequestException exception = assertThrows(ZosmfRequestException.class, () -> searcher(true)
+                .search(new UssSearchInputData.Builder(List.of("/u/a.log")).search("ERROR").build()));
+        assertEquals("z/OSMF ignored the record range for the search of /u/a.log", exception.getMessage());
+    }
+
+    @Test
+    public void tstSearchWalkSuccess() throws ZosmfRequestException {
+        files.put("/u/logs/a.log", log(5, 1));
+        files.put("/u/logs/b.log", log(5, 4));
+
+        final List<UnixSearchMatch> matches = searcher(true).search(new UssSearchInputData.Builder(
+                new UssWalkInputData.Builder("/u/logs").build()).search("ERROR").build());
+
+        assertEquals(Set.of("/u/logs/a.log:2:ERROR 1", "/u/logs/b.log:5:ERROR 4"), found(matches));
+        assertEquals(Set.of("/u/logs"), listed);
+    }
+
+    @Test
+    public void tstSearchMaxMatchesSuccess() throws ZosmfRequestException {
+        final List<String> paths = IntStream.range(0, 50).mapToObj(i -> "/u/f" + i).collect(Collectors.toList());
+        paths.forEach(path -> files.put(path, log(20, 1, 5, 9)));
+
+        final List<UnixSearchMatch> matches = searcher(true).search(new UssSearchInputData.Builder(paths)
+                .search("ERROR").maxMatches(4).maxConcurrency(3).build());
+
+        assertEquals(4, matches.size());
+    }
+
+    @Test
+    public void tstSearchMissingFileFailure() throws ZosmfRequestException {
+        files.put("/u/a.log", log(5, 0));
+        final List<String> paths = List.of("/u/a.log", "/u/missing");
+
+        assertThrows(ZosmfRequestException.class, () -> searcher(true).search(
+                new UssSearchInputData.Builder(paths).search("ERROR").build()));
+        assertEquals(1, searcher(true).search(
+                new UssSearchInputData.Builder(paths).search("ERROR").skipErrors(true).build()).size());
+    }
+
+    @Test
+    public void tstBuildWithoutSearchFailure() {
+        final UssSearchInputData.Builder builder = new UssSearchInputData.Builder(List.of("/u/a.log"));
+
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.search("a").research("b"));
+    }
+
+}
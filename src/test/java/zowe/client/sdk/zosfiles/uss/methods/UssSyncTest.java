@@ -0,0 +1,226 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.input.UssChangeModeInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssCreateInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssSyncInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWalkInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.model.UnixTreeEntry;
+import zowe.client.sdk.zosfiles.uss.response.UssSyncResponse;
+import zowe.client.sdk.zosfiles.uss.types.SyncDirection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for UssSync.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSyncTest {
+
+    private static final String ROOT = "/u/app";
+
+    @TempDir
+    Path localDir;
+
+    @TempDir
+    Path stateDir;
+
+    /**
+     * In-memory USS tree
+     */
+    private final Map<String, byte[]> files = Collections.synchronizedMap(new TreeMap<>());
+    private final Map<String, String> mtimes = Collections.synchronizedMap(new TreeMap<>());
+    private final Set<String> dirs = Collections.synchronizedSet(new TreeSet<>());
+    private final List<String> modes = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> tags = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> deleted = Collections.synchronizedList(new ArrayList<>());
+    private int clock;
+
+    private UssSync ussSync;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        final Response ok = new Response(null, 200, "ok");
+        final UssWalk ussWalk = mock(UssWalk.class);
+        when(ussWalk.walk(any(UssWalkInputData.class))).thenAnswer(invocation -> list());
+        final UssGet ussGet = mock(UssGet.class);
+        when(ussGet.getBinary(anyString())).thenAnswer(invocation -> files.get(invocation.<String>getArgument(0)));
+        final UssWrite ussWrite = mock(UssWrite.class);
+        when(ussWrite.writeBinary(anyString(), any(byte[].class))).thenAnswer(invocation -> {
+            synchronized (this) {
+                // upload time later than any local file time used by the tests
+                put(invocation.getArgument(0), new String(invocation.<byte[]>getArgument(1),
+                        StandardCharsets.UTF_8), "2030-01-01T00:00:" + String.format("%02d", clock++));
+            }
+            return ok;
+        });
+        final UssCreate ussCreate = mock(UssCreate.class);
+        when(ussCreate.create(anyString(), any(UssCreateInputData.class))).thenAnswer(invocation -> {
+            dirs.add(invocation.getArgument(0));
+            return ok;
+        });
+        final UssDelete ussDelete = mock(UssDelete.class);
+        when(ussDelete.delete(anyString(), anyBoolean())).thenAnswer(invocation -> {
+            final String path = invocation.getArgument(0);
+            deleted.add(path + "=" + invocation.getArgument(1));
+            files.keySet().removeIf(file -> file.equals(path) || file.startsWith(path + "/"));
+            dirs.remove(path);
+            return ok;
+        });
+        final UssChangeMode ussChangeMode = mock(UssChangeMode.class);
+        when(ussChangeMode.change(anyString(), any(UssChangeModeInputData.class))).thenAnswer(invocation -> {
+            modes.add(invocation.getArgument(0) + "=" +
+                    invocation.<UssChangeModeInputData>getArgument(1).getMode().orElseThrow());
+            return ok;
+        });
+        final UssChangeTag ussChangeTag = mock(UssChangeTag.class);
+        when(ussChangeTag.text(anyString(), anyString())).thenAnswer(invocation -> {
+            tags.add(invocation.getArgument(0) + "=" + invocation.getArgument(1));
+            return ok;
+        });
+        ussSync = new UssSync(ussWalk, () -> ussGet, () -> ussWrite, () -> ussCreate, () -> ussDelete,
+                () -> ussChangeMode, () -> ussChangeTag);
+    }
+
+    private void put(final String path, final String content, final String mtime) {
+        files.put(path, content.getBytes(StandardCharsets.UTF_8));
+        mtimes.put(path, mtime);
+    }
+
+    private List<UnixTreeEntry> list() {
+        final List<UnixTreeEntry> entries = new ArrayList<>();
+        dirs.forEach(dir -> entries.add(new UnixTreeEntry(dir, 1,
+                new UnixFile(dir, "drwxr-xr-x", 0L, 1L, "u", 1L, "g", "2024-01-01T00:00:00", null))));
+        files.forEach((path, content) -> entries.add(new UnixTreeEntry(path, 1,
+                new UnixFile(path, "-rw-r--r--", (long) content.length, 1L, "u", 1L, "g",
+                        mtimes.get(path), null))));
+        return entries;
+    }
+
+    private void writeLocal(final String relativePath, final String content) throws IOException {
+        final Path file = localDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000_000_000L));
+    }
+
+    private UssSyncInputData.Builder push() {
+        return new UssSyncInputData.Builder(localDir, ROOT).remoteZone(ZoneOffset.UTC);
+    }
+
+    @Test
+    public void tstPushTransfersAndAppliesAttributesSuccess() throws Exception {
+        writeLocal("a.txt", "alpha");
+        writeLocal("bin/run.sh", "echo hi");
+        writeLocal(".git/config", "ignored");
+
+        final UssSyncResponse response = ussSync.sync(push()
+                .exclude(".git")
+                .mode("rwxr-xr-x")
+                .textTag("**/*.sh", "ISO8859-1")
+                .build());
+
+        assertEquals(List.of("a.txt", "bin/run.sh"), response.getTransferred());
+        assertEquals(12, response.getBytesTransferred());
+        assertEquals(Set.of(ROOT + "/bin"), dirs);
+        assertArrayEquals("alpha".getBytes(StandardCharsets.UTF_8), files.get(ROOT + "/a.txt"));
+        assertEquals(List.of(ROOT + "/a.txt=rwxr-xr-x", ROOT + "/bin/run.sh=rwxr-xr-x"), sorted(modes));
+        assertEquals(List.of(ROOT + "/bin/run.sh=ISO8859-1"), tags);
+    }
+
+    @Test
+    public void tstPushWithStateSkipsUnchangedSuccess() throws Exception {
+        writeLocal("a.txt", "alpha");
+        writeLocal("b.txt", "beta");
+        final UssSyncInputData inputData = push().stateFile(stateDir.resolve("state")).checksum(true).build();
+        ussSync.sync(inputData);
+
+        // touched but identical, and changed
+        Files.setLastModifiedTime(localDir.resolve("a.txt"), FileTime.fromMillis(2_000_000_000_000L));
+        writeLocal("b.txt", "beta2");
+        final UssSyncResponse response = ussSync.sync(inputData);
+
+        assertEquals(List.of("b.txt"), response.getTransferred());
+        assertEquals(1, response.getUnchanged());
+    }
+
+    @Test
+    public void tstPushDeleteSuccess() throws Exception {
+        writeLocal("keep.txt", "k");
+        put(ROOT + "/keep.txt", "k", "2030-01-01T00:00:00");
+        put(ROOT + "/old.txt", "o", "2030-01-01T00:00:00");
+        dirs.add(ROOT + "/olddir");
+        put(ROOT + "/olddir/x.txt", "x", "2030-01-01T00:00:00");
+
+        final UssSyncResponse response = ussSync.sync(push().delete(true).build());
+
+        assertEquals(List.of(), response.getTransferred());
+        assertEquals(List.of("old.txt", "olddir"), response.getDeleted());
+        assertEquals(List.of(ROOT + "/old.txt=false", ROOT + "/olddir=true"), sorted(deleted));
+    }
+
+    @Test
+    public void tstPullSuccess() throws Exception {
+        dirs.add(ROOT + "/src");
+        put(ROOT + "/src/main.c", "int main;", "2024-05-01T10:00:00");
+        final UssSyncInputData inputData = new UssSyncInputData.Builder(localDir, ROOT)
+                .direction(SyncDirection.PULL)
+                .remoteZone(ZoneOffset.UTC)
+                .build();
+
+        final UssSyncResponse first = ussSync.sync(inputData);
+        final UssSyncResponse second = ussSync.sync(inputData);
+
+        assertEquals(List.of("src/main.c"), first.getTransferred());
+        assertEquals("int main;", Files.readString(localDir.resolve("src/main.c")));
+        assertEquals(LocalDateTime.parse("2024-05-01T10:00:00").toInstant(ZoneOffset.UTC).toEpochMilli(),
+                Files.getLastModifiedTime(localDir.resolve("src/main.c")).toMillis());
+        assertTrue(second.getTransferred().isEmpty());
+        assertEquals(1, second.getUnchanged());
+    }
+
+    private static List<String> sorted(final List<String> values) {
+        final List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+
+}
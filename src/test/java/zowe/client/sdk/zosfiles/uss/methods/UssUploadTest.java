@@ -0,0 +1,182 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.invocation.InvocationOnMock;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.input.UssCreateInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssUploadInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWriteInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixUploadedFile;
+import zowe.client.sdk.zosfiles.uss.response.UssUploadResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for UssUpload.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssUploadTest {
+
+    private static final String ROOT = "/u/app";
+
+    @TempDir
+    Path localDir;
+
+    private final Queue<String> directories = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Content and data type of each remote file written
+     */
+    private final Map<String, String> written = new ConcurrentHashMap<>();
+
+    private final Map<String, String> tags = new ConcurrentHashMap<>();
+
+    private UssUpload ussUpload;
+
+    @BeforeEach
+    public void init() throws ZosmfRequestException {
+        final UssCreate ussCreate = mock(UssCreate.class);
+        when(ussCreate.create(anyString(), any(UssCreateInputData.class))).thenAnswer(this::mkdir);
+        final UssWrite ussWrite = mock(UssWrite.class);
+        when(ussWrite.writeCommon(anyString(), any(UssWriteInputData.class))).thenAnswer(this::write);
+        final UssChangeTag ussChangeTag = mock(UssChangeTag.class);
+        when(ussChangeTag.text(anyString(), anyString())).thenAnswer(invocation -> {
+            tags.put(invocation.getArgument(0), invocation.getArgument(1));
+            return new Response(null, 200, "ok");
+        });
+        ussUpload = new UssUpload(() -> ussCreate, () -> ussWrite, () -> ussChangeTag);
+    }
+
+    private Response mkdir(final InvocationOnMock invocation) throws ZosmfRequestException {
+        final String path = invocation.getArgument(0);
+        if (ROOT.equals(path)) {
+            throw new ZosmfRequestException("EDC5117I File exists.");
+        }
+        final String parent = path.substring(0, path.lastIndexOf('/'));
+        assertTrue(ROOT.equals(parent) || directories.contains(parent), "parent of " + path);
+        directories.add(path);
+        return new Response(null, 201, "created");
+    }
+
+    private Response write(final InvocationOnMock invocation) throws ZosmfRequestException, IOException {
+        final String path = invocation.getArgument(0);
+        final UssWriteInputData writeInputData = invocation.getArgument(1);
+        if (path.endsWith("bad.bin")) {
+            throw new ZosmfRequestException("EDC5111I Permission denied.");
+        }
+        final String content = Files.readString(writeInputData.getLocalFile().orElseThrow());
+        written.put(path, (writeInputData.isBinary() ? "binary:" :
+                "text(" + writeInputData.getFileEncoding().orElseThrow() + "):") + content);
+        return new Response(null, 201, "created");
+    }
+
+    private void writeLocal(final String relativePath, final String content) throws IOException {
+        final Path file = localDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UssUploadInputData.Builder input() {
+        return new UssUploadInputData.Builder(localDir, ROOT + "/")
+                .text("txt", "IBM-1047")
+                .text("C", "IBM-037");
+    }
+
+    @Test
+    public void tstUploadTreeSuccess() throws ZosmfRequestException, IOException {
+        writeLocal("a.txt", "alpha");
+        writeLocal("b.bin", "bytes");
+        writeLocal("src/main.c", "int main;");
+        writeLocal("src/lib/x.c", "int x;");
+        Files.createDirectories(localDir.resolve("empty"));
+
+        final UssUploadResponse response = ussUpload.upload(input().maxConcurrency(3).build());
+
+        assertEquals(Set.of(ROOT + "/src", ROOT + "/src/lib", ROOT + "/empty"), Set.copyOf(directories));
+        assertEquals(3, response.getDirectoriesCreated());
+        assertEquals(Map.of(ROOT + "/a.txt", "text(IBM-1047):alpha",
+                ROOT + "/b.bin", "binary:bytes",
+                ROOT + "/src/main.c", "text(IBM-037):int main;",
+                ROOT + "/src/lib/x.c", "text(IBM-037):int x;"), written);
+        assertEquals(Map.of(ROOT + "/a.txt", "IBM-1047", ROOT + "/src/main.c", "IBM-037",
+                ROOT + "/src/lib/x.c", "IBM-037"), tags);
+        assertEquals(25, response.getBytes());
+        assertEquals(Set.of(ROOT + "/a.txt", ROOT + "/b.bin", ROOT + "/src/main.c", ROOT + "/src/lib/x.c"),
+                response.getFiles().stream().map(UnixUploadedFile::getPath).collect(Collectors.toSet()));
+        assertFalse(response.getFiles().stream().filter(file -> file.getPath().endsWith("b.bin"))
+                .findFirst().orElseThrow().getFileEncoding().isPresent());
+    }
+
+    @Test
+    public void tstUploadWithoutTagSuccess() throws ZosmfRequestException, IOException {
+        writeLocal("a.txt", "alpha");
+
+        ussUpload.upload(input().tag(false).build());
+
+        assertEquals(List.of(ROOT + "/a.txt"), List.copyOf(written.keySet()));
+        assertTrue(tags.isEmpty());
+    }
+
+    @Test
+    public void tstUploadBinaryOverrideSuccess() throws ZosmfRequestException, IOException {
+        writeLocal("a.txt", "alpha");
+
+        ussUpload.upload(input().binary("TXT").build());
+
+        assertEquals(Map.of(ROOT + "/a.txt", "binary:alpha"), written);
+    }
+
+    @Test
+    public void tstUploadWriteFailure() throws IOException {
+        writeLocal("bad.bin", "x");
+
+        assertThrows(ZosmfRequestException.class, () -> ussUpload.upload(input().build()));
+    }
+
+    @Test
+    public void tstUploadMissingDirectoryFailure() {
+        assertThrows(NotDirectoryException.class, () -> ussUpload.upload(
+                new UssUploadInputData.Builder(localDir.resolve("missing"), ROOT).build()));
+    }
+
+    @Test
+    public void tstIsExistsSuccess() {
+        assertTrue(UssUpload.isExists(new ZosmfRequestException("EDC5117I File exists.")));
+        assertFalse(UssUpload.isExists(new ZosmfRequestException("EDC5111I Permission denied.")));
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosfiles.uss.methods;
+
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosfiles.uss.input.UssListInputData;
+import zowe.client.sdk.zosfiles.uss.input.UssWalkInputData;
+import zowe.client.sdk.zosfiles.uss.model.UnixFile;
+import zowe.client.sdk.zosfiles.uss.model.UnixTreeEntry;
+import zowe.client.sdk.zosfiles.uss.types.ListFilterType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Class containing unit tests for UssWalk.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssWalkTest {
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+
+    private final Map<String, List<UnixFile>> tree = Map.of(
+            "/u/a", List.of(dir("."), dir(".."), dir("b"), file("x.txt", 10), link("l", "/u/a/b"),
+                    link("f", "x.txt"), link("gone", "/u/nowhere")),
+            "/u/a/b", List.of(dir("."), dir(".."), dir("c"), file("y.log", 2000)),
+            "/u/a/b/c", List.of(dir("."), dir(".."), file("z.txt", 5), link("up", "../..")),
+            "/u/a/x.txt", List.of(file("x.txt", 10)));
+
+    /**
+     * Links as z/OSMF resolves them when a path through them is listed
+     */
+    private final Map<String, String> links = Map.of(
+            "/u/a/l", "/u/a/b",
+            "/u/a/f", "/u/a/x.txt",
+            "/u/a/gone", "/u/nowhere",
+            "/u/a/b/c/up", "/u/a");
+
+    private final Set<Boolean> symlinkFlags = ConcurrentHashMap.newKeySet();
+
+    private static UnixFile dir(final String name) {
+        return new UnixFile(name, "drwxr-xr-x", 0L, 1L, "user", 1L, "group", "2024-01-01T00:00:00", null);
+    }
+
+    private static UnixFile file(final String name, final long size) {
+        return new UnixFile(name, "-rw-r--r--", size, 1L, "user", 1L, "group", "2024-06-01T00:00:00", null);
+    }
+
+    private static UnixFile link(final String name, final String target) {
+        return new UnixFile(name, "lrwxrwxrwx", 0L, 1L, "user", 1L, "group", "2024-01-01T00:00:00", target);
+    }
+
+    private String resolve(final String path) {
+        for (final Map.Entry<String, String> link : links.entrySet()) {
+            if (path.equals(link.getKey()) || path.startsWith(link.getKey() + "/")) {
+                return resolve(link.getValue() + path.substring(link.getKey().length()));
+            }
+        }
+        return path;
+    }
+
+    private UssWalk walker() {
+        return new UssWalk(() -> new UssList(connection) {
+            @Override
+            public List<UnixFile> getFiles(final UssListInputData listInputData) throws ZosmfRequestException {
+                symlinkFlags.add(listInputData.isSymlinks());
+                final String path = resolve(listInputData.getPath().orElseThrow());
+                final List<UnixFile> files = tree.get(path);
+                if (files == null) {
+                    throw new ZosmfRequestException("EDC5111I Permission denied. " + path);
+                }
+                return files;
+            }
+        });
+    }
+
+    private static Set<String> paths(final List<UnixTreeEntry> entries) {
+        return entries.stream().map(UnixTreeEntry::getPath).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void tstWalkWholeTreeSuccess() throws ZosmfRequestException {
+        final List<UnixTreeEntry> entries = walker().walk(new UssWalkInputData.Builder("/u/a").build());
+
+        assertEquals(Set.of("/u/a/b", "/u/a/x.txt", "/u/a/l", "/u/a/f", "/u/a/gone", "/u/a/b/c", "/u/a/b/y.log",
+                "/u/a/b/c/z.txt", "/u/a/b/c/up"), paths(entries));
+        assertEquals(Set.of(true), symlinkFlags);
+    }
+
+    @Test
+    public void tstWalkMaxDepthSuccess() throws ZosmfRequestException {
+        final List<UnixTreeEntry> entries = walker().walk(new UssWalkInputData.Builder("/u/a").maxDepth(2).build());
+
+        assertEquals(Set.of("/u/a/b", "/u/a/x.txt", "/u/a/l", "/u/a/f", "/u/a/gone", "/u/a/b/c", "/u/a/b/y.log"),
+                paths(entries));
+    }
+
+    @Test
+    public void tstWalkFilterSuccess() throws ZosmfRequestException {
+        final List<UnixTreeEntry> entries = walker().walk(new UssWalkInputData.Builder("/u/a")
+                .type(ListFilterType.FILE)
+                .name("*.txt")
+                .maxSize(100)
+                .build());
+
+        assertEquals(Set.of("/u/a/x.txt", "/u/a/b/c/z.txt"), paths(entries));
+        assertTrue(entries.stream().anyMatch(entry -> entry.getDepth() == 3));
+    }
+
+    @Test
+    public void tstWalkFollowSymlinksSuccess() throws ZosmfRequestException {
+        final List<UnixTreeEntry> entries = walker().walk(
+                new UssWalkInputData.Builder("/u/a").followSymlinks(true).build());
+
+        // l is descended under its own path; f leads to a file, gone is dangling and up leads back to /u/a
+        assertEquals(Set.of("/u/a/b", "/u/a/x.txt", "/u/a/l", "/u/a/f", "/u/a/gone", "/u/a/b/c", "/u/a/b/y.log",
+                "/u/a/b/c/z.txt", "/u/a/b/c/up", "/u/a/l/c", "/u/a/l/y.log", "/u/a/l/c/z.txt", "/u/a/l/c/up"),
+                paths(entries));
+        assertEquals(entries.size(), paths(entries).size());
+        assertTrue(entries.stream().anyMatch(entry -> "/u/a/l/c/z.txt".equals(entry.getPath()) &&
+                entry.getDepth() == 3));
+    }
+
+    @Test
+    public void tstWalkFollowSymlinksCycleSuccess() throws ZosmfRequestException {
+        final long count = walker().walk(new UssWalkInputData.Builder("/u/a/b").followSymlinks(true).build(),
+                entry -> {
+                });
+
+        // up leads to /u/a, a parent of /u/a/b where the walk started, so it is reported but not followed
+        assertEquals(4, count);
+    }
+
+    @Test
+    public void tstResolveSuccess() {
+        assertEquals("/u/a", UssWalk.resolve("/u/a/b/c", "../.."));
+        assertEquals("/u/a/b/d", UssWalk.resolve("/u/a/b", "./d"));
+        assertEquals("/etc/x", UssWalk.resolve("/u/a", "/etc//x/"));
+    }
+
+    @Test
+    public void tstWalkListErrorFailure() {
+        final ZosmfRequestException exception = assertThrows(ZosmfRequestException.class,
+                () -> walker().walk(new UssWalkInputData.Builder("/u/denied").build()));
+        assertEquals("EDC5111I Permission denied. /u/denied", exception.getMessage());
+    }
+
+    @Test
+    public void tstWalkSkipErrorsSuccess() throws ZosmfRequestException {
+        final long count = walker().walk(new UssWalkInputData.Builder("/u/denied").skipErrors(true).build(),
+                entry -> {
+                });
+
+        assertEquals(0, count);
+        assertFalse(symlinkFlags.isEmpty());
+    }
+
+}
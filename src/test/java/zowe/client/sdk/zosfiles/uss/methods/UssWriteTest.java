@@ -22,6 +22,8 @@ import zowe.client.sdk.rest.ZosmfRequest;
 import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import zowe.client.sdk.zosfiles.uss.input.UssWriteInputData;
 
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
@@ -65,6 +67,23 @@ public class UssWriteTest {
         ussWrite = new UssWrite(connection);
     }
 
+    @Test
+    public void tstUssWriteTextIfMatchSuccess() throws ZosmfRequestException {
+        final UssWrite ussWrite = new UssWrite(connection, mockTextPutRequestToken);
+        final Response response = ussWrite.writeTextIfMatch("/xx/xx/x", "text", "\"1A2B\"");
+        assertEquals("\"1A2B\"", mockTextPutRequestToken.getHeaders().get("If-Match"));
+        assertEquals("text;", mockTextPutRequestToken.getHeaders().get("X-IBM-Data-Type"));
+        assertEquals(200, response.getStatusCode().orElse(-1));
+    }
+
+    @Test
+    public void tstUssWriteTextIfMatchEmptyEtagFailure() {
+        final UssWrite ussWrite = new UssWrite(connection, mockTextPutRequest);
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ussWrite.writeTextIfMatch("/xx/xx/x", "text", ""));
+        assertEquals("etag is either null or empty", e.getMessage());
+    }
+
     @Test
     public void tstUssWriteTextSuccess() throws ZosmfRequestException {
         final UssWrite ussWrite = new UssWrite(connection, mockTextPutRequest);
@@ -102,6 +121,28 @@ public class UssWriteTest {
         assertEquals("https://1:443/zosmf/restfiles/fs%2Fxx%2Fxx%2Fx", mockStreamPutRequest.getUrl());
     }
 
+    @Test
+    public void tstUssWriteLocalFileSuccess() throws ZosmfRequestException {
+        final PutStreamZosmfRequest mockStreamPutRequest = Mockito.mock(PutStreamZosmfRequest.class,
+                withSettings().useConstructor(connection));
+        Mockito.when(mockStreamPutRequest.executeRequest()).thenReturn(
+                new Response(new byte[0], 200, "success"));
+        doCallRealMethod().when(mockStreamPutRequest).setHeaders(anyMap());
+        doCallRealMethod().when(mockStreamPutRequest).setStandardHeaders();
+        doCallRealMethod().when(mockStreamPutRequest).getHeaders();
+        doCallRealMethod().when(mockStreamPutRequest).setUrl(any());
+        doCallRealMethod().when(mockStreamPutRequest).getUrl();
+        final UssWrite ussWrite = new UssWrite(connection, mockStreamPutRequest);
+        final Path localFile = Path.of("local.txt");
+        final Response response = ussWrite.writeCommon("/xx/xx/x", new UssWriteInputData.Builder()
+                .localFile(localFile).fileEncoding("IBM-037").build());
+        assertEquals(200, response.getStatusCode().orElse(-1));
+        assertEquals("text;fileEncoding=IBM-037;", mockStreamPutRequest.getHeaders().get("X-IBM-Data-Type"));
+        assertEquals("text/plain; charset=UTF-8", mockStreamPutRequest.getHeaders().get("Content-Type"));
+        Mockito.verify(mockStreamPutRequest).setBody(localFile);
+        assertEquals("https://1:443/zosmf/restfiles/fs%2Fxx%2Fxx%2Fx", mockStreamPutRequest.getUrl());
+    }
+
     @Test
     public void tstUssWriteTextNullTargetPathFailure() throws ZosmfRequestException {
         String errMsg = "";
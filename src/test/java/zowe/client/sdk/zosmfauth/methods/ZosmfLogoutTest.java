@@ -23,6 +23,7 @@ import zowe.client.sdk.rest.exception.ZosmfRequestException;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.withSettings;
 
 /**
  * Class containing unit tests for ZosmfLogout.
@@ -54,6 +55,22 @@ public class ZosmfLogoutTest {
 
         assertEquals(expectedResponse, response);
         assertEquals("https://1:443/zosmf/services/authenticate", mockDeleteRequest.getUrl());
+        Mockito.verify(mockDeleteRequest).setToken(token);
+    }
+
+    @Test
+    public void tstLogoutSendsTokenInsteadOfBasicCredentialsSuccess() throws ZosmfRequestException {
+        final DeleteJsonZosmfRequest request = Mockito.mock(DeleteJsonZosmfRequest.class,
+                withSettings().useConstructor(connection));
+        doCallRealMethod().when(request).setUrl(any());
+        doCallRealMethod().when(request).setToken(any());
+        doCallRealMethod().when(request).getHeaders();
+        Mockito.when(request.executeRequest()).thenReturn(new Response("{}", 204, "no content"));
+        assertTrue(request.getHeaders().containsKey("Authorization"));
+
+        new ZosmfLogout(connection, request).logout(new Cookie("jwtToken=abc"));
+
+        assertFalse(request.getHeaders().containsKey("Authorization"));
     }
 
     @Test
@@ -0,0 +1,193 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosmfauth.methods;
+
+import kong.unirest.core.Cookie;
+import kong.unirest.core.Cookies;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import zowe.client.sdk.core.ZosConnection;
+import zowe.client.sdk.core.ZosConnectionFactory;
+import zowe.client.sdk.rest.Response;
+import zowe.client.sdk.rest.exception.ZosmfRequestException;
+import zowe.client.sdk.zosmfauth.input.SessionManagerInputData;
+import zowe.client.sdk.zosmfauth.response.ZosmfLoginResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Class containing unit tests for ZosmfSessionManager.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class ZosmfSessionManagerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ZosConnection connection = ZosConnectionFactory
+            .createBasicConnection("1", 443, "1", "1");
+    private ZosmfLogin mockLogin;
+    private ZosmfLogout mockLogout;
+    private Clock mockClock;
+    private ZosmfSessionManager manager;
+
+    @BeforeEach
+    public void init() {
+        mockLogin = Mockito.mock(ZosmfLogin.class);
+        mockLogout = Mockito.mock(ZosmfLogout.class);
+        mockClock = Mockito.mock(Clock.class);
+        Mockito.when(mockClock.instant()).thenReturn(NOW);
+        final SessionManagerInputData inputData = new SessionManagerInputData.Builder()
+                .renewAhead(60_000L).tokenTtl(600_000L).build();
+        manager = new ZosmfSessionManager(connection, inputData, mockLogin, cookie -> mockLogout, mockClock);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        manager.close();
+    }
+
+    private static ZosmfLoginResponse loginResponse(final Cookie... cookies) {
+        final Cookies tokens = new Cookies();
+        for (final Cookie cookie : cookies) {
+            tokens.add(cookie);
+        }
+        return new ZosmfLoginResponse(new Response("{}", 200, "ok", tokens), tokens);
+    }
+
+    @Test
+    public void tstStartLogsInOnceSuccess() throws ZosmfRequestException {
+        Mockito.when(mockLogin.login()).thenReturn(loginResponse(
+                new Cookie("LtpaToken2", "ltpa"), new Cookie("jwtToken", "jwt")));
+
+        manager.start();
+
+        assertTrue(manager.isStarted());
+        assertEquals("jwt", manager.getToken(connection).getValue());
+        assertEquals("jwt", manager.getToken(connection).getValue());
+        assertEquals(NOW.plusMillis(600_000L), manager.getExpiry());
+        Mockito.verify(mockLogin, Mockito.times(1)).login();
+    }
+
+    @Test
+    public void tstGetTokenRenewsBeforeExpirySuccess() throws ZosmfRequestException {
+        Mockito.when(mockLogin.login()).thenReturn(
+                loginResponse(new Cookie("jwtToken", "first")),
+                loginResponse(new Cookie("jwtToken", "second")));
+        manager.start();
+
+        Mockito.when(mockClock.instant()).thenReturn(NOW.plusMillis(540_000L));
+        final Cookie renewed = manager.getToken(connection);
+
+        assertEquals("second", renewed.getValue());
+        Mockito.verify(mockLogin, Mockito.times(2)).login();
+        Mockito.verify(mockLogout).logout(Mockito.argThat(cookie -> "first".equals(cookie.getValue())));
+    }
+
+    @Test
+    public void tstRenewTokenSkipsLoginWhenAlreadyReplacedSuccess() throws ZosmfRequestException {
+        Mockito.when(mockLogin.login()).thenReturn(
+                loginResponse(new Cookie("jwtToken", "first")),
+                loginResponse(new Cookie("jwtToken", "second")));
+        manager.start();
+
+        final Cookie rejected = new Cookie("jwtToken", "first");
+        assertEquals("second", manager.renewToken(connection, rejected).getValue());
+        assertEquals("second", manager.renewToken(connection, rejected).getValue());
+        Mockito.verify(mockLogin, Mockito.times(2)).login();
+    }
+
+    @Test
+    public void tstCloseLogsOutSuccess() throws ZosmfRequestException {
+        Mockito.when(mockLogin.login()).thenReturn(loginResponse(new Cookie("jwtToken", "jwt")));
+        manager.start();
+
+        manager.close();
+
+        assertFalse(manager.isStarted());
+        assertNull(manager.getExpiry());
+        Mockito.verify(mockLogout).logout(any());
+    }
+
+    @Test
+    public void tstCloseIgnoresLogoutErrorSuccess() throws ZosmfRequestException {
+        Mockito.when(mockLogin.login()).thenReturn(loginResponse(new Cookie("jwtToken", "jwt")));
+        Mockito.when(mockLogout.logout(any())).thenThrow(new ZosmfRequestException("down"));
+        manager.start();
+
+        assertDoesNotThrow(() -> manager.close());
+    }
+
+    @Test
+    public void tstStartNoTokenFailure() throws ZosmfRequestException {
+        Mockito.when(mockLogin.login()).thenReturn(loginResponse());
+
+        final ZosmfRequestException exception = assertThrows(ZosmfRequestException.class, () -> manager.start());
+        assertEquals("z/OSMF login returned no authentication token", exception.getMessage());
+        assertFalse(manager.isStarted());
+    }
+
+    @Test
+    public void tstStartTokenConnectionFailure() {
+        final ZosConnection tokenConnection = ZosConnectionFactory
+                .createTokenConnection("1", 443, new Cookie("jwtToken", "jwt"));
+        final ZosmfSessionManager tokenManager = new ZosmfSessionManager(tokenConnection,
+                new SessionManagerInputData.Builder().build(), mockLogin, cookie -> mockLogout, mockClock);
+
+        assertThrows(IllegalArgumentException.class, tokenManager::start);
+    }
+
+    @Test
+    public void tstSelectTokenByNameSuccess() {
+        final Cookies tokens = new Cookies();
+        tokens.add(new Cookie("jwtToken", "jwt"));
+        tokens.add(new Cookie("LtpaToken2", "ltpa"));
+
+        assertEquals("jwt", ZosmfSessionManager.selectToken(tokens, null).getValue());
+        assertEquals("ltpa", ZosmfSessionManager.selectToken(tokens, "LtpaToken2").getValue());
+        assertNull(ZosmfSessionManager.selectToken(tokens, "other"));
+    }
+
+    @Test
+    public void tstExpiryFromMaxAgeSuccess() {
+        final Cookie cookie = new Cookie("jwtToken=abc; Max-Age=120");
+        assertEquals(NOW.plusSeconds(120), ZosmfSessionManager.expiryOf(cookie, NOW, 1000L));
+    }
+
+    @Test
+    public void tstExpiryFromJwtClaimSuccess() {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        final String payload = encoder.encodeToString("{\"exp\":1767229200}".getBytes(StandardCharsets.UTF_8));
+        final Cookie cookie = new Cookie("jwtToken", "e30." + payload + ".sig");
+        assertEquals(Instant.ofEpochSecond(1767229200L), ZosmfSessionManager.expiryOf(cookie, NOW, 1000L));
+    }
+
+    @Test
+    public void tstExpiryFallbackTtlSuccess() {
+        final Cookie cookie = new Cookie("LtpaToken2", "opaque-value");
+        assertEquals(NOW.plusMillis(1000L), ZosmfSessionManager.expiryOf(cookie, NOW, 1000L));
+    }
+
+    @Test
+    public void tstInputDataNegativeRenewAheadFailure() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SessionManagerInputData.Builder().renewAhead(-1L));
+    }
+
+}
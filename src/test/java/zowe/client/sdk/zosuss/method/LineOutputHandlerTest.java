@@ -0,0 +1,84 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Class containing unit tests for LineOutputHandler.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class LineOutputHandlerTest {
+
+    private final List<String> out = new ArrayList<>();
+    private final List<String> err = new ArrayList<>();
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void tstLinesAcrossChunksSuccess() {
+        final LineOutputHandler handler = new LineOutputHandler(out::add, err::add);
+        final byte[] first = bytes("line1\nli");
+        final byte[] second = bytes("ne2\r\nline3");
+        handler.onStdout(first, 0, first.length);
+        handler.onStdout(second, 0, second.length);
+        assertEquals(List.of("line1", "line2"), out);
+
+        handler.onComplete(0);
+        assertEquals(List.of("line1", "line2", "line3"), out);
+    }
+
+    @Test
+    public void tstStdoutAndStderrSeparatedSuccess() {
+        final LineOutputHandler handler = new LineOutputHandler(out::add, err::add);
+        final byte[] stdout = bytes("ok\n");
+        final byte[] stderr = bytes("FSUM7351 not found\n");
+        handler.onStdout(stdout, 0, stdout.length);
+        handler.onStderr(stderr, 0, stderr.length);
+        handler.onComplete(1);
+        assertEquals(List.of("ok"), out);
+        assertEquals(List.of("FSUM7351 not found"), err);
+    }
+
+    @Test
+    public void tstLongLineSplitSuccess() {
+        final LineOutputHandler handler = new LineOutputHandler(out::add, err::add, StandardCharsets.UTF_8, 4);
+        final byte[] data = bytes("abcdefghij\nxy\n");
+        handler.onStdout(data, 0, data.length);
+        handler.onComplete(0);
+        assertEquals(List.of("abcd", "efgh", "ij", "xy"), out);
+    }
+
+    @Test
+    public void tstChunkOffsetSuccess() {
+        final LineOutputHandler handler = new LineOutputHandler(out::add, err::add);
+        final byte[] data = bytes("xxhello\nyy");
+        handler.onStdout(data, 2, 6);
+        assertEquals(List.of("hello"), out);
+    }
+
+    @Test
+    public void tstInvalidMaxLineLengthFailure() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LineOutputHandler(out::add, err::add, StandardCharsets.UTF_8, 0));
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Class containing unit tests for PosixChecksum.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class PosixChecksumTest {
+
+    @Test
+    public void tstChecksumMatchesCksumSuccess() {
+        final PosixChecksum checksum = new PosixChecksum();
+        final byte[] data = "abc".getBytes(StandardCharsets.US_ASCII);
+        checksum.update(data, 0, data.length);
+        // printf 'abc' | cksum
+        assertEquals(1219131554L, checksum.getValue());
+        assertEquals(3, checksum.getLength());
+    }
+
+    @Test
+    public void tstChecksumEmptySuccess() {
+        // printf '' | cksum
+        assertEquals(4294967295L, new PosixChecksum().getValue());
+    }
+
+    @Test
+    public void tstChecksumByteAndArrayUpdatesAgreeSuccess() {
+        final byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        final PosixChecksum bulk = new PosixChecksum();
+        bulk.update(data, 0, data.length);
+        final PosixChecksum single = new PosixChecksum();
+        for (final byte b : data) {
+            single.update(b);
+        }
+        assertEquals(bulk.getValue(), single.getValue());
+    }
+
+    @Test
+    public void tstChecksumOfFileSuccess() throws Exception {
+        final Path file = Files.createTempFile("cksum", ".txt");
+        try {
+            Files.write(file, "abc".getBytes(StandardCharsets.US_ASCII));
+            assertEquals(1219131554L, PosixChecksum.of(file).getValue());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
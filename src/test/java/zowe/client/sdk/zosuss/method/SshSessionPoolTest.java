@@ -0,0 +1,239 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import com.jcraft.jsch.JSchException;
+import com.jcraft.jsch.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.SshConnection;
+import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.input.SshSessionPoolInputData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Class containing unit tests for SshSessionPool.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class SshSessionPoolTest {
+
+    private final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+    private final AtomicInteger opened = new AtomicInteger();
+    private SshSessionPool pool;
+
+    @BeforeEach
+    public void setup() {
+        final SshSessionPoolInputData inputData = new SshSessionPoolInputData.Builder()
+                .maxSessions(1)
+                .maxChannelsPerSession(2)
+                .keepAliveInterval(0)
+                .idleTimeout(60_000L)
+                .build();
+        pool = new SshSessionPool(inputData, (conn, timeout) -> {
+            opened.incrementAndGet();
+            final Session session = mock(Session.class);
+            when(session.isConnected()).thenReturn(true);
+            return session;
+        });
+    }
+
+    @AfterEach
+    public void cleanup() {
+        pool.close();
+    }
+
+    @Test
+    public void tstBorrowReusesSessionSuccess() throws Exception {
+        final Session first;
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 1000)) {
+            first = lease.getSession();
+        }
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 1000)) {
+            assertSame(first, lease.getSession());
+        }
+        assertEquals(1, opened.get());
+        assertEquals(1, pool.getSessionCount(connection));
+        assertEquals(0, pool.getActiveChannelCount(connection));
+    }
+
+    @Test
+    public void tstBorrowSharesSessionUpToChannelLimitSuccess() throws Exception {
+        try (SshSessionPool.Lease lease1 = pool.borrow(connection, 1000);
+             SshSessionPool.Lease lease2 = pool.borrow(connection, 1000)) {
+            assertSame(lease1.getSession(), lease2.getSession());
+            assertEquals(2, pool.getActiveChannelCount(connection));
+        }
+        assertEquals(1, opened.get());
+    }
+
+    @Test
+    public void tstBorrowExhaustedFailure() throws Exception {
+        try (SshSessionPool.Lease ignored1 = pool.borrow(connection, 1000);
+             SshSessionPool.Lease ignored2 = pool.borrow(connection, 1000)) {
+            final UssCmdException exception = assertThrows(UssCmdException.class,
+                    () -> pool.borrow(connection, 50));
+            assertEquals("No SSH session available after 50 ms", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void tstInvalidatedSessionIsDisconnectedSuccess() throws Exception {
+        final Session first;
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 1000)) {
+            first = lease.getSession();
+            lease.invalidate();
+        }
+        verify(first).disconnect();
+        assertEquals(0, pool.getSessionCount(connection));
+
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 1000)) {
+            assertNotSame(first, lease.getSession());
+        }
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    public void tstBorrowNewOpensSessionSuccess() throws Exception {
+        final SshSessionPool twoSessionPool = new SshSessionPool(new SshSessionPoolInputData.Builder()
+                .maxSessions(2).keepAliveInterval(0).build(), (conn, timeout) -> {
+            opened.incrementAndGet();
+            final Session session = mock(Session.class);
+            when(session.isConnected()).thenReturn(true);
+            return session;
+        });
+        try (twoSessionPool) {
+            final Session first;
+            try (SshSessionPool.Lease lease = twoSessionPool.borrow(connection, 1000)) {
+                first = lease.getSession();
+                assertFalse(lease.isReused());
+            }
+            try (SshSessionPool.Lease lease = twoSessionPool.borrow(connection, 1000)) {
+                assertSame(first, lease.getSession());
+                assertTrue(lease.isReused());
+            }
+            try (SshSessionPool.Lease lease = twoSessionPool.borrowNew(connection, 1000)) {
+                assertNotSame(first, lease.getSession());
+                assertFalse(lease.isReused());
+            }
+        }
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    public void tstBorrowChannelsHoldsSlotsSuccess() throws Exception {
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 100, 2, true)) {
+            assertEquals(2, pool.getActiveChannelCount(connection));
+            // both channel slots of the only session are held by the batch lease
+            assertThrows(UssCmdException.class, () -> pool.borrow(connection, 100));
+        }
+        assertEquals(0, pool.getActiveChannelCount(connection));
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 100)) {
+            assertTrue(lease.isReused());
+        }
+        assertEquals(1, opened.get());
+    }
+
+    @Test
+    public void tstBorrowChannelsOverLimitFailure() {
+        assertThrows(IllegalArgumentException.class, () -> pool.borrow(connection, 100, 3, true));
+        assertThrows(IllegalArgumentException.class, () -> pool.borrow(connection, 100, 0, true));
+    }
+
+    @Test
+    public void tstDisconnectedSessionNotReusedSuccess() throws Exception {
+        final Session first;
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 1000)) {
+            first = lease.getSession();
+        }
+        when(first.isConnected()).thenReturn(false);
+
+        try (SshSessionPool.Lease lease = pool.borrow(connection, 1000)) {
+            assertNotSame(first, lease.getSession());
+        }
+        assertEquals(2, opened.get());
+    }
+
+    @Test
+    public void tstIdleSessionReusedWithoutProbeSuccess() throws Exception {
+        final SshSessionPool keepAlivePool = new SshSessionPool(new SshSessionPoolInputData.Builder()
+                .keepAliveInterval(1).idleTimeout(60_000L).build(), (conn, timeout) -> {
+            opened.incrementAndGet();
+            final Session session = mock(Session.class);
+            when(session.isConnected()).thenReturn(true);
+            return session;
+        });
+        try {
+            final Session first;
+            try (SshSessionPool.Lease lease = keepAlivePool.borrow(connection, 1000)) {
+                first = lease.getSession();
+            }
+            Thread.sleep(5);
+            try (SshSessionPool.Lease lease = keepAlivePool.borrow(connection, 1000)) {
+                assertSame(first, lease.getSession());
+            }
+            // the session sends its own keepalive messages, borrowing does no network I/O
+            verify(first, never()).sendKeepAliveMsg();
+            verify(first).setServerAliveInterval(1);
+            assertEquals(1, opened.get());
+        } finally {
+            keepAlivePool.close();
+        }
+    }
+
+    @Test
+    public void tstEvictIdleSuccess() throws Exception {
+        final SshSessionPool shortPool = new SshSessionPool(new SshSessionPoolInputData.Builder()
+                .idleTimeout(1L).keepAliveInterval(0).build(), (conn, timeout) -> {
+            final Session session = mock(Session.class);
+            when(session.isConnected()).thenReturn(true);
+            return session;
+        });
+        try {
+            final Session session;
+            try (SshSessionPool.Lease lease = shortPool.borrow(connection, 1000)) {
+                session = lease.getSession();
+            }
+            Thread.sleep(5);
+            shortPool.evictIdle();
+            assertEquals(0, shortPool.getSessionCount(connection));
+            verify(session).disconnect();
+        } finally {
+            shortPool.close();
+        }
+    }
+
+    @Test
+    public void tstConnectFailureReleasesSlotFailure() {
+        final SshSessionPool failingPool = new SshSessionPool(new SshSessionPoolInputData.Builder()
+                .maxSessions(1).build(), (conn, timeout) -> {
+            throw new JSchException("Auth fail");
+        });
+        try {
+            assertThrows(JSchException.class, () -> failingPool.borrow(connection, 1000));
+            assertThrows(JSchException.class, () -> failingPool.borrow(connection, 1000));
+        } finally {
+            failingPool.close();
+        }
+    }
+
+    @Test
+    public void tstBorrowAfterCloseFailure() {
+        pool.close();
+        assertThrows(UssCmdException.class, () -> pool.borrow(connection, 1000));
+    }
+
+}
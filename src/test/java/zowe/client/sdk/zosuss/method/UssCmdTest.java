@@ -18,12 +18,26 @@ import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import zowe.client.sdk.core.SshConnection;
 import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.input.SshSessionPoolInputData;
+import zowe.client.sdk.zosuss.response.UssCmdResponse;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -88,4 +102,332 @@ public class UssCmdTest {
         }
     }
 
+    @Test
+    public void tstIssueCommandWithPoolReusesSessionSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        final ChannelExec mockChannel = mock(ChannelExec.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        when(mockChannel.isClosed()).thenReturn(true);
+        when(mockChannel.getExitStatus()).thenReturn(0);
+        when(mockSession.openChannel("exec")).thenReturn(mockChannel);
+
+        final int[] opened = {0};
+        try (SshSessionPool pool = new SshSessionPool(new SshSessionPoolInputData.Builder().build(),
+                (conn, timeout) -> {
+                    opened[0]++;
+                    return mockSession;
+                })) {
+            final UssCmd cmd = new UssCmd(connection, pool);
+            cmd.issueCommand("echo 1", 1000);
+            cmd.issueCommand("echo 2", 1000);
+
+            assertEquals(1, opened[0]);
+            assertEquals(1, pool.getSessionCount(connection));
+            verify(mockSession, never()).disconnect();
+        }
+    }
+
+    @Test
+    public void tstIssueCommandWithPoolRetriesHalfOpenSessionSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final ChannelExec mockChannel = mock(ChannelExec.class);
+        when(mockChannel.isClosed()).thenReturn(true);
+        when(mockChannel.getExitStatus()).thenReturn(0);
+        // the first session is dropped by the network after its first command, without being disconnected
+        final Session halfOpen = mock(Session.class);
+        when(halfOpen.isConnected()).thenReturn(true);
+        when(halfOpen.openChannel("exec")).thenReturn(mockChannel).thenThrow(new JSchException("session is down"));
+        final Session fresh = mock(Session.class);
+        when(fresh.isConnected()).thenReturn(true);
+        when(fresh.openChannel("exec")).thenReturn(mockChannel);
+
+        final List<Session> sessions = new ArrayList<>(List.of(halfOpen, fresh));
+        try (SshSessionPool pool = new SshSessionPool(new SshSessionPoolInputData.Builder().build(),
+                (conn, timeout) -> sessions.remove(0))) {
+            final UssCmd cmd = new UssCmd(connection, pool);
+            cmd.issueCommand("echo 1", 1000);
+            cmd.issueCommand("echo 2", 1000);
+
+            verify(halfOpen).disconnect();
+            verify(fresh).openChannel("exec");
+            assertEquals(1, pool.getSessionCount(connection));
+        }
+    }
+
+    @Test
+    public void tstIssueCommandWithPoolNewSessionChannelFailure() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        when(mockSession.openChannel("exec")).thenThrow(new JSchException("channel refused"));
+
+        final int[] opened = {0};
+        try (SshSessionPool pool = new SshSessionPool(new SshSessionPoolInputData.Builder().build(),
+                (conn, timeout) -> {
+                    opened[0]++;
+                    return mockSession;
+                })) {
+            assertThrows(UssCmdException.class, () -> new UssCmd(connection, pool).issueCommand("echo 1", 1000));
+            // a session opened for the command is not retried
+            assertEquals(1, opened[0]);
+        }
+    }
+
+    private static SshSessionPool poolOf(final Session session) {
+        return new SshSessionPool(new SshSessionPoolInputData.Builder().build(), (conn, timeout) -> session);
+    }
+
+    private static ChannelExec streamingChannel(final String stdout, final String stderr) throws Exception {
+        final ChannelExec mockChannel = mock(ChannelExec.class);
+        final OutputStream[] streams = new OutputStream[2];
+        doAnswer(invocation -> {
+            streams[0] = invocation.getArgument(0);
+            return null;
+        }).when(mockChannel).setOutputStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            streams[1] = invocation.getArgument(0);
+            return null;
+        }).when(mockChannel).setErrStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            streams[0].write(stdout.getBytes());
+            streams[1].write(stderr.getBytes());
+            // JSch closes standard output at end of output, and standard error once the channel is closed
+            streams[0].close();
+            streams[1].close();
+            return null;
+        }).when(mockChannel).connect(anyInt());
+        when(mockChannel.isClosed()).thenReturn(false, true);
+        when(mockChannel.getExitStatus()).thenReturn(3);
+        return mockChannel;
+    }
+
+    @Test
+    public void tstIssueCommandStreamingSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec mockChannel = streamingChannel("a\nb\n", "oops\n");
+        when(mockSession.openChannel("exec")).thenReturn(mockChannel);
+
+        final List<String> out = new ArrayList<>();
+        final List<String> err = new ArrayList<>();
+        try (SshSessionPool pool = poolOf(mockSession)) {
+            final int exitStatus = new UssCmd(connection, pool)
+                    .issueCommand("ls", 1000, new LineOutputHandler(out::add, err::add));
+
+            assertEquals(3, exitStatus);
+            assertEquals(List.of("a", "b"), out);
+            assertEquals(List.of("oops"), err);
+        }
+    }
+
+    @Test
+    public void tstIssueCommandStreamingHandlerOnOwnThreadSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec mockChannel = streamingChannel("a\n", "");
+        when(mockSession.openChannel("exec")).thenReturn(mockChannel);
+
+        final List<String> threads = new ArrayList<>();
+        final UssOutputHandler handler = new UssOutputHandler() {
+            @Override
+            public void onStdout(final byte[] data, final int offset, final int length) {
+                threads.add(Thread.currentThread().getName());
+            }
+
+            @Override
+            public void onStderr(final byte[] data, final int offset, final int length) {
+            }
+        };
+        try (SshSessionPool pool = poolOf(mockSession)) {
+            new UssCmd(connection, pool).issueCommand("ls", 1000, handler);
+        }
+        // the output was written on this thread, standing in for JSch's I/O thread
+        assertEquals(List.of("zowe-uss-output"), threads);
+    }
+
+    @Test
+    public void tstIssueCommandWaitsForCloseSignalSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec mockChannel = mock(ChannelExec.class);
+        final OutputStream[] streams = new OutputStream[2];
+        final boolean[] closed = {false};
+        doAnswer(invocation -> {
+            streams[0] = invocation.getArgument(0);
+            return null;
+        }).when(mockChannel).setOutputStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            streams[1] = invocation.getArgument(0);
+            return null;
+        }).when(mockChannel).setErrStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            new Thread(() -> {
+                try {
+                    streams[0].write("done".getBytes());
+                    streams[0].close();
+                    Thread.sleep(20);
+                    synchronized (closed) {
+                        closed[0] = true;
+                    }
+                    streams[1].close();
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).start();
+            return null;
+        }).when(mockChannel).connect(anyInt());
+        doAnswer(invocation -> {
+            synchronized (closed) {
+                return closed[0];
+            }
+        }).when(mockChannel).isClosed();
+        when(mockSession.openChannel("exec")).thenReturn(mockChannel);
+
+        try (SshSessionPool pool = poolOf(mockSession)) {
+            assertEquals("done", new UssCmd(connection, pool).issueCommand("ls", 5000));
+        }
+        // woken by end of output and by the channel close instead of polling isClosed
+        verify(mockChannel, atMost(4)).isClosed();
+    }
+
+    @Test
+    public void tstIssueCommandStreamingHandlerFailure() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec mockChannel = streamingChannel("data", "");
+        when(mockSession.openChannel("exec")).thenReturn(mockChannel);
+
+        final UssOutputHandler handler = new UssOutputHandler() {
+            @Override
+            public void onStdout(final byte[] data, final int offset, final int length) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void onStderr(final byte[] data, final int offset, final int length) {
+            }
+        };
+        try (SshSessionPool pool = poolOf(mockSession)) {
+            final UssCmdException exception = assertThrows(UssCmdException.class,
+                    () -> new UssCmd(connection, pool).issueCommand("cat big", 1000, handler));
+            assertEquals("Command output processing failed: disk full", exception.getMessage());
+        }
+    }
+
+    @Test
+    public void tstIssueCommandsBatchSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec first = streamingChannel("one\n", "");
+        final ChannelExec second = streamingChannel("", "two\n");
+        when(mockSession.openChannel("exec")).thenReturn(first, second);
+
+        try (SshSessionPool pool = poolOf(mockSession)) {
+            final List<UssCmdResponse> responses = new UssCmd(connection, pool)
+                    .issueCommands(List.of("echo one", "echo two >&2"), 1, 1000);
+
+            assertEquals(2, responses.size());
+            assertEquals("echo one", responses.get(0).getCommand());
+            assertEquals("one\n", responses.get(0).getStdout());
+            assertEquals("two\n", responses.get(1).getStderr());
+            assertEquals(3, responses.get(1).getExitStatus());
+        }
+    }
+
+    @Test
+    public void tstIssueCommandsBatchOnOnePooledSessionSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec first = streamingChannel("1\n", "");
+        final ChannelExec second = streamingChannel("2\n", "");
+        final ChannelExec third = streamingChannel("3\n", "");
+        when(mockSession.openChannel("exec")).thenReturn(first, second, third);
+
+        final int[] opened = {0};
+        try (SshSessionPool pool = new SshSessionPool(new SshSessionPoolInputData.Builder()
+                .maxChannelsPerSession(2).build(), (conn, timeout) -> {
+            opened[0]++;
+            return mockSession;
+        })) {
+            final List<UssCmdResponse> responses = new UssCmd(connection, pool)
+                    .issueCommands(List.of("echo 1", "echo 2", "echo 3"), 3, 1000);
+
+            assertEquals(List.of("echo 1", "echo 2", "echo 3"),
+                    responses.stream().map(UssCmdResponse::getCommand).collect(Collectors.toList()));
+            assertEquals(Set.of("1\n", "2\n", "3\n"),
+                    responses.stream().map(UssCmdResponse::getStdout).collect(Collectors.toSet()));
+            assertEquals(1, opened[0]);
+            assertEquals(0, pool.getActiveChannelCount(connection));
+        }
+    }
+
+    @Test
+    public void tstIssueCommandsBatchRecordsFailedCommandSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final Session mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        final ChannelExec first = streamingChannel("one\n", "");
+        final ChannelExec third = streamingChannel("three\n", "");
+        when(mockSession.openChannel("exec")).thenReturn(first).thenThrow(new JSchException("channel refused"))
+                .thenReturn(third);
+
+        try (SshSessionPool pool = poolOf(mockSession)) {
+            final List<UssCmdResponse> responses = new UssCmd(connection, pool)
+                    .issueCommands(List.of("echo one", "echo two", "echo three"), 1, 1000);
+
+            assertEquals(3, responses.size());
+            assertFalse(responses.get(0).getError().isPresent());
+            assertEquals("channel refused", responses.get(1).getError().orElseThrow());
+            assertEquals(-1, responses.get(1).getExitStatus());
+            assertEquals("three\n", responses.get(2).getStdout());
+            // the session a channel failed on is not handed out again
+            verify(mockSession).disconnect();
+            assertEquals(0, pool.getSessionCount(connection));
+        }
+    }
+
+    @Test
+    public void tstIssueCommandsBatchRetriesHalfOpenSessionSuccess() throws Exception {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final ChannelExec initial = mock(ChannelExec.class);
+        when(initial.isClosed()).thenReturn(true);
+        final ChannelExec first = streamingChannel("a\n", "");
+        final ChannelExec second = streamingChannel("b\n", "");
+        // the first session is dropped by the network after its first command, without being disconnected
+        final Session halfOpen = mock(Session.class);
+        when(halfOpen.isConnected()).thenReturn(true);
+        when(halfOpen.openChannel("exec")).thenReturn(initial).thenThrow(new JSchException("session is down"));
+        final Session fresh = mock(Session.class);
+        when(fresh.isConnected()).thenReturn(true);
+        when(fresh.openChannel("exec")).thenReturn(first, second);
+
+        final List<Session> sessions = new ArrayList<>(List.of(halfOpen, fresh));
+        try (SshSessionPool pool = new SshSessionPool(new SshSessionPoolInputData.Builder().build(),
+                (conn, timeout) -> sessions.remove(0))) {
+            final UssCmd cmd = new UssCmd(connection, pool);
+            cmd.issueCommand("true", 1000);
+            final List<UssCmdResponse> responses = cmd.issueCommands(List.of("echo a", "echo b"), 2, 1000);
+
+            verify(halfOpen).disconnect();
+            // both commands ran on the new session, each on its own channel
+            assertEquals(Set.of("a\n", "b\n"),
+                    responses.stream().map(UssCmdResponse::getStdout).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void tstIssueCommandsInvalidMaxChannelsFailure() {
+        final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new UssCmd(connection).issueCommands(List.of("ls"), 0, 1000));
+        assertEquals("maxChannels must be greater than zero", exception.getMessage());
+    }
+
 }
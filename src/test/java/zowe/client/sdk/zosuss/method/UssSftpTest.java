@@ -0,0 +1,212 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project.
+ */
+package zowe.client.sdk.zosuss.method;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpProgressMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import zowe.client.sdk.core.SshConnection;
+import zowe.client.sdk.zosuss.exception.UssCmdException;
+import zowe.client.sdk.zosuss.input.SftpTransferInputData;
+import zowe.client.sdk.zosuss.input.SshSessionPoolInputData;
+import zowe.client.sdk.zosuss.response.SftpTransferResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class containing unit tests for UssSftp.
+ *
+ * @author Frank Giordano
+ * @version 7.0
+ */
+public class UssSftpTest {
+
+    private final SshConnection connection = new SshConnection("localhost", 22, "testuser", "testpass");
+    private Session mockSession;
+    private ChannelSftp mockSftp;
+    private SshSessionPool pool;
+    private Path localFile;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        mockSession = mock(Session.class);
+        when(mockSession.isConnected()).thenReturn(true);
+        mockSftp = mock(ChannelSftp.class);
+        when(mockSession.openChannel("sftp")).thenReturn(mockSftp);
+        pool = new SshSessionPool(new SshSessionPoolInputData.Builder().build(), (conn, timeout) -> mockSession);
+        localFile = Files.createTempFile("sftp", ".bin");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        pool.close();
+        Files.deleteIfExists(localFile);
+    }
+
+    private static SftpATTRS attrsOfSize(final long size) {
+        final SftpATTRS attrs = mock(SftpATTRS.class);
+        when(attrs.getSize()).thenReturn(size);
+        return attrs;
+    }
+
+    private static ChannelExec cksumChannel(final String stdout) throws Exception {
+        final ChannelExec mockChannel = mock(ChannelExec.class);
+        final OutputStream[] streams = new OutputStream[1];
+        doAnswer(invocation -> {
+            streams[0] = invocation.getArgument(0);
+            return null;
+        }).when(mockChannel).setOutputStream(any(OutputStream.class));
+        doAnswer(invocation -> {
+            streams[0].write(stdout.getBytes(StandardCharsets.US_ASCII));
+            streams[0].close();
+            return null;
+        }).when(mockChannel).connect(anyInt());
+        when(mockChannel.isClosed()).thenReturn(false, true);
+        when(mockChannel.getExitStatus()).thenReturn(0);
+        return mockChannel;
+    }
+
+    @Test
+    public void tstGetStreamsContentSuccess() throws Exception {
+        doAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(1);
+            out.write("hello".getBytes(StandardCharsets.US_ASCII));
+            ((SftpProgressMonitor) invocation.getArgument(2)).count(5);
+            return null;
+        }).when(mockSftp).get(eq("/u/test/a.bin"), any(OutputStream.class), any(SftpProgressMonitor.class));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long bytes = new UssSftp(connection, pool).get("/u/test/a.bin", out, 1000);
+
+        assertEquals(5, bytes);
+        assertEquals("hello", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void tstUploadResumeSuccess() throws Exception {
+        Files.write(localFile, "0123456789".getBytes(StandardCharsets.US_ASCII));
+        final SftpATTRS attrs = attrsOfSize(4);
+        when(mockSftp.stat("/u/test/a.bin")).thenReturn(attrs);
+        final ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            final InputStream in = invocation.getArgument(0);
+            final long count = in.transferTo(sent);
+            ((SftpProgressMonitor) invocation.getArgument(2)).count(count);
+            return null;
+        }).when(mockSftp).put(any(InputStream.class), eq("/u/test/a.bin"), any(SftpProgressMonitor.class),
+                eq(ChannelSftp.APPEND));
+
+        final SftpTransferResponse response = new UssSftp(connection, pool).upload(
+                new SftpTransferInputData.Builder("/u/test/a.bin", localFile).resume(true).build(), 1000);
+
+        assertEquals("456789", sent.toString(StandardCharsets.US_ASCII));
+        assertEquals(4, response.getOffset());
+        assertEquals(6, response.getBytesTransferred());
+    }
+
+    @Test
+    public void tstDownloadResumeLocalLargerFailure() throws Exception {
+        Files.write(localFile, "0123456789".getBytes(StandardCharsets.US_ASCII));
+        final SftpATTRS attrs = attrsOfSize(4);
+        when(mockSftp.stat("/u/test/a.bin")).thenReturn(attrs);
+
+        final UssCmdException exception = assertThrows(UssCmdException.class,
+                () -> new UssSftp(connection, pool).download(
+                        new SftpTransferInputData.Builder("/u/test/a.bin", localFile).resume(true).build(), 1000));
+        assertEquals("Cannot resume download of /u/test/a.bin, local file " + localFile +
+                " is larger than the remote file", exception.getMessage());
+    }
+
+    @Test
+    public void tstDownloadResumeSuccess() throws Exception {
+        Files.write(localFile, "0123".getBytes(StandardCharsets.US_ASCII));
+        final SftpATTRS attrs = attrsOfSize(10);
+        when(mockSftp.stat("/u/test/a.bin")).thenReturn(attrs);
+        doAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(1);
+            out.write("456789".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(mockSftp).get(eq("/u/test/a.bin"), any(OutputStream.class), isNull(),
+                eq(ChannelSftp.RESUME), eq(4L));
+
+        final SftpTransferResponse response = new UssSftp(connection, pool).download(
+                new SftpTransferInputData.Builder("/u/test/a.bin", localFile).resume(true).build(), 1000);
+
+        assertEquals("0123456789", Files.readString(localFile));
+        assertEquals(4, response.getOffset());
+        assertEquals(6, response.getBytesTransferred());
+    }
+
+    @Test
+    public void tstDownloadAllVerifySuccess() throws Exception {
+        doAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(1);
+            out.write("abc".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(mockSftp).get(eq("/u/test/a.txt"), any(OutputStream.class), isNull(),
+                eq(ChannelSftp.RESUME), anyLong());
+        final ChannelExec cksum = cksumChannel("1219131554 3 /u/test/a.txt\n");
+        when(mockSession.openChannel("exec")).thenReturn(cksum);
+
+        final List<SftpTransferResponse> responses = new UssSftp(connection, pool).downloadAll(
+                List.of(new SftpTransferInputData.Builder("/u/test/a.txt", localFile).verify(true).build()),
+                2, 1000);
+
+        assertEquals(1, responses.size());
+        assertEquals(1219131554L, responses.get(0).getChecksum().getAsLong());
+        assertEquals("abc", Files.readString(localFile));
+    }
+
+    @Test
+    public void tstDownloadVerifyMismatchFailure() throws Exception {
+        doAnswer(invocation -> {
+            final OutputStream out = invocation.getArgument(1);
+            out.write("abd".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(mockSftp).get(eq("/u/test/a.txt"), any(OutputStream.class), isNull(),
+                eq(ChannelSftp.RESUME), anyLong());
+        final ChannelExec cksum = cksumChannel("1219131554 3 /u/test/a.txt\n");
+        when(mockSession.openChannel("exec")).thenReturn(cksum);
+
+        final UssCmdException exception = assertThrows(UssCmdException.class,
+                () -> new UssSftp(connection, pool).download(
+                        new SftpTransferInputData.Builder("/u/test/a.txt", localFile).verify(true).build(), 1000));
+        assertTrue(exception.getMessage().startsWith("Checksum mismatch for /u/test/a.txt"));
+    }
+
+    @Test
+    public void tstQuotePathSuccess() {
+        assertEquals("'/u/it'\\''s'", UssSftp.quote("/u/it's"));
+    }
+
+}